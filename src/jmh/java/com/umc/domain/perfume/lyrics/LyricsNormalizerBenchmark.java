@@ -0,0 +1,54 @@
+package com.umc.domain.perfume.lyrics;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가사 정제 처리량 비교 (기존 정규식 체인 vs LyricsNormalizer)
+ * - 할당량은 -prof gc 옵션으로 함께 확인 (gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LyricsNormalizerBenchmark {
+
+    /**
+     * typical: 일반 가사, repetitive: Whisper가 같은 문구/문장을 반복 출력한 경우
+     */
+    @Param({"typical", "repetitive"})
+    private String shape;
+
+    private String lyrics;
+    private LyricsNormalizer normalizer;
+
+    @Setup
+    public void setUp() {
+        normalizer = LyricsNormalizer.withDefaults();
+        StringBuilder builder = new StringBuilder();
+        if (shape.equals("typical")) {
+            for (int i = 0; i < 20; i++) {
+                builder.append("밤하늘 아래 너를 기다리며  노래해 ").append(i).append(". ")
+                        .append("Oh baby, 다시 돌아와줘!\n");
+            }
+        } else {
+            for (int i = 0; i < 10; i++) {
+                builder.append("랩 랩, 랩 랩 랩 랩 자, 그럼 ").append("너를 사랑해. 너를 사랑해. 너를 사랑해. ")
+                        .append("네! 네! 네! 네! 네! 해볼까요\t");
+            }
+        }
+        lyrics = builder.toString().trim();
+    }
+
+    @Benchmark
+    public boolean legacyRegexChain() {
+        String processed = LegacyLyricsFilter.normalize(lyrics);
+        return LegacyLyricsFilter.isInvalidLyrics(processed);
+    }
+
+    @Benchmark
+    public LyricsNormalizer.InvalidReason normalizer() {
+        String processed = normalizer.normalize(lyrics);
+        return normalizer.findInvalidReason(processed);
+    }
+}
@@ -0,0 +1,58 @@
+package com.umc.global.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유사 이미지 인덱스 조회 성능 측정 (100만 건 기준 1회 조회가 밀리초 미만인지 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HammingIndexBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"5", "7"})
+    private int maxDistance;
+
+    private HammingIndex index;
+    private long[] queries;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        index = new HammingIndex();
+        long[] stored = new long[size];
+        for (int i = 0; i < size; i++) {
+            stored[i] = random.nextLong();
+            index.add(i, stored[i]);
+        }
+
+        // 절반은 등록된 해시를 몇 비트 바꾼 근접 조회, 절반은 무작위 조회(미적중)
+        queries = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            if (i % 2 == 0) {
+                long hash = stored[random.nextInt(size)];
+                for (int flip = 0; flip < 3; flip++) {
+                    hash ^= 1L << random.nextInt(64);
+                }
+                queries[i] = hash;
+            } else {
+                queries[i] = random.nextLong();
+            }
+        }
+    }
+
+    @Benchmark
+    public Object findNearest() {
+        long query = queries[cursor++ & (QUERIES - 1)];
+        return index.findNearest(query, maxDistance);
+    }
+}
@@ -0,0 +1,25 @@
+package com.umc.domain.file.entity;
+
+import com.umc.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "drive_folder",
+        uniqueConstraints = @UniqueConstraint(name = "uk_drive_folder_name_parent",
+                columnNames = {"folder_name", "parent_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DriveFolder extends BaseEntity {
+
+    @Column(name = "folder_name", nullable = false)
+    private String folderName; // {recordId}_{fileType}
+
+    @Column(name = "parent_id", nullable = false, length = 128)
+    private String parentId; // 상위 폴더 ID (google.drive.parent-folder-id)
+
+    @Column(name = "drive_folder_id", nullable = false, length = 128)
+    private String driveFolderId; // 구글 드라이브 폴더 ID (비공개, 파일만 링크 공개)
+}
@@ -0,0 +1,23 @@
+package com.umc.domain.file.repository;
+
+import com.umc.domain.file.entity.DriveFolder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface DriveFolderRepository extends JpaRepository<DriveFolder, Long> {
+
+    /**
+     * 폴더 이름과 상위 폴더로 드라이브 폴더 조회
+     */
+    Optional<DriveFolder> findByFolderNameAndParentId(String folderName, String parentId);
+
+    /**
+     * 드라이브에서 사라진 폴더 기록 삭제
+     */
+    @Transactional
+    void deleteByFolderNameAndParentId(String folderName, String parentId);
+}
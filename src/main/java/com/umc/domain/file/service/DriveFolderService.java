@@ -0,0 +1,281 @@
+package com.umc.domain.file.service;
+
+import com.google.api.services.drive.Drive;
+import com.google.api.services.drive.model.File;
+import com.google.api.services.drive.model.FileList;
+import com.umc.domain.file.entity.DriveFolder;
+import com.umc.domain.file.repository.DriveFolderRepository;
+import com.umc.global.metrics.UpstreamMetrics;
+import com.umc.global.util.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 레코드별 업로드 폴더({recordId}_{fileType}) ID 조회/생성
+ * - 1차: 메모리 LRU (최대 max-entries 개), 2차: drive_folder 테이블, 둘 다 없을 때만 드라이브 조회/생성
+ * - 같은 폴더의 동시 생성은 SingleFlight로 한 번만 실행하고, 다른 서버와 겹치면 먼저 저장된 폴더를 사용
+ * - 폴더는 공개하지 않음 (사용자별 폴더를 계속 재사용하므로 폴더를 공개하면 ID만으로 그 사용자의 파일 목록이 노출됨,
+ *   링크 공개는 GoogleDriveService가 파일마다 설정)
+ * - lookup-on-miss가 false면 drive_folder 테이블을 기준으로 보고, 캐시에 없는 폴더는 드라이브 조회 없이 바로 생성
+ *   (이 테이블 도입 전에 만든 폴더를 더 이상 찾을 필요가 없을 때 사용)
+ */
+@Service
+@Slf4j
+public class DriveFolderService {
+
+    private static final String FOLDER_MIME_TYPE = "application/vnd.google-apps.folder";
+
+    private final Drive driveService;
+    private final UpstreamMetrics upstreamMetrics;
+    private final DriveFolderRepository folderRepository;
+    private final DriveRequestBatcher driveRequestBatcher;
+    private final String parentFolderId;
+    private final boolean lookupOnMiss;
+    private final Map<String, String> memoryCache;
+    private final SingleFlight<String, String> creationFlight = new SingleFlight<>();
+
+    private final Counter memoryHitCounter;
+    private final Counter databaseHitCounter;
+    private final Counter missCounter;
+
+    public DriveFolderService(Drive driveService,
+                              UpstreamMetrics upstreamMetrics,
+                              DriveFolderRepository folderRepository,
+                              DriveRequestBatcher driveRequestBatcher,
+                              MeterRegistry meterRegistry,
+                              @Value("${google.drive.parent-folder-id}") String parentFolderId,
+                              @Value("${google.drive.folder-cache.max-entries:10000}") int maxEntries,
+                              @Value("${google.drive.folder-cache.lookup-on-miss:true}") boolean lookupOnMiss) {
+        this.driveService = driveService;
+        this.upstreamMetrics = upstreamMetrics;
+        this.folderRepository = folderRepository;
+        this.driveRequestBatcher = driveRequestBatcher;
+        this.parentFolderId = parentFolderId;
+        this.lookupOnMiss = lookupOnMiss;
+        this.memoryCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxEntries;
+            }
+        });
+
+        this.memoryHitCounter = Counter.builder("google.drive.folder.cache")
+                .description("드라이브 폴더 ID 캐시 조회 결과")
+                .tag("result", "hit").tag("tier", "memory")
+                .register(meterRegistry);
+        this.databaseHitCounter = Counter.builder("google.drive.folder.cache")
+                .description("드라이브 폴더 ID 캐시 조회 결과")
+                .tag("result", "hit").tag("tier", "database")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("google.drive.folder.cache")
+                .description("드라이브 폴더 ID 캐시 조회 결과")
+                .tag("result", "miss").tag("tier", "none")
+                .register(meterRegistry);
+        Gauge.builder("google.drive.folder.cache.size", memoryCache, Map::size)
+                .description("메모리 캐시에 보관 중인 폴더 ID 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 업로드할 폴더 ID (없으면 드라이브에서 찾거나 만들어 캐시에 저장)
+     */
+    public String getOrCreate(String folderName) throws IOException {
+        Optional<String> cached = findCached(folderName);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        try {
+            return creationFlight.execute(folderName, () -> {
+                // 기다리는 동안 다른 호출이 저장했을 수 있음
+                String stored = memoryCache.get(folderName);
+                if (stored != null) {
+                    return stored;
+                }
+                try {
+                    return resolveAndStore(folderName);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).value();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 조회용 폴더 ID (캐시에 없으면 드라이브에서 찾기만 하고 만들지 않음)
+     */
+    public Optional<String> find(String folderName) throws IOException {
+        Optional<String> cached = findCached(folderName);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        return lookupOnMiss ? lookup(folderName).map(File::getId) : Optional.empty();
+    }
+
+    /**
+     * 여러 폴더의 조회용 ID (캐시에 없는 폴더는 드라이브 목록 조회 한 번으로 함께 찾고, 만들지 않음)
+     * - 찾은 폴더만 담아 반환
+     */
+    public Map<String, String> findAll(Collection<String> folderNames) throws IOException {
+        Map<String, String> found = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String folderName : folderNames) {
+            findCached(folderName).ifPresentOrElse(
+                    folderId -> found.put(folderName, folderId),
+                    () -> missing.add(folderName));
+        }
+        if (missing.isEmpty() || !lookupOnMiss) {
+            return found;
+        }
+
+        String nameQuery = missing.stream()
+                .map(folderName -> String.format("name='%s'", folderName))
+                .collect(Collectors.joining(" or "));
+        String query = String.format("mimeType='%s' and '%s' in parents and (%s)",
+                FOLDER_MIME_TYPE, parentFolderId, nameQuery);
+        FileList result = upstreamMetrics.record(UpstreamMetrics.GOOGLE_DRIVE, "folder-lookup",
+                () -> driveService.files().list()
+                        .setQ(query)
+                        .setFields("files(id, name)")
+                        .execute());
+
+        if (result.getFiles() != null) {
+            for (File folder : result.getFiles()) {
+                found.putIfAbsent(folder.getName(), folder.getId());
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 드라이브에서 삭제된 폴더를 캐시에서 제거 (다음 업로드 때 다시 찾거나 만듦)
+     */
+    public void evict(String folderName) {
+        memoryCache.remove(folderName);
+        try {
+            folderRepository.deleteByFolderNameAndParentId(folderName, parentFolderId);
+        } catch (Exception e) {
+            log.warn("폴더 캐시 삭제 실패 - 폴더: {}, 오류: {}", folderName, e.getMessage());
+        }
+    }
+
+    private Optional<String> findCached(String folderName) {
+        String cached = memoryCache.get(folderName);
+        if (cached != null) {
+            memoryHitCounter.increment();
+            return Optional.of(cached);
+        }
+
+        try {
+            Optional<String> stored = folderRepository.findByFolderNameAndParentId(folderName, parentFolderId)
+                    .map(DriveFolder::getDriveFolderId);
+            if (stored.isPresent()) {
+                memoryCache.put(folderName, stored.get());
+                databaseHitCounter.increment();
+                return stored;
+            }
+        } catch (Exception e) {
+            log.warn("폴더 캐시 조회 실패 - 폴더: {}, 오류: {}", folderName, e.getMessage());
+        }
+
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 드라이브에서 폴더를 찾거나 만들고 저장 (다른 서버가 먼저 저장했으면 그 폴더 사용)
+     */
+    private String resolveAndStore(String folderName) throws IOException {
+        Optional<File> existing = lookupOnMiss ? lookup(folderName) : Optional.empty();
+        String folderId = existing.isPresent() ? existing.get().getId() : createFolder(folderName);
+
+        try {
+            folderRepository.save(DriveFolder.builder()
+                    .folderName(folderName)
+                    .parentId(parentFolderId)
+                    .driveFolderId(folderId)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            Optional<String> winner = folderRepository.findByFolderNameAndParentId(folderName, parentFolderId)
+                    .map(DriveFolder::getDriveFolderId);
+            if (winner.isPresent() && !winner.get().equals(folderId)) {
+                log.info("다른 서버가 먼저 폴더를 저장함 - 폴더: {}, 사용: {}, 중복: {}", folderName, winner.get(), folderId);
+                if (existing.isEmpty()) {
+                    discard(folderId);
+                }
+                folderId = winner.get();
+            }
+        } catch (Exception e) {
+            // 저장에 실패해도 이번 업로드는 진행 (메모리 캐시만 사용)
+            log.warn("폴더 캐시 저장 실패 - 폴더: {}, 오류: {}", folderName, e.getMessage());
+        }
+
+        memoryCache.put(folderName, folderId);
+        return folderId;
+    }
+
+    private Optional<File> lookup(String folderName) throws IOException {
+        String query = String.format("name='%s' and mimeType='%s' and '%s' in parents",
+                folderName, FOLDER_MIME_TYPE, parentFolderId);
+        FileList result = upstreamMetrics.record(UpstreamMetrics.GOOGLE_DRIVE, "folder-lookup",
+                () -> driveService.files().list()
+                        .setQ(query)
+                        .setFields("files(id, name)")
+                        .execute());
+
+        List<File> files = result.getFiles();
+        if (files == null || files.isEmpty()) {
+            return Optional.empty();
+        }
+        log.info("기존 폴더 찾음: {} (ID: {})", folderName, files.get(0).getId());
+        return Optional.of(files.get(0));
+    }
+
+    private String createFolder(String folderName) throws IOException {
+        File fileMetadata = new File();
+        fileMetadata.setName(folderName);
+        fileMetadata.setMimeType(FOLDER_MIME_TYPE);
+        fileMetadata.setParents(Collections.singletonList(parentFolderId));
+
+        File folder = upstreamMetrics.record(UpstreamMetrics.GOOGLE_DRIVE, "folder-create",
+                () -> driveService.files().create(fileMetadata)
+                        .setFields("id")
+                        .execute());
+
+        log.info("폴더 생성 완료: {} (ID: {})", folderName, folder.getId());
+        return folder.getId();
+    }
+
+    /**
+     * 중복으로 만든 폴더 삭제 (결과를 기다리지 않음)
+     */
+    private void discard(String folderId) {
+        try {
+            driveRequestBatcher.delete(folderId).whenComplete((ignored, e) -> {
+                if (e != null) {
+                    log.warn("중복 폴더 삭제 실패 - 폴더 ID: {}, 오류: {}", folderId, e.getMessage());
+                }
+            });
+        } catch (Exception e) {
+            log.warn("중복 폴더 삭제 실패 - 폴더 ID: {}, 오류: {}", folderId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.umc.domain.file.service;
+
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.services.drive.Drive;
+import com.google.api.services.drive.DriveRequest;
+import com.google.api.services.drive.model.Permission;
+import com.umc.global.metrics.UpstreamMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 드라이브 권한 설정/삭제 요청을 모아 배치 요청(HTTP 한 번)으로 전송
+ * - 동시에 들어온 요청을 max-size개가 차거나 첫 요청 후 max-delay-ms가 지날 때까지 모아서 전송
+ * - 요청마다 CompletableFuture로 결과를 돌려주며, 항목 하나가 실패하면 그 항목만 GoogleJsonResponseException으로 실패
+ * - 배치 요청 자체가 실패하면(연결 오류 등) 모인 항목 모두 같은 예외로 실패
+ * - 업로드(미디어 포함 요청)는 드라이브 배치에 넣을 수 없으므로 GoogleDriveService가 따로 전송
+ * - enabled가 false면 모으지 않고 바로 한 건씩 전송
+ */
+@Component
+@Slf4j
+public class DriveRequestBatcher {
+
+    // 드라이브 배치 요청 한 번에 넣을 수 있는 최대 요청 수
+    private static final int DRIVE_BATCH_LIMIT = 100;
+
+    private static final String PERMISSION = "permission";
+    private static final String DELETE = "delete";
+    private static final List<String> OPERATIONS = List.of(PERMISSION, DELETE);
+    private static final List<String> RESULTS = List.of("success", "failure");
+
+    private final Drive driveService;
+    private final UpstreamMetrics upstreamMetrics;
+    private final boolean enabled;
+    private final int maxSize;
+    private final Executor delayedFlushExecutor;
+    private final DistributionSummary batchSizeSummary;
+    // "작업:결과"별 배치 요청 결과 수
+    private final Map<String, Counter> requestCounters;
+
+    // 지금 모으는 중인 배치 (없으면 null)
+    private Batch current;
+
+    public DriveRequestBatcher(Drive driveService,
+                               UpstreamMetrics upstreamMetrics,
+                               MeterRegistry meterRegistry,
+                               @Qualifier("driveBatchExecutor") Executor driveBatchExecutor,
+                               @Value("${google.drive.batch.enabled:true}") boolean enabled,
+                               @Value("${google.drive.batch.max-size:50}") int maxSize,
+                               @Value("${google.drive.batch.max-delay-ms:5}") long maxDelayMs) {
+        this.driveService = driveService;
+        this.upstreamMetrics = upstreamMetrics;
+        this.enabled = enabled;
+        this.maxSize = Math.max(1, Math.min(maxSize, DRIVE_BATCH_LIMIT));
+        this.delayedFlushExecutor = CompletableFuture.delayedExecutor(maxDelayMs, TimeUnit.MILLISECONDS,
+                driveBatchExecutor);
+        this.batchSizeSummary = DistributionSummary.builder("google.drive.batch.size")
+                .description("드라이브 배치 요청 한 번에 담긴 요청 수")
+                .baseUnit("requests")
+                .register(meterRegistry);
+
+        Map<String, Counter> counters = new HashMap<>();
+        for (String operation : OPERATIONS) {
+            for (String result : RESULTS) {
+                counters.put(operation + ":" + result, Counter.builder("google.drive.batch.requests")
+                        .description("드라이브 배치에 담아 보낸 요청의 결과")
+                        .tag("operation", operation)
+                        .tag("result", result)
+                        .register(meterRegistry));
+            }
+        }
+        this.requestCounters = Map.copyOf(counters);
+    }
+
+    /**
+     * 파일/폴더 권한 추가
+     */
+    public CompletableFuture<Permission> createPermission(String fileId, Permission permission) throws IOException {
+        return submit(PERMISSION, driveService.permissions().create(fileId, permission).setFields("id"));
+    }
+
+    /**
+     * 파일/폴더 삭제
+     */
+    public CompletableFuture<Void> delete(String fileId) throws IOException {
+        return submit(DELETE, driveService.files().delete(fileId));
+    }
+
+    /**
+     * 결과를 기다려 반환 (드라이브 오류는 IOException으로 전달)
+     */
+    public static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(String operation, DriveRequest<T> request) {
+        if (!enabled) {
+            try {
+                return CompletableFuture.completedFuture(
+                        upstreamMetrics.record(UpstreamMetrics.GOOGLE_DRIVE, operation, request::execute));
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        Item<T> item = new Item<>(operation, request);
+        Batch full = null;
+        synchronized (this) {
+            if (current == null) {
+                Batch batch = new Batch();
+                current = batch;
+                delayedFlushExecutor.execute(() -> flushIfCurrent(batch));
+            }
+            current.items.add(item);
+            if (current.items.size() >= maxSize) {
+                full = current;
+                current = null;
+            }
+        }
+        if (full != null) {
+            // 가득 찬 배치는 마지막으로 넣은 호출 스레드에서 바로 전송
+            flush(full);
+        }
+        return item.future;
+    }
+
+    private void flushIfCurrent(Batch batch) {
+        synchronized (this) {
+            if (current != batch) {
+                return; // 이미 가득 차서 전송됨
+            }
+            current = null;
+        }
+        flush(batch);
+    }
+
+    private void flush(Batch batch) {
+        batchSizeSummary.record(batch.items.size());
+        try {
+            BatchRequest batchRequest = driveService.batch();
+            for (Item<?> item : batch.items) {
+                item.queue(batchRequest);
+            }
+            upstreamMetrics.record(UpstreamMetrics.GOOGLE_DRIVE, "batch", () -> {
+                batchRequest.execute();
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("드라이브 배치 요청 실패 - 요청 수: {}, 오류: {}", batch.items.size(), e.getMessage());
+            for (Item<?> item : batch.items) {
+                if (item.future.completeExceptionally(e)) {
+                    count(item.operation, "failure");
+                }
+            }
+        }
+    }
+
+    private void count(String operation, String result) {
+        requestCounters.get(operation + ":" + result).increment();
+    }
+
+    private static class Batch {
+
+        private final List<Item<?>> items = new ArrayList<>();
+    }
+
+    /**
+     * 배치에 담긴 요청 하나와 호출자에게 돌려줄 결과
+     */
+    private class Item<T> {
+
+        private final String operation;
+        private final DriveRequest<T> request;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        Item(String operation, DriveRequest<T> request) {
+            this.operation = operation;
+            this.request = request;
+        }
+
+        void queue(BatchRequest batchRequest) throws IOException {
+            request.queue(batchRequest, new JsonBatchCallback<T>() {
+                @Override
+                public void onSuccess(T result, HttpHeaders responseHeaders) {
+                    count(operation, "success");
+                    future.complete(result);
+                }
+
+                @Override
+                public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                    count(operation, "failure");
+                    future.completeExceptionally(new GoogleJsonResponseException(
+                            new HttpResponseException.Builder(error.getCode(), error.getMessage(), responseHeaders),
+                            error));
+                }
+            });
+        }
+    }
+}
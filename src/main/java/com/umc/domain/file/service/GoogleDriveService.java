@@ -1,26 +1,33 @@
 package com.umc.domain.file.service;
 
 import com.umc.domain.file.dto.FileUploadResponse;
-import com.google.api.client.http.FileContent;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.googleapis.media.MediaHttpUploader;
+import com.google.api.client.http.InputStreamContent;
 import com.google.api.services.drive.Drive;
 import com.google.api.services.drive.model.File;
 import com.google.api.services.drive.model.FileList;
 import com.google.api.services.drive.model.Permission;
+import com.umc.global.metrics.UpstreamMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 @Service
 @RequiredArgsConstructor
@@ -28,9 +35,20 @@ import java.util.HashMap;
 public class GoogleDriveService {
 
     private final Drive driveService;
-    
-    @Value("${google.drive.parent-folder-id}")
-    private String parentFolderId;
+    private final UpstreamMetrics upstreamMetrics;
+    private final DriveFolderService driveFolderService;
+    private final DriveRequestBatcher driveRequestBatcher;
+
+    @Qualifier("upstreamExecutor")
+    private final Executor upstreamExecutor;
+
+    @Value("${google.drive.upload.chunk-size:4194304}")
+    private int uploadChunkSize;
+
+    private static final List<String> RECORD_FILE_TYPES = List.of("audio", "video", "image");
+
+    // 드라이브 목록 조회 한 페이지의 최대 파일 수
+    private static final int LIST_PAGE_SIZE = 1000;
 
     private static final Map<String, String> MIME_TYPES = Map.ofEntries(
         // 오디오 파일
@@ -61,152 +79,103 @@ public class GoogleDriveService {
      * 파일 업로드 메인 메서드
      */
     public FileUploadResponse uploadFile(MultipartFile multipartFile, String recordId) throws IOException {
-        // 임시 파일 생성
-        Path tempFile = createTempFile(multipartFile);
+        // 파일 타입 결정
+        String fileType = determineFileType(multipartFile.getContentType());
         
-        try {
-            // 파일 타입 결정
-            String fileType = determineFileType(multipartFile.getContentType());
-            
-            // 폴더 생성 또는 찾기
-            String folderId = findOrCreateFolder(recordId, fileType);
-            
-            // 파일 업로드
-            String fileId = uploadToGoogleDrive(tempFile, multipartFile.getOriginalFilename(), 
-                                               multipartFile.getContentType(), folderId);
-            
-            // 공개 권한 설정
-            makeFilePublic(fileId);
-            
-            // URL 생성 - iOS에서 직접 다운로드 가능한 URL 사용
-            String publicUrl = "https://drive.google.com/uc?export=download&id=" + fileId;
-            String directUrl = "https://drive.google.com/uc?export=download&id=" + fileId;
-            
-            return new FileUploadResponse(
-                fileId,
-                multipartFile.getOriginalFilename(),
-                publicUrl,
-                directUrl,
-                recordId,
-                fileType,
-                multipartFile.getSize(),
-                multipartFile.getContentType()
-            );
-            
-        } finally {
-            // 임시 파일 삭제
-            Files.deleteIfExists(tempFile);
-        }
-    }
-
-    /**
-     * 폴더 찾기 또는 생성
-     */
-    private String findOrCreateFolder(String recordId, String fileType) throws IOException {
+        // 폴더 찾기 또는 생성 (캐시 적중 시 드라이브 호출 없음)
         String folderName = recordId + "_" + fileType;
+        String folderId = findOrCreateFolder(folderName);
         
+        // 파일 업로드
+        String fileId;
         try {
-            // 기존 폴더 검색
-            String query;
-            if ("root".equals(parentFolderId)) {
-                query = String.format("name='%s' and mimeType='application/vnd.google-apps.folder' and 'root' in parents", folderName);
-            } else {
-                query = String.format("name='%s' and mimeType='application/vnd.google-apps.folder' and '%s' in parents", 
-                                    folderName, parentFolderId);
-            }
-            
-            FileList result = driveService.files().list()
-                    .setQ(query)
-                    .setFields("files(id, name)")
-                    .execute();
-            
-            List<File> files = result.getFiles();
-            if (files != null && !files.isEmpty()) {
-                log.info("기존 폴더 찾음: {} (ID: {})", folderName, files.get(0).getId());
-                return files.get(0).getId();
+            fileId = uploadToGoogleDrive(multipartFile, folderId);
+        } catch (GoogleJsonResponseException e) {
+            if (e.getStatusCode() != 404) {
+                throw e;
             }
-            
-            // 폴더 생성
-            return createFolder(folderName);
-            
-        } catch (Exception e) {
-            log.error("폴더 찾기/생성 실패: {}", e.getMessage());
-            throw new IOException("폴더 생성에 실패했습니다: " + e.getMessage(), e);
+            // 캐시된 폴더가 드라이브에서 삭제된 경우 다시 찾거나 만들어 한 번 더 시도
+            log.warn("캐시된 폴더를 찾을 수 없어 다시 생성합니다: {} (ID: {})", folderName, folderId);
+            driveFolderService.evict(folderName);
+            folderId = findOrCreateFolder(folderName);
+            fileId = uploadToGoogleDrive(multipartFile, folderId);
         }
+
+        // 링크 공개는 파일 단위로만 (폴더는 비공개)
+        makeFilePublic(fileId);
+        
+        // URL 생성 - iOS에서 직접 다운로드 가능한 URL 사용
+        String publicUrl = "https://drive.google.com/uc?export=download&id=" + fileId;
+        String directUrl = "https://drive.google.com/uc?export=download&id=" + fileId;
+        
+        return new FileUploadResponse(
+            fileId,
+            multipartFile.getOriginalFilename(),
+            publicUrl,
+            directUrl,
+            recordId,
+            fileType,
+            multipartFile.getSize(),
+            multipartFile.getContentType()
+        );
     }
 
     /**
-     * 폴더 생성
+     * 폴더 찾기 또는 생성
      */
-    private String createFolder(String folderName) throws IOException {
+    private String findOrCreateFolder(String folderName) throws IOException {
         try {
-            File fileMetadata = new File();
-            fileMetadata.setName(folderName);
-            fileMetadata.setMimeType("application/vnd.google-apps.folder");
-            
-            // 부모 폴더 설정
-            if ("root".equals(parentFolderId)) {
-                fileMetadata.setParents(Collections.singletonList("root"));
-            } else {
-                fileMetadata.setParents(Collections.singletonList(parentFolderId));
-            }
-
-            File file = driveService.files().create(fileMetadata)
-                    .setFields("id")
-                    .execute();
-            
-            log.info("폴더 생성 완료: {} (ID: {})", folderName, file.getId());
-            return file.getId();
-            
+            return driveFolderService.getOrCreate(folderName);
         } catch (Exception e) {
-            log.error("폴더 생성 실패: {}, 오류: {}", folderName, e.getMessage());
+            log.error("폴더 찾기/생성 실패: {}", e.getMessage());
             throw new IOException("폴더 생성에 실패했습니다: " + e.getMessage(), e);
         }
     }
 
     /**
      * 구글 드라이브에 파일 업로드
+     * - 임시 파일로 복사하지 않고 업로드 스트림을 그대로 재개 가능 업로드(chunk-size 단위)로 전송
+     * - 전송 중 연결이 끊기면 드라이브가 받은 위치부터 이어서 전송 (DriveUploadRetryInitializer)
+     * - 재전송에 대비해 현재 조각만 메모리에 보관하므로 업로드당 최대 chunk-size 만큼 사용
      */
-    private String uploadToGoogleDrive(Path filePath, String fileName, String mimeType, String folderId) throws IOException {
+    private String uploadToGoogleDrive(MultipartFile multipartFile, String folderId) throws IOException {
         File fileMetadata = new File();
-        fileMetadata.setName(fileName);
+        fileMetadata.setName(multipartFile.getOriginalFilename());
         fileMetadata.setParents(Collections.singletonList(folderId));
 
-        java.io.File uploadFile = filePath.toFile();
-        FileContent mediaContent = new FileContent(mimeType, uploadFile);
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            InputStreamContent mediaContent = new InputStreamContent(multipartFile.getContentType(), inputStream);
+            mediaContent.setLength(multipartFile.getSize());
 
-        File file = driveService.files().create(fileMetadata, mediaContent)
-                .setFields("id")
-                .execute();
+            Drive.Files.Create create = driveService.files().create(fileMetadata, mediaContent).setFields("id");
+            create.getMediaHttpUploader()
+                    .setDirectUploadEnabled(false)
+                    .setChunkSize(chunkSize());
 
-        log.info("파일 업로드 완료: {} (ID: {})", fileName, file.getId());
-        return file.getId();
+            File file = upstreamMetrics.record(UpstreamMetrics.GOOGLE_DRIVE, "upload", create::execute);
+            log.info("파일 업로드 완료: {} (ID: {})", multipartFile.getOriginalFilename(), file.getId());
+            return file.getId();
+        }
     }
 
     /**
-     * 파일을 공개적으로 접근 가능하게 설정
+     * 파일을 공개적으로 접근 가능하게 설정 (다른 요청의 권한 설정/삭제와 함께 배치로 전송)
      */
     private void makeFilePublic(String fileId) throws IOException {
         Permission permission = new Permission();
         permission.setType("anyone");
         permission.setRole("reader");
 
-        driveService.permissions().create(fileId, permission).execute();
+        DriveRequestBatcher.await(driveRequestBatcher.createPermission(fileId, permission));
         log.info("파일 공개 권한 설정 완료: {}", fileId);
     }
 
     /**
-     * 임시 파일 생성
+     * 조각 크기 (드라이브 규칙상 256KB의 배수)
      */
-    private Path createTempFile(MultipartFile multipartFile) throws IOException {
-        String originalFilename = multipartFile.getOriginalFilename();
-        String extension = originalFilename != null ? 
-                          originalFilename.substring(originalFilename.lastIndexOf('.')) : ".tmp";
-        
-        Path tempFile = Files.createTempFile("upload_", extension);
-        multipartFile.transferTo(tempFile.toFile());
-        
-        return tempFile;
+    private int chunkSize() {
+        int unit = MediaHttpUploader.MINIMUM_CHUNK_SIZE;
+        return Math.max(unit, uploadChunkSize / unit * unit);
     }
 
     /**
@@ -225,88 +194,86 @@ public class GoogleDriveService {
 
     /**
      * 레코드의 모든 파일 조회
+     * - 세 폴더(audio, video, image)를 한 번에 찾고, 폴더별 목록은 동시에 조회 (다음 페이지가 있으면 끝까지 이어서 조회)
      */
     public Map<String, List<FileUploadResponse>> getRecordFiles(String recordId) throws IOException {
-        Map<String, List<FileUploadResponse>> result = new HashMap<>();
-        result.put("audio", new ArrayList<>());
-        result.put("video", new ArrayList<>());
-        result.put("image", new ArrayList<>());
-
-        // 오디오 폴더 파일 조회
-        String audioFolderId = findFolder(recordId, "audio");
-        if (audioFolderId != null) {
-            result.put("audio", getFilesInFolder(audioFolderId, recordId, "audio"));
+        Map<String, String> folderNames = new LinkedHashMap<>();
+        for (String fileType : RECORD_FILE_TYPES) {
+            folderNames.put(fileType, recordId + "_" + fileType);
         }
+        Map<String, String> folderIds = driveFolderService.findAll(folderNames.values());
 
-        // 비디오 폴더 파일 조회
-        String videoFolderId = findFolder(recordId, "video");
-        if (videoFolderId != null) {
-            result.put("video", getFilesInFolder(videoFolderId, recordId, "video"));
+        Map<String, List<FileUploadResponse>> result = new HashMap<>();
+        List<CompletableFuture<Void>> listings = new ArrayList<>();
+        for (String fileType : RECORD_FILE_TYPES) {
+            List<FileUploadResponse> files = new ArrayList<>();
+            result.put(fileType, files);
+            String folderId = folderIds.get(folderNames.get(fileType));
+            if (folderId != null) {
+                listings.add(CompletableFuture.runAsync(
+                        () -> listFolder(folderId, recordId, fileType, files), upstreamExecutor));
+            }
         }
 
-        // 이미지 폴더 파일 조회
-        String imageFolderId = findFolder(recordId, "image");
-        if (imageFolderId != null) {
-            result.put("image", getFilesInFolder(imageFolderId, recordId, "image"));
+        try {
+            CompletableFuture.allOf(listings.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            listings.forEach(listing -> listing.cancel(true));
+            if (e.getCause() instanceof UncheckedIOException cause) {
+                throw cause.getCause();
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
         }
-
         return result;
     }
 
     /**
-     * 폴더 찾기
+     * 폴더 내 파일 목록을 페이지 단위로 끝까지 조회하여 files에 추가
      */
-    private String findFolder(String recordId, String fileType) throws IOException {
-        String folderName = recordId + "_" + fileType;
-        String query = String.format("name='%s' and mimeType='application/vnd.google-apps.folder'", folderName);
-
-        FileList result = driveService.files().list()
-                .setQ(query)
-                .setFields("files(id, name)")
-                .execute();
-
-        List<File> files = result.getFiles();
-        return (files != null && !files.isEmpty()) ? files.get(0).getId() : null;
-    }
-
-    /**
-     * 폴더 내 파일 목록 조회
-     */
-    private List<FileUploadResponse> getFilesInFolder(String folderId, String recordId, String fileType) throws IOException {
+    private void listFolder(String folderId, String recordId, String fileType, List<FileUploadResponse> files) {
         String query = String.format("'%s' in parents", folderId);
-        
-        FileList result = driveService.files().list()
-                .setQ(query)
-                .setFields("files(id, name, mimeType, size, createdTime)")
-                .execute();
+        String pageToken = null;
+        do {
+            String currentPageToken = pageToken;
+            FileList page;
+            try {
+                page = upstreamMetrics.record(UpstreamMetrics.GOOGLE_DRIVE, "list",
+                        () -> driveService.files().list()
+                                .setQ(query)
+                                .setPageSize(LIST_PAGE_SIZE)
+                                .setPageToken(currentPageToken)
+                                .setFields("nextPageToken, files(id, name, mimeType, size, createdTime)")
+                                .execute());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            if (page.getFiles() != null) {
+                for (File file : page.getFiles()) {
+                    String publicUrl = "https://drive.google.com/uc?export=download&id=" + file.getId();
+                    String directUrl = "https://drive.google.com/uc?export=download&id=" + file.getId();
 
-        List<FileUploadResponse> files = new ArrayList<>();
-        if (result.getFiles() != null) {
-            for (File file : result.getFiles()) {
-                String publicUrl = "https://drive.google.com/uc?export=download&id=" + file.getId();
-                String directUrl = "https://drive.google.com/uc?export=download&id=" + file.getId();
-                
-                files.add(new FileUploadResponse(
-                    file.getId(),
-                    file.getName(),
-                    publicUrl,
-                    directUrl,
-                    recordId,
-                    fileType,
-                    file.getSize(),
-                    file.getMimeType()
-                ));
+                    files.add(new FileUploadResponse(
+                        file.getId(),
+                        file.getName(),
+                        publicUrl,
+                        directUrl,
+                        recordId,
+                        fileType,
+                        file.getSize(),
+                        file.getMimeType()
+                    ));
+                }
             }
-        }
-        
-        return files;
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
     }
 
     /**
-     * 파일 삭제
+     * 파일 삭제 (동시에 들어온 다른 삭제/권한 설정과 함께 배치로 전송)
      */
-    public void deleteFile(String fileId) throws IOException {
-        driveService.files().delete(fileId).execute();
-        log.info("파일 삭제 완료: {}", fileId);
+    public CompletableFuture<Void> deleteFile(String fileId) throws IOException {
+        return driveRequestBatcher.delete(fileId)
+                .thenRun(() -> log.info("파일 삭제 완료: {}", fileId));
     }
 } 
\ No newline at end of file
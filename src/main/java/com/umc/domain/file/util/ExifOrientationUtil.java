@@ -0,0 +1,148 @@
+package com.umc.domain.file.util;
+
+import java.awt.geom.AffineTransform;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JPEG EXIF Orientation 태그 읽기와 적용
+ * - 휴대폰 사진은 픽셀을 센서 방향 그대로 저장하고 Orientation 태그로 회전/반전을 표시하므로,
+ *   메타데이터 없이 다시 인코딩할 때는 태그를 먼저 픽셀에 반영해야 보이는 방향이 유지됨
+ * - APP1(Exif) 세그먼트의 IFD0만 읽으며, 태그가 없거나 JPEG가 아니거나 해석할 수 없으면 NORMAL
+ */
+public class ExifOrientationUtil {
+
+    public static final int NORMAL = 1;
+
+    private static final int SOI = 0xFFD8;
+    private static final int APP1 = 0xFFE1;
+    private static final int SOS = 0xFFDA;
+    private static final int EOI = 0xFFD9;
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.ISO_8859_1);
+
+    private ExifOrientationUtil() {
+    }
+
+    /**
+     * Orientation 값(1~8) 읽기 (이미지 데이터 앞의 세그먼트만 읽음)
+     */
+    public static int read(InputStream inputStream) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(inputStream));
+        try {
+            if (data.readUnsignedShort() != SOI) {
+                return NORMAL;
+            }
+            while (true) {
+                int marker = data.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == SOS || marker == EOI) {
+                    return NORMAL;
+                }
+                int length = data.readUnsignedShort() - 2;
+                if (length < 0) {
+                    return NORMAL;
+                }
+                if (marker != APP1) {
+                    data.skipNBytes(length);
+                    continue;
+                }
+                byte[] segment = data.readNBytes(length);
+                if (segment.length == length && startsWith(segment, EXIF_HEADER)) {
+                    return parseTiff(segment, EXIF_HEADER.length);
+                }
+                // XMP 등 다른 APP1 세그먼트는 건너뜀
+            }
+        } catch (EOFException e) {
+            return NORMAL;
+        }
+    }
+
+    /**
+     * 가로/세로가 바뀌는 방향인지 (5~8: 90도 회전 포함)
+     */
+    public static boolean swapsAxes(int orientation) {
+        return orientation >= 5 && orientation <= 8;
+    }
+
+    /**
+     * width x height 원본 좌표를 보이는 방향의 좌표로 옮기는 변환
+     */
+    public static AffineTransform transform(int orientation, int width, int height) {
+        return switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);        // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);  // 180도 회전
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);       // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);             // 대각선 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);       // 시계 방향 90도 회전
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);  // 반대 대각선 반전
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);        // 반시계 방향 90도 회전
+            default -> new AffineTransform();
+        };
+    }
+
+    /**
+     * TIFF 헤더와 IFD0에서 Orientation 값 찾기
+     */
+    private static int parseTiff(byte[] segment, int start) {
+        if (segment.length < start + 8) {
+            return NORMAL;
+        }
+        boolean littleEndian;
+        if (segment[start] == 'I' && segment[start + 1] == 'I') {
+            littleEndian = true;
+        } else if (segment[start] == 'M' && segment[start + 1] == 'M') {
+            littleEndian = false;
+        } else {
+            return NORMAL;
+        }
+        if (readShort(segment, start + 2, littleEndian) != 42) {
+            return NORMAL;
+        }
+
+        long ifdOffset = readInt(segment, start + 4, littleEndian);
+        if (ifdOffset < 8 || start + ifdOffset + 2 > segment.length) {
+            return NORMAL;
+        }
+        int ifd = start + (int) ifdOffset;
+        int entries = readShort(segment, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > segment.length) {
+                return NORMAL;
+            }
+            if (readShort(segment, entry, littleEndian) == ORIENTATION_TAG) {
+                int orientation = readShort(segment, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readShort(byte[] bytes, int offset, boolean littleEndian) {
+        int b0 = bytes[offset] & 0xFF;
+        int b1 = bytes[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static long readInt(byte[] bytes, int offset, boolean littleEndian) {
+        long high = readShort(bytes, offset + (littleEndian ? 2 : 0), littleEndian);
+        long low = readShort(bytes, offset + (littleEndian ? 0 : 2), littleEndian);
+        return (high << 16) | low;
+    }
+}
@@ -0,0 +1,43 @@
+package com.umc.domain.file.util;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 업로드 파일 내용 해시 계산 (파일 전체를 메모리에 올리지 않고 스트리밍으로 계산)
+ */
+public class FileHashUtil {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private FileHashUtil() {
+    }
+
+    /**
+     * SHA-256 해시를 16진수 문자열로 반환
+     */
+    public static String sha256Hex(MultipartFile file) throws IOException {
+        MessageDigest digest = newSha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream inputStream = file.getInputStream()) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+}
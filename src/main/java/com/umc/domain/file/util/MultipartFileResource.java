@@ -0,0 +1,132 @@
+package com.umc.domain.file.util;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 업로드 파일을 메모리에 올리지 않고 multipart 요청 본문으로 보내기 위한 Resource
+ * - 요청 본문을 쓸 때마다 디스크에 저장된 업로드 파일에서 새 스트림을 열어 고정 크기 버퍼로 복사
+ * - 여러 번 읽을 수 있으므로 재시도 시에도 그대로 다시 전송 가능
+ * - 오디오 발췌처럼 파일의 연속된 일부 구간만 보낼 수도 있음
+ */
+public class MultipartFileResource extends AbstractResource {
+
+    private final MultipartFile file;
+    private final String filename;
+    private final long offset;
+    private final long length;
+
+    public MultipartFileResource(MultipartFile file, String filename) {
+        this(file, filename, 0, file.getSize());
+    }
+
+    private MultipartFileResource(MultipartFile file, String filename, long offset, long length) {
+        this.file = file;
+        this.filename = filename;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * 파일의 [offset, offset + length) 구간만 담는 Resource
+     */
+    public static MultipartFileResource range(MultipartFile file, String filename, long offset, long length) {
+        if (offset < 0 || length < 0 || offset + length > file.getSize()) {
+            throw new IllegalArgumentException("파일 범위를 벗어났습니다: offset=" + offset + ", length=" + length);
+        }
+        return new MultipartFileResource(file, filename, offset, length);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        InputStream inputStream = file.getInputStream();
+        if (offset == 0 && length == file.getSize()) {
+            return inputStream;
+        }
+        try {
+            inputStream.skipNBytes(offset);
+        } catch (IOException | RuntimeException e) {
+            inputStream.close();
+            throw e;
+        }
+        return new RangeInputStream(inputStream, length);
+    }
+
+    @Override
+    public long contentLength() {
+        return length;
+    }
+
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public String getDescription() {
+        return "업로드 파일 [" + file.getOriginalFilename() + "]";
+    }
+
+    /**
+     * 남은 길이만큼만 읽는 스트림
+     */
+    private static class RangeInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        RangeInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read();
+            if (read >= 0) {
+                remaining--;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
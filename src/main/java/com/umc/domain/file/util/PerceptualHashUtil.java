@@ -0,0 +1,118 @@
+package com.umc.domain.file.util;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 이미지 지각 해시(dHash) 계산
+ * - 9x8 흑백으로 축소한 뒤 가로로 인접한 픽셀의 밝기 비교 결과 64비트를 해시로 사용
+ * - 재압축, 리사이즈, 스크린샷처럼 바이트는 달라도 보이는 내용이 같으면 해밍 거리가 작게 나옴
+ */
+public class PerceptualHashUtil {
+
+    private static final int HASH_WIDTH = 9;
+    private static final int HASH_HEIGHT = 8;
+
+    // 디코딩 시 짧은 변 기준 이 크기 근처까지만 픽셀을 읽음 (서브샘플링)
+    private static final int SAMPLE_SIZE = 256;
+
+    private PerceptualHashUtil() {
+    }
+
+    /**
+     * 업로드 이미지의 dHash 계산 (ImageIO로 읽을 수 없는 형식이면 null)
+     */
+    public static Long dHash(MultipartFile file) throws IOException {
+        try (InputStream inputStream = file.getInputStream();
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            if (imageInputStream == null) {
+                return null;
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int shortSide = Math.min(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, shortSide / SAMPLE_SIZE);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return dHash(reader.read(0, param));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 디코딩된 이미지의 dHash 계산
+     */
+    public static long dHash(BufferedImage image) {
+        double[][] luminance = shrinkToLuminance(image);
+
+        long hash = 0L;
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH - 1; x++) {
+                hash <<= 1;
+                if (luminance[y][x] < luminance[y][x + 1]) {
+                    hash |= 1L;
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * 두 해시의 해밍 거리
+     */
+    public static int distance(long first, long second) {
+        return Long.bitCount(first ^ second);
+    }
+
+    /**
+     * 영역 평균으로 9x8 밝기 행렬 생성 (원본 픽셀을 한 번씩만 읽음)
+     */
+    private static double[][] shrinkToLuminance(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double[][] sum = new double[HASH_HEIGHT][HASH_WIDTH];
+        int[][] count = new int[HASH_HEIGHT][HASH_WIDTH];
+        int[] row = new int[width];
+
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            int cellY = (int) ((long) y * HASH_HEIGHT / height);
+            for (int x = 0; x < width; x++) {
+                int cellX = (int) ((long) x * HASH_WIDTH / width);
+                int rgb = row[x];
+                int red = (rgb >> 16) & 0xFF;
+                int green = (rgb >> 8) & 0xFF;
+                int blue = rgb & 0xFF;
+                sum[cellY][cellX] += 0.299 * red + 0.587 * green + 0.114 * blue;
+                count[cellY][cellX]++;
+            }
+        }
+
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH; x++) {
+                if (count[y][x] > 0) {
+                    sum[y][x] /= count[y][x];
+                }
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,105 @@
+package com.umc.domain.file.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 요청이 끝난 뒤에도 사용할 수 있도록 임시 파일로 옮겨 둔 업로드 파일
+ * (Tomcat 멀티파트 임시 파일은 요청 종료 시 삭제되므로 백그라운드 작업에서는 이 클래스를 사용)
+ */
+@Slf4j
+public class SpooledMultipartFile implements MultipartFile {
+
+    private final Path path;
+    private final String name;
+    private final String originalFilename;
+    private final String contentType;
+    private final long size;
+
+    private SpooledMultipartFile(Path path, String name, String originalFilename, String contentType, long size) {
+        this.path = path;
+        this.name = name;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.size = size;
+    }
+
+    /**
+     * 업로드 파일을 임시 디렉토리로 옮김
+     */
+    public static SpooledMultipartFile spool(MultipartFile file) throws IOException {
+        Path tempFile = Files.createTempFile("perfume_upload_", ".tmp");
+        try {
+            file.transferTo(tempFile.toFile());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        return new SpooledMultipartFile(tempFile, file.getName(), file.getOriginalFilename(),
+                file.getContentType(), file.getSize());
+    }
+
+    /**
+     * 임시 파일 삭제
+     */
+    public void delete() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 업로드 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return Files.readAllBytes(path);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(path);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        // 여러 번 읽을 수 있도록 이동하지 않고 복사
+        Files.copy(path, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public void transferTo(Path dest) throws IOException {
+        Files.copy(path, dest, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
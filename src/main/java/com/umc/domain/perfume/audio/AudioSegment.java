@@ -0,0 +1,16 @@
+package com.umc.domain.perfume.audio;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * Whisper로 보낼 오디오 구간
+ *
+ * @param resource         전송할 파일 내용 (여러 번 읽을 수 있음)
+ * @param filename         multipart 파일명 (확장자로 형식이 판별됨)
+ * @param size             바이트 수
+ * @param startSeconds     원본 트랙 기준 시작 위치(초)
+ * @param durationSeconds  구간 길이(초)
+ */
+public record AudioSegment(Resource resource, String filename, long size,
+                           double startSeconds, double durationSeconds) {
+}
@@ -0,0 +1,27 @@
+package com.umc.domain.perfume.audio;
+
+import java.io.IOException;
+
+/**
+ * 프레임(MP3) 또는 샘플(WAV) 경계로 자를 수 있는 오디오 트랙
+ */
+public interface AudioTrack {
+
+    /**
+     * 전체 길이(초)
+     */
+    double durationSeconds();
+
+    /**
+     * energyBlockSeconds 간격으로 나눈 구간별 상대 에너지
+     */
+    double[] energyProfile();
+
+    double energyBlockSeconds();
+
+    /**
+     * [startSeconds, startSeconds + durationSeconds) 구간을 잘라 반환
+     * (경계는 가장 가까운 프레임/샘플 경계로 맞춤)
+     */
+    AudioSegment slice(double startSeconds, double durationSeconds) throws IOException;
+}
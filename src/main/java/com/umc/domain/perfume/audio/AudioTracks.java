@@ -0,0 +1,48 @@
+package com.umc.domain.perfume.audio;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 파일 앞부분의 시그니처로 형식을 판별해 AudioTrack 생성
+ */
+public final class AudioTracks {
+
+    private AudioTracks() {
+    }
+
+    /**
+     * WAV/MP3만 지원 (그 외 형식이거나 해석할 수 없으면 null)
+     */
+    public static AudioTrack open(MultipartFile file, String filename) throws IOException {
+        byte[] head;
+        try (InputStream inputStream = file.getInputStream()) {
+            head = inputStream.readNBytes(12);
+        }
+        if (head.length < 4) {
+            return null;
+        }
+
+        if (isWav(head)) {
+            return WavTrack.read(file, filename);
+        }
+        if (isMp3(head)) {
+            return Mp3Track.read(file, filename);
+        }
+        return null;
+    }
+
+    private static boolean isWav(byte[] head) {
+        return head.length >= 12
+                && head[0] == 'R' && head[1] == 'I' && head[2] == 'F' && head[3] == 'F'
+                && head[8] == 'W' && head[9] == 'A' && head[10] == 'V' && head[11] == 'E';
+    }
+
+    private static boolean isMp3(byte[] head) {
+        boolean id3 = head[0] == 'I' && head[1] == 'D' && head[2] == '3';
+        boolean frameSync = (head[0] & 0xFF) == 0xFF && (head[1] & 0xE0) == 0xE0;
+        return id3 || frameSync;
+    }
+}
@@ -0,0 +1,70 @@
+package com.umc.domain.perfume.audio;
+
+import java.util.Arrays;
+
+/**
+ * 발췌 구간 시작 위치 선택
+ * - 약 2초 이동 평균으로 다듬은 에너지가 중앙값의 절반 이상이 되는 첫 지점을 보컬/본곡 시작으로 봄
+ *   (중앙 정렬 평균이므로 절반 기준이면 소리가 시작되는 블록과 거의 일치)
+ * - 무음/조용한 인트로를 건너뛰고, 시작 직전 pre-roll만큼 앞에서 자름
+ */
+public final class EnergyWindowSelector {
+
+    private static final double SMOOTHING_SECONDS = 2.0;
+
+    private EnergyWindowSelector() {
+    }
+
+    /**
+     * 발췌 시작 위치(초) 계산 (트랙이 창보다 짧으면 0)
+     */
+    public static double selectStart(double[] energy, double blockSeconds, double windowSeconds, double preRollSeconds) {
+        double totalSeconds = energy.length * blockSeconds;
+        if (energy.length == 0 || totalSeconds <= windowSeconds) {
+            return 0;
+        }
+
+        double[] smoothed = smooth(energy, Math.max(1, (int) Math.round(SMOOTHING_SECONDS / blockSeconds)));
+        double threshold = median(smoothed) / 2;
+        if (threshold <= 0) {
+            // 절반 이상이 무음이면 소리가 있는 첫 지점 기준
+            threshold = Double.MIN_VALUE;
+        }
+
+        int firstActive = 0;
+        while (firstActive < smoothed.length && smoothed[firstActive] < threshold) {
+            firstActive++;
+        }
+        if (firstActive == smoothed.length) {
+            return 0;
+        }
+
+        double start = Math.max(0, firstActive * blockSeconds - preRollSeconds);
+        return Math.min(start, totalSeconds - windowSeconds);
+    }
+
+    /**
+     * 중앙 정렬 이동 평균
+     */
+    private static double[] smooth(double[] values, int width) {
+        double[] prefix = new double[values.length + 1];
+        for (int i = 0; i < values.length; i++) {
+            prefix[i + 1] = prefix[i] + values[i];
+        }
+
+        double[] smoothed = new double[values.length];
+        int half = width / 2;
+        for (int i = 0; i < values.length; i++) {
+            int from = Math.max(0, i - half);
+            int to = Math.min(values.length, i + half + 1);
+            smoothed[i] = (prefix[to] - prefix[from]) / (to - from);
+        }
+        return smoothed;
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,359 @@
+package com.umc.domain.perfume.audio;
+
+import com.umc.domain.file.util.MultipartFileResource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * MP3 프레임 인덱스
+ * - ID3v2 태그를 건너뛰고 프레임 헤더를 따라가며 프레임별 위치/길이를 기록 (디코딩하지 않음)
+ * - 잘라낸 구간은 연속된 프레임들이므로 원본 파일의 바이트 범위를 그대로 전송
+ * - Layer III는 side info의 global_gain(양자화 스텝, 1단위 1.5dB)을 에너지 근사값으로 사용
+ */
+public class Mp3Track implements AudioTrack {
+
+    private static final double ENERGY_BLOCK_SECONDS = 0.5;
+    private static final int MAX_FRAME_LENGTH = 2881;
+
+    private static final int[][] BITRATES_V1 = {
+            {0, 32, 64, 96, 128, 160, 192, 224, 256, 288, 320, 352, 384, 416, 448}, // Layer I
+            {0, 32, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320, 384},    // Layer II
+            {0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320}      // Layer III
+    };
+    private static final int[][] BITRATES_V2 = {
+            {0, 32, 48, 56, 64, 80, 96, 112, 128, 144, 160, 176, 192, 224, 256},
+            {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160},
+            {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160}
+    };
+    private static final int[][] SAMPLE_RATES = {
+            {11025, 12000, 8000},  // MPEG 2.5
+            {0, 0, 0},             // reserved
+            {22050, 24000, 16000}, // MPEG 2
+            {44100, 48000, 32000}  // MPEG 1
+    };
+
+    private final MultipartFile file;
+    private final String filename;
+    private final int sampleRate;
+    private final int samplesPerFrame;
+    private final int frameCount;
+    private final long[] frameOffsets;
+    private final int[] frameLengths;
+    private final double[] frameEnergies;
+
+    private Mp3Track(MultipartFile file, String filename, int sampleRate, int samplesPerFrame, int frameCount,
+                     long[] frameOffsets, int[] frameLengths, double[] frameEnergies) {
+        this.file = file;
+        this.filename = filename;
+        this.sampleRate = sampleRate;
+        this.samplesPerFrame = samplesPerFrame;
+        this.frameCount = frameCount;
+        this.frameOffsets = frameOffsets;
+        this.frameLengths = frameLengths;
+        this.frameEnergies = frameEnergies;
+    }
+
+    /**
+     * 파일을 한 번 훑어 프레임 인덱스 생성 (프레임을 찾지 못하면 null)
+     */
+    public static Mp3Track read(MultipartFile file, String filename) throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(file.getInputStream(), 64 * 1024)) {
+            long offset = skipId3v2(inputStream);
+
+            FrameHeader first = null;
+            int count = 0;
+            long[] offsets = new long[1024];
+            int[] lengths = new int[1024];
+            double[] energies = new double[1024];
+            byte[] frame = new byte[MAX_FRAME_LENGTH];
+
+            while (true) {
+                int b0 = inputStream.read();
+                if (b0 < 0) {
+                    break;
+                }
+                if (b0 != 0xFF) {
+                    offset++;
+                    continue;
+                }
+
+                inputStream.mark(3);
+                int b1 = inputStream.read();
+                int b2 = inputStream.read();
+                int b3 = inputStream.read();
+                if (b3 < 0) {
+                    break;
+                }
+
+                FrameHeader header = FrameHeader.parse(b1, b2, b3);
+                // 첫 프레임과 형식이 다르면 오디오 데이터 안의 우연한 동기 패턴으로 보고 건너뜀
+                if (header == null || (first != null && !header.sameStreamAs(first))) {
+                    inputStream.reset();
+                    offset++;
+                    continue;
+                }
+
+                int bodyLength = header.frameLength - 4;
+                if (inputStream.readNBytes(frame, 0, bodyLength) < bodyLength) {
+                    break; // 잘린 마지막 프레임
+                }
+
+                if (first == null) {
+                    first = header;
+                    if (header.isInfoFrame(frame)) {
+                        // Xing/Info/VBRI 헤더 프레임은 전체 파일 기준 정보라 발췌본에서는 제외
+                        offset += header.frameLength;
+                        continue;
+                    }
+                }
+
+                if (count == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, count * 2);
+                    lengths = Arrays.copyOf(lengths, count * 2);
+                    energies = Arrays.copyOf(energies, count * 2);
+                }
+                offsets[count] = offset;
+                lengths[count] = header.frameLength;
+                energies[count] = header.energy(frame);
+                count++;
+                offset += header.frameLength;
+            }
+
+            if (first == null || count == 0) {
+                return null;
+            }
+            return new Mp3Track(file, filename, first.sampleRate, first.samplesPerFrame, count,
+                    offsets, lengths, energies);
+        }
+    }
+
+    @Override
+    public double durationSeconds() {
+        return frameCount * frameSeconds();
+    }
+
+    @Override
+    public double[] energyProfile() {
+        int framesPerBlock = Math.max(1, (int) Math.round(ENERGY_BLOCK_SECONDS / frameSeconds()));
+        double[] profile = new double[(frameCount + framesPerBlock - 1) / framesPerBlock];
+        for (int block = 0; block < profile.length; block++) {
+            int from = block * framesPerBlock;
+            int to = Math.min(frameCount, from + framesPerBlock);
+            double sum = 0;
+            for (int i = from; i < to; i++) {
+                sum += frameEnergies[i];
+            }
+            profile[block] = sum / (to - from);
+        }
+        return profile;
+    }
+
+    @Override
+    public double energyBlockSeconds() {
+        return Math.max(1, Math.round(ENERGY_BLOCK_SECONDS / frameSeconds())) * frameSeconds();
+    }
+
+    @Override
+    public AudioSegment slice(double startSeconds, double durationSeconds) {
+        int fromFrame = clamp((int) Math.floor(startSeconds / frameSeconds()), 0, frameCount - 1);
+        int toFrame = clamp((int) Math.ceil((startSeconds + durationSeconds) / frameSeconds()), fromFrame + 1, frameCount);
+
+        long start = frameOffsets[fromFrame];
+        long end = frameOffsets[toFrame - 1] + frameLengths[toFrame - 1];
+        return new AudioSegment(MultipartFileResource.range(file, filename, start, end - start), filename,
+                end - start, fromFrame * frameSeconds(), (toFrame - fromFrame) * frameSeconds());
+    }
+
+    public int frameCount() {
+        return frameCount;
+    }
+
+    private double frameSeconds() {
+        return (double) samplesPerFrame / sampleRate;
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * 파일 앞의 ID3v2 태그 건너뛰기 (건너뛴 바이트 수 반환)
+     */
+    private static long skipId3v2(InputStream inputStream) throws IOException {
+        inputStream.mark(10);
+        byte[] header = inputStream.readNBytes(10);
+        if (header.length < 10 || header[0] != 'I' || header[1] != 'D' || header[2] != '3') {
+            inputStream.reset();
+            return 0;
+        }
+
+        // 크기는 7비트씩 끊어 쓴 synchsafe 정수, footer 플래그가 있으면 10바이트 추가
+        long size = ((header[6] & 0x7F) << 21) | ((header[7] & 0x7F) << 14)
+                | ((header[8] & 0x7F) << 7) | (header[9] & 0x7F);
+        if ((header[5] & 0x10) != 0) {
+            size += 10;
+        }
+        inputStream.skipNBytes(size);
+        return 10 + size;
+    }
+
+    /**
+     * MPEG 오디오 프레임 헤더
+     */
+    private record FrameHeader(int version, int layer, boolean crc, int sampleRate,
+                               int channels, int frameLength, int samplesPerFrame) {
+
+        /**
+         * 0xFF 다음 3바이트로 헤더 해석 (유효하지 않으면 null)
+         */
+        static FrameHeader parse(int b1, int b2, int b3) {
+            if ((b1 & 0xE0) != 0xE0) {
+                return null;
+            }
+            int version = (b1 >> 3) & 0x03;      // 0: 2.5, 2: 2, 3: 1
+            int layerBits = (b1 >> 1) & 0x03;    // 1: III, 2: II, 3: I
+            boolean crc = (b1 & 0x01) == 0;
+            int bitrateIndex = (b2 >> 4) & 0x0F;
+            int sampleRateIndex = (b2 >> 2) & 0x03;
+            int padding = (b2 >> 1) & 0x01;
+            int channelMode = (b3 >> 6) & 0x03;
+
+            if (version == 1 || layerBits == 0 || bitrateIndex == 0 || bitrateIndex == 15 || sampleRateIndex == 3) {
+                return null; // reserved, free format
+            }
+
+            int layer = 4 - layerBits;
+            boolean mpeg1 = version == 3;
+            int bitrate = (mpeg1 ? BITRATES_V1 : BITRATES_V2)[layer - 1][bitrateIndex] * 1000;
+            int sampleRate = SAMPLE_RATES[version][sampleRateIndex];
+
+            int frameLength;
+            int samplesPerFrame;
+            if (layer == 1) {
+                frameLength = (12 * bitrate / sampleRate + padding) * 4;
+                samplesPerFrame = 384;
+            } else if (layer == 2 || mpeg1) {
+                frameLength = 144 * bitrate / sampleRate + padding;
+                samplesPerFrame = 1152;
+            } else {
+                frameLength = 72 * bitrate / sampleRate + padding;
+                samplesPerFrame = 576;
+            }
+            if (frameLength <= 4 || frameLength > MAX_FRAME_LENGTH) {
+                return null;
+            }
+
+            return new FrameHeader(version, layer, crc, sampleRate, channelMode == 3 ? 1 : 2,
+                    frameLength, samplesPerFrame);
+        }
+
+        boolean sameStreamAs(FrameHeader other) {
+            return version == other.version && layer == other.layer && sampleRate == other.sampleRate;
+        }
+
+        private int sideInfoLength() {
+            if (version == 3) {
+                return channels == 1 ? 17 : 32;
+            }
+            return channels == 1 ? 9 : 17;
+        }
+
+        private int sideInfoOffset() {
+            return crc ? 2 : 0;
+        }
+
+        /**
+         * VBR 정보 프레임 여부 (body는 헤더 4바이트를 제외한 프레임 내용)
+         */
+        boolean isInfoFrame(byte[] body) {
+            if (layer != 3) {
+                return false;
+            }
+            int xingOffset = sideInfoOffset() + sideInfoLength();
+            int vbriOffset = 32;
+            return matches(body, xingOffset, "Xing") || matches(body, xingOffset, "Info")
+                    || matches(body, vbriOffset, "VBRI");
+        }
+
+        /**
+         * 프레임 에너지 근사값 (Layer III global_gain 평균, 무음 그래뉼은 0)
+         */
+        double energy(byte[] body) {
+            if (layer != 3) {
+                return 1.0;
+            }
+
+            BitReader bits = new BitReader(body, sideInfoOffset());
+            int granules;
+            int blockBits;
+            if (version == 3) {
+                bits.skip(9 + (channels == 1 ? 5 : 3) + 4 * channels); // main_data_begin, private, scfsi
+                granules = 2;
+                blockBits = 59;
+            } else {
+                bits.skip(8 + (channels == 1 ? 1 : 2));
+                granules = 1;
+                blockBits = 63;
+            }
+
+            double sum = 0;
+            for (int granule = 0; granule < granules; granule++) {
+                for (int channel = 0; channel < channels; channel++) {
+                    int part23Length = bits.read(12);
+                    int bigValues = bits.read(9);
+                    int globalGain = bits.read(8);
+                    bits.skip(blockBits - 29);
+                    if (part23Length > 0 || bigValues > 0) {
+                        sum += globalGain;
+                    }
+                }
+            }
+            return sum / (granules * channels);
+        }
+
+        private boolean matches(byte[] body, int offset, String tag) {
+            if (offset + tag.length() > frameLength - 4) {
+                return false;
+            }
+            for (int i = 0; i < tag.length(); i++) {
+                if (body[offset + i] != tag.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * MSB 우선 비트 읽기
+     */
+    private static class BitReader {
+
+        private final byte[] data;
+        private long position;
+
+        BitReader(byte[] data, int byteOffset) {
+            this.data = data;
+            this.position = byteOffset * 8L;
+        }
+
+        int read(int count) {
+            int value = 0;
+            for (int i = 0; i < count; i++) {
+                int byteIndex = (int) (position >> 3);
+                int bit = (data[byteIndex] >> (7 - (position & 7))) & 1;
+                value = (value << 1) | bit;
+                position++;
+            }
+            return value;
+        }
+
+        void skip(int count) {
+            position += count;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.umc.domain.perfume.audio;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 겹치게 자른 구간들의 변환 결과를 순서대로 이어 붙임
+ * - 앞 구간의 끝 단어들과 다음 구간의 앞 단어들이 일치하는 가장 긴 부분을 겹침으로 보고 한 번만 남김
+ * - 구간 경계에서 잘린 단어는 잘못 인식되기 쉬우므로 양쪽 끝 최대 2단어까지는 건너뛰고 비교
+ * - 비교 시 대소문자와 문장부호는 무시
+ */
+public final class TranscriptStitcher {
+
+    private static final int MAX_OVERLAP_WORDS = 40;
+    private static final int MIN_OVERLAP_WORDS = 2;
+    private static final int MAX_EDGE_SKIP = 2;
+
+    private TranscriptStitcher() {
+    }
+
+    public static String stitch(List<String> texts) {
+        List<String> words = new ArrayList<>();
+        for (String text : texts) {
+            if (text == null || text.isBlank()) {
+                continue;
+            }
+            append(words, Arrays.asList(text.trim().split("\\s+")));
+        }
+        return String.join(" ", words);
+    }
+
+    private static void append(List<String> words, List<String> next) {
+        Overlap best = null;
+        for (int skipPrevious = 0; skipPrevious <= MAX_EDGE_SKIP; skipPrevious++) {
+            for (int skipNext = 0; skipNext <= MAX_EDGE_SKIP; skipNext++) {
+                int previousEnd = words.size() - skipPrevious;
+                int maxLength = Math.min(MAX_OVERLAP_WORDS, Math.min(previousEnd, next.size() - skipNext));
+                for (int length = maxLength; length >= MIN_OVERLAP_WORDS; length--) {
+                    if (best != null && length <= best.length()) {
+                        break;
+                    }
+                    if (matches(words, previousEnd - length, next, skipNext, length)) {
+                        best = new Overlap(previousEnd, skipNext + length, length);
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (best == null) {
+            words.addAll(next);
+            return;
+        }
+        words.subList(best.previousEnd(), words.size()).clear();
+        words.addAll(next.subList(best.nextStart(), next.size()));
+    }
+
+    private static boolean matches(List<String> previous, int previousFrom, List<String> next, int nextFrom, int length) {
+        for (int i = 0; i < length; i++) {
+            if (!normalize(previous.get(previousFrom + i)).equals(normalize(next.get(nextFrom + i)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String word) {
+        return word.replaceAll("[^\\p{L}\\p{N}]", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 앞 구간은 previousEnd까지, 다음 구간은 nextStart부터 사용
+     */
+    private record Overlap(int previousEnd, int nextStart, int length) {
+    }
+}
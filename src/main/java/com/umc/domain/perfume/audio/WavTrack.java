@@ -0,0 +1,371 @@
+package com.umc.domain.perfume.audio;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * PCM WAV 트랙
+ * - RIFF 청크를 따라가 fmt/data 위치만 읽고, 샘플 경계로 자름
+ * - 잘라낸 구간은 모노로 합치고 16kHz(원본이 더 낮으면 원본 샘플레이트) 16비트로 변환
+ * - 에너지는 음성 대역(약 150Hz~4kHz)만 남긴 신호의 RMS로 계산
+ */
+public class WavTrack implements AudioTrack {
+
+    public static final int TARGET_SAMPLE_RATE = 16000;
+
+    private static final double ENERGY_BLOCK_SECONDS = 0.5;
+    private static final int FORMAT_PCM = 1;
+    private static final int FORMAT_IEEE_FLOAT = 3;
+    private static final int FORMAT_EXTENSIBLE = 0xFFFE;
+    private static final int WAV_HEADER_LENGTH = 44;
+    private static final int FRAMES_PER_READ = 4096;
+
+    private final MultipartFile file;
+    private final String filename;
+    private final int formatTag;
+    private final int channels;
+    private final int sampleRate;
+    private final int bitsPerSample;
+    private final int blockAlign;
+    private final long dataOffset;
+    private final long frameCount;
+
+    private double[] energyProfile;
+
+    private WavTrack(MultipartFile file, String filename, int formatTag, int channels, int sampleRate,
+                     int bitsPerSample, int blockAlign, long dataOffset, long frameCount) {
+        this.file = file;
+        this.filename = filename;
+        this.formatTag = formatTag;
+        this.channels = channels;
+        this.sampleRate = sampleRate;
+        this.bitsPerSample = bitsPerSample;
+        this.blockAlign = blockAlign;
+        this.dataOffset = dataOffset;
+        this.frameCount = frameCount;
+    }
+
+    /**
+     * WAV 헤더 해석 (지원하지 않는 형식이면 null)
+     */
+    public static WavTrack read(MultipartFile file, String filename) throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(file.getInputStream())) {
+            byte[] riff = inputStream.readNBytes(12);
+            if (riff.length < 12 || !tag(riff, 0).equals("RIFF") || !tag(riff, 8).equals("WAVE")) {
+                return null;
+            }
+
+            long offset = 12;
+            int formatTag = -1;
+            int channels = 0;
+            int sampleRate = 0;
+            int bitsPerSample = 0;
+            int blockAlign = 0;
+
+            while (true) {
+                byte[] chunkHeader = inputStream.readNBytes(8);
+                if (chunkHeader.length < 8) {
+                    return null;
+                }
+                String chunkId = tag(chunkHeader, 0);
+                long chunkSize = ByteBuffer.wrap(chunkHeader, 4, 4).order(ByteOrder.LITTLE_ENDIAN).getInt() & 0xFFFFFFFFL;
+                offset += 8;
+
+                if (chunkId.equals("fmt ")) {
+                    ByteBuffer fmt = ByteBuffer.wrap(inputStream.readNBytes((int) chunkSize)).order(ByteOrder.LITTLE_ENDIAN);
+                    if (fmt.capacity() < 16) {
+                        return null;
+                    }
+                    formatTag = fmt.getShort(0) & 0xFFFF;
+                    channels = fmt.getShort(2) & 0xFFFF;
+                    sampleRate = fmt.getInt(4);
+                    blockAlign = fmt.getShort(12) & 0xFFFF;
+                    bitsPerSample = fmt.getShort(14) & 0xFFFF;
+                    if (formatTag == FORMAT_EXTENSIBLE && fmt.capacity() >= 26) {
+                        formatTag = fmt.getShort(24) & 0xFFFF; // SubFormat GUID 앞 2바이트
+                    }
+                    skipPadding(inputStream, chunkSize);
+                    offset += chunkSize + (chunkSize & 1);
+                } else if (chunkId.equals("data")) {
+                    if (!isSupported(formatTag, channels, sampleRate, bitsPerSample, blockAlign)) {
+                        return null;
+                    }
+                    // 스트리밍으로 만든 파일은 data 크기가 0 또는 최대값일 수 있으므로 파일 크기로 보정
+                    long dataLength = Math.min(chunkSize, file.getSize() - offset);
+                    if (chunkSize == 0) {
+                        dataLength = file.getSize() - offset;
+                    }
+                    return new WavTrack(file, filename, formatTag, channels, sampleRate, bitsPerSample,
+                            blockAlign, offset, dataLength / blockAlign);
+                } else {
+                    inputStream.skipNBytes(chunkSize + (chunkSize & 1));
+                    offset += chunkSize + (chunkSize & 1);
+                }
+            }
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public double durationSeconds() {
+        return (double) frameCount / sampleRate;
+    }
+
+    @Override
+    public synchronized double[] energyProfile() {
+        if (energyProfile == null) {
+            try {
+                energyProfile = computeEnergyProfile();
+            } catch (IOException e) {
+                throw new IllegalStateException("WAV 에너지 분석에 실패했습니다", e);
+            }
+        }
+        return energyProfile;
+    }
+
+    @Override
+    public double energyBlockSeconds() {
+        return (double) framesPerEnergyBlock() / sampleRate;
+    }
+
+    @Override
+    public AudioSegment slice(double startSeconds, double durationSeconds) throws IOException {
+        long fromFrame = Math.max(0, Math.min(frameCount - 1, Math.round(startSeconds * sampleRate)));
+        long toFrame = Math.max(fromFrame + 1, Math.min(frameCount, Math.round((startSeconds + durationSeconds) * sampleRate)));
+        long count = toFrame - fromFrame;
+
+        int outputRate = Math.min(sampleRate, TARGET_SAMPLE_RATE);
+        ByteArrayOutputStream output = new ByteArrayOutputStream(
+                (int) Math.min(Integer.MAX_VALUE - 64, WAV_HEADER_LENGTH + 2 * (count * outputRate / sampleRate + 1)));
+        output.write(new byte[WAV_HEADER_LENGTH]);
+
+        try (InputStream inputStream = file.getInputStream()) {
+            inputStream.skipNBytes(dataOffset + fromFrame * blockAlign);
+            Downsampler downsampler = new Downsampler((double) sampleRate / outputRate, output);
+            byte[] buffer = new byte[FRAMES_PER_READ * blockAlign];
+            long remaining = count;
+            while (remaining > 0) {
+                int frames = readFrames(inputStream, buffer, (int) Math.min(FRAMES_PER_READ, remaining));
+                if (frames == 0) {
+                    break;
+                }
+                for (int frame = 0; frame < frames; frame++) {
+                    downsampler.accept(mono(buffer, frame * blockAlign));
+                }
+                remaining -= frames;
+            }
+            downsampler.finish();
+        }
+
+        byte[] wav = output.toByteArray();
+        writeHeader(wav, outputRate, wav.length - WAV_HEADER_LENGTH);
+
+        String excerptName = baseName(filename) + ".wav";
+        return new AudioSegment(new ByteArrayResource(wav) {
+            @Override
+            public String getFilename() {
+                return excerptName;
+            }
+        }, excerptName, wav.length, (double) fromFrame / sampleRate, (double) count / sampleRate);
+    }
+
+    public int sampleRate() {
+        return sampleRate;
+    }
+
+    public int channels() {
+        return channels;
+    }
+
+    private int framesPerEnergyBlock() {
+        return Math.max(1, (int) Math.round(ENERGY_BLOCK_SECONDS * sampleRate));
+    }
+
+    /**
+     * 음성 대역 RMS를 블록 단위로 계산 (1차 고역/저역 통과 필터)
+     */
+    private double[] computeEnergyProfile() throws IOException {
+        int framesPerBlock = framesPerEnergyBlock();
+        double[] profile = new double[(int) ((frameCount + framesPerBlock - 1) / framesPerBlock)];
+
+        double highPassAlpha = highPassAlpha(150.0);
+        double lowPassAlpha = lowPassAlpha(4000.0);
+        double previousInput = 0;
+        double highPassed = 0;
+        double lowPassed = 0;
+
+        try (InputStream inputStream = file.getInputStream()) {
+            inputStream.skipNBytes(dataOffset);
+            byte[] buffer = new byte[FRAMES_PER_READ * blockAlign];
+            double sumSquares = 0;
+            int inBlock = 0;
+            int block = 0;
+            long remaining = frameCount;
+            while (remaining > 0) {
+                int frames = readFrames(inputStream, buffer, (int) Math.min(FRAMES_PER_READ, remaining));
+                if (frames == 0) {
+                    break;
+                }
+                for (int frame = 0; frame < frames; frame++) {
+                    double sample = mono(buffer, frame * blockAlign);
+                    highPassed = highPassAlpha * (highPassed + sample - previousInput);
+                    previousInput = sample;
+                    lowPassed += lowPassAlpha * (highPassed - lowPassed);
+                    sumSquares += lowPassed * lowPassed;
+
+                    if (++inBlock == framesPerBlock) {
+                        profile[block++] = Math.sqrt(sumSquares / inBlock);
+                        sumSquares = 0;
+                        inBlock = 0;
+                    }
+                }
+                remaining -= frames;
+            }
+            if (inBlock > 0 && block < profile.length) {
+                profile[block] = Math.sqrt(sumSquares / inBlock);
+            }
+        }
+        return profile;
+    }
+
+    private double highPassAlpha(double cutoffHz) {
+        double rc = 1.0 / (2 * Math.PI * cutoffHz);
+        double dt = 1.0 / sampleRate;
+        return rc / (rc + dt);
+    }
+
+    private double lowPassAlpha(double cutoffHz) {
+        double rc = 1.0 / (2 * Math.PI * Math.min(cutoffHz, sampleRate / 2.0));
+        double dt = 1.0 / sampleRate;
+        return dt / (rc + dt);
+    }
+
+    /**
+     * 최대 maxFrames개 프레임을 읽고 읽은 (완전한) 프레임 수 반환
+     */
+    private int readFrames(InputStream inputStream, byte[] buffer, int maxFrames) throws IOException {
+        return inputStream.readNBytes(buffer, 0, maxFrames * blockAlign) / blockAlign;
+    }
+
+    /**
+     * 한 프레임의 모든 채널 평균 (-1.0 ~ 1.0)
+     */
+    private double mono(byte[] buffer, int frameOffset) {
+        int bytesPerSample = bitsPerSample / 8;
+        double sum = 0;
+        for (int channel = 0; channel < channels; channel++) {
+            sum += sample(buffer, frameOffset + channel * bytesPerSample);
+        }
+        return sum / channels;
+    }
+
+    private double sample(byte[] frame, int offset) {
+        if (formatTag == FORMAT_IEEE_FLOAT) {
+            int bits = (frame[offset] & 0xFF) | (frame[offset + 1] & 0xFF) << 8
+                    | (frame[offset + 2] & 0xFF) << 16 | frame[offset + 3] << 24;
+            return Float.intBitsToFloat(bits);
+        }
+        return switch (bitsPerSample) {
+            case 8 -> ((frame[offset] & 0xFF) - 128) / 128.0;
+            case 16 -> (short) ((frame[offset] & 0xFF) | frame[offset + 1] << 8) / 32768.0;
+            case 24 -> ((frame[offset] & 0xFF) | (frame[offset + 1] & 0xFF) << 8 | frame[offset + 2] << 16) / 8388608.0;
+            default -> ((frame[offset] & 0xFF) | (frame[offset + 1] & 0xFF) << 8
+                    | (frame[offset + 2] & 0xFF) << 16 | frame[offset + 3] << 24) / 2147483648.0;
+        };
+    }
+
+    private static boolean isSupported(int formatTag, int channels, int sampleRate, int bitsPerSample, int blockAlign) {
+        boolean pcm = formatTag == FORMAT_PCM
+                && (bitsPerSample == 8 || bitsPerSample == 16 || bitsPerSample == 24 || bitsPerSample == 32);
+        boolean floating = formatTag == FORMAT_IEEE_FLOAT && bitsPerSample == 32;
+        return (pcm || floating) && channels > 0 && sampleRate > 0
+                && blockAlign == channels * bitsPerSample / 8;
+    }
+
+    private static void writeHeader(byte[] wav, int sampleRate, int dataLength) {
+        ByteBuffer header = ByteBuffer.wrap(wav, 0, WAV_HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+        header.put("RIFF".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(36 + dataLength);
+        header.put("WAVE".getBytes(StandardCharsets.US_ASCII));
+        header.put("fmt ".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(16);
+        header.putShort((short) FORMAT_PCM);
+        header.putShort((short) 1);
+        header.putInt(sampleRate);
+        header.putInt(sampleRate * 2);
+        header.putShort((short) 2);
+        header.putShort((short) 16);
+        header.put("data".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(dataLength);
+    }
+
+    private static void skipPadding(InputStream inputStream, long chunkSize) throws IOException {
+        if ((chunkSize & 1) == 1) {
+            inputStream.skipNBytes(1);
+        }
+    }
+
+    private static String tag(byte[] bytes, int offset) {
+        return new String(bytes, offset, 4, StandardCharsets.US_ASCII);
+    }
+
+    private static String baseName(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot > 0 ? filename.substring(0, dot) : filename;
+    }
+
+    /**
+     * 구간 평균(box filter)으로 샘플레이트를 낮춰 16비트 PCM으로 기록
+     * (평균이 저역 통과 역할을 하여 단순 솎아내기보다 앨리어싱이 적음)
+     */
+    private static class Downsampler {
+
+        private final double ratio;
+        private final ByteArrayOutputStream output;
+        private long inputIndex;
+        private long outputIndex;
+        private double sum;
+        private int count;
+
+        Downsampler(double ratio, ByteArrayOutputStream output) {
+            this.ratio = ratio;
+            this.output = output;
+        }
+
+        void accept(double sample) {
+            // 현재 출력 샘플 구간 [outputIndex * ratio, (outputIndex + 1) * ratio)를 넘어서면 기록
+            while (inputIndex >= (outputIndex + 1) * ratio) {
+                emit();
+            }
+            sum += sample;
+            count++;
+            inputIndex++;
+        }
+
+        void finish() {
+            if (count > 0) {
+                emit();
+            }
+        }
+
+        private void emit() {
+            double value = count > 0 ? sum / count : 0;
+            int pcm = (int) Math.round(Math.max(-1.0, Math.min(1.0, value)) * 32767);
+            output.write(pcm & 0xFF);
+            output.write((pcm >> 8) & 0xFF);
+            outputIndex++;
+            sum = 0;
+            count = 0;
+        }
+    }
+}
@@ -4,7 +4,10 @@ import com.umc.auth.util.JwtUtil;
 import com.umc.common.response.ApiResponse;
 import com.umc.domain.perfume.dto.PerfumeResponseDto;
 import com.umc.domain.perfume.entity.SourceType;
+import com.umc.domain.perfume.service.PerfumeAdmissionService;
+import com.umc.domain.perfume.service.PerfumeBatchService;
 import com.umc.domain.perfume.service.PerfumeService;
+import com.umc.domain.perfume.service.PerfumeStreamService;
 import java.util.List;
 import com.umc.domain.user.entity.User;
 import com.umc.global.config.SwaggerConfig.ApiErrorExample;
@@ -23,6 +26,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import jakarta.servlet.http.HttpServletRequest;
 
 import java.util.List;
@@ -35,6 +40,9 @@ import java.util.List;
 public class PerfumeController {
 
     private final PerfumeService perfumeService;
+    private final PerfumeAdmissionService perfumeAdmissionService;
+    private final PerfumeStreamService perfumeStreamService;
+    private final PerfumeBatchService perfumeBatchService;
     private final JwtUtil jwtUtil;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -55,6 +63,8 @@ public class PerfumeController {
         ErrorCode.PERFUME_FILE_SIZE_EXCEEDED,
         ErrorCode.PERFUME_INVALID_FILE_TYPE,
         ErrorCode.PERFUME_CREATION_FAILED,
+        ErrorCode.PERFUME_RATE_LIMITED,
+        ErrorCode.PERFUME_SERVER_BUSY,
         ErrorCode.TOKEN_MISSING,
         ErrorCode.TOKEN_MALFORMED,
         ErrorCode.TOKEN_INVALID,
@@ -78,14 +88,94 @@ public class PerfumeController {
         User user = jwtUtil.getUserFromHeader(request.getHeader("Authorization"));
         log.info("인증된 사용자: {} (ID: {})", user.getNickname(), user.getId());
         
-        // 향수 생성
-        PerfumeResponseDto response = perfumeService.createPerfume(sourceType, file, user);
+        // 요청 한도 확인 후 향수 생성 (한도 초과 시 429)
+        PerfumeResponseDto response;
+        try (PerfumeAdmissionService.Permit permit = perfumeAdmissionService.admit(user.getId())) {
+            response = perfumeService.createPerfume(sourceType, file, user);
+        }
         
         log.info("향수 생성 성공 - 향수 ID: {}, 사용자: {}", response.getId(), user.getNickname());
         
         return ApiResponse.success(response);
     }
 
+    @PostMapping(value = "/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "향수 스트리밍 생성",
+        description = "파일을 업로드하면 향수 정보가 생성되는 대로 SSE로 전달합니다. " +
+                "문자열 필드는 delta, 배열 항목은 item, 완성된 필드는 field 이벤트로 전달되고, " +
+                "저장까지 끝나면 최종 결과가 complete 이벤트로, 실패하면 error 이벤트로 전달됩니다. " +
+                "중간 이벤트는 미리보기용이며 complete 이벤트의 결과가 최종 결과입니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiErrorExamples({
+        ErrorCode.PERFUME_FILE_EMPTY,
+        ErrorCode.PERFUME_FILE_SIZE_EXCEEDED,
+        ErrorCode.PERFUME_INVALID_FILE_TYPE,
+        ErrorCode.PERFUME_INVALID_SOURCE_TYPE,
+        ErrorCode.PERFUME_JOB_QUEUE_FULL,
+        ErrorCode.PERFUME_RATE_LIMITED,
+        ErrorCode.PERFUME_SERVER_BUSY,
+        ErrorCode.TOKEN_MISSING,
+        ErrorCode.TOKEN_MALFORMED,
+        ErrorCode.TOKEN_INVALID,
+        ErrorCode.USER_NOT_FOUND
+    })
+    public SseEmitter streamPerfume(
+            @Parameter(description = "소스 타입 (AUDIO 또는 IMAGE)", required = true)
+            @RequestParam("sourceType") SourceType sourceType,
+
+            @Parameter(description = "업로드할 파일 (오디오 또는 이미지)", required = true)
+            @RequestParam("file") MultipartFile file,
+
+            HttpServletRequest request) {
+
+        User user = jwtUtil.getUserFromHeader(request.getHeader("Authorization"));
+        log.info("향수 스트리밍 생성 요청 - sourceType: {}, fileName: {}, 사용자: {}",
+                sourceType, file.getOriginalFilename(), user.getNickname());
+
+        return perfumeStreamService.stream(sourceType, file, user);
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "향수 일괄 생성",
+        description = "여러 파일을 한 번에 업로드하여 파일마다 향수를 생성합니다. " +
+                "파일별 결과는 끝나는 대로 NDJSON 한 줄씩 전달되며(완료 순), index로 요청한 파일 순서를 확인할 수 있습니다. " +
+                "RECOMMEND_AUDIO/RECOMMEND_IMAGE로 요청하면 추천용 향수로 저장됩니다 (큐레이터로 등록된 사용자만 가능). " +
+                "일부 파일이 실패해도 나머지 파일은 계속 생성됩니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiErrorExamples({
+        ErrorCode.PERFUME_FILE_EMPTY,
+        ErrorCode.PERFUME_BATCH_TOO_LARGE,
+        ErrorCode.PERFUME_INVALID_SOURCE_TYPE,
+        ErrorCode.PERFUME_CURATOR_ONLY,
+        ErrorCode.PERFUME_JOB_QUEUE_FULL,
+        ErrorCode.PERFUME_RATE_LIMITED,
+        ErrorCode.PERFUME_SERVER_BUSY,
+        ErrorCode.TOKEN_MISSING,
+        ErrorCode.TOKEN_MALFORMED,
+        ErrorCode.TOKEN_INVALID
+    })
+    public ResponseBodyEmitter createPerfumes(
+            @Parameter(description = "소스 타입 (AUDIO, IMAGE, RECOMMEND_AUDIO, RECOMMEND_IMAGE)", required = true)
+            @RequestParam("sourceType") SourceType sourceType,
+
+            @Parameter(description = "업로드할 파일 목록 (모두 같은 소스 타입)", required = true)
+            @RequestParam("files") List<MultipartFile> files,
+
+            HttpServletRequest request) {
+
+        User user = jwtUtil.getUserFromHeader(request.getHeader("Authorization"));
+        log.info("향수 일괄 생성 요청 - sourceType: {}, 파일 수: {}, 사용자: {}",
+                sourceType, files.size(), user.getNickname());
+
+        return perfumeBatchService.generate(sourceType, files, user);
+    }
+
     @GetMapping("/{id}")
     @Operation(
         summary = "향수 조회",
@@ -0,0 +1,135 @@
+package com.umc.domain.perfume.controller;
+
+import com.umc.auth.util.JwtUtil;
+import com.umc.common.response.ApiResponse;
+import com.umc.domain.perfume.dto.PerfumeJobResponseDto;
+import com.umc.domain.perfume.entity.SourceType;
+import com.umc.domain.perfume.service.PerfumeJobService;
+import com.umc.domain.user.entity.User;
+import com.umc.global.config.SwaggerConfig.ApiErrorExamples;
+import com.umc.global.exception.ErrorCode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/perfumes/jobs")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "향수 생성 작업 API", description = "향수 비동기 생성 및 작업 상태 조회 API")
+public class PerfumeJobController {
+
+    private final PerfumeJobService perfumeJobService;
+    private final JwtUtil jwtUtil;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+        summary = "향수 비동기 생성",
+        description = "파일을 업로드하면 향수 생성 작업을 등록하고 작업 ID를 바로 반환합니다. " +
+                "작업 결과는 작업 조회 API 또는 SSE 구독 API로 확인합니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "202",
+            description = "향수 생성 작업 등록 성공",
+            content = @Content(schema = @Schema(implementation = PerfumeJobResponseDto.class))
+        )
+    })
+    @ApiErrorExamples({
+        ErrorCode.PERFUME_FILE_EMPTY,
+        ErrorCode.PERFUME_FILE_SIZE_EXCEEDED,
+        ErrorCode.PERFUME_INVALID_FILE_TYPE,
+        ErrorCode.PERFUME_INVALID_SOURCE_TYPE,
+        ErrorCode.PERFUME_JOB_QUEUE_FULL,
+        ErrorCode.PERFUME_RATE_LIMITED,
+        ErrorCode.PERFUME_SERVER_BUSY,
+        ErrorCode.TOKEN_MISSING,
+        ErrorCode.TOKEN_MALFORMED,
+        ErrorCode.TOKEN_INVALID,
+        ErrorCode.USER_NOT_FOUND
+    })
+    public ResponseEntity<ApiResponse<PerfumeJobResponseDto>> createPerfumeJob(
+            @Parameter(description = "소스 타입 (AUDIO 또는 IMAGE)", required = true)
+            @RequestParam("sourceType") SourceType sourceType,
+
+            @Parameter(description = "업로드할 파일 (오디오 또는 이미지)", required = true)
+            @RequestParam("file") MultipartFile file,
+
+            HttpServletRequest request) {
+
+        User user = jwtUtil.getUserFromHeader(request.getHeader("Authorization"));
+        log.info("향수 생성 작업 요청 - sourceType: {}, fileName: {}, 사용자: {}",
+                sourceType, file.getOriginalFilename(), user.getNickname());
+
+        PerfumeJobResponseDto response = perfumeJobService.submit(sourceType, file, user);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("향수 생성 작업이 등록되었습니다.", response));
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(
+        summary = "향수 생성 작업 조회",
+        description = "향수 생성 작업의 상태를 조회합니다. 완료되면 생성된 향수 ID가 포함됩니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiErrorExamples({
+        ErrorCode.PERFUME_JOB_NOT_FOUND,
+        ErrorCode.PERFUME_ACCESS_DENIED,
+        ErrorCode.INVALID_INPUT_VALUE,
+        ErrorCode.TOKEN_MISSING,
+        ErrorCode.TOKEN_MALFORMED,
+        ErrorCode.TOKEN_INVALID,
+        ErrorCode.USER_NOT_FOUND
+    })
+    public ApiResponse<PerfumeJobResponseDto> getPerfumeJob(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable Long jobId,
+
+            HttpServletRequest request) {
+
+        User user = jwtUtil.getUserFromHeader(request.getHeader("Authorization"));
+
+        return ApiResponse.success(perfumeJobService.getJob(jobId, user));
+    }
+
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "향수 생성 작업 완료 구독 (SSE)",
+        description = "작업 상태를 'job' 이벤트로 전송하고, 작업이 완료되거나 실패하면 결과를 전송한 뒤 스트림을 종료합니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiErrorExamples({
+        ErrorCode.PERFUME_JOB_NOT_FOUND,
+        ErrorCode.PERFUME_ACCESS_DENIED,
+        ErrorCode.TOKEN_MISSING,
+        ErrorCode.TOKEN_MALFORMED,
+        ErrorCode.TOKEN_INVALID,
+        ErrorCode.USER_NOT_FOUND
+    })
+    public SseEmitter subscribePerfumeJob(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable Long jobId,
+
+            HttpServletRequest request) {
+
+        User user = jwtUtil.getUserFromHeader(request.getHeader("Authorization"));
+        log.info("향수 생성 작업 구독 - 작업 ID: {}, 사용자: {}", jobId, user.getNickname());
+
+        return perfumeJobService.subscribe(jobId, user);
+    }
+}
@@ -0,0 +1,32 @@
+package com.umc.domain.perfume.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.umc.domain.perfume.entity.PerfumeJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "향수 일괄 생성 결과 (파일 1개당 NDJSON 한 줄)")
+public class PerfumeBatchItemDto {
+
+    @Schema(description = "요청한 파일 순서 (0부터)", example = "0")
+    private Integer index;
+
+    @Schema(description = "파일명", example = "song.mp3")
+    private String filename;
+
+    @Schema(description = "결과 상태 (COMPLETED 또는 FAILED)", example = "COMPLETED")
+    private PerfumeJobStatus status;
+
+    @Schema(description = "생성된 향수 정보 (성공 시)")
+    private PerfumeResponseDto perfume;
+
+    @Schema(description = "실패 에러 코드 (실패 시)", example = "PERFUME_5001")
+    private String errorCode;
+
+    @Schema(description = "실패 메시지 (실패 시)", example = "향수 생성에 실패했습니다.")
+    private String errorMessage;
+}
@@ -0,0 +1,67 @@
+package com.umc.domain.perfume.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.umc.domain.perfume.entity.PerfumeJob;
+import com.umc.domain.perfume.entity.PerfumeJobStatus;
+import com.umc.domain.perfume.entity.SourceType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.format.DateTimeFormatter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "향수 생성 작업 응답")
+public class PerfumeJobResponseDto {
+
+    @Schema(description = "작업 ID", example = "1")
+    private Long jobId;
+
+    @Schema(description = "작업 상태", example = "PENDING")
+    private PerfumeJobStatus status;
+
+    @Schema(description = "소스 타입", example = "AUDIO")
+    private SourceType sourceType;
+
+    @Schema(description = "생성된 향수 ID (완료 시)", example = "10")
+    private Long perfumeId;
+
+    @Schema(description = "생성된 향수 정보 (완료 이벤트에만 포함)")
+    private PerfumeResponseDto perfume;
+
+    @Schema(description = "실패 에러 코드 (실패 시)", example = "PERFUME_5001")
+    private String errorCode;
+
+    @Schema(description = "실패 메시지 (실패 시)", example = "향수 생성에 실패했습니다.")
+    private String errorMessage;
+
+    @Schema(description = "생성 시간")
+    @JsonProperty("createdAt")
+    private String createdAt;
+
+    @Schema(description = "수정 시간")
+    @JsonProperty("updatedAt")
+    private String updatedAt;
+
+    public static PerfumeJobResponseDto from(PerfumeJob job) {
+        return from(job, null);
+    }
+
+    public static PerfumeJobResponseDto from(PerfumeJob job, PerfumeResponseDto perfume) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        return PerfumeJobResponseDto.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .sourceType(job.getSourceType())
+                .perfumeId(job.getPerfumeId())
+                .perfume(perfume)
+                .errorCode(job.getErrorCode())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt() != null ? job.getCreatedAt().format(formatter) : null)
+                .updatedAt(job.getUpdatedAt() != null ? job.getUpdatedAt().format(formatter) : null)
+                .build();
+    }
+}
@@ -3,18 +3,24 @@ package com.umc.domain.perfume.dto;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.umc.domain.perfume.entity.Perfume;
+import com.umc.domain.perfume.entity.PerfumeNote;
 import com.umc.domain.perfume.entity.SourceType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
 @Getter
 @Builder
 @Schema(description = "향수 응답")
 public class PerfumeResponseDto {
 
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final ObjectMapper LEGACY_OBJECT_MAPPER = new ObjectMapper();
+
     @Schema(description = "향수 ID", example = "1")
     private Long id;
 
@@ -49,23 +55,55 @@ public class PerfumeResponseDto {
         private String nickname;
     }
 
+    /**
+     * 컬럼과 노트 목록에서 바로 응답 생성 (아직 이전되지 않은 향수만 이전 JSON 설명을 해석)
+     */
     public static PerfumeResponseDto from(Perfume perfume) {
+        PerfumeDescriptionDto descriptionDto = perfume.getLegacyDescription() != null
+                ? parseLegacyDescription(perfume.getLegacyDescription())
+                : toDescriptionDto(perfume);
+
+        return PerfumeResponseDto.builder()
+                .id(perfume.getId())
+                .sourceType(perfume.getSourceType())
+                .description(descriptionDto)
+                .url(perfume.getUrl())
+                .user(UserInfo.builder()
+                        .id(perfume.getUser().getId())
+                        .nickname(perfume.getUser().getNickname())
+                        .build())
+                .createdAt(perfume.getCreatedAt().format(DATE_TIME_FORMATTER))
+                .updatedAt(perfume.getUpdatedAt().format(DATE_TIME_FORMATTER))
+                .build();
+    }
+
+    private static PerfumeDescriptionDto toDescriptionDto(Perfume perfume) {
+        List<String> top = new ArrayList<>();
+        List<String> middle = new ArrayList<>();
+        List<String> base = new ArrayList<>();
+        for (PerfumeNote note : perfume.getNotes()) {
+            switch (note.getTier()) {
+                case TOP -> top.add(note.getNote());
+                case MIDDLE -> middle.add(note.getNote());
+                case BASE -> base.add(note.getNote());
+            }
+        }
+
+        return PerfumeDescriptionDto.builder()
+                .type(perfume.getSourceType().toClientType())
+                .fileDescription(perfume.getFileDescription())
+                .top(top)
+                .middle(middle)
+                .base(base)
+                .interpretation(perfume.getInterpretation())
+                .summary(perfume.getSummary())
+                .title(perfume.getTitle())
+                .build();
+    }
+
+    private static PerfumeDescriptionDto parseLegacyDescription(String description) {
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            PerfumeDescriptionDto descriptionDto = objectMapper.readValue(perfume.getDescription(), PerfumeDescriptionDto.class);
-            
-            return PerfumeResponseDto.builder()
-                    .id(perfume.getId())
-                    .sourceType(perfume.getSourceType())
-                    .description(descriptionDto)
-                    .url(perfume.getUrl())
-                    .user(UserInfo.builder()
-                            .id(perfume.getUser().getId())
-                            .nickname(perfume.getUser().getNickname())
-                            .build())
-                    .createdAt(perfume.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
-                    .updatedAt(perfume.getUpdatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
-                    .build();
+            return LEGACY_OBJECT_MAPPER.readValue(description, PerfumeDescriptionDto.class);
         } catch (Exception e) {
             throw new RuntimeException("향수 설명 JSON 파싱에 실패했습니다: " + e.getMessage());
         }
@@ -0,0 +1,32 @@
+package com.umc.domain.perfume.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "향수 스트리밍 생성 이벤트 (delta, item, field, error)")
+public class PerfumeStreamEventDto {
+
+    @Schema(description = "필드명", example = "title")
+    private String field;
+
+    @Schema(description = "문자열 필드에 새로 추가된 부분 (delta 이벤트)", example = "Urban ")
+    private String text;
+
+    @Schema(description = "배열 항목 순서 (item 이벤트)", example = "0")
+    private Integer index;
+
+    @Schema(description = "완성된 값 (item, field 이벤트)")
+    private JsonNode value;
+
+    @Schema(description = "실패 에러 코드 (error 이벤트)", example = "PERFUME_5001")
+    private String errorCode;
+
+    @Schema(description = "실패 메시지 (error 이벤트)", example = "향수 생성에 실패했습니다.")
+    private String errorMessage;
+}
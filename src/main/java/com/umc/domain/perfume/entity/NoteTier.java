@@ -0,0 +1,7 @@
+package com.umc.domain.perfume.entity;
+
+public enum NoteTier {
+    TOP,     // 탑노트
+    MIDDLE,  // 미들노트
+    BASE     // 베이스노트
+}
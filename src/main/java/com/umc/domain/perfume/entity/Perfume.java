@@ -1,6 +1,7 @@
 package com.umc.domain.perfume.entity;
 
 import com.umc.common.entity.BaseEntity;
+import com.umc.domain.perfume.dto.PerfumeDescriptionDto;
 import com.umc.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -8,6 +9,10 @@ import lombok.Setter;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Table(name = "perfume")
@@ -18,12 +23,33 @@ import lombok.AllArgsConstructor;
 @Builder
 public class Perfume extends BaseEntity {
 
+    public static final int TITLE_MAX_LENGTH = 255;
+    public static final int SUMMARY_MAX_LENGTH = 500;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "source_type", nullable = false)
     private SourceType sourceType;
 
+    @Column(name = "title", length = TITLE_MAX_LENGTH)
+    private String title;
+
+    @Column(name = "summary", length = SUMMARY_MAX_LENGTH)
+    private String summary;
+
+    @Column(name = "interpretation", columnDefinition = "TEXT")
+    private String interpretation;
+
+    @Column(name = "file_description", columnDefinition = "TEXT")
+    private String fileDescription;
+
+    @OneToMany(mappedBy = "perfume", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("tier ASC, position ASC")
+    @BatchSize(size = 100) // 목록 조회 시 향수마다 노트를 따로 조회하지 않도록 묶어서 조회
+    @Builder.Default
+    private List<PerfumeNote> notes = new ArrayList<>();
+
     @Column(name = "description", columnDefinition = "JSON")
-    private String description; // JSON 형태로 저장될 설명 데이터
+    private String legacyDescription; // 이전 JSON 설명 (PerfumeDescriptionMigrator가 옮긴 뒤 비움, 새 향수는 사용하지 않음)
 
     @Column(name = "url", nullable = false)
     private String url; // 소스 URL (오디오/이미지 파일 경로)
@@ -33,4 +59,44 @@ public class Perfume extends BaseEntity {
     private User user; // 향수를 생성한 사용자 (추천 향수는 null 가능)
 
     // BaseEntity에서 이미 id, createdAt, updatedAt을 상속받음
-}
\ No newline at end of file
+
+    /**
+     * 설명 필드와 노트 목록을 컬럼/노트 테이블 값으로 설정 (기존 노트는 교체)
+     * - GPT가 컬럼 길이보다 긴 제목/요약/노트를 돌려줘도 저장이 실패하지 않도록 컬럼 길이에 맞춰 자름
+     */
+    public void applyDescription(PerfumeDescriptionDto description) {
+        this.title = truncate(description.getTitle(), TITLE_MAX_LENGTH);
+        this.summary = truncate(description.getSummary(), SUMMARY_MAX_LENGTH);
+        this.interpretation = description.getInterpretation();
+        this.fileDescription = description.getFileDescription();
+
+        notes.clear();
+        addNotes(NoteTier.TOP, description.getTop());
+        addNotes(NoteTier.MIDDLE, description.getMiddle());
+        addNotes(NoteTier.BASE, description.getBase());
+    }
+
+    private void addNotes(NoteTier tier, List<String> values) {
+        if (values == null) {
+            return;
+        }
+        for (int position = 0; position < values.size(); position++) {
+            notes.add(PerfumeNote.builder()
+                    .perfume(this)
+                    .tier(tier)
+                    .position(position)
+                    .note(truncate(values.get(position), PerfumeNote.NOTE_MAX_LENGTH))
+                    .build());
+        }
+    }
+
+    /**
+     * 글자 수(코드 포인트) 기준으로 자름 (MySQL VARCHAR 길이와 같은 기준, 서로게이트 쌍을 나누지 않음)
+     */
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.codePointCount(0, value.length()) <= maxLength) {
+            return value;
+        }
+        return value.substring(0, value.offsetByCodePoints(0, maxLength));
+    }
+}
@@ -0,0 +1,33 @@
+package com.umc.domain.perfume.entity;
+
+import com.umc.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "perfume_generation_cache",
+        uniqueConstraints = @UniqueConstraint(name = "uk_generation_cache_hash_type",
+                columnNames = {"content_hash", "source_type"}),
+        indexes = @Index(name = "idx_generation_cache_perceptual_hash", columnList = "perceptual_hash"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PerfumeGenerationCache extends BaseEntity {
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash; // 업로드 파일 SHA-256
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source_type", nullable = false)
+    private SourceType sourceType;
+
+    @Column(name = "description", nullable = false, columnDefinition = "JSON")
+    private String description; // 검증된 향수 설명 JSON
+
+    @Column(name = "transcript", columnDefinition = "TEXT")
+    private String transcript; // 오디오인 경우 Whisper 변환 결과
+
+    @Column(name = "perceptual_hash")
+    private Long perceptualHash; // 이미지인 경우 dHash (유사 이미지 검색용)
+}
@@ -0,0 +1,38 @@
+package com.umc.domain.perfume.entity;
+
+import com.umc.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "perfume_job")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PerfumeJob extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId; // 작업을 요청한 사용자 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source_type", nullable = false)
+    private SourceType sourceType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private PerfumeJobStatus status;
+
+    @Column(name = "owner_instance", length = 100)
+    private String ownerInstance; // 작업을 실행하는 서버 인스턴스 ID (perfume.generation.instance-id)
+
+    @Column(name = "perfume_id")
+    private Long perfumeId; // 생성 완료 시 향수 ID
+
+    @Column(name = "error_code")
+    private String errorCode; // 실패 시 ErrorCode 코드값
+
+    @Column(name = "error_message")
+    private String errorMessage;
+}
@@ -0,0 +1,12 @@
+package com.umc.domain.perfume.entity;
+
+public enum PerfumeJobStatus {
+    PENDING,    // 대기 중
+    RUNNING,    // 생성 중
+    COMPLETED,  // 생성 완료
+    FAILED;     // 생성 실패
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,36 @@
+package com.umc.domain.perfume.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "perfume_note",
+        uniqueConstraints = @UniqueConstraint(name = "uk_perfume_note_position",
+                columnNames = {"perfume_id", "tier", "position"}),
+        indexes = @Index(name = "idx_perfume_note_note", columnList = "note, tier"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PerfumeNote {
+
+    public static final int NOTE_MAX_LENGTH = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "perfume_id", nullable = false)
+    private Perfume perfume;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tier", nullable = false, length = 10)
+    private NoteTier tier;
+
+    @Column(name = "position", nullable = false)
+    private int position; // 같은 노트 단계 안에서의 순서 (0부터)
+
+    @Column(name = "note", nullable = false, length = NOTE_MAX_LENGTH)
+    private String note;
+}
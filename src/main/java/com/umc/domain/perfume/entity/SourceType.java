@@ -4,5 +4,16 @@ public enum SourceType {
     AUDIO,              // 오디오 소스
     IMAGE,              // 이미지 소스
     RECOMMEND_AUDIO,    // 추천 오디오 소스
-    RECOMMEND_IMAGE     // 추천 이미지 소스
-}
\ No newline at end of file
+    RECOMMEND_IMAGE;    // 추천 이미지 소스
+
+    /**
+     * DB용 SourceType을 클라이언트용으로 변환 (RECOMMEND_AUDIO -> AUDIO, RECOMMEND_IMAGE -> IMAGE)
+     */
+    public SourceType toClientType() {
+        return switch (this) {
+            case RECOMMEND_AUDIO -> AUDIO;
+            case RECOMMEND_IMAGE -> IMAGE;
+            default -> this;
+        };
+    }
+}
@@ -0,0 +1,144 @@
+package com.umc.domain.perfume.lyrics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * 여러 문구를 한 번의 순회로 찾는 Aho-Corasick 오토마톤
+ * - 생성 후에는 불변이므로 여러 스레드에서 공유 가능
+ * - 노드별 전이는 정렬된 char 배열 + 이진 탐색 (탐색 중 객체 생성 없음)
+ */
+final class AhoCorasick {
+
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failure;
+    private final int[][] outputs;
+
+    AhoCorasick(List<String> patterns) {
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> terminal = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminal.add(new ArrayList<>());
+
+        for (int index = 0; index < patterns.size(); index++) {
+            String pattern = patterns.get(index);
+            if (pattern.isEmpty()) {
+                throw new IllegalArgumentException("빈 문구는 등록할 수 없습니다");
+            }
+            int node = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer next = trie.get(node).get(pattern.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(node).put(pattern.charAt(i), next);
+                    trie.add(new TreeMap<>());
+                    terminal.add(new ArrayList<>());
+                }
+                node = next;
+            }
+            terminal.get(node).add(index);
+        }
+
+        int size = trie.size();
+        labels = new char[size][];
+        targets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            Map<Character, Integer> edges = trie.get(node);
+            labels[node] = new char[edges.size()];
+            targets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                labels[node][i] = edge.getKey();
+                targets[node][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // BFS로 실패 링크를 만들고, 실패 링크 쪽 출력도 합쳐 둠
+        failure = new int[size];
+        outputs = new int[size][];
+        outputs[0] = toArray(terminal.get(0));
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            failure[child] = 0;
+            outputs[child] = toArray(terminal.get(child));
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < labels[node].length; i++) {
+                char label = labels[node][i];
+                int child = targets[node][i];
+
+                int fallback = failure[node];
+                while (fallback != 0 && edge(fallback, label) < 0) {
+                    fallback = failure[fallback];
+                }
+                int candidate = edge(fallback, label);
+                failure[child] = candidate >= 0 ? candidate : 0;
+
+                int[] own = toArray(terminal.get(child));
+                int[] inherited = outputs[failure[child]];
+                int[] merged = Arrays.copyOf(own, own.length + inherited.length);
+                System.arraycopy(inherited, 0, merged, own.length, inherited.length);
+                outputs[child] = merged;
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * 문구별 출현 횟수를 counts에 더함 (겹친 출현도 각각 셈)
+     */
+    void countMatches(CharSequence text, int[] counts) {
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            node = next(node, text.charAt(i));
+            for (int pattern : outputs[node]) {
+                counts[pattern]++;
+            }
+        }
+    }
+
+    /**
+     * 하나라도 포함하는지 여부
+     */
+    boolean containsAny(CharSequence text) {
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            node = next(node, text.charAt(i));
+            if (outputs[node].length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int next(int node, char c) {
+        while (true) {
+            int target = edge(node, c);
+            if (target >= 0) {
+                return target;
+            }
+            if (node == 0) {
+                return 0;
+            }
+            node = failure[node];
+        }
+    }
+
+    private int edge(int node, char c) {
+        int index = Arrays.binarySearch(labels[node], c);
+        return index >= 0 ? targets[node][index] : -1;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,356 @@
+package com.umc.domain.perfume.lyrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Whisper 가사 정제 엔진
+ * - 반복 문구 제거: 모든 문구를 Aho-Corasick으로 한 번에 세고, 5회 이상 나온 문구만 연속 구간을 확인
+ * - 공백 정리/문장 분리/반복 문장 제거: 한 번의 순회로 재사용 StringBuilder에 바로 기록하고,
+ *   직전 문장과는 롤링 해시와 길이가 같을 때만 내용을 비교
+ * - 기존 정규식 체인(replaceAll/split)과 결과가 동일해야 함 (문구는 정규식이 아닌 문자 그대로 취급)
+ */
+@Component
+public class LyricsNormalizer {
+
+    /**
+     * 5회 이상 연속 반복되면 한 번으로 줄이는 문구 ('|'로 구분)
+     */
+    static final String DEFAULT_FILLER_PHRASES = "랩|자, 그럼|그러면|해볼까요|네!|꿈꾸는 건 좋지만"
+            + "|이 곡은 아시아의 힙합 가수의 곡인데|이걸 이스키는 여전히";
+
+    /**
+     * 유효성 검사 시 빼고 보는 의미 없는 문구 ('|'로 구분)
+     */
+    static final String DEFAULT_NOISE_PHRASES = "랩|자, 그럼|해볼까요|네!|그러면";
+
+    private static final int MIN_RUN = 5;
+    private static final int MAX_SAME_SENTENCE = 2;
+    private static final int MIN_LENGTH = 20;
+    private static final int MIN_MEANINGFUL_LENGTH = 10;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
+    private final String[] fillerPhrases;
+    private final String[] noisePhrases;
+    private final AhoCorasick fillerMatcher;
+    private final AhoCorasick noiseMatcher;
+
+    @Autowired
+    public LyricsNormalizer(@Value("${perfume.lyrics.filler-phrases:" + DEFAULT_FILLER_PHRASES + "}") String fillerPhrases,
+                            @Value("${perfume.lyrics.noise-phrases:" + DEFAULT_NOISE_PHRASES + "}") String noisePhrases) {
+        this(Arrays.asList(fillerPhrases.split("\\|")), Arrays.asList(noisePhrases.split("\\|")));
+    }
+
+    public LyricsNormalizer(List<String> fillerPhrases, List<String> noisePhrases) {
+        for (String phrase : fillerPhrases) {
+            // 문구 앞이 공백/쉼표면 [\s,]* 구간과 겹쳐 기존 정규식과 결과가 달라질 수 있음
+            if (phrase.isEmpty() || isRegexSpace(phrase.charAt(0)) || phrase.charAt(0) == ',') {
+                throw new IllegalArgumentException("반복 문구는 공백이나 쉼표로 시작할 수 없습니다: '" + phrase + "'");
+            }
+        }
+        this.fillerPhrases = fillerPhrases.toArray(String[]::new);
+        this.noisePhrases = noisePhrases.toArray(String[]::new);
+        this.fillerMatcher = new AhoCorasick(fillerPhrases);
+        this.noiseMatcher = new AhoCorasick(noisePhrases);
+    }
+
+    public static LyricsNormalizer withDefaults() {
+        return new LyricsNormalizer(DEFAULT_FILLER_PHRASES, DEFAULT_NOISE_PHRASES);
+    }
+
+    /**
+     * 반복 문구 축약 후 공백 정리 및 같은 문장 3회 이상 반복 제거
+     */
+    public String normalize(String lyrics) {
+        return removeRepeatedSentences(collapseFillerRuns(lyrics));
+    }
+
+    /**
+     * 무효한 가사면 그 사유, 아니면 null
+     */
+    public InvalidReason findInvalidReason(String lyrics) {
+        if (lyrics.length() < MIN_LENGTH) {
+            return InvalidReason.TOO_SHORT;
+        }
+        if (isSingleWordRepeated(lyrics)) {
+            return InvalidReason.SINGLE_WORD_REPEATED;
+        }
+        if (meaningfulLength(lyrics) < MIN_MEANINGFUL_LENGTH) {
+            return InvalidReason.NOT_MEANINGFUL;
+        }
+        return null;
+    }
+
+    /**
+     * 문구별로 "(문구[\s,]*){5,}" → "문구 " 치환을 순서대로 적용한 것과 동일
+     */
+    String collapseFillerRuns(String text) {
+        int[] counts = new int[fillerPhrases.length];
+        fillerMatcher.countMatches(text, counts);
+
+        String current = text;
+        for (int index = 0; index < fillerPhrases.length; index++) {
+            if (counts[index] < MIN_RUN) {
+                continue;
+            }
+            String collapsed = collapseRuns(current, fillerPhrases[index]);
+            if (collapsed != current) {
+                // 치환으로 뒤쪽 문구의 출현 위치가 달라질 수 있으므로 다시 셈
+                current = collapsed;
+                Arrays.fill(counts, 0);
+                fillerMatcher.countMatches(current, counts);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 공백 정리 → [.!?]로 분리 → 각 문장 trim → 빈 문장 제외 → 같은 문장 연속 2회까지만 ". "로 연결
+     */
+    String removeRepeatedSentences(String text) {
+        StringBuilder out = borrowBuffer();
+        try {
+            int previousStart = -1;
+            int previousLength = -1;
+            int previousHash = 0;
+            int repeatCount = 0;
+
+            int i = 0;
+            int length = text.length();
+            while (i <= length) {
+                // 한 문장을 바로 출력 버퍼에 기록 (앞쪽 제어문자/공백 생략, 공백 연속은 하나로)
+                int start = out.length();
+                int hash = 0;
+                int significantEnd = start;
+                int significantHash = 0;
+                boolean inSpace = false;
+                for (; i < length; i++) {
+                    char c = text.charAt(i);
+                    if (c == '.' || c == '!' || c == '?') {
+                        break;
+                    }
+                    if (isRegexSpace(c)) {
+                        inSpace = true;
+                        continue;
+                    }
+                    if (out.length() == start && c <= ' ') {
+                        inSpace = false;
+                        continue;
+                    }
+                    if (inSpace && out.length() > start) {
+                        out.append(' ');
+                        hash = 31 * hash + ' ';
+                    }
+                    inSpace = false;
+                    out.append(c);
+                    hash = 31 * hash + c;
+                    if (c > ' ') {
+                        significantEnd = out.length();
+                        significantHash = hash;
+                    }
+                }
+                i++; // 구분자 건너뜀
+
+                // 뒤쪽 제어문자/공백 제거 (String.trim과 동일)
+                out.setLength(significantEnd);
+                int sentenceLength = significantEnd - start;
+                if (sentenceLength == 0) {
+                    continue;
+                }
+
+                if (sentenceLength == previousLength && significantHash == previousHash
+                        && regionEquals(out, previousStart, start, sentenceLength)) {
+                    repeatCount++;
+                    if (repeatCount >= MAX_SAME_SENTENCE) {
+                        out.setLength(start);
+                        continue;
+                    }
+                } else {
+                    repeatCount = 0;
+                    previousStart = start;
+                    previousLength = sentenceLength;
+                    previousHash = significantHash;
+                }
+                out.append(". ");
+            }
+
+            // 마지막 ". "의 공백 제거
+            if (out.length() > 0) {
+                out.setLength(out.length() - 1);
+            }
+            return out.toString();
+        } finally {
+            returnBuffer(out);
+        }
+    }
+
+    /**
+     * split("\\s+") 결과의 80% 이상이 첫 단어와 같은지 (단어가 10개 초과일 때만)
+     */
+    boolean isSingleWordRepeated(String text) {
+        int length = text.length();
+        int wordCount = 0;
+        int sameCount = 0;
+        int firstStart = -1;
+        int firstLength = 0;
+
+        // split은 앞쪽 공백이 있으면 빈 문자열을 첫 단어로 만듦 (빈 단어는 그것 하나뿐)
+        boolean leadingEmpty = length > 0 && isRegexSpace(text.charAt(0));
+        int i = 0;
+        while (i < length) {
+            while (i < length && isRegexSpace(text.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                break;
+            }
+            int start = i;
+            while (i < length && !isRegexSpace(text.charAt(i))) {
+                i++;
+            }
+            wordCount++;
+            if (firstStart < 0) {
+                firstStart = start;
+                firstLength = i - start;
+            }
+            if (!leadingEmpty && i - start == firstLength && text.regionMatches(firstStart, text, start, firstLength)) {
+                sameCount++;
+            }
+        }
+        if (leadingEmpty && wordCount > 0) {
+            wordCount++;
+            sameCount = 1;
+        }
+        if (length == 0) {
+            wordCount = 1;
+            sameCount = 1;
+        }
+
+        return wordCount > 10 && sameCount > wordCount * 0.8;
+    }
+
+    /**
+     * 소문자 변환 후 의미 없는 문구, 공백, ASCII 문장부호를 뺀 길이
+     */
+    int meaningfulLength(String text) {
+        String lower = text.toLowerCase();
+        if (noiseMatcher.containsAny(lower)) {
+            // 드문 경우: 제거 후 새로 생기는 문구까지 기존과 같게 처리하도록 순서대로 치환
+            for (String phrase : noisePhrases) {
+                lower = lower.replace(phrase, "");
+            }
+        }
+
+        int count = 0;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (!isRegexSpace(c) && !isAsciiPunctuation(c)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 문구가 5회 이상 연속된 구간(사이의 공백/쉼표 포함)을 "문구 "로 치환 (바뀐 것이 없으면 같은 인스턴스 반환)
+     */
+    private static String collapseRuns(String text, String phrase) {
+        StringBuilder out = null;
+        int copied = 0;
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            if (!text.startsWith(phrase, i)) {
+                i++;
+                continue;
+            }
+
+            int end = i;
+            int repeats = 0;
+            while (text.startsWith(phrase, end)) {
+                end += phrase.length();
+                while (end < length && (isRegexSpace(text.charAt(end)) || text.charAt(end) == ',')) {
+                    end++;
+                }
+                repeats++;
+            }
+            if (repeats < MIN_RUN) {
+                i++;
+                continue;
+            }
+
+            if (out == null) {
+                out = new StringBuilder(length);
+            }
+            out.append(text, copied, i).append(phrase).append(' ');
+            copied = end;
+            i = end;
+        }
+
+        if (out == null) {
+            return text;
+        }
+        return out.append(text, copied, length).toString();
+    }
+
+    private static boolean regionEquals(StringBuilder buffer, int first, int second, int length) {
+        for (int i = 0; i < length; i++) {
+            if (buffer.charAt(first + i) != buffer.charAt(second + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 정규식 \s (UNICODE_CHARACTER_CLASS 없이)
+     */
+    private static boolean isRegexSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    /**
+     * 정규식 \p{Punct} (ASCII 문장부호)
+     */
+    private static boolean isAsciiPunctuation(char c) {
+        return (c >= '!' && c <= '/') || (c >= ':' && c <= '@') || (c >= '[' && c <= '`') || (c >= '{' && c <= '~');
+    }
+
+    private static StringBuilder borrowBuffer() {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        return buffer;
+    }
+
+    private static void returnBuffer(StringBuilder buffer) {
+        // 긴 입력으로 커진 버퍼는 스레드에 계속 붙잡아 두지 않음
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+    }
+
+    /**
+     * 무효한 가사 사유
+     */
+    public enum InvalidReason {
+        TOO_SHORT("가사가 너무 짧습니다"),
+        SINGLE_WORD_REPEATED("단일 단어 반복이 감지되었습니다"),
+        NOT_MEANINGFUL("의미 있는 내용이 부족합니다");
+
+        private final String description;
+
+        InvalidReason(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.umc.domain.perfume.prompt;
+
+import com.umc.global.util.BpeTokenizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * 향수 분석용 GPT 프롬프트
+ * - 고정 지시문/JSON 형식/매핑 가이드를 앞에 두고 가사는 맨 뒤에 넣어 요청 간 앞부분을 같게 유지
+ *   (고정 부분이 1024토큰에 못 미쳐 OpenAI 프롬프트 캐시는 적용되지 않음, 길이는 perfume.prompt.tokens{part=static}로 확인)
+ * - 가사는 글자 수가 아닌 토큰 수(perfume.prompt.lyrics.max-tokens) 기준으로 자름
+ * - 템플릿별 고정/가변 부분 토큰 수를 perfume.prompt.tokens{template, part}로 기록
+ */
+@Component
+@Slf4j
+public class PerfumePrompts {
+
+    static final String LYRICS_ANALYSIS = "lyrics-analysis";
+    static final String IMAGE_ANALYSIS = "image-analysis";
+
+    private static final PromptTemplate LYRICS_TEMPLATE = PromptTemplate.compile(LYRICS_ANALYSIS, """
+            당신은 전문 음악 분석가이자 향수 제작 전문가입니다.
+            마지막에 주어지는 가사/음성을 분석하여 음악이 담고 있는 감정, 분위기를 파악하고,
+            이를 바탕으로 향수 제작에 필요한 상세한 분석을 JSON 형태로 제공해주세요.
+
+            텍스트를 분석하여 다음 요소들을 파악해주세요:
+            1. 전체적인 감정과 무드 (예: 에너지틱, 차분함, 그리움, 희망 등)
+            2. 음악적 분위기 (예: 힙합, 발라드, 댄스 등의 장르적 특성)
+            3. 연상되는 이미지와 색감
+            4. 계절감이나 시간대
+
+            다음 JSON 형태로 정확히 응답해주세요:
+            {
+                "type": "AUDIO",
+                "fileDescription": "음악이 전달하는 감정과 분위기를 2-3문장으로 설명",
+                "top": ["탑노트1", "탑노트2", "탑노트3"],
+                "middle": ["미들노트1", "미들노트2", "미들노트3"],
+                "base": ["베이스노트1", "베이스노트2", "베이스노트3"],
+                "interpretation": "향수의 전체적인 특징과 노트 조화를 설명하는 2-3문장 (100자 이내)",
+                "summary": "향수의 핵심 특징을 담은 짧은 문장",
+                "title": "향수 이름 : 부제목 형태 (25자 이내)"
+            }
+
+            제약사항:
+            - JSON 형식을 정확히 지켜주세요
+            - 각 배열은 정확히 3개 항목만 포함
+            - 노트명: 각 4글자 이내 (예: 레몬, 장미, 바닐라)
+            - 실제 존재하는 향료명만 사용
+
+            감정-향료 매핑 가이드:
+            - 에너지틱/힙합: 스파이시(후추, 계피), 시트러스(자몽, 라임)
+            - 그리움/감성: 우디(샌달우드, 시더), 플로럴(로즈, 자스민)
+            - 신선함: 유칼립투스, 민트, 베르가못
+            - 따뜻함: 바닐라, 앰버, 통카빈
+            - 신비로움: 패출리, 인센스, 오우드
+
+            """, """
+            === 분석할 텍스트 ===
+            {{lyrics}}
+            ==================
+            """);
+
+    private static final PromptTemplate IMAGE_TEMPLATE = PromptTemplate.compile(IMAGE_ANALYSIS, """
+            당신은 전문 이미지 분석가이자 향수 제작 전문가입니다.
+            이 이미지를 향수 제작 관점에서 분석하여 JSON으로 제공해주세요.
+
+            다음 JSON 형태로 응답해주세요:
+            {
+                "type": "IMAGE",
+                "fileDescription": "이미지가 전달하는 감정과 분위기를 2-3문장으로 설명",
+                "top": ["탑노트1", "탑노트2", "탑노트3"],
+                "middle": ["미들노트1", "미들노트2", "미들노트3"],
+                "base": ["베이스노트1", "베이스노트2", "베이스노트3"],
+                "interpretation": "향수의 전체적인 특징과 노트 조화를 설명하는 2-3문장",
+                "summary": "향수의 핵심 특징을 담은 짧은 문장",
+                "title": "향수 이름 : 부제목 형태"
+            }
+
+            제약사항:
+            - JSON 형식 정확히 준수
+            - 각 배열은 정확히 3개 항목
+            - title: 25자 이내
+            - 노트명: 각 4글자 이내
+            - interpretation: 100자 이내
+            - 실제 존재하는 향료명만 사용
+            """, "");
+
+    private final BpeTokenizer tokenizer;
+    private final int maxLyricsTokens;
+
+    // 고정 지시문은 바뀌지 않으므로 토큰 수를 한 번만 계산
+    private final int lyricsStaticTokens;
+    private final int imageStaticTokens;
+
+    private final Counter lyricsTruncatedCounter;
+    private final DistributionSummary lyricsStaticSummary;
+    private final DistributionSummary lyricsVariableSummary;
+    private final DistributionSummary imageStaticSummary;
+    private final DistributionSummary imageVariableSummary;
+
+    @Autowired
+    public PerfumePrompts(ResourceLoader resourceLoader,
+                          @Value("${openai.tokenizer.vocabulary:}") String vocabularyLocation,
+                          @Value("${perfume.prompt.lyrics.max-tokens:600}") int maxLyricsTokens,
+                          MeterRegistry meterRegistry) {
+        this(loadTokenizer(resourceLoader, vocabularyLocation), maxLyricsTokens, meterRegistry);
+    }
+
+    public PerfumePrompts(BpeTokenizer tokenizer, int maxLyricsTokens, MeterRegistry meterRegistry) {
+        this.tokenizer = tokenizer;
+        this.maxLyricsTokens = maxLyricsTokens;
+        this.lyricsStaticTokens = tokenizer.count(LYRICS_TEMPLATE.getStaticPrefix());
+        this.imageStaticTokens = tokenizer.count(IMAGE_TEMPLATE.getStaticPrefix());
+        this.lyricsTruncatedCounter = Counter.builder("perfume.prompt.truncated")
+                .description("토큰 예산을 넘어 잘린 프롬프트 변수 수")
+                .tag("template", LYRICS_ANALYSIS)
+                .register(meterRegistry);
+        this.lyricsStaticSummary = summary(meterRegistry, LYRICS_ANALYSIS, "static");
+        this.lyricsVariableSummary = summary(meterRegistry, LYRICS_ANALYSIS, "variable");
+        this.imageStaticSummary = summary(meterRegistry, IMAGE_ANALYSIS, "static");
+        this.imageVariableSummary = summary(meterRegistry, IMAGE_ANALYSIS, "variable");
+    }
+
+    /**
+     * 가사 분석 프롬프트 (가사가 토큰 예산을 넘으면 뒤를 자름)
+     */
+    public String lyricsAnalysis(String lyrics) {
+        String truncated = lyrics;
+        if (tokenizer.count(lyrics) > maxLyricsTokens) {
+            // 말줄임표 토큰까지 예산 안에 들어가도록 한 토큰 적게 자름
+            truncated = tokenizer.truncate(lyrics, maxLyricsTokens - 1).stripTrailing() + "...";
+            log.info("가사가 너무 길어서 {}토큰으로 제한했습니다. (원본 {}자 -> {}자)",
+                    maxLyricsTokens, lyrics.length(), truncated.length());
+            lyricsTruncatedCounter.increment();
+        }
+        String prompt = LYRICS_TEMPLATE.render(Map.of("lyrics", truncated));
+        lyricsStaticSummary.record(lyricsStaticTokens);
+        lyricsVariableSummary.record(Math.max(0, tokenizer.count(prompt) - lyricsStaticTokens));
+        return prompt;
+    }
+
+    /**
+     * 이미지 분석 프롬프트 (가변 부분 없음)
+     */
+    public String imageAnalysis() {
+        String prompt = IMAGE_TEMPLATE.render(Map.of());
+        imageStaticSummary.record(imageStaticTokens);
+        imageVariableSummary.record(0);
+        return prompt;
+    }
+
+    private static DistributionSummary summary(MeterRegistry meterRegistry, String template, String part) {
+        return DistributionSummary.builder("perfume.prompt.tokens")
+                .description("프롬프트 토큰 수 (static: 요청 간 같은 고정 지시문, variable: 요청별 내용)")
+                .baseUnit("tokens")
+                .tag("template", template)
+                .tag("part", part)
+                .register(meterRegistry);
+    }
+
+    private static BpeTokenizer loadTokenizer(ResourceLoader resourceLoader, String vocabularyLocation) {
+        if (vocabularyLocation == null || vocabularyLocation.isBlank()) {
+            log.info("토큰 어휘 파일이 설정되지 않아 토큰 수를 추정으로 계산합니다 (실제 토큰 수와 다를 수 있음)");
+            return BpeTokenizer.estimating();
+        }
+        Resource resource = resourceLoader.getResource(vocabularyLocation);
+        try (InputStream inputStream = resource.getInputStream()) {
+            BpeTokenizer tokenizer = BpeTokenizer.load(inputStream);
+            log.info("토큰 어휘 파일 로드 완료: {}", vocabularyLocation);
+            return tokenizer;
+        } catch (IOException e) {
+            log.warn("토큰 어휘 파일을 읽지 못해 토큰 수를 추정으로 계산합니다: {} ({})", vocabularyLocation, e.getMessage());
+            return BpeTokenizer.estimating();
+        }
+    }
+}
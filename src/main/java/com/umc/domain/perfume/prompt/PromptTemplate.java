@@ -0,0 +1,91 @@
+package com.umc.domain.perfume.prompt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 컴파일한 프롬프트 템플릿
+ * - 고정 지시문(staticPrefix)을 앞에, {{이름}} 자리표시자가 있는 가변 부분(variableSection)을 뒤에 둠
+ * - 매 요청의 앞부분이 글자 단위로 같음 (OpenAI 프롬프트 캐시는 같은 앞부분이 1024토큰 이상일 때만 적용)
+ * - 가변 부분은 생성 시 한 번만 해석하여 렌더링은 이어 붙이기만 함
+ */
+public final class PromptTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String name;
+    private final String staticPrefix;
+    private final List<Segment> segments;
+    private final int literalLength;
+
+    private PromptTemplate(String name, String staticPrefix, List<Segment> segments) {
+        this.name = name;
+        this.staticPrefix = staticPrefix;
+        this.segments = segments;
+        this.literalLength = staticPrefix.length()
+                + segments.stream().filter(segment -> !segment.variable()).mapToInt(segment -> segment.text().length()).sum();
+    }
+
+    /**
+     * 템플릿 생성 (고정 지시문에는 자리표시자를 둘 수 없음)
+     */
+    public static PromptTemplate compile(String name, String staticPrefix, String variableSection) {
+        if (staticPrefix.contains(OPEN)) {
+            throw new IllegalArgumentException("고정 지시문에는 자리표시자를 둘 수 없습니다: " + name);
+        }
+        List<Segment> segments = new ArrayList<>();
+        int position = 0;
+        while (position < variableSection.length()) {
+            int open = variableSection.indexOf(OPEN, position);
+            if (open < 0) {
+                segments.add(new Segment(variableSection.substring(position), false));
+                break;
+            }
+            int close = variableSection.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("닫히지 않은 자리표시자가 있습니다: " + name);
+            }
+            if (open > position) {
+                segments.add(new Segment(variableSection.substring(position, open), false));
+            }
+            segments.add(new Segment(variableSection.substring(open + OPEN.length(), close).trim(), true));
+            position = close + CLOSE.length();
+        }
+        return new PromptTemplate(name, staticPrefix, List.copyOf(segments));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getStaticPrefix() {
+        return staticPrefix;
+    }
+
+    /**
+     * 자리표시자를 values로 채운 프롬프트 (값이 없는 자리표시자가 있으면 예외)
+     */
+    public String render(Map<String, String> values) {
+        int capacity = literalLength;
+        for (Segment segment : segments) {
+            if (segment.variable()) {
+                String value = values.get(segment.text());
+                if (value == null) {
+                    throw new IllegalArgumentException("프롬프트 변수 값이 없습니다: " + name + "." + segment.text());
+                }
+                capacity += value.length();
+            }
+        }
+
+        StringBuilder prompt = new StringBuilder(capacity).append(staticPrefix);
+        for (Segment segment : segments) {
+            prompt.append(segment.variable() ? values.get(segment.text()) : segment.text());
+        }
+        return prompt.toString();
+    }
+
+    private record Segment(String text, boolean variable) {
+    }
+}
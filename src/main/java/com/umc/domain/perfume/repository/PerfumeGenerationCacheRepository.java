@@ -0,0 +1,28 @@
+package com.umc.domain.perfume.repository;
+
+import com.umc.domain.perfume.entity.PerfumeGenerationCache;
+import com.umc.domain.perfume.entity.SourceType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PerfumeGenerationCacheRepository extends JpaRepository<PerfumeGenerationCache, Long> {
+
+    /**
+     * 파일 해시와 소스 타입으로 생성 결과 조회
+     */
+    Optional<PerfumeGenerationCache> findByContentHashAndSourceType(String contentHash, SourceType sourceType);
+
+    /**
+     * 지각 해시가 있는 캐시의 (ID, 해시) 목록을 ID 순으로 조회 (인덱스 적재용)
+     */
+    @Query("SELECT c.id, c.perceptualHash FROM PerfumeGenerationCache c " +
+           "WHERE c.perceptualHash IS NOT NULL AND c.id > :afterId ORDER BY c.id")
+    List<Object[]> findPerceptualHashesAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -0,0 +1,21 @@
+package com.umc.domain.perfume.repository;
+
+import com.umc.domain.perfume.entity.PerfumeJob;
+import com.umc.domain.perfume.entity.PerfumeJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PerfumeJobRepository extends JpaRepository<PerfumeJob, Long> {
+
+    /**
+     * 특정 인스턴스가 특정 시각 이전에 등록한 작업 중 주어진 상태인 작업 조회 (재시작 시 중단된 작업 정리용)
+     */
+    List<PerfumeJob> findByOwnerInstanceAndStatusInAndCreatedAtBefore(String ownerInstance,
+                                                                      Collection<PerfumeJobStatus> statuses,
+                                                                      LocalDateTime createdAt);
+}
@@ -4,6 +4,7 @@ import com.umc.domain.perfume.entity.Perfume;
 import com.umc.domain.perfume.entity.SourceType;
 import java.util.List;
 import com.umc.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -63,4 +64,16 @@ public interface PerfumeRepository extends JpaRepository<Perfume, Long> {
      * 소스 타입별 최근 향수 10개 조회 (추천용)
      */
     List<Perfume> findTop10BySourceTypeOrderByCreatedAtDesc(SourceType sourceType);
-}
\ No newline at end of file
+    
+    /**
+     * 특정 노트가 들어간 향수 목록 조회 (perfume_note.note 인덱스 사용)
+     */
+    @Query("SELECT DISTINCT p FROM Perfume p JOIN p.notes n WHERE n.note = :note ORDER BY p.createdAt DESC")
+    List<Perfume> findByNote(@Param("note") String note);
+    
+    /**
+     * 이전 JSON 설명이 남아 있는 향수를 ID 순으로 조회 (설명 이전용)
+     */
+    @Query("SELECT p FROM Perfume p WHERE p.legacyDescription IS NOT NULL AND p.id > :afterId ORDER BY p.id")
+    List<Perfume> findLegacyDescriptionsAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -0,0 +1,83 @@
+package com.umc.domain.perfume.service;
+
+import com.umc.domain.perfume.audio.AudioSegment;
+import com.umc.domain.perfume.audio.AudioTrack;
+import com.umc.domain.perfume.audio.AudioTracks;
+import com.umc.domain.perfume.audio.EnergyWindowSelector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Whisper 전송 전 오디오 발췌
+ * - 가사는 어차피 프롬프트 토큰 예산(perfume.prompt.lyrics.max-tokens)으로 잘리므로 첫 보컬 에너지 구간부터 window-seconds만 전송
+ * - MP3는 프레임 경계로 원본 바이트 범위를, WAV는 샘플 경계로 잘라 16kHz 모노로 변환
+ * - 지원하지 않는 형식(m4a 등), 줄어들지 않는 경우, 분석 실패 시 null (전체 파일 전송)
+ */
+@Service
+@Slf4j
+public class AudioExcerptService {
+
+    private final double windowSeconds;
+    private final double preRollSeconds;
+
+    private final Counter unsupportedCounter;
+    private final Counter originalCounter;
+    private final Counter excerptedCounter;
+    private final Counter failedCounter;
+
+    public AudioExcerptService(MeterRegistry meterRegistry,
+                               @Value("${perfume.audio.excerpt.window-seconds:45}") double windowSeconds,
+                               @Value("${perfume.audio.excerpt.pre-roll-seconds:1}") double preRollSeconds) {
+        this.windowSeconds = windowSeconds;
+        this.preRollSeconds = preRollSeconds;
+
+        this.unsupportedCounter = resultCounter(meterRegistry, "unsupported");
+        this.originalCounter = resultCounter(meterRegistry, "original");
+        this.excerptedCounter = resultCounter(meterRegistry, "excerpted");
+        this.failedCounter = resultCounter(meterRegistry, "failed");
+    }
+
+    /**
+     * 발췌 구간 생성 (전체 파일을 보내야 하면 null)
+     */
+    public AudioSegment excerpt(MultipartFile file, String filename) {
+        try {
+            AudioTrack track = AudioTracks.open(file, filename);
+            if (track == null) {
+                unsupportedCounter.increment();
+                return null;
+            }
+
+            double duration = track.durationSeconds();
+            double start = EnergyWindowSelector.selectStart(
+                    track.energyProfile(), track.energyBlockSeconds(), windowSeconds, preRollSeconds);
+            AudioSegment segment = track.slice(start, windowSeconds);
+            if (segment.size() >= file.getSize()) {
+                // 창보다 짧아 줄어들지 않는 트랙은 원본 유지
+                originalCounter.increment();
+                return null;
+            }
+
+            log.info("오디오 발췌 - 파일명: {}, 전체 {}초 중 {}초부터 {}초, {} bytes → {} bytes",
+                    filename, Math.round(duration), Math.round(segment.startSeconds()),
+                    Math.round(segment.durationSeconds()), file.getSize(), segment.size());
+            excerptedCounter.increment();
+            return segment;
+        } catch (Exception e) {
+            log.warn("오디오 발췌 실패로 전체 파일을 전송합니다 - 파일명: {}, 오류: {}", filename, e.getMessage());
+            failedCounter.increment();
+            return null;
+        }
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("perfume.audio.excerpt")
+                .description("Whisper 전송 전 오디오 발췌 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
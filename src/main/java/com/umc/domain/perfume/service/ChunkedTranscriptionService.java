@@ -0,0 +1,130 @@
+package com.umc.domain.perfume.service;
+
+import com.umc.domain.perfume.audio.AudioSegment;
+import com.umc.domain.perfume.audio.AudioTrack;
+import com.umc.domain.perfume.audio.AudioTracks;
+import com.umc.domain.perfume.audio.TranscriptStitcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * 긴 오디오의 구간별 병렬 변환
+ * - 프레임/샘플 경계로 overlap-seconds만큼 겹치게 chunk-seconds씩 자름
+ * - 최대 max-concurrency개 구간만 동시에 Whisper로 전송 (구간 자르기도 허용된 뒤에 수행해 메모리 제한)
+ * - 결과는 구간 순서대로 이어 붙이고 겹친 부분의 중복 단어는 제거
+ * - 지원하지 않는 형식이거나 한 구간보다 짧은 트랙은 null (한 번에 전송)
+ */
+@Service
+@Slf4j
+public class ChunkedTranscriptionService {
+
+    private final Executor upstreamExecutor;
+    private final double chunkSeconds;
+    private final double overlapSeconds;
+    private final int maxConcurrency;
+    private final Timer transcriptionTimer;
+
+    public ChunkedTranscriptionService(@Qualifier("upstreamExecutor") Executor upstreamExecutor,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${perfume.audio.chunked.chunk-seconds:60}") double chunkSeconds,
+                                       @Value("${perfume.audio.chunked.overlap-seconds:3}") double overlapSeconds,
+                                       @Value("${perfume.audio.chunked.max-concurrency:4}") int maxConcurrency) {
+        if (overlapSeconds < 0 || overlapSeconds >= chunkSeconds) {
+            throw new IllegalArgumentException("overlap-seconds는 0 이상, chunk-seconds 미만이어야 합니다");
+        }
+        this.upstreamExecutor = upstreamExecutor;
+        this.chunkSeconds = chunkSeconds;
+        this.overlapSeconds = overlapSeconds;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.transcriptionTimer = Timer.builder("perfume.audio.transcription.chunked.duration")
+                .description("구간 병렬 변환 전체 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구간별로 transcriber를 호출하고 이어 붙인 텍스트 반환 (나눌 수 없으면 null)
+     */
+    public String transcribe(MultipartFile file, String filename, Function<AudioSegment, String> transcriber)
+            throws IOException {
+        AudioTrack track = AudioTracks.open(file, filename);
+        if (track == null || track.durationSeconds() <= chunkSeconds) {
+            return null;
+        }
+
+        List<Double> starts = chunkStarts(track.durationSeconds());
+        log.info("구간 병렬 변환 시작 - 파일명: {}, 길이: {}초, 구간 수: {}",
+                filename, Math.round(track.durationSeconds()), starts.size());
+
+        return transcriptionTimer.record(() -> {
+            Semaphore permits = new Semaphore(maxConcurrency);
+            List<CompletableFuture<String>> futures = new ArrayList<>(starts.size());
+            try {
+                for (double start : starts) {
+                    permits.acquire();
+                    CompletableFuture<String> future;
+                    try {
+                        future = CompletableFuture.supplyAsync(
+                                () -> transcriber.apply(slice(track, start)), upstreamExecutor);
+                    } catch (RuntimeException e) {
+                        permits.release();
+                        throw e;
+                    }
+                    future.whenComplete((text, error) -> permits.release());
+                    futures.add(future);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                throw new IllegalStateException("구간 변환이 중단되었습니다", e);
+            }
+
+            List<String> texts = new ArrayList<>(futures.size());
+            try {
+                for (CompletableFuture<String> future : futures) {
+                    texts.add(future.join());
+                }
+            } catch (CompletionException e) {
+                futures.forEach(future -> future.cancel(true));
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+            return TranscriptStitcher.stitch(texts);
+        });
+    }
+
+    /**
+     * 마지막 구간이 트랙 끝을 덮을 때까지 (chunk - overlap) 간격으로 시작 위치 생성
+     */
+    List<Double> chunkStarts(double durationSeconds) {
+        List<Double> starts = new ArrayList<>();
+        double step = chunkSeconds - overlapSeconds;
+        for (double start = 0; ; start += step) {
+            starts.add(start);
+            if (start + chunkSeconds >= durationSeconds) {
+                return starts;
+            }
+        }
+    }
+
+    private AudioSegment slice(AudioTrack track, double start) {
+        try {
+            return track.slice(start, chunkSeconds);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
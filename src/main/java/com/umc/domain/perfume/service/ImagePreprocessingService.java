@@ -0,0 +1,262 @@
+package com.umc.domain.perfume.service;
+
+import com.umc.domain.file.util.ExifOrientationUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * GPT 이미지 분석 전 전처리
+ * - 긴 변을 max-edge 이하로 축소하고 메타데이터(EXIF 등) 없이 JPEG로 다시 인코딩
+ *   (메타데이터가 사라지므로 EXIF Orientation 회전/반전은 축소할 때 픽셀에 먼저 반영)
+ * - CPU 작업이므로 크기가 제한된 imageProcessingExecutor에서 실행
+ * - 읽을 수 없는 형식, 실패, 시간 초과, 풀 포화, 결과가 더 큰 경우에는 원본을 그대로 사용
+ * - 구글 드라이브에는 항상 원본이 업로드됨 (이 전처리는 GPT 요청에만 적용)
+ */
+@Service
+@Slf4j
+public class ImagePreprocessingService {
+
+    private static final String JPEG_CONTENT_TYPE = "image/jpeg";
+
+    private final ThreadPoolTaskExecutor imageProcessingExecutor;
+    private final boolean enabled;
+    private final int maxEdge;
+    private final float jpegQuality;
+    private final long timeoutMs;
+
+    private final Map<String, Counter> resultCounters;
+    private final DistributionSummary bytesSaved;
+    private final Timer processingTimer;
+
+    public ImagePreprocessingService(@Qualifier("imageProcessingExecutor") ThreadPoolTaskExecutor imageProcessingExecutor,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${perfume.image.preprocess.enabled:true}") boolean enabled,
+                                     @Value("${perfume.image.preprocess.max-edge:1536}") int maxEdge,
+                                     @Value("${perfume.image.preprocess.jpeg-quality:0.85}") float jpegQuality,
+                                     @Value("${perfume.image.preprocess.timeout-ms:10000}") long timeoutMs) {
+        this.imageProcessingExecutor = imageProcessingExecutor;
+        this.enabled = enabled;
+        this.maxEdge = maxEdge;
+        this.jpegQuality = jpegQuality;
+        this.timeoutMs = timeoutMs;
+
+        Map<String, Counter> counters = new HashMap<>();
+        for (String result : List.of("resized", "original", "unsupported", "rejected", "timeout", "failed")) {
+            counters.put(result, Counter.builder("perfume.image.preprocess")
+                    .description("이미지 전처리 결과")
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+        this.resultCounters = Map.copyOf(counters);
+        this.bytesSaved = DistributionSummary.builder("perfume.image.preprocess.bytes.saved")
+                .description("전처리로 줄어든 GPT 요청 이미지 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.processingTimer = Timer.builder("perfume.image.preprocess.duration")
+                .description("이미지 축소/재인코딩 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * GPT 요청에 사용할 이미지 준비 (실패 시 원본)
+     */
+    public PreparedImage prepare(MultipartFile file) {
+        PreparedImage original = new PreparedImage(file.getContentType(), file.getSize(), file, false);
+        if (!enabled) {
+            return original;
+        }
+
+        CompletableFuture<byte[]> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> downscale(file), imageProcessingExecutor);
+        } catch (TaskRejectedException e) {
+            log.warn("이미지 전처리 풀이 가득 차 원본을 사용합니다 - 파일명: {}", file.getOriginalFilename());
+            count("rejected");
+            return original;
+        }
+
+        try {
+            byte[] processed = future.get(timeoutMs, TimeUnit.MILLISECONDS);
+            if (processed == null) {
+                count("unsupported");
+                return original;
+            }
+            if (processed.length >= file.getSize()) {
+                // 이미 충분히 작은 이미지는 원본 유지
+                count("original");
+                return original;
+            }
+
+            bytesSaved.record(file.getSize() - processed.length);
+            count("resized");
+            log.info("이미지 전처리 완료 - 파일명: {}, {} bytes → {} bytes",
+                    file.getOriginalFilename(), file.getSize(), processed.length);
+            return new PreparedImage(JPEG_CONTENT_TYPE, processed.length, new ByteArrayResource(processed), true);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("이미지 전처리 시간 초과로 원본을 사용합니다 - 파일명: {}", file.getOriginalFilename());
+            count("timeout");
+            return original;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return original;
+        } catch (ExecutionException e) {
+            log.warn("이미지 전처리 실패로 원본을 사용합니다 - 파일명: {}, 오류: {}",
+                    file.getOriginalFilename(), e.getCause().getMessage());
+            count("failed");
+            return original;
+        }
+    }
+
+    /**
+     * 축소 + JPEG 재인코딩 (ImageIO로 읽을 수 없으면 null)
+     */
+    byte[] downscale(MultipartFile file) {
+        return processingTimer.record(() -> {
+            try {
+                BufferedImage decoded = decodeSubsampled(file);
+                if (decoded == null) {
+                    return null;
+                }
+                return encodeJpeg(resizeToRgb(decoded, readOrientation(file)));
+            } catch (IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * 목표 크기의 2배 이상인 픽셀은 디코딩 단계에서 건너뛰어 메모리와 시간을 절약
+     */
+    private BufferedImage decodeSubsampled(MultipartFile file) throws IOException {
+        try (InputStream inputStream = file.getInputStream();
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            if (imageInputStream == null) {
+                return null;
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int longEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, longEdge / maxEdge);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * EXIF Orientation 값 (읽을 수 없으면 회전 없음)
+     */
+    private int readOrientation(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            return ExifOrientationUtil.read(inputStream);
+        } catch (IOException e) {
+            log.debug("EXIF 방향 읽기 실패 - 파일명: {}, 오류: {}", file.getOriginalFilename(), e.getMessage());
+            return ExifOrientationUtil.NORMAL;
+        }
+    }
+
+    /**
+     * 방향을 바로잡고 긴 변을 maxEdge로 맞춘 뒤 알파 채널 없는 RGB로 변환 (투명 영역은 흰색)
+     */
+    private BufferedImage resizeToRgb(BufferedImage source, int orientation) {
+        boolean swapped = ExifOrientationUtil.swapsAxes(orientation);
+        int width = swapped ? source.getHeight() : source.getWidth();
+        int height = swapped ? source.getWidth() : source.getHeight();
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, targetWidth, targetHeight);
+            AffineTransform transform = AffineTransform.getScaleInstance(
+                    (double) targetWidth / width, (double) targetHeight / height);
+            transform.concatenate(ExifOrientationUtil.transform(orientation, source.getWidth(), source.getHeight()));
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * 메타데이터 없이 지정 품질의 JPEG로 인코딩
+     */
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    private void count(String result) {
+        resultCounters.get(result).increment();
+    }
+
+    /**
+     * GPT 요청에 사용할 이미지 (원본 또는 전처리 결과)
+     */
+    public record PreparedImage(String contentType, long size, InputStreamSource source, boolean preprocessed) {
+    }
+}
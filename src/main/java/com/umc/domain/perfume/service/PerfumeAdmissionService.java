@@ -0,0 +1,217 @@
+package com.umc.domain.perfume.service;
+
+import com.umc.global.exception.ErrorCode;
+import com.umc.global.exception.RateLimitException;
+import com.umc.global.util.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 향수 생성 요청 허용 제어
+ * - 동시 생성 수 상한 → 사용자별 토큰 버킷 → 전체 토큰 버킷 순으로 확인하고, 걸리면 429 + Retry-After로 바로 거절
+ * - 버킷과 동시 생성 수는 모두 CAS로만 갱신 (요청 스레드가 락을 기다리지 않음)
+ * - 허용되면 Permit을 받고, 생성이 끝나면(백그라운드 작업이면 작업이 끝날 때) 닫아서 동시 생성 수를 반환
+ * - 큐레이터 일괄 생성의 파일별 허용은 사용자별 버킷을 건너뜀 (admitBatchItem)
+ */
+@Service
+@Slf4j
+public class PerfumeAdmissionService {
+
+    private static final int SWEEP_INTERVAL = 1024;
+
+    private final boolean enabled;
+    private final double userPermitsPerSecond;
+    private final int userBurst;
+    private final int maxInFlight;
+    private final long busyRetryAfterSeconds;
+    private final LongSupplier nanoClock;
+
+    private final TokenBucket globalBucket;
+    private final Map<Long, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong requests = new AtomicLong();
+
+    private final Counter admittedCounter;
+    private final Counter userLimitedCounter;
+    private final Counter globalLimitedCounter;
+    private final Counter inFlightLimitedCounter;
+
+    @Autowired
+    public PerfumeAdmissionService(MeterRegistry meterRegistry,
+                                   @Qualifier("perfumeGenerationExecutor") ThreadPoolTaskExecutor generationExecutor,
+                                   @Value("${perfume.admission.enabled:true}") boolean enabled,
+                                   @Value("${perfume.admission.user-permits-per-minute:6}") double userPermitsPerMinute,
+                                   @Value("${perfume.admission.user-burst:3}") int userBurst,
+                                   @Value("${perfume.admission.global-permits-per-second:2}") double globalPermitsPerSecond,
+                                   @Value("${perfume.admission.global-burst:20}") int globalBurst,
+                                   @Value("${perfume.admission.max-in-flight:16}") int maxInFlight,
+                                   @Value("${perfume.admission.busy-retry-after-seconds:5}") long busyRetryAfterSeconds) {
+        this(meterRegistry, generationExecutor, enabled, userPermitsPerMinute, userBurst,
+                globalPermitsPerSecond, globalBurst, maxInFlight, busyRetryAfterSeconds, System::nanoTime);
+    }
+
+    PerfumeAdmissionService(MeterRegistry meterRegistry, ThreadPoolTaskExecutor generationExecutor,
+                            boolean enabled, double userPermitsPerMinute, int userBurst,
+                            double globalPermitsPerSecond, int globalBurst, int maxInFlight,
+                            long busyRetryAfterSeconds, LongSupplier nanoClock) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("perfume.admission.max-in-flight는 1 이상이어야 합니다: " + maxInFlight);
+        }
+        this.enabled = enabled;
+        this.userPermitsPerSecond = userPermitsPerMinute / 60.0;
+        this.userBurst = userBurst;
+        this.maxInFlight = maxInFlight;
+        this.busyRetryAfterSeconds = busyRetryAfterSeconds;
+        this.nanoClock = nanoClock;
+        this.globalBucket = new TokenBucket(globalPermitsPerSecond, globalBurst, nanoClock.getAsLong());
+        // 설정 오류는 첫 요청이 아니라 시작 시 드러나도록 미리 확인
+        new TokenBucket(userPermitsPerSecond, userBurst, 0L);
+
+        this.admittedCounter = decisionCounter(meterRegistry, "admitted");
+        this.userLimitedCounter = decisionCounter(meterRegistry, "user_limited");
+        this.globalLimitedCounter = decisionCounter(meterRegistry, "global_limited");
+        this.inFlightLimitedCounter = decisionCounter(meterRegistry, "in_flight_limited");
+        Gauge.builder("perfume.admission.in-flight", inFlight, AtomicInteger::get)
+                .description("진행 중인 향수 생성 수")
+                .register(meterRegistry);
+        Gauge.builder("perfume.admission.tracked-users", userBuckets, Map::size)
+                .description("토큰 버킷을 보관 중인 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("perfume.generation.queue.depth", generationExecutor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("향수 생성 executor 대기 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("perfume.generation.active", generationExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("향수 생성 executor 실행 중 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 향수 생성 허용 여부 확인 (거절 시 RateLimitException)
+     */
+    public Permit admit(Long userId) {
+        return admit(userId, true);
+    }
+
+    /**
+     * 큐레이터 일괄 생성 파일 하나의 허용 여부 확인 (거절 시 RateLimitException)
+     * - 사용자별 한도(분당 몇 건)를 파일마다 적용하면 수백 개 배치가 순차 처리보다 느려지므로
+     *   동시 생성 수 상한과 전체 한도만 확인 (배치 요청 자체는 admit으로 사용자별 한도를 확인)
+     */
+    public Permit admitBatchItem(Long userId) {
+        return admit(userId, false);
+    }
+
+    private Permit admit(Long userId, boolean userLimited) {
+        if (!enabled) {
+            return new Permit(false);
+        }
+
+        long now = nanoClock.getAsLong();
+        sweepIdleBuckets(now);
+
+        if (!tryIncrementInFlight()) {
+            inFlightLimitedCounter.increment();
+            log.warn("향수 생성 거절 - 동시 생성 수 초과 (사용자 ID: {}, 상한: {})", userId, maxInFlight);
+            throw new RateLimitException(ErrorCode.PERFUME_SERVER_BUSY, busyRetryAfterSeconds);
+        }
+
+        TokenBucket userBucket = null;
+        if (userLimited) {
+            userBucket = userBuckets.computeIfAbsent(userId,
+                    id -> new TokenBucket(userPermitsPerSecond, userBurst, now));
+            long userWait = userBucket.tryAcquire(now);
+            if (userWait > 0) {
+                inFlight.decrementAndGet();
+                userLimitedCounter.increment();
+                log.warn("향수 생성 거절 - 사용자 요청 한도 초과 (사용자 ID: {})", userId);
+                throw new RateLimitException(ErrorCode.PERFUME_RATE_LIMITED, toRetryAfterSeconds(userWait));
+            }
+        }
+
+        long globalWait = globalBucket.tryAcquire(now);
+        if (globalWait > 0) {
+            // 실제로 생성하지 않으므로 사용자 토큰은 돌려줌
+            if (userBucket != null) {
+                userBucket.refund();
+            }
+            inFlight.decrementAndGet();
+            globalLimitedCounter.increment();
+            log.warn("향수 생성 거절 - 전체 요청 한도 초과 (사용자 ID: {})", userId);
+            throw new RateLimitException(ErrorCode.PERFUME_SERVER_BUSY, toRetryAfterSeconds(globalWait));
+        }
+
+        admittedCounter.increment();
+        return new Permit(true);
+    }
+
+    private boolean tryIncrementInFlight() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxInFlight) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 가득 찬(한동안 요청이 없던) 사용자 버킷 정리
+     * (정리 직전에 버킷을 가져간 요청이 있으면 그 사용자에게 토큰 1개가 더 생길 수 있으나 무시할 수준)
+     */
+    private void sweepIdleBuckets(long now) {
+        if (requests.incrementAndGet() % SWEEP_INTERVAL == 0) {
+            userBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static Counter decisionCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("perfume.admission")
+                .description("향수 생성 허용 제어 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 허용된 향수 생성 1건 (닫으면 동시 생성 수 반환, 여러 번 닫아도 한 번만 반환)
+     */
+    public class Permit implements AutoCloseable {
+
+        private final AtomicBoolean released;
+
+        private Permit(boolean counted) {
+            this.released = new AtomicBoolean(!counted);
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package com.umc.domain.perfume.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.umc.domain.file.util.SpooledMultipartFile;
+import com.umc.domain.perfume.dto.PerfumeBatchItemDto;
+import com.umc.domain.perfume.dto.PerfumeResponseDto;
+import com.umc.domain.perfume.entity.PerfumeJobStatus;
+import com.umc.domain.perfume.entity.SourceType;
+import com.umc.domain.user.entity.User;
+import com.umc.global.exception.BusinessException;
+import com.umc.global.exception.ErrorCode;
+import com.umc.global.exception.RateLimitException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 향수 일괄 생성 (큐레이션용 RECOMMEND_* 향수를 여러 파일로 한 번에 생성)
+ * - RECOMMEND_* 향수는 모든 사용자에게 노출되므로 curator-user-ids에 등록된 사용자만 생성 가능
+ * - 요청 스레드에서 파일을 모두 임시 저장한 뒤 perfumeBatchCoordinatorExecutor의 조정 작업 하나가 배치 전체를 담당
+ *   (배치가 끝날 때까지 스레드를 점유하므로 단건 생성용 perfumeGenerationExecutor는 쓰지 않음)
+ * - 파일별 생성은 perfumeBatchExecutor에서 배치당 최대 parallelism개까지만 동시에 실행
+ * - 생성된 향수는 insert-batch-size개가 모이거나 flush-interval-ms가 지나면 한 트랜잭션으로 모아서 저장
+ * - 파일별 결과는 끝나는 대로 NDJSON 한 줄씩 전송 (순서는 완료 순, index로 요청 순서 확인)
+ * - 요청 한도는 파일마다 적용 (첫 파일은 요청 시 확인하여 바로 429로 거절하고, 이후 파일은 투입할 때 확인하여
+ *   한도에 걸리면 Retry-After만큼 기다렸다가 투입), 생성 중인 파일은 하나씩 동시 생성 수에 포함
+ * - 큐레이터 배치의 두 번째 파일부터는 사용자별 한도 없이 동시 생성 수/전체 한도만 적용
+ *   (분당 몇 건으로 제한하면 수백 개 배치가 몇 시간씩 걸림)
+ * - 클라이언트가 연결을 끊어도 남은 파일은 끝까지 생성/저장
+ */
+@Service
+@Slf4j
+public class PerfumeBatchService {
+
+    private static final MediaType NDJSON = new MediaType(MediaType.APPLICATION_NDJSON, StandardCharsets.UTF_8);
+    private static final long IDLE_POLL_MS = 1000;
+
+    private final PerfumeService perfumeService;
+    private final PerfumeAdmissionService perfumeAdmissionService;
+    private final Executor coordinatorExecutor;
+    private final Executor batchExecutor;
+    private final ObjectMapper objectMapper;
+    private final int maxFiles;
+    private final int parallelism;
+    private final int insertBatchSize;
+    private final long flushIntervalMs;
+    private final long timeoutMs;
+    private final Set<Long> curatorUserIds;
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private final Timer itemTimer;
+
+    public PerfumeBatchService(PerfumeService perfumeService,
+                               PerfumeAdmissionService perfumeAdmissionService,
+                               @Qualifier("perfumeBatchCoordinatorExecutor") Executor coordinatorExecutor,
+                               @Qualifier("perfumeBatchExecutor") Executor batchExecutor,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${perfume.batch.max-files:500}") int maxFiles,
+                               @Value("${perfume.batch.parallelism:4}") int parallelism,
+                               @Value("${perfume.batch.insert-batch-size:20}") int insertBatchSize,
+                               @Value("${perfume.batch.flush-interval-ms:2000}") long flushIntervalMs,
+                               @Value("${perfume.batch.timeout-ms:3600000}") long timeoutMs,
+                               @Value("${perfume.batch.curator-user-ids:}") Set<Long> curatorUserIds) {
+        this.perfumeService = perfumeService;
+        this.perfumeAdmissionService = perfumeAdmissionService;
+        this.coordinatorExecutor = coordinatorExecutor;
+        this.batchExecutor = batchExecutor;
+        this.objectMapper = objectMapper;
+        this.maxFiles = maxFiles;
+        this.parallelism = Math.max(1, parallelism);
+        this.insertBatchSize = Math.max(1, insertBatchSize);
+        this.flushIntervalMs = flushIntervalMs;
+        this.timeoutMs = timeoutMs;
+        this.curatorUserIds = Set.copyOf(curatorUserIds);
+        this.completedCounter = Counter.builder("perfume.batch.items")
+                .description("일괄 생성 파일별 결과 수")
+                .tag("result", "completed")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("perfume.batch.items")
+                .description("일괄 생성 파일별 결과 수")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.itemTimer = Timer.builder("perfume.batch.item.duration")
+                .description("일괄 생성에서 파일 하나의 생성(업로드/GPT)에 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 일괄 생성 시작 (결과는 반환한 emitter로 NDJSON 전송)
+     */
+    public ResponseBodyEmitter generate(SourceType sourceType, List<MultipartFile> files, User user) {
+        if (sourceType == null) {
+            throw new BusinessException(ErrorCode.PERFUME_INVALID_SOURCE_TYPE);
+        }
+        if (sourceType != sourceType.toClientType() && !curatorUserIds.contains(user.getId())) {
+            log.warn("추천 향수 일괄 생성 거절 - 큐레이터가 아닌 사용자: {}", user.getId());
+            throw new BusinessException(ErrorCode.PERFUME_CURATOR_ONLY);
+        }
+        if (files == null || files.isEmpty()) {
+            throw new BusinessException(ErrorCode.PERFUME_FILE_EMPTY);
+        }
+        if (files.size() > maxFiles) {
+            throw new BusinessException(ErrorCode.PERFUME_BATCH_TOO_LARGE);
+        }
+
+        // 첫 파일의 요청 한도 확인 (거절되면 바로 429, 나머지 파일은 투입할 때 하나씩 확인)
+        PerfumeAdmissionService.Permit permit = perfumeAdmissionService.admit(user.getId());
+        try {
+            return start(sourceType, files, user, permit);
+        } catch (RuntimeException e) {
+            permit.close();
+            throw e;
+        }
+    }
+
+    private ResponseBodyEmitter start(SourceType sourceType, List<MultipartFile> files, User user,
+                                      PerfumeAdmissionService.Permit permit) {
+        // 요청이 끝나면 업로드 파일이 사라지므로 모두 임시 저장 (실패한 파일은 해당 항목만 실패 처리)
+        List<BatchItem> items = new ArrayList<>(files.size());
+        for (int index = 0; index < files.size(); index++) {
+            MultipartFile file = files.get(index);
+            SpooledMultipartFile spooledFile = null;
+            if (file != null && !file.isEmpty()) {
+                try {
+                    spooledFile = SpooledMultipartFile.spool(file);
+                } catch (IOException e) {
+                    log.error("업로드 파일 임시 저장 실패 - index: {}", index, e);
+                }
+            }
+            items.add(new BatchItem(index, file != null ? file.getOriginalFilename() : null, spooledFile));
+        }
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMs);
+        BatchOutput output = new BatchOutput(emitter);
+        emitter.onCompletion(output::close);
+        emitter.onTimeout(output::close);
+        emitter.onError(e -> output.close());
+
+        try {
+            coordinatorExecutor.execute(() -> run(sourceType, items, user, output, permit));
+        } catch (TaskRejectedException e) {
+            log.warn("일괄 생성 조정 작업 큐가 가득 찼습니다");
+            items.forEach(BatchItem::delete);
+            throw new BusinessException(ErrorCode.PERFUME_JOB_QUEUE_FULL);
+        }
+        return emitter;
+    }
+
+    private void run(SourceType sourceType, List<BatchItem> items, User user, BatchOutput output,
+                     PerfumeAdmissionService.Permit permit) {
+        try {
+            new BatchRun(sourceType, items, user, output, permit).run();
+            log.info("향수 일괄 생성 완료 - 파일 수: {}, 사용자: {}", items.size(), user.getId());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("향수 일괄 생성 중단 - 사용자: {}", user.getId());
+        } catch (Exception e) {
+            log.error("향수 일괄 생성 중 오류 발생: ", e);
+        } finally {
+            items.forEach(BatchItem::delete);
+            permit.close();
+            output.complete();
+        }
+    }
+
+    /**
+     * 배치 하나의 진행 상태 (조정 스레드에서만 접근, 작업 결과는 completed 큐로만 전달받음)
+     */
+    private class BatchRun {
+
+        private final SourceType sourceType;
+        private final List<BatchItem> items;
+        private final User user;
+        private final boolean curator;
+        private final BatchOutput output;
+        private final BlockingQueue<ItemResult> completed = new LinkedBlockingQueue<>();
+        private final List<ItemResult> pending = new ArrayList<>();
+        private long pendingSince;
+        // 요청 시 받은 첫 파일용 허용 (투입하면 null)
+        private PerfumeAdmissionService.Permit initialPermit;
+        // 요청 한도에 걸려 다음 파일 투입을 미루는 시각 (System.nanoTime 기준)
+        private long admitAfter;
+
+        BatchRun(SourceType sourceType, List<BatchItem> items, User user, BatchOutput output,
+                 PerfumeAdmissionService.Permit initialPermit) {
+            this.sourceType = sourceType;
+            this.items = items;
+            this.user = user;
+            this.curator = curatorUserIds.contains(user.getId());
+            this.output = output;
+            this.initialPermit = initialPermit;
+            this.admitAfter = System.nanoTime();
+        }
+
+        void run() throws InterruptedException {
+            int total = items.size();
+            int submitted = 0;
+            int finished = 0;
+            while (finished < total) {
+                // 진행 중인 작업이 parallelism개 미만이고 요청 한도가 허용하면 다음 파일 투입
+                while (submitted < total && submitted - finished < parallelism) {
+                    BatchItem item = items.get(submitted);
+                    if (item.file() == null) {
+                        completed.add(ItemResult.failed(item, ErrorCode.PERFUME_FILE_EMPTY));
+                        submitted++;
+                        continue;
+                    }
+                    PerfumeAdmissionService.Permit permit = tryAdmit();
+                    if (permit == null) {
+                        break;
+                    }
+                    submit(item, permit);
+                    submitted++;
+                }
+
+                ItemResult result = completed.poll(pollTimeoutMs(), TimeUnit.MILLISECONDS);
+                if (result != null) {
+                    finished++;
+                    if (result.prepared() != null) {
+                        if (pending.isEmpty()) {
+                            pendingSince = System.nanoTime();
+                        }
+                        pending.add(result);
+                    } else {
+                        failed(result.item(), result.errorCode());
+                    }
+                }
+
+                if (!pending.isEmpty() && (pending.size() >= insertBatchSize || finished == total
+                        || System.nanoTime() - pendingSince >= TimeUnit.MILLISECONDS.toNanos(flushIntervalMs))) {
+                    flush();
+                }
+            }
+        }
+
+        private long pollTimeoutMs() {
+            long now = System.nanoTime();
+            long timeoutMs = IDLE_POLL_MS;
+            if (!pending.isEmpty()) {
+                long elapsedMs = TimeUnit.NANOSECONDS.toMillis(now - pendingSince);
+                timeoutMs = Math.max(0, flushIntervalMs - elapsedMs);
+            }
+            if (admitAfter - now > 0) {
+                timeoutMs = Math.min(timeoutMs, TimeUnit.NANOSECONDS.toMillis(admitAfter - now) + 1);
+            }
+            return timeoutMs;
+        }
+
+        /**
+         * 다음 파일의 요청 한도 확인 (거절되면 Retry-After 동안 투입을 미루고 null 반환)
+         */
+        private PerfumeAdmissionService.Permit tryAdmit() {
+            if (initialPermit != null) {
+                PerfumeAdmissionService.Permit permit = initialPermit;
+                initialPermit = null;
+                return permit;
+            }
+            if (System.nanoTime() - admitAfter < 0) {
+                return null;
+            }
+            try {
+                return curator
+                        ? perfumeAdmissionService.admitBatchItem(user.getId())
+                        : perfumeAdmissionService.admit(user.getId());
+            } catch (RateLimitException e) {
+                log.debug("일괄 생성 요청 한도 초과 - {}초 후 다음 파일 투입 (사용자: {})",
+                        e.getRetryAfterSeconds(), user.getId());
+                admitAfter = System.nanoTime() + TimeUnit.SECONDS.toNanos(e.getRetryAfterSeconds());
+                return null;
+            }
+        }
+
+        private void submit(BatchItem item, PerfumeAdmissionService.Permit permit) {
+            try {
+                batchExecutor.execute(() -> {
+                    try {
+                        completed.add(prepare(item));
+                    } finally {
+                        permit.close();
+                    }
+                });
+            } catch (RuntimeException e) {
+                permit.close();
+                throw e;
+            }
+        }
+
+        /**
+         * 파일 하나의 업로드/GPT 생성 (저장은 조정 스레드에서 모아서 수행)
+         */
+        private ItemResult prepare(BatchItem item) {
+            long startedAt = System.nanoTime();
+            try {
+                // 생성은 클라이언트 타입(AUDIO/IMAGE)으로 하고 저장은 요청한 타입(RECOMMEND_* 포함)으로
+                PerfumeService.PreparedPerfume prepared =
+                        perfumeService.preparePerfume(sourceType.toClientType(), item.file(), user, null);
+                prepared.perfume().setSourceType(sourceType);
+                return ItemResult.prepared(item, prepared);
+            } catch (BusinessException e) {
+                log.warn("일괄 생성 항목 실패 - index: {}, 오류: {}", item.index(), e.getErrorCode());
+                return ItemResult.failed(item, e.getErrorCode());
+            } catch (Exception e) {
+                log.error("일괄 생성 항목 처리 중 오류 발생 - index: {}", item.index(), e);
+                return ItemResult.failed(item, ErrorCode.PERFUME_CREATION_FAILED);
+            } finally {
+                item.delete();
+                itemTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        /**
+         * 모인 향수를 한 트랜잭션으로 저장하고 결과 전송 (실패 시 묶음 전체를 실패로 전송)
+         */
+        private void flush() {
+            List<ItemResult> batch = List.copyOf(pending);
+            pending.clear();
+            try {
+                List<PerfumeResponseDto> saved = perfumeService.saveAll(
+                        batch.stream().map(ItemResult::prepared).toList());
+                for (int i = 0; i < batch.size(); i++) {
+                    BatchItem item = batch.get(i).item();
+                    completedCounter.increment();
+                    output.send(PerfumeBatchItemDto.builder()
+                            .index(item.index())
+                            .filename(item.filename())
+                            .status(PerfumeJobStatus.COMPLETED)
+                            .perfume(saved.get(i))
+                            .build());
+                }
+            } catch (Exception e) {
+                log.error("일괄 생성 저장 실패 - 묶음 크기: {}", batch.size(), e);
+                batch.forEach(result -> failed(result.item(), ErrorCode.PERFUME_CREATION_FAILED));
+            }
+        }
+
+        private void failed(BatchItem item, ErrorCode errorCode) {
+            failedCounter.increment();
+            output.send(PerfumeBatchItemDto.builder()
+                    .index(item.index())
+                    .filename(item.filename())
+                    .status(PerfumeJobStatus.FAILED)
+                    .errorCode(errorCode.getCode())
+                    .errorMessage(errorCode.getMessage())
+                    .build());
+        }
+    }
+
+    /**
+     * 결과를 NDJSON 한 줄씩 전송 (연결이 끊긴 뒤에는 전송하지 않음)
+     */
+    private class BatchOutput {
+
+        private final ResponseBodyEmitter emitter;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        BatchOutput(ResponseBodyEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void send(PerfumeBatchItemDto item) {
+            if (closed.get()) {
+                return;
+            }
+            try {
+                emitter.send(objectMapper.writeValueAsString(item) + "\n", NDJSON);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("일괄 생성 결과 전송 실패 (클라이언트 연결 종료): {}", e.getMessage());
+                close();
+            }
+        }
+
+        void complete() {
+            if (closed.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+        }
+
+        void close() {
+            closed.set(true);
+        }
+    }
+
+    /**
+     * 요청한 파일 하나 (임시 저장에 실패했거나 빈 파일이면 file은 null)
+     */
+    private record BatchItem(int index, String filename, SpooledMultipartFile file) {
+
+        void delete() {
+            if (file != null) {
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * 파일 하나의 생성 결과 (성공 시 prepared, 실패 시 errorCode)
+     */
+    private record ItemResult(BatchItem item, PerfumeService.PreparedPerfume prepared, ErrorCode errorCode) {
+
+        static ItemResult prepared(BatchItem item, PerfumeService.PreparedPerfume prepared) {
+            return new ItemResult(item, prepared, null);
+        }
+
+        static ItemResult failed(BatchItem item, ErrorCode errorCode) {
+            return new ItemResult(item, null, errorCode);
+        }
+    }
+}
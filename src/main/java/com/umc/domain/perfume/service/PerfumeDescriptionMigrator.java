@@ -0,0 +1,94 @@
+package com.umc.domain.perfume.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.umc.domain.perfume.dto.PerfumeDescriptionDto;
+import com.umc.domain.perfume.entity.Perfume;
+import com.umc.domain.perfume.repository.PerfumeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 이전 JSON 설명(perfume.description)을 컬럼과 perfume_note 테이블로 옮기는 시작 시 작업
+ * - 페이지마다 짧은 트랜잭션으로 처리하고, 옮긴 향수는 JSON 설명을 비워 다시 처리하지 않음
+ * - 옮기는 중에도 아직 남은 향수는 PerfumeResponseDto가 JSON 설명으로 응답하므로 조회에는 영향 없음
+ * - 해석할 수 없는 설명은 그대로 두고 건너뜀
+ */
+@Service
+@Slf4j
+public class PerfumeDescriptionMigrator {
+
+    private final PerfumeRepository perfumeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public PerfumeDescriptionMigrator(PerfumeRepository perfumeRepository,
+                                      TransactionTemplate transactionTemplate,
+                                      ObjectMapper objectMapper,
+                                      @Value("${perfume.description.migration.enabled:true}") boolean enabled,
+                                      @Value("${perfume.description.migration.batch-size:200}") int batchSize) {
+        this.perfumeRepository = perfumeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+
+        long lastId = 0L;
+        int migrated = 0;
+        int skipped = 0;
+        try {
+            int pageSize;
+            do {
+                long afterId = lastId;
+                MigrationPage page = transactionTemplate.execute(status -> migratePage(afterId));
+                pageSize = page.size();
+                lastId = page.lastId();
+                migrated += page.migrated();
+                skipped += page.size() - page.migrated();
+            } while (pageSize == batchSize);
+
+            if (migrated > 0 || skipped > 0) {
+                log.info("향수 설명 이전 완료 - 이전: {}건, 건너뜀: {}건", migrated, skipped);
+            }
+        } catch (Exception e) {
+            log.warn("향수 설명 이전 실패 ({}건까지 이전, 다음 시작 시 이어서 진행): {}", migrated, e.getMessage());
+        }
+    }
+
+    private MigrationPage migratePage(long afterId) {
+        List<Perfume> perfumes = perfumeRepository.findLegacyDescriptionsAfter(afterId, PageRequest.of(0, batchSize));
+        long lastId = afterId;
+        int migrated = 0;
+        for (Perfume perfume : perfumes) {
+            lastId = perfume.getId();
+            try {
+                PerfumeDescriptionDto description =
+                        objectMapper.readValue(perfume.getLegacyDescription(), PerfumeDescriptionDto.class);
+                perfume.applyDescription(description);
+                perfume.setLegacyDescription(null);
+                migrated++;
+            } catch (Exception e) {
+                log.warn("향수 설명 이전 건너뜀 - 향수 ID: {}, 오류: {}", perfume.getId(), e.getMessage());
+            }
+        }
+        return new MigrationPage(perfumes.size(), migrated, lastId);
+    }
+
+    private record MigrationPage(int size, int migrated, long lastId) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.umc.domain.perfume.service;
+
+import com.umc.domain.perfume.entity.PerfumeGenerationCache;
+import com.umc.domain.perfume.entity.SourceType;
+import com.umc.domain.perfume.repository.PerfumeGenerationCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 업로드 파일 내용(SHA-256) 기반 향수 생성 결과 캐시
+ * - 1차: 메모리 LRU (최대 max-entries 개)
+ * - 2차: perfume_generation_cache 테이블 (재시작 후에도 유지)
+ */
+@Service
+@Slf4j
+public class PerfumeGenerationCacheService {
+
+    private final PerfumeGenerationCacheRepository cacheRepository;
+    private final PerfumeImageSimilarityService imageSimilarityService;
+    private final boolean enabled;
+    private final Map<String, CachedGeneration> memoryCache;
+
+    private final Counter memoryHitCounter;
+    private final Counter databaseHitCounter;
+    private final Counter missCounter;
+
+    public PerfumeGenerationCacheService(PerfumeGenerationCacheRepository cacheRepository,
+                                         PerfumeImageSimilarityService imageSimilarityService,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${perfume.generation.cache.enabled:true}") boolean enabled,
+                                         @Value("${perfume.generation.cache.max-entries:1000}") int maxEntries) {
+        this.cacheRepository = cacheRepository;
+        this.imageSimilarityService = imageSimilarityService;
+        this.enabled = enabled;
+        this.memoryCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedGeneration> eldest) {
+                return size() > maxEntries;
+            }
+        });
+
+        this.memoryHitCounter = Counter.builder("perfume.generation.cache")
+                .description("향수 생성 결과 캐시 조회 결과")
+                .tag("result", "hit").tag("tier", "memory")
+                .register(meterRegistry);
+        this.databaseHitCounter = Counter.builder("perfume.generation.cache")
+                .description("향수 생성 결과 캐시 조회 결과")
+                .tag("result", "hit").tag("tier", "database")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("perfume.generation.cache")
+                .description("향수 생성 결과 캐시 조회 결과")
+                .tag("result", "miss").tag("tier", "none")
+                .register(meterRegistry);
+        Gauge.builder("perfume.generation.cache.size", memoryCache, Map::size)
+                .description("메모리 캐시에 보관 중인 생성 결과 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 생성 결과 조회
+     */
+    public Optional<CachedGeneration> get(String contentHash, SourceType sourceType) {
+        if (!enabled || contentHash == null) {
+            return Optional.empty();
+        }
+
+        String key = cacheKey(contentHash, sourceType);
+        CachedGeneration cached = memoryCache.get(key);
+        if (cached != null) {
+            memoryHitCounter.increment();
+            return Optional.of(cached);
+        }
+
+        try {
+            Optional<CachedGeneration> stored = cacheRepository
+                    .findByContentHashAndSourceType(contentHash, sourceType)
+                    .map(entity -> new CachedGeneration(entity.getDescription(), entity.getTranscript()));
+            if (stored.isPresent()) {
+                memoryCache.put(key, stored.get());
+                databaseHitCounter.increment();
+                return stored;
+            }
+        } catch (Exception e) {
+            log.warn("생성 결과 캐시 조회 실패 - 해시: {}, 오류: {}", contentHash, e.getMessage());
+        }
+
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 검증을 통과한 생성 결과 저장 (이미지는 지각 해시도 함께 저장하여 유사 이미지 검색에 등록)
+     */
+    public void put(String contentHash, SourceType sourceType, String description,
+                    String transcript, Long perceptualHash) {
+        if (!enabled || contentHash == null || description == null) {
+            return;
+        }
+
+        CachedGeneration generation = new CachedGeneration(description, transcript);
+        memoryCache.put(cacheKey(contentHash, sourceType), generation);
+
+        try {
+            PerfumeGenerationCache saved = cacheRepository.save(PerfumeGenerationCache.builder()
+                    .contentHash(contentHash)
+                    .sourceType(sourceType)
+                    .description(description)
+                    .transcript(transcript)
+                    .perceptualHash(perceptualHash)
+                    .build());
+            imageSimilarityService.register(saved.getId(), perceptualHash);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 파일이 동시에 생성된 경우 먼저 저장된 결과 유지
+            log.debug("이미 저장된 생성 결과입니다 - 해시: {}", contentHash);
+        } catch (Exception e) {
+            log.warn("생성 결과 캐시 저장 실패 - 해시: {}, 오류: {}", contentHash, e.getMessage());
+        }
+    }
+
+    private String cacheKey(String contentHash, SourceType sourceType) {
+        return sourceType.name() + ":" + contentHash;
+    }
+
+    /**
+     * 캐시된 생성 결과 (향수 설명 JSON, 오디오 가사)
+     */
+    public record CachedGeneration(String description, String transcript) {
+    }
+}
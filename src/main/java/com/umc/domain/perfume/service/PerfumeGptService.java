@@ -2,80 +2,213 @@ package com.umc.domain.perfume.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.umc.domain.perfume.dto.PerfumeDescriptionDto;
 import com.umc.domain.perfume.entity.SourceType;
 import com.umc.domain.perfume.entity.Perfume;
 import com.umc.domain.file.dto.FileUploadResponse;
 import com.umc.domain.file.service.GoogleDriveService;
-import lombok.RequiredArgsConstructor;
+import com.umc.domain.file.util.FileHashUtil;
+import com.umc.domain.file.util.MultipartFileResource;
+import com.umc.domain.file.util.PerceptualHashUtil;
+import com.umc.domain.perfume.audio.AudioSegment;
+import com.umc.domain.perfume.lyrics.LyricsNormalizer;
+import com.umc.domain.perfume.lyrics.LyricsNormalizer.InvalidReason;
+import com.umc.domain.perfume.prompt.PerfumePrompts;
+import com.umc.domain.perfume.service.ImagePreprocessingService.PreparedImage;
+import com.umc.domain.perfume.service.PerfumeGenerationCacheService.CachedGeneration;
+import com.umc.global.client.OpenAiClient;
+import com.umc.global.client.VisionChatRequestBody;
+import com.umc.global.metrics.UpstreamMetrics;
+import com.umc.global.util.PartialJsonFieldParser;
+import com.umc.global.util.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.http.*;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class PerfumeGptService {
 
-    private final RestTemplate restTemplate;
+    private static final String TRANSCRIPTION_MODEL = "whisper-1";
+
+    private final OpenAiClient openAiClient;
     private final ObjectMapper objectMapper;
     private final GoogleDriveService googleDriveService;
+    private final PerfumeGenerationCacheService generationCacheService;
+    private final PerfumeImageSimilarityService imageSimilarityService;
+    private final ImagePreprocessingService imagePreprocessingService;
+    private final AudioExcerptService audioExcerptService;
+    private final ChunkedTranscriptionService chunkedTranscriptionService;
+    private final LyricsNormalizer lyricsNormalizer;
+    private final UpstreamMetrics upstreamMetrics;
+    private final PerfumePrompts perfumePrompts;
+
+    // 같은 파일(해시+타입)의 동시 생성 요청을 하나로 합침
+    private final SingleFlight<String, GeneratedDescription> generationFlight = new SingleFlight<>();
+
+    private final Counter singleFlightLeaderCounter;
+    private final Counter singleFlightFollowerCounter;
+    // 전처리 여부별 GPT 이미지 분석 시간
+    private final Timer visionPreprocessedTimer;
+    private final Timer visionOriginalTimer;
+
+    @Value("${perfume.audio.transcription.mode:excerpt}")
+    private String transcriptionMode;
+
+    @Value("${perfume.generation.single-flight.enabled:true}")
+    private boolean singleFlightEnabled;
+
+    public PerfumeGptService(OpenAiClient openAiClient,
+                             ObjectMapper objectMapper,
+                             GoogleDriveService googleDriveService,
+                             PerfumeGenerationCacheService generationCacheService,
+                             PerfumeImageSimilarityService imageSimilarityService,
+                             ImagePreprocessingService imagePreprocessingService,
+                             AudioExcerptService audioExcerptService,
+                             ChunkedTranscriptionService chunkedTranscriptionService,
+                             LyricsNormalizer lyricsNormalizer,
+                             MeterRegistry meterRegistry,
+                             UpstreamMetrics upstreamMetrics,
+                             PerfumePrompts perfumePrompts) {
+        this.openAiClient = openAiClient;
+        this.objectMapper = objectMapper;
+        this.googleDriveService = googleDriveService;
+        this.generationCacheService = generationCacheService;
+        this.imageSimilarityService = imageSimilarityService;
+        this.imagePreprocessingService = imagePreprocessingService;
+        this.audioExcerptService = audioExcerptService;
+        this.chunkedTranscriptionService = chunkedTranscriptionService;
+        this.lyricsNormalizer = lyricsNormalizer;
+        this.upstreamMetrics = upstreamMetrics;
+        this.perfumePrompts = perfumePrompts;
+
+        this.singleFlightLeaderCounter = singleFlightCounter(meterRegistry, "leader");
+        this.singleFlightFollowerCounter = singleFlightCounter(meterRegistry, "follower");
+        this.visionPreprocessedTimer = visionTimer(meterRegistry, true);
+        this.visionOriginalTimer = visionTimer(meterRegistry, false);
+    }
 
-    @Value("${openai.api.key}")
-    private String apiKey;
-
-    @Value("${openai.api.url:https://api.openai.com/v1/chat/completions}")
-    private String apiUrl;
+    private static Counter singleFlightCounter(MeterRegistry meterRegistry, String role) {
+        return Counter.builder("perfume.generation.single-flight")
+                .description("동시 생성 요청 병합 결과 (leader: 직접 생성, follower: 진행 중인 생성 결과 공유)")
+                .tag("role", role)
+                .register(meterRegistry);
+    }
 
-    @Value("${openai.transcription.url:https://api.openai.com/v1/audio/transcriptions}")
-    private String transcriptionUrl;
+    private static Timer visionTimer(MeterRegistry meterRegistry, boolean preprocessed) {
+        return Timer.builder("perfume.image.vision.duration")
+                .description("GPT 이미지 분석 호출 소요 시간")
+                .tag("preprocessed", String.valueOf(preprocessed))
+                .register(meterRegistry);
+    }
 
     /**
      * 향수 정보 전체 생성 프로세스
      */
     public Perfume generatePerfume(SourceType sourceType, String url, MultipartFile file) {
-        String description = generatePerfumeDescription(sourceType, file);
+        PerfumeDescriptionDto description = generatePerfumeDescription(sourceType, file);
         Perfume perfume = createPerfumeEntity(sourceType, url, description);
         
         return perfume;
     }
 
     /**
-     * 향수 생성 후 파일 업로드 및 URL 업데이트
+     * 향수 정보 전체 생성 프로세스 (GPT 응답을 스트리밍으로 받으며 필드 단위로 listener에 전달)
      */
-    public void uploadFileAndUpdateUrl(Perfume perfume, MultipartFile file) throws IOException {
+    public Perfume generatePerfume(SourceType sourceType, String url, MultipartFile file,
+                                   PartialJsonFieldParser.Listener listener) {
+        PerfumeDescriptionDto description = generatePerfumeDescription(sourceType, file, listener);
+        return createPerfumeEntity(sourceType, url, description);
+    }
+
+    /**
+     * 파일을 구글 드라이브에 업로드 (GPT 분석과 동시에 실행되므로 향수 ID 대신 사용자별 폴더 키를 사용)
+     */
+    public FileUploadResponse uploadFile(String recordId, MultipartFile file) throws IOException {
         try {
-            log.info("파일 업로드 시작 - 향수 ID: {}, 파일명: {}", perfume.getId(), file.getOriginalFilename());
+            log.info("파일 업로드 시작 - 레코드 키: {}, 파일명: {}", recordId, file.getOriginalFilename());
             
-            String recordId = perfume.getId().toString();
             FileUploadResponse fileResponse = googleDriveService.uploadFile(file, recordId);
             
-            // 향수 엔티티의 URL을 구글 드라이브 URL로 업데이트
-            String oldUrl = perfume.getUrl();
-            perfume.setUrl(fileResponse.getPublicUrl());
-            
-            log.info("파일 업로드 완료: {} - URL 변경: {} -> {}", 
-                    fileResponse.getFileName(), oldUrl, fileResponse.getPublicUrl());
+            log.info("파일 업로드 완료: {} - URL: {}", fileResponse.getFileName(), fileResponse.getPublicUrl());
+            return fileResponse;
         } catch (Exception e) {
-            log.error("파일 업로드 실패 - 향수 ID: {}, 오류: {}", perfume.getId(), e.getMessage(), e);
+            log.error("파일 업로드 실패 - 레코드 키: {}, 오류: {}", recordId, e.getMessage(), e);
             throw e; // 상위로 예외 전파
         }
     }
 
+    /**
+     * 향수 생성에 실패한 경우 이미 업로드된 파일 정리 (삭제 결과를 기다리지 않음)
+     */
+    public void deleteUploadedFile(String fileId) {
+        try {
+            googleDriveService.deleteFile(fileId).whenComplete((ignored, e) -> {
+                if (e != null) {
+                    log.warn("업로드 파일 정리 실패 - 파일 ID: {}, 오류: {}", fileId, e.getMessage());
+                }
+            });
+        } catch (Exception e) {
+            log.warn("업로드 파일 정리 실패 - 파일 ID: {}, 오류: {}", fileId, e.getMessage());
+        }
+    }
+
     /**
      * 파일을 분석하여 향수 정보를 생성합니다.
+     * 같은 파일(SHA-256)로 생성한 결과가 있으면 외부 API를 호출하지 않고 재사용합니다.
+     */
+    public PerfumeDescriptionDto generatePerfumeDescription(SourceType sourceType, MultipartFile file) {
+        return generatePerfumeDescription(sourceType, file, null);
+    }
+
+    /**
+     * listener가 있으면 GPT 응답을 스트리밍으로 받아 필드 단위로 전달
+     * (캐시 적중이나 기본값처럼 GPT를 호출하지 않은 경우에도 같은 이벤트를 한 번에 전달)
+     * 같은 파일의 생성이 이미 진행 중이면 새로 호출하지 않고 그 결과를 함께 사용합니다.
      */
-    public String generatePerfumeDescription(SourceType sourceType, MultipartFile file) {
+    public PerfumeDescriptionDto generatePerfumeDescription(SourceType sourceType, MultipartFile file,
+                                                            PartialJsonFieldParser.Listener listener) {
+        String contentHash = computeContentHash(file);
+        Optional<CachedGeneration> cached = generationCacheService.get(contentHash, sourceType);
+        if (cached.isPresent()) {
+            log.info("생성 결과 캐시 적중 - 해시: {}, 타입: {}", contentHash, sourceType);
+            return readDescription(replay(cached.get().description(), listener));
+        }
+
+        if (!singleFlightEnabled || contentHash == null) {
+            return generateDescription(sourceType, file, contentHash, listener).description();
+        }
+
+        SingleFlight.Result<GeneratedDescription> result = generationFlight.execute(
+                sourceType + ":" + contentHash,
+                () -> generateDescription(sourceType, file, contentHash, listener));
+        (result.leader() ? singleFlightLeaderCounter : singleFlightFollowerCounter).increment();
+        if (!result.leader()) {
+            log.info("진행 중인 같은 파일 생성 결과 공유 - 해시: {}, 타입: {}", contentHash, sourceType);
+            replay(result.value().json(), listener);
+        }
+        return result.value().description();
+    }
+
+    /**
+     * 외부 API(Whisper, GPT)를 호출하여 설명 생성 (실패 시 기본 설명)
+     */
+    private GeneratedDescription generateDescription(SourceType sourceType, MultipartFile file, String contentHash,
+                                                     PartialJsonFieldParser.Listener listener) {
         try {
             if (sourceType == SourceType.AUDIO) {
                 // 1. 음성을 텍스트로 변환 (가사 추출)
@@ -90,160 +223,118 @@ public class PerfumeGptService {
                 log.info("처리된 가사: {}", processedLyrics);
                 
                 // 3. 가사를 분석하여 향수 레시피 생성
-                String prompt = createLyricsAnalysisPrompt(processedLyrics);
-                String gptResponse = callGptApiWithText(prompt);
+                String prompt = perfumePrompts.lyricsAnalysis(processedLyrics);
+                String gptResponse = callGptApiWithText(prompt, listener);
                 
                 // GPT 응답에서 JSON 부분만 추출
                 String jsonResponse = extractJsonFromResponse(gptResponse);
                 
-                // JSON 유효성 검증
-                validateJsonResponse(jsonResponse);
+                // JSON 유효성 검증 (검증에 쓴 트리를 그대로 변환하여 한 번만 해석)
+                PerfumeDescriptionDto description = validateJsonResponse(jsonResponse);
                 
-                return jsonResponse;
+                generationCacheService.put(contentHash, sourceType, jsonResponse, lyrics, null);
+                return new GeneratedDescription(jsonResponse, description);
             } else {
-                // 이미지 파일 처리 (기존 방식)
-                String prompt = createImagePrompt();
-                String gptResponse = callGptApiWithImage(prompt, file);
+                // 재압축/리사이즈된 같은 이미지면 이전 결과 재사용
+                Long perceptualHash = computePerceptualHash(file);
+                Optional<CachedGeneration> similar = imageSimilarityService.findSimilar(perceptualHash);
+                if (similar.isPresent()) {
+                    generationCacheService.put(contentHash, sourceType, similar.get().description(), null, perceptualHash);
+                    String json = replay(similar.get().description(), listener);
+                    return new GeneratedDescription(json, readDescription(json));
+                }
+
+                // 이미지 파일 처리 (축소/재인코딩한 이미지로 분석, 드라이브에는 원본 업로드)
+                PreparedImage image = imagePreprocessingService.prepare(file);
+                String prompt = perfumePrompts.imageAnalysis();
+                String gptResponse = callGptApiWithImage(prompt, image, listener);
                 
                 String jsonResponse = extractJsonFromResponse(gptResponse);
-                validateJsonResponse(jsonResponse);
+                PerfumeDescriptionDto description = validateJsonResponse(jsonResponse);
                 
-                return jsonResponse;
+                generationCacheService.put(contentHash, sourceType, jsonResponse, null, perceptualHash);
+                return new GeneratedDescription(jsonResponse, description);
             }
             
         } catch (Exception e) {
             log.error("GPT API 호출 중 오류 발생: ", e);
-            return getDefaultDescription(sourceType);
+            String json = replay(getDefaultDescription(sourceType), listener);
+            return new GeneratedDescription(json, readDescription(json));
         }
     }
 
     /**
-     * 가사 검증 및 처리 - 강화된 무한 반복 텍스트 필터링
+     * 완성된 설명 JSON을 listener에 한 번에 전달
      */
-    private String validateAndProcessLyrics(String lyrics) {
-        if (lyrics == null || lyrics.trim().isEmpty()) {
-            log.warn("추출된 가사가 비어있습니다.");
-            return "감성적인 멜로디가 돋보이는 음악입니다.";
-        }
-        
-        log.info("가사 검증 시작 - 원본 길이: {}", lyrics.length());
-        
-        // 1. 기본 정제
-        String processed = lyrics.trim();
-        
-        // 2. 단순 반복 패턴 감지 및 제거
-        processed = removeSimpleRepetition(processed);
-        
-        // 3. 무의미한 단어 반복 제거
-        processed = removeMeaninglessRepetition(processed);
-        
-        // 4. 길이 제한
-        if (processed.length() > 500) {
-            processed = processed.substring(0, 500) + "...";
-            log.info("가사가 너무 길어서 500자로 제한했습니다.");
+    private String replay(String description, PartialJsonFieldParser.Listener listener) {
+        if (listener != null) {
+            new PartialJsonFieldParser(objectMapper, listener).feed(description);
         }
-        
-        // 5. 최종 유효성 검증
-        if (isInvalidLyrics(processed)) {
-            log.warn("의미 있는 가사를 추출하지 못했습니다. 기본 메시지로 대체합니다.");
-            log.warn("무효한 가사 내용: {}", processed.substring(0, Math.min(100, processed.length())));
-            return "다양한 감정이 담긴 음악으로, 리듬감과 멜로디가 조화를 이루는 곡입니다.";
+        return description;
+    }
+
+    /**
+     * 저장된(검증을 마친) 설명 JSON을 DTO로 변환
+     */
+    private PerfumeDescriptionDto readDescription(String description) {
+        try {
+            return objectMapper.readValue(description, PerfumeDescriptionDto.class);
+        } catch (IOException e) {
+            throw new RuntimeException("향수 설명 JSON 파싱에 실패했습니다: " + e.getMessage());
         }
-        
-        log.info("가사 검증 완료 - 처리 후 길이: {}", processed.length());
-        return processed;
     }
 
     /**
-     * 단순 반복 패턴 제거
+     * 업로드 파일 내용 해시 계산 (실패 시 캐시 없이 진행)
      */
-    private String removeSimpleRepetition(String text) {
-        // 같은 단어가 5번 이상 연속으로 반복되는 경우 제거
-        String[] patterns = {"랩", "자, 그럼", "그러면", "해볼까요", "네!", "꿈꾸는 건 좋지만", 
-                           "이 곡은 아시아의 힙합 가수의 곡인데", "이걸 이스키는 여전히"};
-        
-        String result = text;
-        for (String pattern : patterns) {
-            // 패턴이 5번 이상 반복되면 한 번만 남기기
-            String regex = "(" + pattern.replace("(", "\\(").replace(")", "\\)") + "[\\s,]*){5,}";
-            result = result.replaceAll(regex, pattern + " ");
+    private String computeContentHash(MultipartFile file) {
+        try {
+            return FileHashUtil.sha256Hex(file);
+        } catch (Exception e) {
+            log.warn("파일 해시 계산 실패 - 파일명: {}, 오류: {}", file.getOriginalFilename(), e.getMessage());
+            return null;
         }
-        
-        return result;
     }
 
     /**
-     * 무의미한 단어 반복 제거
+     * 이미지 지각 해시 계산 (읽을 수 없는 형식이거나 실패 시 유사 검색 없이 진행)
      */
-    private String removeMeaninglessRepetition(String text) {
-        // 연속된 공백 제거
-        text = text.replaceAll("\\s+", " ");
-        
-        // 같은 문장이 3번 이상 반복되는 경우 제거
-        String[] sentences = text.split("[.!?]");
-        StringBuilder result = new StringBuilder();
-        
-        String lastSentence = "";
-        int repeatCount = 0;
-        
-        for (String sentence : sentences) {
-            sentence = sentence.trim();
-            if (sentence.isEmpty()) continue;
-            
-            if (sentence.equals(lastSentence)) {
-                repeatCount++;
-                if (repeatCount <= 1) { // 최대 2번까지만 허용
-                    result.append(sentence).append(". ");
-                }
-            } else {
-                repeatCount = 0;
-                result.append(sentence).append(". ");
-                lastSentence = sentence;
-            }
+    private Long computePerceptualHash(MultipartFile file) {
+        try {
+            return PerceptualHashUtil.dHash(file);
+        } catch (Exception e) {
+            log.warn("이미지 지각 해시 계산 실패 - 파일명: {}, 오류: {}", file.getOriginalFilename(), e.getMessage());
+            return null;
         }
-        
-        return result.toString().trim();
     }
 
     /**
-     * 무효한 가사인지 판단 - 강화된 검증
+     * 가사 검증 및 처리 - 강화된 무한 반복 텍스트 필터링
      */
-    private boolean isInvalidLyrics(String lyrics) {
-        // 1. 너무 짧은 경우
-        if (lyrics.length() < 20) {
-            log.warn("가사가 너무 짧습니다: {} 자", lyrics.length());
-            return true;
+    private String validateAndProcessLyrics(String lyrics) {
+        if (lyrics == null || lyrics.trim().isEmpty()) {
+            log.warn("추출된 가사가 비어있습니다.");
+            return "감성적인 멜로디가 돋보이는 음악입니다.";
         }
         
-        // 2. 단일 단어만 반복되는 경우
-        String[] words = lyrics.split("\\s+");
-        if (words.length > 10) {
-            String firstWord = words[0];
-            long sameWordCount = java.util.Arrays.stream(words)
-                    .filter(word -> word.equals(firstWord))
-                    .count();
-            
-            if (sameWordCount > words.length * 0.8) { // 80% 이상이 같은 단어
-                log.warn("단일 단어 반복 감지: '{}' - {}/{}", firstWord, sameWordCount, words.length);
-                return true;
-            }
-        }
+        log.info("가사 검증 시작 - 원본 길이: {}", lyrics.length());
+        
+        // 1. 기본 정제
+        String processed = lyrics.trim();
         
-        // 3. 무의미한 패턴만 있는 경우
-        String cleanText = lyrics.toLowerCase()
-                .replaceAll("랩", "")
-                .replaceAll("자, 그럼", "")
-                .replaceAll("해볼까요", "")
-                .replaceAll("네!", "")
-                .replaceAll("그러면", "")
-                .replaceAll("[\\s\\p{Punct}]", "");
+        // 2. 단순 반복 패턴 제거 + 3. 무의미한 문장 반복 제거
+        processed = lyricsNormalizer.normalize(processed);
         
-        if (cleanText.length() < 10) {
-            log.warn("의미 있는 내용이 부족합니다. 정제 후 길이: {}", cleanText.length());
-            return true;
+        // 4. 최종 유효성 검증 (길이 제한은 프롬프트 생성 시 토큰 수 기준으로 적용)
+        InvalidReason invalidReason = lyricsNormalizer.findInvalidReason(processed);
+        if (invalidReason != null) {
+            log.warn("의미 있는 가사를 추출하지 못했습니다. 기본 메시지로 대체합니다. 사유: {}", invalidReason.getDescription());
+            log.warn("무효한 가사 내용: {}", processed.substring(0, Math.min(100, processed.length())));
+            return "다양한 감정이 담긴 음악으로, 리듬감과 멜로디가 조화를 이루는 곡입니다.";
         }
         
-        return false;
+        log.info("가사 검증 완료 - 처리 후 길이: {}", processed.length());
+        return processed;
     }
 
     /**
@@ -261,57 +352,36 @@ public class PerfumeGptService {
                 throw new RuntimeException("파일 크기가 너무 큽니다. 25MB 이하의 파일을 업로드해주세요.");
             }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-            headers.setBearerAuth(apiKey);
+            String filename = sanitizeAudioFilename(audioFile);
+            if ("chunked".equalsIgnoreCase(transcriptionMode)) {
+                // 긴 트랙은 겹치는 구간으로 나눠 동시에 변환 후 순서대로 이어 붙임
+                String stitched = chunkedTranscriptionService.transcribe(audioFile, filename,
+                        segment -> extractChunkText(requestTranscription(segment.resource())));
+                if (stitched != null) {
+                    log.info("구간 변환 결과 병합 완료 - 길이: {} 자", stitched.length());
+                    log.info("===== Whisper API 호출 완료 =====");
+                    return stitched.isBlank() ? "음성을 인식할 수 없습니다." : stitched;
+                }
+            }
 
-            // MultiValueMap을 사용하여 multipart/form-data 구성
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            
-            // 파일을 ByteArrayResource로 변환
-            ByteArrayResource fileResource = new ByteArrayResource(audioFile.getBytes()) {
-                @Override
-                public String getFilename() {
-                    String originalName = audioFile.getOriginalFilename();
-                    // 파일명에 특수문자가 있으면 제거
-                    if (originalName != null) {
-                        return originalName.replaceAll("[^a-zA-Z0-9._-]", "_");
-                    }
-                    return "audio.mp3";
+            Resource fileResource = null;
+            if ("excerpt".equalsIgnoreCase(transcriptionMode)) {
+                // 가사는 프롬프트 토큰 예산(perfume.prompt.lyrics.max-tokens)으로 잘리므로 보컬 시작 구간만 전송
+                AudioSegment segment = audioExcerptService.excerpt(audioFile, filename);
+                if (segment != null) {
+                    fileResource = segment.resource();
                 }
-            };
-            
-            body.add("file", fileResource);
-            body.add("model", "whisper-1");
-            
-            // 언어 설정 개선
-            body.add("language", "ko"); // 한국어 명시적 지정
-            body.add("response_format", "verbose_json"); // 더 자세한 응답 형식
-            body.add("temperature", 0.0); // 가장 정확한 변환
-            body.add("prompt", "음악, 가사, 노래, 힙합, 랩"); // 컨텍스트 힌트 제공
-
-            HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
-
-            log.info("Whisper API 요청 전송 중...");
-            ResponseEntity<String> response = restTemplate.postForEntity(
-                transcriptionUrl, 
-                requestEntity, 
-                String.class
-            );
-
-            log.info("Whisper API 응답 상태: {}", response.getStatusCode());
-            log.info("Whisper API 원본 응답: {}", response.getBody());
-
-            if (response.getStatusCode().is2xxSuccessful()) {
-                String transcription = extractTranscriptionFromResponse(response.getBody());
-                log.info("추출된 텍스트: {}", transcription);
-                log.info("===== Whisper API 호출 완료 =====");
-                return transcription;
-            } else {
-                log.warn("Whisper API 호출 실패: {}", response.getStatusCode());
-                throw new RuntimeException("음성 변환에 실패했습니다");
+            }
+            if (fileResource == null) {
+                // 파일을 힙에 올리지 않고 업로드 임시 파일에서 바로 스트리밍
+                fileResource = new MultipartFileResource(audioFile, filename);
             }
 
+            String transcription = extractTranscriptionFromResponse(requestTranscription(fileResource));
+            log.info("추출된 텍스트: {}", transcription);
+            log.info("===== Whisper API 호출 완료 =====");
+            return transcription;
+
         } catch (Exception e) {
             log.error("===== Whisper API 오류 =====");
             log.error("음성 변환 중 오류: ", e);
@@ -320,6 +390,60 @@ public class PerfumeGptService {
         }
     }
 
+    /**
+     * Whisper API 호출 (파일 또는 구간 하나, 원본 응답 반환)
+     */
+    private String requestTranscription(Resource fileResource) {
+        // MultiValueMap을 사용하여 multipart/form-data 구성
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", fileResource);
+        body.add("model", TRANSCRIPTION_MODEL);
+
+        // 언어 설정 개선
+        body.add("language", "ko"); // 한국어 명시적 지정
+        body.add("response_format", "verbose_json"); // 더 자세한 응답 형식
+        body.add("temperature", 0.0); // 가장 정확한 변환
+        body.add("prompt", "음악, 가사, 노래, 힙합, 랩"); // 컨텍스트 힌트 제공
+
+        log.info("Whisper API 요청 전송 중... ({} bytes)", contentLength(fileResource));
+        String responseBody = openAiClient.transcription(body);
+
+        log.info("Whisper API 원본 응답: {}", responseBody);
+        return responseBody;
+    }
+
+    /**
+     * 구간 응답의 텍스트 (반주만 있는 구간은 빈 문자열)
+     */
+    private String extractChunkText(String responseBody) {
+        try {
+            JsonNode rootNode = objectMapper.readTree(responseBody);
+            upstreamMetrics.recordTranscriptionSeconds(TRANSCRIPTION_MODEL, rootNode.path("duration").asDouble(0));
+            return rootNode.path("text").asText("").trim();
+        } catch (IOException e) {
+            throw new RuntimeException("음성 변환 결과를 파싱하는데 실패했습니다");
+        }
+    }
+
+    private long contentLength(Resource resource) {
+        try {
+            return resource.contentLength();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Whisper 요청용 파일명 (특수문자 제거)
+     */
+    private String sanitizeAudioFilename(MultipartFile audioFile) {
+        String originalName = audioFile.getOriginalFilename();
+        if (originalName != null) {
+            return originalName.replaceAll("[^a-zA-Z0-9._-]", "_");
+        }
+        return "audio.mp3";
+    }
+
     /**
      * Whisper API 응답에서 텍스트 추출 - 개선된 파싱
      */
@@ -337,6 +461,7 @@ public class PerfumeGptService {
             }
             if (rootNode.has("duration")) {
                 log.info("오디오 길이: {} 초", rootNode.path("duration").asDouble());
+                upstreamMetrics.recordTranscriptionSeconds(TRANSCRIPTION_MODEL, rootNode.path("duration").asDouble());
             }
             
             if (transcription == null || transcription.trim().isEmpty()) {
@@ -356,90 +481,10 @@ public class PerfumeGptService {
     }
 
     /**
-     * 가사 분석을 위한 개선된 프롬프트 생성
-     */
-    private String createLyricsAnalysisPrompt(String lyrics) {
-        return String.format("""
-            당신은 전문 음악 분석가이자 향수 제작 전문가입니다. 
-            다음 가사/음성을 분석하여 음악이 담고 있는 감정, 분위기를 파악하고,
-            이를 바탕으로 향수 제작에 필요한 상세한 분석을 JSON 형태로 제공해주세요.
-            
-            === 분석할 텍스트 ===
-            %s
-            ==================
-            
-            위 텍스트를 분석하여 다음 요소들을 파악해주세요:
-            1. 전체적인 감정과 무드 (예: 에너지틱, 차분함, 그리움, 희망 등)
-            2. 음악적 분위기 (예: 힙합, 발라드, 댄스 등의 장르적 특성)
-            3. 연상되는 이미지와 색감
-            4. 계절감이나 시간대
-            
-            다음 JSON 형태로 정확히 응답해주세요:
-            {
-                "type": "AUDIO",
-                "fileDescription": "음악이 전달하는 감정과 분위기를 2-3문장으로 설명",
-                "top": ["탑노트1", "탑노트2", "탑노트3"],
-                "middle": ["미들노트1", "미들노트2", "미들노트3"],
-                "base": ["베이스노트1", "베이스노트2", "베이스노트3"],
-                "interpretation": "향수의 전체적인 특징과 노트 조화를 설명하는 2-3문장 (100자 이내)",
-                "summary": "향수의 핵심 특징을 담은 짧은 문장",
-                "title": "향수 이름 : 부제목 형태 (25자 이내)"
-            }
-            
-            제약사항:
-            - JSON 형식을 정확히 지켜주세요
-            - 각 배열은 정확히 3개 항목만 포함
-            - 노트명: 각 4글자 이내 (예: 레몬, 장미, 바닐라)
-            - 실제 존재하는 향료명만 사용
-            
-            감정-향료 매핑 가이드:
-            - 에너지틱/힙합: 스파이시(후추, 계피), 시트러스(자몽, 라임)
-            - 그리움/감성: 우디(샌달우드, 시더), 플로럴(로즈, 자스민)
-            - 신선함: 유칼립투스, 민트, 베르가못
-            - 따뜻함: 바닐라, 앰버, 통카빈
-            - 신비로움: 패출리, 인센스, 오우드
-            """, lyrics);
-    }
-
-    /**
-     * 이미지 분석용 프롬프트
+     * GPT API 호출 (텍스트만, listener가 있으면 스트리밍)
      */
-    private String createImagePrompt() {
-        return """
-            당신은 전문 이미지 분석가이자 향수 제작 전문가입니다. 
-            이 이미지를 향수 제작 관점에서 분석하여 JSON으로 제공해주세요.
-            
-            다음 JSON 형태로 응답해주세요:
-            {
-                "type": "IMAGE",
-                "fileDescription": "이미지가 전달하는 감정과 분위기를 2-3문장으로 설명",
-                "top": ["탑노트1", "탑노트2", "탑노트3"],
-                "middle": ["미들노트1", "미들노트2", "미들노트3"],
-                "base": ["베이스노트1", "베이스노트2", "베이스노트3"],
-                "interpretation": "향수의 전체적인 특징과 노트 조화를 설명하는 2-3문장",
-                "summary": "향수의 핵심 특징을 담은 짧은 문장",
-                "title": "향수 이름 : 부제목 형태"
-            }
-            
-            제약사항:
-            - JSON 형식 정확히 준수
-            - 각 배열은 정확히 3개 항목
-            - title: 25자 이내
-            - 노트명: 각 4글자 이내
-            - interpretation: 100자 이내
-            - 실제 존재하는 향료명만 사용
-            """;
-    }
-
-    /**
-     * GPT API 호출 (텍스트만)
-     */
-    private String callGptApiWithText(String prompt) {
+    private String callGptApiWithText(String prompt, PartialJsonFieldParser.Listener listener) {
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
-
             Map<String, Object> requestBody = new HashMap<>();
             requestBody.put("model", "gpt-4o-mini");
             requestBody.put("max_tokens", 600);
@@ -451,15 +496,14 @@ public class PerfumeGptService {
                 )
             ));
 
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<String> response = restTemplate.postForEntity(apiUrl, entity, String.class);
-            
-            if (response.getStatusCode().is2xxSuccessful()) {
-                return extractContentFromApiResponse(response.getBody());
-            } else {
-                log.warn("GPT-4o-mini 분석 실패: {}", response.getStatusCode());
-                throw new RuntimeException("GPT 분석에 실패했습니다");
+            if (listener != null) {
+                requestBody.put("stream", true);
+                requestBody.put("stream_options", Map.of("include_usage", true)); // 마지막 조각에 토큰 사용량 포함
+                StreamedContent content = new StreamedContent(listener, "chat-text-stream");
+                openAiClient.streamChatCompletion(requestBody, content);
+                return content.text();
             }
+            return extractContentFromApiResponse(openAiClient.chatCompletion(requestBody), "chat-text");
             
         } catch (Exception e) {
             log.error("GPT API 호출 중 오류: ", e);
@@ -468,52 +512,30 @@ public class PerfumeGptService {
     }
 
     /**
-     * GPT API 호출 (이미지 포함)
+     * GPT API 호출 (이미지 포함, listener가 있으면 스트리밍)
      */
-    private String callGptApiWithImage(String prompt, MultipartFile file) {
+    private String callGptApiWithImage(String prompt, PreparedImage image, PartialJsonFieldParser.Listener listener) {
         try {
             // 이미지 파일 크기 검증
-            if (file.getSize() > 20 * 1024 * 1024) { // 20MB 제한
+            if (image.size() > 20 * 1024 * 1024) { // 20MB 제한
                 throw new RuntimeException("이미지 파일 크기가 너무 큽니다. 20MB 이하의 파일을 업로드해주세요.");
             }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
-
-            String base64File = java.util.Base64.getEncoder().encodeToString(file.getBytes());
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", "gpt-4o-mini");
-            requestBody.put("max_tokens", 600);
-            requestBody.put("temperature", 0.7);
-            requestBody.put("messages", List.of(
-                Map.of(
-                    "role", "user",
-                    "content", List.of(
-                        Map.of(
-                            "type", "text",
-                            "text", prompt
-                        ),
-                        Map.of(
-                            "type", "image_url",
-                            "image_url", Map.of(
-                                "url", "data:" + file.getContentType() + ";base64," + base64File
-                            )
-                        )
-                    )
-                )
-            ));
-
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<String> response = restTemplate.postForEntity(apiUrl, entity, String.class);
-            
-            if (response.getStatusCode().is2xxSuccessful()) {
-                return extractContentFromApiResponse(response.getBody());
-            } else {
-                log.warn("GPT-4o-mini 이미지 분석 실패: {}", response.getStatusCode());
-                throw new RuntimeException("이미지 분석에 실패했습니다");
+            // 이미지를 base64 문자열로 만들지 않고 요청 본문에 스트리밍으로 인코딩
+            VisionChatRequestBody requestBody = new VisionChatRequestBody(
+                    objectMapper, "gpt-4o-mini", 600, 0.7,
+                    prompt, image.contentType(), image.source(), image.size(), listener != null);
+
+            // 전처리 여부별 응답 시간을 기록하여 전처리 효과(지연 시간 차이) 확인
+            Timer visionTimer = image.preprocessed() ? visionPreprocessedTimer : visionOriginalTimer;
+            if (listener != null) {
+                StreamedContent content = new StreamedContent(listener, "chat-vision-stream");
+                visionTimer.record(() -> openAiClient.streamChatCompletion(requestBody, content));
+                return content.text();
             }
+            String apiResponse = visionTimer.record(() -> openAiClient.chatCompletion(requestBody));
+
+            return extractContentFromApiResponse(apiResponse, "chat-vision");
             
         } catch (Exception e) {
             log.error("GPT API 호출 중 오류: ", e);
@@ -522,11 +544,12 @@ public class PerfumeGptService {
     }
 
     /**
-     * GPT API 응답에서 content 추출
+     * GPT API 응답에서 content 추출 (usage는 토큰 사용량 지표로 기록)
      */
-    private String extractContentFromApiResponse(String apiResponse) {
+    private String extractContentFromApiResponse(String apiResponse, String operation) {
         try {
             JsonNode rootNode = objectMapper.readTree(apiResponse);
+            upstreamMetrics.recordTokenUsage(operation, rootNode);
             JsonNode choicesNode = rootNode.path("choices");
             
             if (choicesNode.isArray() && choicesNode.size() > 0) {
@@ -564,9 +587,9 @@ public class PerfumeGptService {
     }
 
     /**
-     * JSON 응답 유효성 검증
+     * JSON 응답 유효성 검증 후 DTO로 변환
      */
-    private void validateJsonResponse(String jsonResponse) {
+    private PerfumeDescriptionDto validateJsonResponse(String jsonResponse) {
         try {
             if (jsonResponse == null) {
                 throw new RuntimeException("JSON 응답이 null입니다");
@@ -591,6 +614,7 @@ public class PerfumeGptService {
                 }
             }
             
+            return objectMapper.treeToValue(jsonNode, PerfumeDescriptionDto.class);
         } catch (Exception e) {
             log.error("JSON 유효성 검증 실패: ", e);
             throw new RuntimeException("생성된 JSON이 유효하지 않습니다: " + e.getMessage());
@@ -600,11 +624,11 @@ public class PerfumeGptService {
     /**
      * Perfume 엔티티 생성
      */
-    public Perfume createPerfumeEntity(SourceType sourceType, String url, String description) {
+    public Perfume createPerfumeEntity(SourceType sourceType, String url, PerfumeDescriptionDto description) {
         Perfume perfume = new Perfume();
         perfume.setSourceType(sourceType);
         perfume.setUrl(url);
-        perfume.setDescription(description);
+        perfume.applyDescription(description);
         return perfume;
     }
 
@@ -640,4 +664,48 @@ public class PerfumeGptService {
                 """;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 생성된 설명 (다른 요청에 다시 전달할 원본 JSON과 변환된 DTO)
+     */
+    private record GeneratedDescription(String json, PerfumeDescriptionDto description) {
+    }
+
+    /**
+     * 스트리밍 응답의 delta.content를 모으면서 부분 JSON 파서로 전달 (마지막 조각의 usage는 지표로 기록)
+     */
+    private class StreamedContent implements Consumer<String> {
+
+        private final StringBuilder text = new StringBuilder();
+        private final PartialJsonFieldParser parser;
+        private final String operation;
+
+        StreamedContent(PartialJsonFieldParser.Listener listener, String operation) {
+            this.parser = new PartialJsonFieldParser(objectMapper, listener);
+            this.operation = operation;
+        }
+
+        @Override
+        public void accept(String event) {
+            try {
+                JsonNode rootNode = objectMapper.readTree(event);
+                upstreamMetrics.recordTokenUsage(operation, rootNode);
+                JsonNode choices = rootNode.path("choices");
+                if (!choices.isArray() || choices.isEmpty()) {
+                    return;
+                }
+                String delta = choices.get(0).path("delta").path("content").asText("");
+                if (!delta.isEmpty()) {
+                    text.append(delta);
+                    parser.feed(delta);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("GPT 스트리밍 응답 파싱에 실패했습니다");
+            }
+        }
+
+        String text() {
+            return text.toString();
+        }
+    }
+}
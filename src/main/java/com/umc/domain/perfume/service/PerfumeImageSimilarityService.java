@@ -0,0 +1,131 @@
+package com.umc.domain.perfume.service;
+
+import com.umc.domain.perfume.repository.PerfumeGenerationCacheRepository;
+import com.umc.domain.perfume.service.PerfumeGenerationCacheService.CachedGeneration;
+import com.umc.global.util.HammingIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 지각 해시(dHash) 기반 유사 이미지 검색
+ * - 재압축/리사이즈된 같은 이미지가 올라오면 이전 생성 결과를 재사용해 GPT 이미지 분석을 생략
+ * - 인덱스는 메모리에 두고, 시작 시 perfume_generation_cache 테이블에서 다시 적재
+ */
+@Service
+@Slf4j
+public class PerfumeImageSimilarityService {
+
+    private static final int LOAD_PAGE_SIZE = 10000;
+
+    private final PerfumeGenerationCacheRepository cacheRepository;
+    private final HammingIndex index = new HammingIndex();
+    private final boolean enabled;
+    private final int maxDistance;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public PerfumeImageSimilarityService(PerfumeGenerationCacheRepository cacheRepository,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${perfume.generation.similarity.enabled:true}") boolean enabled,
+                                         @Value("${perfume.generation.similarity.max-distance:5}") int maxDistance) {
+        if (maxDistance < 0 || maxDistance > HammingIndex.MAX_DISTANCE) {
+            throw new IllegalArgumentException("perfume.generation.similarity.max-distance는 0~"
+                    + HammingIndex.MAX_DISTANCE + " 사이여야 합니다: " + maxDistance);
+        }
+        this.cacheRepository = cacheRepository;
+        this.enabled = enabled;
+        this.maxDistance = maxDistance;
+
+        this.hitCounter = Counter.builder("perfume.generation.similarity")
+                .description("유사 이미지 검색 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("perfume.generation.similarity")
+                .description("유사 이미지 검색 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("perfume.generation.similarity.size", index, HammingIndex::size)
+                .description("유사 이미지 인덱스에 등록된 이미지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 후 저장된 지각 해시를 인덱스에 적재
+     * (적재 중 들어온 요청은 미적중으로 처리되어 GPT를 호출할 뿐 결과에는 영향 없음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        if (!enabled) {
+            return;
+        }
+
+        long lastId = 0L;
+        int loaded = 0;
+        try {
+            List<Object[]> page;
+            do {
+                page = cacheRepository.findPerceptualHashesAfter(lastId, PageRequest.of(0, LOAD_PAGE_SIZE));
+                for (Object[] row : page) {
+                    lastId = (Long) row[0];
+                    index.add(lastId, (Long) row[1]);
+                }
+                loaded += page.size();
+            } while (page.size() == LOAD_PAGE_SIZE);
+
+            log.info("유사 이미지 인덱스 적재 완료 - {}건", loaded);
+        } catch (Exception e) {
+            log.warn("유사 이미지 인덱스 적재 실패 ({}건까지 적재): {}", loaded, e.getMessage());
+        }
+    }
+
+    /**
+     * 허용 거리 이내의 가장 가까운 이미지 생성 결과 조회
+     */
+    public Optional<CachedGeneration> findSimilar(Long perceptualHash) {
+        if (!enabled || perceptualHash == null) {
+            return Optional.empty();
+        }
+
+        Optional<HammingIndex.Match> match = index.findNearest(perceptualHash, maxDistance);
+        if (match.isEmpty()) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        try {
+            Optional<CachedGeneration> similar = cacheRepository.findById(match.get().id())
+                    .map(entity -> new CachedGeneration(entity.getDescription(), entity.getTranscript()));
+            if (similar.isPresent()) {
+                log.info("유사 이미지 적중 - 캐시 ID: {}, 해밍 거리: {}", match.get().id(), match.get().distance());
+                hitCounter.increment();
+                return similar;
+            }
+        } catch (Exception e) {
+            log.warn("유사 이미지 결과 조회 실패 - 캐시 ID: {}, 오류: {}", match.get().id(), e.getMessage());
+        }
+
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 새로 저장된 이미지 생성 결과를 인덱스에 등록
+     */
+    public void register(Long cacheId, Long perceptualHash) {
+        if (!enabled || cacheId == null || perceptualHash == null) {
+            return;
+        }
+        index.add(cacheId, perceptualHash);
+    }
+}
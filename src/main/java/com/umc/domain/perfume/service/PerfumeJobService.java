@@ -0,0 +1,296 @@
+package com.umc.domain.perfume.service;
+
+import com.umc.domain.file.util.SpooledMultipartFile;
+import com.umc.domain.perfume.dto.PerfumeJobResponseDto;
+import com.umc.domain.perfume.dto.PerfumeResponseDto;
+import com.umc.domain.perfume.entity.PerfumeJob;
+import com.umc.domain.perfume.entity.PerfumeJobStatus;
+import com.umc.domain.perfume.entity.SourceType;
+import com.umc.domain.perfume.repository.PerfumeJobRepository;
+import com.umc.domain.user.entity.User;
+import com.umc.global.exception.BusinessException;
+import com.umc.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 향수 생성 비동기 작업 관리
+ * - 요청 스레드는 파일을 임시 저장하고 작업만 등록한 뒤 바로 반환
+ * - 실제 생성(GPT, 구글 드라이브 업로드)은 perfumeGenerationExecutor에서 수행
+ * - 작업은 등록한 서버의 executor에만 있으므로 작업에 인스턴스 ID(instance-id)를 기록하고,
+ *   재시작 전에 이 인스턴스가 끝내지 못한 작업(PENDING/RUNNING)만 시작 시 실패 처리 (다른 서버의 작업은 건드리지 않음)
+ * - instance-id는 재시작해도 같아야 하므로 비워 두면 호스트 이름을 사용
+ */
+@Service
+@Slf4j
+public class PerfumeJobService {
+
+    private static final String EVENT_NAME = "job";
+
+    private final PerfumeJobRepository perfumeJobRepository;
+    private final PerfumeService perfumeService;
+    private final PerfumeAdmissionService perfumeAdmissionService;
+    private final ThreadPoolTaskExecutor generationExecutor;
+    private final String instanceId;
+
+    // 작업 ID별 SSE 구독자
+    private final Map<Long, List<JobSubscription>> subscriptions = new ConcurrentHashMap<>();
+
+    // 이 시각 이전에 등록된 미완료 작업은 재시작으로 중단된 작업
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    @Value("${perfume.generation.sse-timeout-ms:120000}")
+    private long sseTimeoutMs;
+
+    public PerfumeJobService(PerfumeJobRepository perfumeJobRepository,
+                             PerfumeService perfumeService,
+                             PerfumeAdmissionService perfumeAdmissionService,
+                             @Qualifier("perfumeGenerationExecutor") ThreadPoolTaskExecutor generationExecutor,
+                             @Value("${perfume.generation.instance-id:}") String instanceId) {
+        this.perfumeJobRepository = perfumeJobRepository;
+        this.perfumeService = perfumeService;
+        this.perfumeAdmissionService = perfumeAdmissionService;
+        this.generationExecutor = generationExecutor;
+        this.instanceId = instanceId == null || instanceId.isBlank() ? hostName() : instanceId;
+        log.info("향수 생성 작업 인스턴스 ID: {}", this.instanceId);
+    }
+
+    /**
+     * 재시작으로 중단된 작업을 실패 처리 (클라이언트가 끝나지 않는 작업을 계속 조회하지 않도록 함)
+     * - 이 인스턴스가 등록한 작업만 대상이며, 이 서버가 뜬 뒤 등록된 작업은 건드리지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        try {
+            List<PerfumeJob> interrupted = perfumeJobRepository.findByOwnerInstanceAndStatusInAndCreatedAtBefore(
+                    instanceId, List.of(PerfumeJobStatus.PENDING, PerfumeJobStatus.RUNNING), startedAt);
+            if (interrupted.isEmpty()) {
+                return;
+            }
+            for (PerfumeJob job : interrupted) {
+                job.setStatus(PerfumeJobStatus.FAILED);
+                job.setErrorCode(ErrorCode.PERFUME_JOB_INTERRUPTED.getCode());
+                job.setErrorMessage(ErrorCode.PERFUME_JOB_INTERRUPTED.getMessage());
+            }
+            perfumeJobRepository.saveAll(interrupted);
+            log.info("재시작으로 중단된 향수 생성 작업 실패 처리 - {}건 (인스턴스: {})", interrupted.size(), instanceId);
+        } catch (Exception e) {
+            log.warn("중단된 향수 생성 작업 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 향수 생성 작업 등록
+     */
+    public PerfumeJobResponseDto submit(SourceType sourceType, MultipartFile file, User user) {
+        // 잘못된 요청은 작업 등록 전에 바로 거절
+        perfumeService.validateCreateRequest(sourceType, file);
+
+        // 요청 한도 확인 (허용되면 작업이 끝날 때까지 동시 생성 수에 포함)
+        PerfumeAdmissionService.Permit permit = perfumeAdmissionService.admit(user.getId());
+        try {
+            return enqueue(sourceType, file, user, permit);
+        } catch (RuntimeException e) {
+            permit.close();
+            throw e;
+        }
+    }
+
+    private PerfumeJobResponseDto enqueue(SourceType sourceType, MultipartFile file, User user,
+                                          PerfumeAdmissionService.Permit permit) {
+        SpooledMultipartFile spooledFile;
+        try {
+            spooledFile = SpooledMultipartFile.spool(file);
+        } catch (IOException e) {
+            log.error("업로드 파일 임시 저장 실패: ", e);
+            throw new BusinessException(ErrorCode.PERFUME_CREATION_FAILED);
+        }
+
+        PerfumeJob job = perfumeJobRepository.save(PerfumeJob.builder()
+                .userId(user.getId())
+                .sourceType(sourceType)
+                .status(PerfumeJobStatus.PENDING)
+                .ownerInstance(instanceId)
+                .build());
+        Long jobId = job.getId();
+
+        try {
+            generationExecutor.execute(() -> runJob(jobId, sourceType, spooledFile, user, permit));
+        } catch (TaskRejectedException e) {
+            log.warn("향수 생성 작업 큐가 가득 찼습니다 - 작업 ID: {}", jobId);
+            spooledFile.delete();
+            finishJob(jobId, PerfumeJobStatus.FAILED, null, null, ErrorCode.PERFUME_JOB_QUEUE_FULL);
+            throw new BusinessException(ErrorCode.PERFUME_JOB_QUEUE_FULL);
+        }
+
+        log.info("향수 생성 작업 등록 - 작업 ID: {}, 사용자 ID: {}, 타입: {}", jobId, user.getId(), sourceType);
+        return PerfumeJobResponseDto.from(job);
+    }
+
+    /**
+     * 작업 상태 조회 (본인 작업만 조회 가능)
+     */
+    public PerfumeJobResponseDto getJob(Long jobId, User user) {
+        return PerfumeJobResponseDto.from(findOwnedJob(jobId, user));
+    }
+
+    /**
+     * 작업 완료 이벤트 구독 (SSE)
+     */
+    public SseEmitter subscribe(Long jobId, User user) {
+        findOwnedJob(jobId, user);
+
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        JobSubscription subscription = new JobSubscription(emitter);
+        subscriptions.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>()).add(subscription);
+        emitter.onCompletion(() -> removeSubscription(jobId, subscription));
+        emitter.onTimeout(() -> removeSubscription(jobId, subscription));
+        emitter.onError(e -> removeSubscription(jobId, subscription));
+
+        // 등록 직후 이미 끝난 작업이면 바로 결과 전송 (완료 알림과의 경합 방지)
+        PerfumeJob job = perfumeJobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PERFUME_JOB_NOT_FOUND));
+        if (job.getStatus().isTerminal()) {
+            removeSubscription(jobId, subscription);
+            subscription.sendAndComplete(PerfumeJobResponseDto.from(job));
+        } else {
+            subscription.send(PerfumeJobResponseDto.from(job));
+        }
+
+        return emitter;
+    }
+
+    /**
+     * 백그라운드에서 향수 생성 실행
+     */
+    private void runJob(Long jobId, SourceType sourceType, SpooledMultipartFile file, User user,
+                        PerfumeAdmissionService.Permit permit) {
+        try {
+            updateStatus(jobId, PerfumeJobStatus.RUNNING);
+            PerfumeResponseDto perfume = perfumeService.createPerfume(sourceType, file, user);
+            finishJob(jobId, PerfumeJobStatus.COMPLETED, perfume.getId(), perfume, null);
+            log.info("향수 생성 작업 완료 - 작업 ID: {}, 향수 ID: {}", jobId, perfume.getId());
+        } catch (BusinessException e) {
+            log.warn("향수 생성 작업 실패 - 작업 ID: {}, 오류: {}", jobId, e.getErrorCode());
+            finishJob(jobId, PerfumeJobStatus.FAILED, null, null, e.getErrorCode());
+        } catch (Exception e) {
+            log.error("향수 생성 작업 중 오류 발생 - 작업 ID: {}", jobId, e);
+            finishJob(jobId, PerfumeJobStatus.FAILED, null, null, ErrorCode.PERFUME_CREATION_FAILED);
+        } finally {
+            file.delete();
+            permit.close();
+        }
+    }
+
+    private void updateStatus(Long jobId, PerfumeJobStatus status) {
+        PerfumeJob job = perfumeJobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PERFUME_JOB_NOT_FOUND));
+        job.setStatus(status);
+        perfumeJobRepository.save(job);
+    }
+
+    /**
+     * 작업 종료 상태 저장 후 구독자에게 알림
+     */
+    private void finishJob(Long jobId, PerfumeJobStatus status, Long perfumeId,
+                           PerfumeResponseDto perfume, ErrorCode errorCode) {
+        PerfumeJob job = perfumeJobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PERFUME_JOB_NOT_FOUND));
+        job.setStatus(status);
+        job.setPerfumeId(perfumeId);
+        if (errorCode != null) {
+            job.setErrorCode(errorCode.getCode());
+            job.setErrorMessage(errorCode.getMessage());
+        }
+        PerfumeJob savedJob = perfumeJobRepository.save(job);
+
+        List<JobSubscription> subscribers = subscriptions.remove(jobId);
+        if (subscribers != null) {
+            PerfumeJobResponseDto event = PerfumeJobResponseDto.from(savedJob, perfume);
+            subscribers.forEach(subscription -> subscription.sendAndComplete(event));
+        }
+    }
+
+    private PerfumeJob findOwnedJob(Long jobId, User user) {
+        if (jobId == null || jobId <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        PerfumeJob job = perfumeJobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PERFUME_JOB_NOT_FOUND));
+
+        if (!job.getUserId().equals(user.getId())) {
+            throw new BusinessException(ErrorCode.PERFUME_ACCESS_DENIED);
+        }
+        return job;
+    }
+
+    private void removeSubscription(Long jobId, JobSubscription subscription) {
+        subscriptions.computeIfPresent(jobId, (id, list) -> {
+            list.remove(subscription);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            log.warn("호스트 이름을 알 수 없어 기본 인스턴스 ID를 사용합니다: {}", e.getMessage());
+            return "local";
+        }
+    }
+
+    /**
+     * SSE 구독자 (완료 이벤트가 중복 전송되지 않도록 한 번만 종료)
+     */
+    private static class JobSubscription {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean completed = new AtomicBoolean(false);
+
+        JobSubscription(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void send(PerfumeJobResponseDto event) {
+            if (completed.get()) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(EVENT_NAME).data(event));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 전송 실패 (구독 종료): {}", e.getMessage());
+            }
+        }
+
+        void sendAndComplete(PerfumeJobResponseDto event) {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(EVENT_NAME).data(event));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 전송 실패 (구독 종료): {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.umc.domain.perfume.service;
 
+import com.umc.domain.file.dto.FileUploadResponse;
 import com.umc.domain.perfume.dto.PerfumeResponseDto;
 import com.umc.domain.perfume.entity.Perfume;
 import com.umc.domain.perfume.entity.SourceType;
@@ -8,69 +9,73 @@ import com.umc.domain.user.entity.User;
 import com.umc.domain.user.repository.UserRepository;
 import com.umc.global.exception.BusinessException;
 import com.umc.global.exception.ErrorCode;
+import com.umc.global.util.PartialJsonFieldParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class PerfumeService {
 
     private final PerfumeRepository perfumeRepository;
     private final PerfumeGptService perfumeGptService;
     private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    @Qualifier("upstreamExecutor")
+    private final Executor upstreamExecutor;
 
     /**
      * 향수 생성
+     * - 외부 API(GPT, 구글 드라이브) 호출 중에는 트랜잭션을 열지 않아 DB 커넥션을 점유하지 않음
+     * - GPT 분석과 구글 드라이브 업로드는 서로 독립적이므로 동시에 실행 후 합류
+     * - DB 작업은 마지막에 한 번의 짧은 트랜잭션에서만 수행
      */
     public PerfumeResponseDto createPerfume(SourceType sourceType, MultipartFile file, User user) {
+        return createPerfume(sourceType, file, user, null);
+    }
+
+    /**
+     * 향수 생성 (listener가 있으면 GPT 응답을 필드 단위로 먼저 전달)
+     */
+    public PerfumeResponseDto createPerfume(SourceType sourceType, MultipartFile file, User user,
+                                            PartialJsonFieldParser.Listener listener) {
         try {
             // 0. sourceType 검증
             validateSourceType(sourceType);
             
-            // 1. 사용자 존재 확인 (Foreign Key 제약 조건 해결)
-            User existingUser = userRepository.findById(user.getId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-            
-            // 2. 파일 유효성 검증
-            validateFile(file, sourceType);
-            
-            // 3. GPT를 통한 향수 정보 생성 (임시 URL 사용)
-            String tempUrl = "/temp/" + UUID.randomUUID().toString();
-            Perfume perfume = perfumeGptService.generatePerfume(sourceType, tempUrl, file);
-            
-            // 4. 검증된 사용자 정보 설정
-            perfume.setUser(existingUser);
+            // 1~6. 사용자 확인, 파일 검증, 업로드와 GPT 생성 - 트랜잭션 밖
+            PreparedPerfume prepared = preparePerfume(sourceType, file, user, listener);
             
-            // 5. 데이터베이스에 저장 (ID 생성을 위해)
-            Perfume savedPerfume = perfumeRepository.save(perfume);
-            
-            // 6. 파일을 구글 드라이브에 업로드하고 URL 업데이트
+            // 7. 데이터베이스에 한 번만 저장 및 응답 DTO 생성 - 짧은 쓰기 트랜잭션
+            PerfumeResponseDto dto;
             try {
-                perfumeGptService.uploadFileAndUpdateUrl(savedPerfume, file);
-                log.info("파일 업로드 및 URL 업데이트 완료 - 향수 ID: {}", savedPerfume.getId());
-            } catch (Exception e) {
-                log.error("파일 업로드 실패 - 향수 ID: {}, 오류: {}", savedPerfume.getId(), e.getMessage());
-                // 파일 업로드 실패해도 향수는 생성됨 (임시 URL 유지)
+                dto = transactionTemplate.execute(status ->
+                        PerfumeResponseDto.from(perfumeRepository.save(prepared.perfume())));
+            } catch (RuntimeException e) {
+                discard(prepared);
+                throw e;
             }
             
-            // 7. 업데이트된 URL로 데이터베이스 저장
-            savedPerfume = perfumeRepository.save(savedPerfume);
-            
             log.info("향수 생성 완료 - ID: {}, 사용자: {}, 타입: {}", 
-                    savedPerfume.getId(), existingUser.getNickname(), sourceType);
+                    dto.getId(), user.getNickname(), sourceType);
             
-            // 8. 응답 DTO 생성 및 반환 (sourceType을 클라이언트용으로 변환)
-            PerfumeResponseDto dto = PerfumeResponseDto.from(savedPerfume);
-            return dto.withClientSourceType(convertToClientSourceType(savedPerfume.getSourceType()));
+            // 8. sourceType을 클라이언트용으로 변환하여 반환
+            return dto.withClientSourceType(convertToClientSourceType(dto.getSourceType()));
             
         } catch (BusinessException e) {
             throw e; // BusinessException은 그대로 전파
@@ -80,6 +85,108 @@ public class PerfumeService {
         }
     }
 
+    /**
+     * 저장 직전까지 향수 준비 (사용자 확인, 파일 검증, 업로드와 GPT 생성) - 트랜잭션 밖
+     */
+    PreparedPerfume preparePerfume(SourceType sourceType, MultipartFile file, User user,
+                                   PartialJsonFieldParser.Listener listener) {
+        // 1. 사용자 존재 확인 (Foreign Key 제약 조건 해결) - 짧은 읽기 트랜잭션
+        User existingUser = userRepository.findById(user.getId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        
+        // 2. 파일 유효성 검증
+        validateFile(file, sourceType);
+        
+        // 3. 구글 드라이브 업로드 시작 (폴더는 사용자별로 재사용하여 폴더 캐시가 적중하도록 함) - 트랜잭션 밖
+        String stagingKey = UUID.randomUUID().toString();
+        String folderKey = "user-" + existingUser.getId();
+        CompletableFuture<FileUploadResponse> uploadFuture = CompletableFuture.supplyAsync(() -> {
+            try {
+                return perfumeGptService.uploadFile(folderKey, file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, upstreamExecutor);
+        
+        // 4. 업로드와 동시에 GPT를 통한 향수 정보 생성 (임시 URL 사용) - 트랜잭션 밖
+        Perfume perfume;
+        try {
+            perfume = listener == null
+                    ? perfumeGptService.generatePerfume(sourceType, "/temp/" + stagingKey, file)
+                    : perfumeGptService.generatePerfume(sourceType, "/temp/" + stagingKey, file, listener);
+        } catch (RuntimeException e) {
+            discardUpload(uploadFuture);
+            throw e;
+        }
+        
+        // 5. 업로드 결과 합류 (업로드 실패해도 향수는 생성됨 - 임시 URL 유지)
+        FileUploadResponse uploadResponse = awaitUpload(uploadFuture, stagingKey);
+        if (uploadResponse != null) {
+            perfume.setUrl(uploadResponse.getPublicUrl());
+        }
+        
+        // 6. 검증된 사용자 정보 설정
+        perfume.setUser(existingUser);
+        
+        return new PreparedPerfume(perfume, uploadResponse != null ? uploadResponse.getFileId() : null);
+    }
+
+    /**
+     * 준비된 향수 여러 개를 한 번의 쓰기 트랜잭션으로 저장 (실패 시 모두 롤백하고 업로드 파일 정리)
+     */
+    List<PerfumeResponseDto> saveAll(List<PreparedPerfume> prepared) {
+        try {
+            return transactionTemplate.execute(status -> perfumeRepository
+                    .saveAll(prepared.stream().map(PreparedPerfume::perfume).toList())
+                    .stream()
+                    .map(perfume -> PerfumeResponseDto.from(perfume)
+                            .withClientSourceType(convertToClientSourceType(perfume.getSourceType())))
+                    .toList());
+        } catch (RuntimeException e) {
+            prepared.forEach(this::discard);
+            throw e;
+        }
+    }
+
+    /**
+     * 저장하지 못한 향수의 업로드 파일 정리
+     */
+    private void discard(PreparedPerfume prepared) {
+        if (prepared.uploadedFileId() != null) {
+            perfumeGptService.deleteUploadedFile(prepared.uploadedFileId());
+        }
+    }
+
+    /**
+     * 구글 드라이브 업로드 완료 대기 (실패 시 null)
+     */
+    private FileUploadResponse awaitUpload(CompletableFuture<FileUploadResponse> uploadFuture, String stagingKey) {
+        try {
+            FileUploadResponse uploadResponse = uploadFuture.join();
+            log.info("파일 업로드 및 URL 업데이트 완료 - 스테이징 키: {}", stagingKey);
+            return uploadResponse;
+        } catch (CompletionException e) {
+            log.error("파일 업로드 실패 - 스테이징 키: {}, 오류: {}", stagingKey, e.getCause().getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 향수 생성이 실패한 경우 업로드가 끝나는 대로 파일 정리
+     */
+    private void discardUpload(CompletableFuture<FileUploadResponse> uploadFuture) {
+        uploadFuture.thenAccept(uploadResponse ->
+                perfumeGptService.deleteUploadedFile(uploadResponse.getFileId()));
+    }
+
+    /**
+     * 향수 생성 요청 검증 (비동기 작업 등록 시 요청 스레드에서 먼저 검증)
+     */
+    public void validateCreateRequest(SourceType sourceType, MultipartFile file) {
+        validateSourceType(sourceType);
+        validateFile(file, sourceType);
+    }
+
     /**
      * 파일 유효성 검증
      */
@@ -179,6 +286,7 @@ public class PerfumeService {
     /**
      * 향수 삭제 (본인이 생성한 향수만 삭제 가능)
      */
+    @Transactional
     public void deletePerfume(Long id, User user) {
         if (id == null || id <= 0) {
             throw new BusinessException(ErrorCode.PERFUME_INVALID_INPUT_VALUE);
@@ -233,12 +341,12 @@ public class PerfumeService {
      * DB용 SourceType을 클라이언트용으로 변환
      */
     private SourceType convertToClientSourceType(SourceType dbSourceType) {
-        return switch (dbSourceType) {
-            case RECOMMEND_AUDIO -> SourceType.AUDIO;
-            case RECOMMEND_IMAGE -> SourceType.IMAGE;
-            default -> dbSourceType;
-        };
+        return dbSourceType.toClientType();
     }
 
-
-}
\ No newline at end of file
+    /**
+     * 저장 전 향수와 업로드된 파일 ID (업로드 실패 시 null)
+     */
+    record PreparedPerfume(Perfume perfume, String uploadedFileId) {
+    }
+}
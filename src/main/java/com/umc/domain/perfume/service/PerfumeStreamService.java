@@ -0,0 +1,192 @@
+package com.umc.domain.perfume.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.umc.domain.file.util.SpooledMultipartFile;
+import com.umc.domain.perfume.dto.PerfumeResponseDto;
+import com.umc.domain.perfume.dto.PerfumeStreamEventDto;
+import com.umc.domain.perfume.entity.SourceType;
+import com.umc.domain.user.entity.User;
+import com.umc.global.exception.BusinessException;
+import com.umc.global.exception.ErrorCode;
+import com.umc.global.util.PartialJsonFieldParser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 향수 스트리밍 생성
+ * - GPT 응답을 stream=true로 받아 부분 JSON에서 필드가 채워지는 대로 SSE로 전달
+ * - 생성/저장은 기존 향수 생성과 동일하게 perfumeGenerationExecutor에서 수행하고 마지막에 complete 이벤트 전송
+ * - 클라이언트가 연결을 끊어도 생성은 끝까지 진행되어 저장됨
+ */
+@Service
+@Slf4j
+public class PerfumeStreamService {
+
+    private static final String DELTA_EVENT = "delta";
+    private static final String ITEM_EVENT = "item";
+    private static final String FIELD_EVENT = "field";
+    private static final String COMPLETE_EVENT = "complete";
+    private static final String ERROR_EVENT = "error";
+
+    private final PerfumeService perfumeService;
+    private final PerfumeAdmissionService perfumeAdmissionService;
+    private final ThreadPoolTaskExecutor generationExecutor;
+    private final Timer firstEventTimer;
+
+    @Value("${perfume.generation.sse-timeout-ms:120000}")
+    private long sseTimeoutMs;
+
+    public PerfumeStreamService(PerfumeService perfumeService,
+                                PerfumeAdmissionService perfumeAdmissionService,
+                                @Qualifier("perfumeGenerationExecutor") ThreadPoolTaskExecutor generationExecutor,
+                                MeterRegistry meterRegistry) {
+        this.perfumeService = perfumeService;
+        this.perfumeAdmissionService = perfumeAdmissionService;
+        this.generationExecutor = generationExecutor;
+        this.firstEventTimer = Timer.builder("perfume.generation.stream.first-event")
+                .description("스트리밍 생성 요청부터 첫 필드 이벤트까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스트리밍 생성 시작
+     */
+    public SseEmitter stream(SourceType sourceType, MultipartFile file, User user) {
+        perfumeService.validateCreateRequest(sourceType, file);
+
+        // 요청 한도 확인 (허용되면 생성이 끝날 때까지 동시 생성 수에 포함)
+        PerfumeAdmissionService.Permit permit = perfumeAdmissionService.admit(user.getId());
+        try {
+            return start(sourceType, file, user, permit);
+        } catch (RuntimeException e) {
+            permit.close();
+            throw e;
+        }
+    }
+
+    private SseEmitter start(SourceType sourceType, MultipartFile file, User user,
+                             PerfumeAdmissionService.Permit permit) {
+        SpooledMultipartFile spooledFile;
+        try {
+            spooledFile = SpooledMultipartFile.spool(file);
+        } catch (IOException e) {
+            log.error("업로드 파일 임시 저장 실패: ", e);
+            throw new BusinessException(ErrorCode.PERFUME_CREATION_FAILED);
+        }
+
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        StreamSubscription subscription = new StreamSubscription(emitter, System.nanoTime());
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+
+        try {
+            generationExecutor.execute(() -> run(sourceType, spooledFile, user, subscription, permit));
+        } catch (TaskRejectedException e) {
+            log.warn("향수 생성 작업 큐가 가득 찼습니다 (스트리밍)");
+            spooledFile.delete();
+            throw new BusinessException(ErrorCode.PERFUME_JOB_QUEUE_FULL);
+        }
+        return emitter;
+    }
+
+    private void run(SourceType sourceType, SpooledMultipartFile file, User user, StreamSubscription subscription,
+                     PerfumeAdmissionService.Permit permit) {
+        try {
+            PerfumeResponseDto perfume = perfumeService.createPerfume(sourceType, file, user, subscription);
+            subscription.complete(perfume);
+            log.info("향수 스트리밍 생성 완료 - 향수 ID: {}", perfume.getId());
+        } catch (BusinessException e) {
+            log.warn("향수 스트리밍 생성 실패 - 오류: {}", e.getErrorCode());
+            subscription.fail(e.getErrorCode());
+        } catch (Exception e) {
+            log.error("향수 스트리밍 생성 중 오류 발생: ", e);
+            subscription.fail(ErrorCode.PERFUME_CREATION_FAILED);
+        } finally {
+            file.delete();
+            permit.close();
+        }
+    }
+
+    /**
+     * 파서 이벤트를 SSE로 전달 (연결이 끊긴 뒤에는 전송하지 않음)
+     */
+    private class StreamSubscription implements PartialJsonFieldParser.Listener {
+
+        private final SseEmitter emitter;
+        private final long startedAt;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private final AtomicBoolean firstEventSent = new AtomicBoolean(false);
+
+        StreamSubscription(SseEmitter emitter, long startedAt) {
+            this.emitter = emitter;
+            this.startedAt = startedAt;
+        }
+
+        @Override
+        public void onTextDelta(String field, String delta) {
+            send(DELTA_EVENT, PerfumeStreamEventDto.builder().field(field).text(delta).build());
+        }
+
+        @Override
+        public void onArrayItem(String field, int index, String value) {
+            send(ITEM_EVENT, PerfumeStreamEventDto.builder().field(field).index(index).value(TextNode.valueOf(value)).build());
+        }
+
+        @Override
+        public void onFieldComplete(String field, JsonNode value) {
+            send(FIELD_EVENT, PerfumeStreamEventDto.builder().field(field).value(value).build());
+        }
+
+        void complete(PerfumeResponseDto perfume) {
+            send(COMPLETE_EVENT, perfume);
+            finish();
+        }
+
+        void fail(ErrorCode errorCode) {
+            send(ERROR_EVENT, PerfumeStreamEventDto.builder()
+                    .errorCode(errorCode.getCode())
+                    .errorMessage(errorCode.getMessage())
+                    .build());
+            finish();
+        }
+
+        void close() {
+            closed.set(true);
+        }
+
+        private void send(String eventName, Object data) {
+            if (closed.get()) {
+                return;
+            }
+            if (firstEventSent.compareAndSet(false, true)) {
+                firstEventTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+            try {
+                emitter.send(SseEmitter.event().name(eventName).data(data));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 전송 실패 (구독 종료): {}", e.getMessage());
+                closed.set(true);
+            }
+        }
+
+        private void finish() {
+            if (closed.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+        }
+    }
+}
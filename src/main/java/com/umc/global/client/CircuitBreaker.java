@@ -0,0 +1,86 @@
+package com.umc.global.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 API 장애 시 호출을 빠르게 차단하기 위한 서킷 브레이커
+ * - CLOSED: 정상 호출, 연속 실패가 failureThreshold에 도달하면 OPEN
+ * - OPEN: openDurationMs 동안 호출 없이 즉시 실패
+ * - HALF_OPEN: 시험 호출 1건만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationMs;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, long openDurationMs) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+    }
+
+    /**
+     * 호출 가능 여부 확인 (OPEN이면 false)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openDurationMs) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+            log.info("서킷 브레이커 HALF_OPEN 전환 - {}", name);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                return false;
+            }
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("서킷 브레이커 CLOSED 전환 - {}", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("서킷 브레이커 OPEN 전환 - {} (연속 실패 {}회)", name, consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            probeInFlight = false;
+        }
+    }
+
+    /**
+     * 결과와 무관한 호출 종료 (HALF_OPEN 시험 호출 슬롯 반환)
+     */
+    public synchronized void onIgnored() {
+        probeInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
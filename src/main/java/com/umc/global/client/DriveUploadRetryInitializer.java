@@ -0,0 +1,80 @@
+package com.umc.global.client;
+
+import com.google.api.client.http.HttpBackOffIOExceptionHandler;
+import com.google.api.client.http.HttpBackOffUnsuccessfulResponseHandler;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpUnsuccessfulResponseHandler;
+import com.google.api.client.util.ExponentialBackOff;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+
+/**
+ * 구글 드라이브 업로드 요청(/upload/...)의 일시 오류 재시도 설정
+ * - 연결 끊김/타임아웃(IOException), 429, 5xx는 지수 백오프 후 재시도
+ * - 재개 가능 업로드에서는 클라이언트 라이브러리(MediaHttpUploader)가 재시도 전에 업로드 상태를 조회하여
+ *   서버가 받았다고 응답한 위치부터 이어서 전송 (처음부터 다시 보내지 않음)
+ * - 폴더 생성 등 다른 요청은 중복 생성될 수 있으므로 재시도하지 않음
+ * - 기존 초기화(인증 토큰 갱신용 401 처리)는 그대로 먼저 적용
+ */
+@Slf4j
+public class DriveUploadRetryInitializer implements HttpRequestInitializer {
+
+    private static final String UPLOAD_PATH_PREFIX = "/upload/";
+
+    private final HttpRequestInitializer delegate;
+    private final int maxRetries;
+    private final int initialBackoffMs;
+    private final int maxBackoffMs;
+
+    public DriveUploadRetryInitializer(HttpRequestInitializer delegate, int maxRetries,
+                                       int initialBackoffMs, int maxBackoffMs) {
+        this.delegate = delegate;
+        this.maxRetries = maxRetries;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    @Override
+    public void initialize(HttpRequest request) throws IOException {
+        if (delegate != null) {
+            delegate.initialize(request);
+        }
+        if (request.getUrl() == null || !request.getUrl().getRawPath().startsWith(UPLOAD_PATH_PREFIX)) {
+            return;
+        }
+
+        request.setNumberOfRetries(maxRetries);
+        HttpBackOffIOExceptionHandler ioExceptionHandler = new HttpBackOffIOExceptionHandler(newBackOff());
+        request.setIOExceptionHandler((failedRequest, supportsRetry) -> {
+            boolean retry = ioExceptionHandler.handleIOException(failedRequest, supportsRetry);
+            if (retry) {
+                log.warn("드라이브 업로드 연결 오류, 업로드 위치 확인 후 재시도합니다");
+            }
+            return retry;
+        });
+
+        HttpUnsuccessfulResponseHandler credentialHandler = request.getUnsuccessfulResponseHandler();
+        HttpBackOffUnsuccessfulResponseHandler backOffHandler = new HttpBackOffUnsuccessfulResponseHandler(newBackOff())
+                .setBackOffRequired(response -> response.getStatusCode() == 429 || response.getStatusCode() / 100 == 5);
+        request.setUnsuccessfulResponseHandler((failedRequest, response, supportsRetry) -> {
+            if (credentialHandler != null && credentialHandler.handleResponse(failedRequest, response, supportsRetry)) {
+                return true;
+            }
+            boolean retry = backOffHandler.handleResponse(failedRequest, response, supportsRetry);
+            if (retry) {
+                log.warn("드라이브 업로드 응답 {}, 업로드 위치 확인 후 재시도합니다", response.getStatusCode());
+            }
+            return retry;
+        });
+    }
+
+    private ExponentialBackOff newBackOff() {
+        return new ExponentialBackOff.Builder()
+                .setInitialIntervalMillis(initialBackoffMs)
+                .setMaxIntervalMillis(maxBackoffMs)
+                .setMaxElapsedTimeMillis(Math.max(maxBackoffMs, 1) * Math.max(maxRetries, 1))
+                .build();
+    }
+}
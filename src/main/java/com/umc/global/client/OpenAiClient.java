@@ -0,0 +1,291 @@
+package com.umc.global.client;
+
+import com.umc.global.metrics.UpstreamMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * OpenAI API 호출 클라이언트
+ * - 429/5xx 응답과 연결/응답 타임아웃은 지수 백오프(full jitter)로 재시도
+ * - 재시도 후에도 실패가 이어지면 서킷 브레이커가 열려 일정 시간 동안 즉시 실패
+ * - 스트리밍 호출은 첫 이벤트를 전달한 뒤에는 중복 전달을 막기 위해 재시도하지 않음
+ * - 호출마다 작업(chat-text, chat-vision, transcription 등)별 소요 시간과 결과를 UpstreamMetrics에 기록
+ * - openai.client.hedge.enabled면 텍스트 분석(chat-text) 호출은 RequestHedger로 헤징 (스트리밍은 중복 전달 때문에 제외)
+ */
+@Component
+@Slf4j
+public class OpenAiClient {
+
+    private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final UpstreamMetrics upstreamMetrics;
+    private final RequestHedger textHedger;
+
+    @Value("${openai.api.key}")
+    private String apiKey;
+
+    @Value("${openai.api.url:https://api.openai.com/v1/chat/completions}")
+    private String chatUrl;
+
+    @Value("${openai.transcription.url:https://api.openai.com/v1/audio/transcriptions}")
+    private String transcriptionUrl;
+
+    @Value("${openai.client.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${openai.client.backoff-base-ms:500}")
+    private long backoffBaseMs;
+
+    @Value("${openai.client.backoff-max-ms:8000}")
+    private long backoffMaxMs;
+
+    public OpenAiClient(@Qualifier("openAiRestTemplate") RestTemplate restTemplate,
+                        UpstreamMetrics upstreamMetrics,
+                        @Value("${openai.client.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                        @Value("${openai.client.circuit-breaker.open-duration-ms:30000}") long openDurationMs,
+                        @Qualifier("openAiHedgeExecutor") Executor hedgeExecutor,
+                        MeterRegistry meterRegistry,
+                        @Value("${openai.client.hedge.enabled:false}") boolean hedgeEnabled,
+                        @Value("${openai.client.hedge.percentile:0.95}") double hedgePercentile,
+                        @Value("${openai.client.hedge.min-delay-ms:1000}") long hedgeMinDelayMs,
+                        @Value("${openai.client.hedge.budget-percent:5}") double hedgeBudgetPercent) {
+        this.restTemplate = restTemplate;
+        this.circuitBreaker = new CircuitBreaker("openai", failureThreshold, openDurationMs);
+        this.upstreamMetrics = upstreamMetrics;
+        this.textHedger = hedgeEnabled
+                ? new RequestHedger(UpstreamMetrics.OPENAI, "chat-text", hedgeExecutor, meterRegistry,
+                        hedgePercentile, hedgeMinDelayMs, hedgeBudgetPercent)
+                : null;
+    }
+
+    /**
+     * Chat Completions API 호출 후 응답 본문 반환
+     */
+    public String chatCompletion(Object requestBody) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(apiKey);
+        HttpEntity<Object> entity = new HttpEntity<>(requestBody, headers);
+        Supplier<String> call = () -> restTemplate.postForEntity(chatUrl, entity, String.class).getBody();
+        if (textHedger == null) {
+            return execute("chat-text", call);
+        }
+        // 재시도를 포함한 호출 전체를 헤징 단위로 사용
+        return upstreamMetrics.record(UpstreamMetrics.OPENAI, "chat-text",
+                () -> textHedger.execute(() -> executeWithRetry("chat-text", call, () -> true)));
+    }
+
+    /**
+     * Chat Completions API 호출 (요청 본문을 메모리에 만들지 않고 소켓으로 바로 스트리밍)
+     */
+    public String chatCompletion(VisionChatRequestBody requestBody) {
+        RequestCallback requestCallback = request -> {
+            HttpHeaders headers = request.getHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setBearerAuth(apiKey);
+            headers.setContentLength(requestBody.contentLength());
+            if (request instanceof StreamingHttpOutputMessage streamingRequest) {
+                streamingRequest.setBody(requestBody);
+            } else {
+                requestBody.writeTo(request.getBody());
+            }
+        };
+        ResponseExtractor<String> responseExtractor =
+                response -> StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+
+        return execute("chat-vision",
+                () -> restTemplate.execute(chatUrl, HttpMethod.POST, requestCallback, responseExtractor));
+    }
+
+    /**
+     * Chat Completions API 스트리밍 호출 (요청 본문에 "stream": true 필요)
+     * - SSE 응답의 data 값(JSON 조각)을 도착하는 대로 onEvent에 전달하고, [DONE]에서 종료
+     */
+    public void streamChatCompletion(Object requestBody, Consumer<String> onEvent) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(apiKey);
+        RequestCallback requestCallback = restTemplate.httpEntityCallback(new HttpEntity<>(requestBody, headers));
+        stream("chat-text-stream", requestCallback, onEvent);
+    }
+
+    /**
+     * 이미지 포함 Chat Completions API 스트리밍 호출 (VisionChatRequestBody는 stream 옵션으로 생성)
+     */
+    public void streamChatCompletion(VisionChatRequestBody requestBody, Consumer<String> onEvent) {
+        RequestCallback requestCallback = request -> {
+            HttpHeaders headers = request.getHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setBearerAuth(apiKey);
+            headers.setContentLength(requestBody.contentLength());
+            if (request instanceof StreamingHttpOutputMessage streamingRequest) {
+                streamingRequest.setBody(requestBody);
+            } else {
+                requestBody.writeTo(request.getBody());
+            }
+        };
+        stream("chat-vision-stream", requestCallback, onEvent);
+    }
+
+    /**
+     * Audio Transcriptions(Whisper) API 호출 후 응답 본문 반환
+     * (재시도 시 본문을 다시 쓰므로 파일 파트는 여러 번 읽을 수 있는 Resource여야 함)
+     */
+    public String transcription(MultiValueMap<String, Object> multipartBody) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        headers.setBearerAuth(apiKey);
+        HttpEntity<MultiValueMap<String, Object>> entity = new HttpEntity<>(multipartBody, headers);
+        return execute("transcription",
+                () -> restTemplate.postForEntity(transcriptionUrl, entity, String.class).getBody());
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private void stream(String operation, RequestCallback requestCallback, Consumer<String> onEvent) {
+        AtomicBoolean delivered = new AtomicBoolean(false);
+        ResponseExtractor<String> responseExtractor = response -> {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.startsWith("data:")) {
+                    continue; // 빈 줄(이벤트 구분), 주석(: keep-alive)
+                }
+                String data = line.substring(5).trim();
+                if (data.equals("[DONE]")) {
+                    break;
+                }
+                delivered.set(true);
+                onEvent.accept(data);
+            }
+            return null;
+        };
+
+        execute(operation,
+                () -> restTemplate.execute(chatUrl, HttpMethod.POST, requestCallback, responseExtractor),
+                () -> !delivered.get());
+    }
+
+    private String execute(String operation, Supplier<String> call) {
+        return execute(operation, call, () -> true);
+    }
+
+    private String execute(String operation, Supplier<String> call, BooleanSupplier retryAllowed) {
+        return upstreamMetrics.record(UpstreamMetrics.OPENAI, operation,
+                () -> executeWithRetry(operation, call, retryAllowed));
+    }
+
+    /**
+     * retryAllowed가 false면 재시도 가능한 오류여도 바로 실패
+     */
+    private String executeWithRetry(String operation, Supplier<String> call, BooleanSupplier retryAllowed) {
+        for (int attempt = 1; ; attempt++) {
+            if (!circuitBreaker.tryAcquire()) {
+                throw new UpstreamUnavailableException("OpenAI API 서킷 브레이커가 열려 있어 호출하지 않습니다: " + operation);
+            }
+
+            try {
+                String responseBody = call.get();
+                circuitBreaker.onSuccess();
+                return responseBody;
+            } catch (HttpStatusCodeException e) {
+                if (!isRetryable(e.getStatusCode())) {
+                    // 요청 자체의 문제(4xx)는 OpenAI 장애가 아니므로 서킷에 반영하지 않음
+                    circuitBreaker.onIgnored();
+                    throw e;
+                }
+                circuitBreaker.onFailure();
+                if (attempt >= maxAttempts || !retryAllowed.getAsBoolean()) {
+                    throw e;
+                }
+                long delayMs = retryAfterMs(e.getResponseHeaders()).orElse(backoffMs(attempt));
+                log.warn("OpenAI {} 호출 실패 ({}), {}ms 후 재시도 ({}/{})",
+                        operation, e.getStatusCode(), delayMs, attempt, maxAttempts);
+                sleep(delayMs);
+            } catch (ResourceAccessException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    // 헤징에서 진 요청의 취소는 OpenAI 장애가 아님
+                    circuitBreaker.onIgnored();
+                    throw e;
+                }
+                // 연결 실패, 응답 타임아웃
+                circuitBreaker.onFailure();
+                if (attempt >= maxAttempts || !retryAllowed.getAsBoolean()) {
+                    throw e;
+                }
+                long delayMs = backoffMs(attempt);
+                log.warn("OpenAI {} 호출 I/O 오류 ({}), {}ms 후 재시도 ({}/{})",
+                        operation, e.getMessage(), delayMs, attempt, maxAttempts);
+                sleep(delayMs);
+            } catch (RuntimeException e) {
+                circuitBreaker.onIgnored();
+                throw e;
+            }
+        }
+    }
+
+    private boolean isRetryable(HttpStatusCode statusCode) {
+        return statusCode.value() == 429 || statusCode.is5xxServerError();
+    }
+
+    /**
+     * Full jitter: 0 ~ min(max, base * 2^(attempt-1)) 사이 임의 대기
+     */
+    private long backoffMs(int attempt) {
+        long ceiling = Math.min(backoffMaxMs, backoffBaseMs << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * 429 응답의 Retry-After(초) 헤더가 있으면 그 값을 우선 사용 (최대 대기 시간 이내)
+     */
+    private Optional<Long> retryAfterMs(HttpHeaders headers) {
+        if (headers == null || headers.getFirst(HttpHeaders.RETRY_AFTER) == null) {
+            return Optional.empty();
+        }
+        try {
+            long seconds = Long.parseLong(headers.getFirst(HttpHeaders.RETRY_AFTER).trim());
+            return Optional.of(Math.min(backoffMaxMs, Math.max(0, seconds) * 1000));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void sleep(long delayMs) {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("OpenAI API 재시도 대기 중 인터럽트되었습니다");
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.umc.global.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 꼬리 지연을 줄이기 위한 요청 헤징
+ * - 최근 첫 요청 지연 시간의 percentile(예: p95)이 지나도 응답이 없으면 같은 요청을 한 번 더 보내고, 먼저 성공한 응답을 사용
+ * - 진 쪽 요청은 인터럽트로 취소
+ * - 요청마다 budgetPercent/100 만큼 예산이 쌓이고 헤지 한 번에 1을 쓰므로 추가 요청은 전체의 budgetPercent% 이하
+ * - 표본이 MIN_SAMPLES개 미만이면 헤지하지 않음
+ * - 표본은 첫 요청의 지연 시간만 사용 (헤지 요청은 늦게 출발하므로 넣으면 percentile이 점점 낮아짐)
+ *   첫 요청이 이기면 성공 시각, 지면 취소 전에 끝났으면 그 시각, 못 끝났으면 취소 시점까지의 시간(실제 지연의 하한)
+ * - 결과: upstream.hedge.requests{result} (not_hedged, primary_won, hedge_won, failed, budget_exhausted, rejected)
+ *   헤지 비율 = (primary_won + hedge_won + failed) / 전체, 헤지 승률 = hedge_won / (primary_won + hedge_won)
+ */
+@Slf4j
+public class RequestHedger {
+
+    private static final int WINDOW_SIZE = 200;
+    private static final int MIN_SAMPLES = 20;
+    private static final double MAX_BUDGET_TOKENS = 10;
+    private static final List<String> RESULTS = List.of(
+            "not_hedged", "primary_won", "hedge_won", "failed", "budget_exhausted", "rejected");
+
+    private final String service;
+    private final String operation;
+    private final Executor executor;
+    private final double percentile;
+    private final long minDelayMs;
+    private final double budgetPerRequest;
+
+    // 최근 첫 요청 지연 시간(ms) 링 버퍼
+    private final long[] latencies = new long[WINDOW_SIZE];
+    private int latencyCount;
+    private int latencyNext;
+    private double budgetTokens;
+
+    private final Map<String, Counter> resultCounters;
+
+    public RequestHedger(String service, String operation, Executor executor, MeterRegistry meterRegistry,
+                         double percentile, long minDelayMs, double budgetPercent) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("헤지 기준 percentile은 0과 1 사이여야 합니다: " + percentile);
+        }
+        this.service = service;
+        this.operation = operation;
+        this.executor = executor;
+        this.percentile = percentile;
+        this.minDelayMs = minDelayMs;
+        this.budgetPerRequest = Math.max(0, budgetPercent) / 100;
+
+        Gauge.builder("upstream.hedge.delay", this, RequestHedger::currentDelayMs)
+                .description("헤지 요청을 보내기까지 기다리는 시간(ms, 표본 부족 시 -1)")
+                .tag("service", service)
+                .tag("operation", operation)
+                .register(meterRegistry);
+
+        Map<String, Counter> counters = new HashMap<>();
+        for (String result : RESULTS) {
+            counters.put(result, Counter.builder("upstream.hedge.requests")
+                    .description("헤지 대상 호출의 처리 결과")
+                    .tag("service", service)
+                    .tag("operation", operation)
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+        this.resultCounters = Map.copyOf(counters);
+    }
+
+    /**
+     * call을 실행하고, 헤지 기준 시간이 지나도 끝나지 않으면 한 번 더 실행하여 먼저 성공한 결과 반환
+     * (둘 다 실패하면 첫 요청의 예외 전달)
+     */
+    public <T> T execute(Supplier<T> call) {
+        long delayMs = currentDelayMs();
+        depositBudget();
+
+        BlockingQueue<Attempt<T>> completed = new LinkedBlockingQueue<>();
+        Attempt<T> primary = new Attempt<>(call, completed, this::recordLatency);
+        try {
+            executor.execute(primary);
+        } catch (RejectedExecutionException e) {
+            // 헤지용 스레드가 모두 사용 중이면 과부하 상태이므로 헤지 없이 호출 스레드에서 실행
+            primary.run();
+            count("rejected");
+            return result(primary);
+        }
+
+        Attempt<T> hedge = null;
+        try {
+            Attempt<T> first = delayMs < 0 ? completed.take() : completed.poll(delayMs, TimeUnit.MILLISECONDS);
+            if (first != null) {
+                count("not_hedged");
+                return result(first);
+            }
+
+            if (!tryConsumeBudget()) {
+                count("budget_exhausted");
+                return result(completed.take());
+            }
+            hedge = new Attempt<>(call, completed, null);
+            try {
+                executor.execute(hedge);
+            } catch (RejectedExecutionException e) {
+                refundBudget();
+                count("rejected");
+                return result(completed.take());
+            }
+            log.debug("{} {} 응답이 {}ms 동안 없어 헤지 요청 전송", service, operation, delayMs);
+
+            first = completed.take();
+            if (first.succeeded()) {
+                count(first == primary ? "primary_won" : "hedge_won");
+                if (first == hedge) {
+                    primary.cancelAndRecord();
+                }
+                return result(first);
+            }
+            Attempt<T> second = completed.take();
+            if (second.succeeded()) {
+                count(second == primary ? "primary_won" : "hedge_won");
+                return result(second);
+            }
+            count("failed");
+            return result(primary);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException(service + " " + operation + " 응답 대기 중 인터럽트되었습니다");
+        } finally {
+            // 진 쪽(또는 대기 중 인터럽트된 경우 둘 다) 취소
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * 헤지 요청을 보내기 전 대기 시간 (표본이 부족하면 -1)
+     */
+    synchronized long currentDelayMs() {
+        if (latencyCount < MIN_SAMPLES) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * latencyCount) - 1;
+        return Math.max(minDelayMs, sorted[Math.max(0, index)]);
+    }
+
+    private synchronized void recordLatency(long elapsedMs) {
+        latencies[latencyNext] = elapsedMs;
+        latencyNext = (latencyNext + 1) % WINDOW_SIZE;
+        latencyCount = Math.min(latencyCount + 1, WINDOW_SIZE);
+    }
+
+    private synchronized void depositBudget() {
+        budgetTokens = Math.min(MAX_BUDGET_TOKENS, budgetTokens + budgetPerRequest);
+    }
+
+    private synchronized boolean tryConsumeBudget() {
+        if (budgetTokens < 1) {
+            return false;
+        }
+        budgetTokens -= 1;
+        return true;
+    }
+
+    private synchronized void refundBudget() {
+        budgetTokens = Math.min(MAX_BUDGET_TOKENS, budgetTokens + 1);
+    }
+
+    private void count(String result) {
+        resultCounters.get(result).increment();
+    }
+
+    /**
+     * 완료된 요청의 결과 (실패면 원래 예외 전달)
+     */
+    private <T> T result(Attempt<T> attempt) {
+        if (attempt.state() == Future.State.SUCCESS) {
+            return attempt.resultNow();
+        }
+        Throwable failure = attempt.exceptionNow();
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        throw new IllegalStateException(failure);
+    }
+
+    /**
+     * 요청 한 번 (끝나면 완료 큐에 자신을 넣음, latencyRecorder가 있으면 지연 시간을 한 번만 기록)
+     */
+    private static class Attempt<T> extends FutureTask<T> {
+
+        private final BlockingQueue<Attempt<T>> completed;
+        private final LongConsumer latencyRecorder;
+        private final AtomicBoolean recorded = new AtomicBoolean(false);
+        private volatile long startedAt;
+
+        Attempt(Supplier<T> call, BlockingQueue<Attempt<T>> completed, LongConsumer latencyRecorder) {
+            super(call::get);
+            this.completed = completed;
+            this.latencyRecorder = latencyRecorder;
+        }
+
+        @Override
+        public void run() {
+            startedAt = System.nanoTime();
+            super.run();
+        }
+
+        @Override
+        protected void set(T value) {
+            // 완료 큐에 들어가기 전에 기록하여 호출자가 결과를 받을 때는 표본에 반영되어 있음
+            if (!isCancelled()) {
+                record();
+            }
+            super.set(value);
+        }
+
+        /**
+         * 취소하고, 이미 끝나지 않았으면 지금까지의 시간을 기록 (진 첫 요청의 지연 시간 하한)
+         */
+        void cancelAndRecord() {
+            if (cancel(true) && startedAt != 0) {
+                record();
+            }
+        }
+
+        private void record() {
+            if (latencyRecorder != null && recorded.compareAndSet(false, true)) {
+                latencyRecorder.accept(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            }
+        }
+
+        @Override
+        protected void done() {
+            completed.add(this);
+        }
+
+        boolean succeeded() {
+            return state() == Future.State.SUCCESS;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.umc.global.client;
+
+/**
+ * 서킷 브레이커가 열려 외부 API를 호출하지 않고 즉시 실패한 경우
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,90 @@
+package com.umc.global.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 이미지가 포함된 Chat Completions 요청 본문을 소켓으로 바로 쓰는 writer
+ * - 이미지 전체를 byte[]/base64 String/Map으로 만들지 않고
+ *   JSON 앞부분 → 업로드 스트림을 base64 인코딩하며 복사 → JSON 닫는 부분 순서로 기록
+ * - 요청마다 힙 사용량은 복사 버퍼 크기로 일정하며, 재시도 시 다시 쓸 수 있음
+ */
+public class VisionChatRequestBody implements StreamingHttpOutputMessage.Body {
+
+    private static final byte[] SUFFIX = "\"}}]}]}".getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] prefix;
+    private final InputStreamSource image;
+    private final long imageSize;
+
+    public VisionChatRequestBody(ObjectMapper objectMapper, String model, int maxTokens, double temperature,
+                                 String prompt, String imageContentType,
+                                 InputStreamSource image, long imageSize) {
+        this(objectMapper, model, maxTokens, temperature, prompt, imageContentType, image, imageSize, false);
+    }
+
+    /**
+     * stream이 true면 "stream": true와 마지막 조각에 토큰 사용량을 받는 옵션을 포함 (OpenAiClient.streamChatCompletion용)
+     */
+    public VisionChatRequestBody(ObjectMapper objectMapper, String model, int maxTokens, double temperature,
+                                 String prompt, String imageContentType,
+                                 InputStreamSource image, long imageSize, boolean stream) {
+        this.prefix = buildPrefix(objectMapper, model, maxTokens, temperature, prompt, imageContentType, stream);
+        this.image = image;
+        this.imageSize = imageSize;
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        outputStream.write(prefix);
+
+        // base64 스트림을 닫아야 마지막 패딩이 기록되므로, 원래 스트림은 닫히지 않도록 감쌈
+        try (InputStream inputStream = image.getInputStream();
+             OutputStream base64Stream = Base64.getEncoder().wrap(StreamUtils.nonClosing(outputStream))) {
+            inputStream.transferTo(base64Stream);
+        }
+
+        outputStream.write(SUFFIX);
+        outputStream.flush();
+    }
+
+    /**
+     * 전체 본문 바이트 수 (Content-Length로 사용)
+     */
+    public long contentLength() {
+        return prefix.length + 4 * ((imageSize + 2) / 3) + SUFFIX.length;
+    }
+
+    @Override
+    public boolean repeatable() {
+        return true;
+    }
+
+    private static byte[] buildPrefix(ObjectMapper objectMapper, String model, int maxTokens, double temperature,
+                                      String prompt, String imageContentType, boolean stream) {
+        try {
+            String dataUrlPrefix = objectMapper.writeValueAsString("data:" + imageContentType + ";base64,");
+            String json = "{\"model\":" + objectMapper.writeValueAsString(model)
+                    + ",\"max_tokens\":" + maxTokens
+                    + ",\"temperature\":" + temperature
+                    + (stream ? ",\"stream\":true,\"stream_options\":{\"include_usage\":true}" : "")
+                    + ",\"messages\":[{\"role\":\"user\",\"content\":["
+                    + "{\"type\":\"text\",\"text\":" + objectMapper.writeValueAsString(prompt) + "},"
+                    + "{\"type\":\"image_url\",\"image_url\":{\"url\":"
+                    // 닫는 따옴표는 base64 뒤(SUFFIX)에 붙임
+                    + dataUrlPrefix.substring(0, dataUrlPrefix.length() - 1);
+            return json.getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이미지 분석 요청 본문 생성에 실패했습니다", e);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.umc.global.config;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+// 요청 스레드와 분리된 백그라운드 작업용 스레드 풀 설정
+@Configuration
+public class AsyncConfig {
+
+    @Value("${perfume.generation.executor.core-size:4}")
+    private int generationCoreSize;
+
+    @Value("${perfume.generation.executor.max-size:8}")
+    private int generationMaxSize;
+
+    @Value("${perfume.generation.executor.queue-capacity:50}")
+    private int generationQueueCapacity;
+
+    @Value("${upstream.executor.core-size:8}")
+    private int upstreamCoreSize;
+
+    @Value("${upstream.executor.max-size:32}")
+    private int upstreamMaxSize;
+
+    @Value("${upstream.executor.queue-capacity:100}")
+    private int upstreamQueueCapacity;
+
+    @Value("${perfume.batch.executor.pool-size:8}")
+    private int batchPoolSize;
+
+    @Value("${perfume.batch.executor.queue-capacity:100}")
+    private int batchQueueCapacity;
+
+    @Value("${perfume.batch.coordinator.pool-size:2}")
+    private int batchCoordinatorPoolSize;
+
+    @Value("${perfume.batch.coordinator.queue-capacity:4}")
+    private int batchCoordinatorQueueCapacity;
+
+    @Value("${openai.client.hedge.executor.pool-size:16}")
+    private int hedgePoolSize;
+
+    @Value("${google.drive.batch.executor.pool-size:4}")
+    private int driveBatchPoolSize;
+
+    @Value("${perfume.image.executor.pool-size:0}")
+    private int imagePoolSize;
+
+    @Value("${perfume.image.executor.queue-capacity:20}")
+    private int imageQueueCapacity;
+
+    /**
+     * 향수 생성 작업 전용 executor (큐가 가득 차면 TaskRejectedException 발생)
+     */
+    @Bean(name = "perfumeGenerationExecutor")
+    public ThreadPoolTaskExecutor perfumeGenerationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(generationCoreSize);
+        executor.setMaxPoolSize(generationMaxSize);
+        executor.setQueueCapacity(generationQueueCapacity);
+        executor.setThreadNamePrefix("perfume-gen-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    /**
+     * 외부 API(구글 드라이브 등) 호출을 병렬로 실행하기 위한 executor
+     * (포화 시 호출 스레드에서 직접 실행하여 순차 처리로 자연스럽게 저하)
+     */
+    @Bean(name = "upstreamExecutor")
+    public ThreadPoolTaskExecutor upstreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(upstreamCoreSize);
+        executor.setMaxPoolSize(upstreamMaxSize);
+        executor.setQueueCapacity(upstreamQueueCapacity);
+        executor.setThreadNamePrefix("upstream-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * 일괄 생성의 파일별 생성 작업 전용 executor
+     * (작업 안에서 upstreamExecutor로 업로드를 기다리므로 같은 풀을 쓰지 않음, 포화 시 호출 스레드에서 직접 실행)
+     */
+    @Bean(name = "perfumeBatchExecutor")
+    public ThreadPoolTaskExecutor perfumeBatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(batchPoolSize);
+        executor.setMaxPoolSize(batchPoolSize);
+        executor.setQueueCapacity(batchQueueCapacity);
+        executor.setThreadNamePrefix("perfume-batch-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * 일괄 생성 배치 하나를 끝까지 조정하는 작업 전용 executor
+     * (조정 작업은 배치가 끝날 때까지 스레드를 점유하므로 향수 생성 executor와 분리, 큐가 가득 차면 TaskRejectedException 발생)
+     */
+    @Bean(name = "perfumeBatchCoordinatorExecutor")
+    public ThreadPoolTaskExecutor perfumeBatchCoordinatorExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(batchCoordinatorPoolSize);
+        executor.setMaxPoolSize(batchCoordinatorPoolSize);
+        executor.setQueueCapacity(batchCoordinatorQueueCapacity);
+        executor.setThreadNamePrefix("perfume-batch-coord-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * 헤징 대상 OpenAI 호출(첫 요청과 헤지 요청)을 실행하는 executor
+     * (대기 큐 없이 스레드가 모두 사용 중이면 거절하여 헤지 없이 호출 스레드에서 실행)
+     */
+    @Bean(name = "openAiHedgeExecutor")
+    public ThreadPoolTaskExecutor openAiHedgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(hedgePoolSize);
+        executor.setMaxPoolSize(hedgePoolSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("openai-hedge-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * 시간이 다 되어 전송하는 드라이브 배치 요청 전용 executor
+     * (배치 대기 타이머 스레드를 막지 않도록 큐에 쌓아 두고 순서대로 전송)
+     */
+    @Bean(name = "driveBatchExecutor")
+    public ThreadPoolTaskExecutor driveBatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(driveBatchPoolSize);
+        executor.setMaxPoolSize(driveBatchPoolSize);
+        executor.setThreadNamePrefix("drive-batch-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * 이미지 축소/재인코딩 등 CPU 작업 전용 executor
+     * (코어 수만큼만 동시에 실행, 큐가 가득 차면 거절하여 호출 측에서 원본 이미지로 대체)
+     */
+    @Bean(name = "imageProcessingExecutor")
+    public ThreadPoolTaskExecutor imageProcessingExecutor() {
+        int poolSize = imagePoolSize > 0 ? imagePoolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(imageQueueCapacity);
+        executor.setThreadNamePrefix("image-proc-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * 요청 스레드의 MDC(traceId)를 작업 스레드로 전달
+     */
+    static class MdcTaskDecorator implements TaskDecorator {
+
+        @Override
+        public Runnable decorate(Runnable runnable) {
+            Map<String, String> contextMap = MDC.getCopyOfContextMap();
+            return () -> {
+                Map<String, String> previous = MDC.getCopyOfContextMap();
+                if (contextMap != null) {
+                    MDC.setContextMap(contextMap);
+                }
+                try {
+                    runnable.run();
+                } finally {
+                    if (previous != null) {
+                        MDC.setContextMap(previous);
+                    } else {
+                        MDC.clear();
+                    }
+                }
+            };
+        }
+    }
+}
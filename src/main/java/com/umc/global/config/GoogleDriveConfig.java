@@ -9,18 +9,22 @@ import com.google.api.services.drive.DriveScopes;
 import com.google.auth.http.HttpCredentialsAdapter;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.auth.oauth2.ServiceAccountCredentials;
+import com.umc.global.client.DriveUploadRetryInitializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.io.Resource;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
 import java.util.Collections;
 
+// 구글 드라이브 클라이언트 설정 (sim 프로필에서는 SimulatorConfig가 대신 제공)
 @Configuration
+@Profile("!sim")
 public class GoogleDriveConfig {
 
     private static final Logger logger = LoggerFactory.getLogger(GoogleDriveConfig.class);
@@ -31,6 +35,15 @@ public class GoogleDriveConfig {
     @Value("${google.drive.application-name}")
     private String applicationName;
 
+    @Value("${google.drive.upload.max-retries:5}")
+    private int uploadMaxRetries;
+
+    @Value("${google.drive.upload.initial-backoff-ms:500}")
+    private int uploadInitialBackoffMs;
+
+    @Value("${google.drive.upload.max-backoff-ms:8000}")
+    private int uploadMaxBackoffMs;
+
     private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
 
     @Bean
@@ -52,7 +65,11 @@ public class GoogleDriveConfig {
 
             logger.info("Google Drive service account credentials loaded successfully");
             
-            return new Drive.Builder(HTTP_TRANSPORT, JSON_FACTORY, new HttpCredentialsAdapter(credentials))
+            // 업로드 요청은 연결이 끊겨도 드라이브가 받은 위치부터 이어서 전송
+            DriveUploadRetryInitializer requestInitializer = new DriveUploadRetryInitializer(
+                    new HttpCredentialsAdapter(credentials), uploadMaxRetries, uploadInitialBackoffMs, uploadMaxBackoffMs);
+
+            return new Drive.Builder(HTTP_TRANSPORT, JSON_FACTORY, requestInitializer)
                     .setApplicationName(applicationName)
                     .build();
         } catch (Exception e) {
@@ -0,0 +1,47 @@
+package com.umc.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+// 외부 API(OpenAI) 호출용 HTTP 클라이언트 설정 (sim 프로필에서는 SimulatorConfig가 대신 제공)
+@Configuration
+@Profile("!sim")
+public class HttpClientConfig {
+
+    @Value("${openai.client.connect-timeout-ms:3000}")
+    private long connectTimeoutMs;
+
+    @Value("${openai.client.read-timeout-ms:60000}")
+    private long readTimeoutMs;
+
+    /**
+     * JDK HttpClient는 호스트별로 커넥션을 풀링하고 keep-alive로 재사용하며,
+     * TLS(ALPN) 협상이 되면 HTTP/2 하나의 커넥션에서 요청을 다중화함
+     */
+    @Bean
+    public HttpClient openAiHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * 연결/응답 타임아웃이 있는 OpenAI 전용 RestTemplate
+     * (응답이 멈춘 소켓이 스레드를 무기한 점유하지 않도록 read timeout 설정)
+     */
+    @Bean
+    public RestTemplate openAiRestTemplate(HttpClient openAiHttpClient) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(openAiHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return new RestTemplate(requestFactory);
+    }
+}
@@ -0,0 +1,84 @@
+package com.umc.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.drive.Drive;
+import com.umc.global.client.DriveUploadRetryInitializer;
+import com.umc.global.sim.LatencyProfile;
+import com.umc.global.sim.SimulatedDriveTransport;
+import com.umc.global.sim.SimulatedOpenAiRequestFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+
+// 외부 API 없이 생성 경로를 부하 테스트하기 위한 시뮬레이터 설정 (sim 프로필, 설정은 application-sim.yml)
+@Configuration
+@Profile("sim")
+@Slf4j
+public class SimulatorConfig {
+
+    private static final LatencyProfile CHAT_DEFAULTS = new LatencyProfile(2500, 9000, 0.01, 0, 0);
+    private static final LatencyProfile TRANSCRIPTION_DEFAULTS = new LatencyProfile(4000, 12000, 0.01, 0, 0);
+    private static final LatencyProfile DRIVE_LOOKUP_DEFAULTS = new LatencyProfile(150, 800, 0.005, 0, 0);
+    private static final LatencyProfile DRIVE_CREATE_DEFAULTS = new LatencyProfile(300, 1500, 0.005, 0, 0);
+    private static final LatencyProfile DRIVE_UPLOAD_DEFAULTS = new LatencyProfile(400, 2500, 0.01, 0, 0);
+    private static final LatencyProfile DRIVE_PERMISSION_DEFAULTS = new LatencyProfile(200, 1000, 0.005, 0, 0);
+    private static final LatencyProfile DRIVE_DELETE_DEFAULTS = new LatencyProfile(150, 800, 0.005, 0, 0);
+
+    @Value("${sim.openai.stream-chunk-delay-ms:25}")
+    private long streamChunkDelayMs;
+
+    @Value("${sim.drive.upload-bytes-per-second:8388608}")
+    private long uploadBytesPerSecond;
+
+    @Value("${sim.drive.upload-drop-rate:0}")
+    private double uploadDropRate;
+
+    @Value("${google.drive.upload.max-retries:5}")
+    private int uploadMaxRetries;
+
+    @Value("${google.drive.upload.initial-backoff-ms:500}")
+    private int uploadInitialBackoffMs;
+
+    @Value("${google.drive.upload.max-backoff-ms:8000}")
+    private int uploadMaxBackoffMs;
+
+    /**
+     * OpenAI 호출용 RestTemplate (요청을 네트워크 대신 시뮬레이터가 처리)
+     */
+    @Bean
+    public RestTemplate openAiRestTemplate(ObjectMapper objectMapper, Environment environment) {
+        log.warn("sim 프로필: OpenAI API 대신 시뮬레이터 응답을 사용합니다");
+        return new RestTemplate(new SimulatedOpenAiRequestFactory(objectMapper,
+                LatencyProfile.from(environment, "sim.openai.chat", CHAT_DEFAULTS),
+                LatencyProfile.from(environment, "sim.openai.transcription", TRANSCRIPTION_DEFAULTS),
+                streamChunkDelayMs));
+    }
+
+    /**
+     * 구글 드라이브 클라이언트 (서비스 계정 키 없이 메모리 시뮬레이터로 동작)
+     */
+    @Bean
+    public Drive driveService(Environment environment) {
+        log.warn("sim 프로필: Google Drive API 대신 시뮬레이터를 사용합니다");
+        Map<String, LatencyProfile> profiles = Map.of(
+                "lookup", LatencyProfile.from(environment, "sim.drive.lookup", DRIVE_LOOKUP_DEFAULTS),
+                "create", LatencyProfile.from(environment, "sim.drive.create", DRIVE_CREATE_DEFAULTS),
+                "upload", LatencyProfile.from(environment, "sim.drive.upload", DRIVE_UPLOAD_DEFAULTS),
+                "permission", LatencyProfile.from(environment, "sim.drive.permission", DRIVE_PERMISSION_DEFAULTS),
+                "delete", LatencyProfile.from(environment, "sim.drive.delete", DRIVE_DELETE_DEFAULTS));
+        GsonFactory jsonFactory = GsonFactory.getDefaultInstance();
+        SimulatedDriveTransport transport = new SimulatedDriveTransport(jsonFactory, profiles,
+                uploadBytesPerSecond, uploadDropRate);
+        return new Drive.Builder(transport, jsonFactory, new DriveUploadRetryInitializer(null,
+                uploadMaxRetries, uploadInitialBackoffMs, uploadMaxBackoffMs))
+                .setApplicationName("perfume-simulator")
+                .build();
+    }
+}
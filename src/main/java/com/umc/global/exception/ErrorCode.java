@@ -36,6 +36,13 @@ public enum ErrorCode {
     PERFUME_INVALID_SOURCE_TYPE(HttpStatus.BAD_REQUEST, "PERFUME_4006", "잘못된 소스 타입입니다."),
     PERFUME_CREATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "PERFUME_5001", "향수 생성에 실패했습니다."),
     PERFUME_ACCESS_DENIED(HttpStatus.FORBIDDEN, "PERFUME_4007", "해당 향수에 대한 접근 권한이 없습니다."),
+    PERFUME_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "PERFUME_4008", "해당 향수 생성 작업을 찾을 수 없습니다."),
+    PERFUME_JOB_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "PERFUME_5002", "향수 생성 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    PERFUME_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "PERFUME_4009", "향수 생성 요청이 너무 잦습니다. 잠시 후 다시 시도해주세요."),
+    PERFUME_SERVER_BUSY(HttpStatus.TOO_MANY_REQUESTS, "PERFUME_4010", "현재 향수 생성 요청이 몰려 있습니다. 잠시 후 다시 시도해주세요."),
+    PERFUME_BATCH_TOO_LARGE(HttpStatus.BAD_REQUEST, "PERFUME_4011", "한 번에 생성할 수 있는 파일 수를 초과했습니다."),
+    PERFUME_CURATOR_ONLY(HttpStatus.FORBIDDEN, "PERFUME_4012", "추천 향수는 큐레이터만 생성할 수 있습니다."),
+    PERFUME_JOB_INTERRUPTED(HttpStatus.INTERNAL_SERVER_ERROR, "PERFUME_5003", "서버 재시작으로 향수 생성이 중단되었습니다. 다시 시도해주세요."),
 
     // 리뷰 관련 에러
     REVIEW_DESCRIPTION_EMPTY(HttpStatus.BAD_REQUEST, "REVIEW_4001", "리뷰 내용은 비어 있을 수 없습니다."),
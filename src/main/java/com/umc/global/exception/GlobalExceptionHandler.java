@@ -2,6 +2,7 @@ package com.umc.global.exception;
 
 import com.umc.common.response.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
@@ -16,6 +17,18 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * 요청 한도 초과 예외 처리 (Retry-After 헤더로 재시도 가능 시점 안내)
+     */
+    @ExceptionHandler(RateLimitException.class)
+    protected ResponseEntity<ApiResponse<Void>> handleRateLimitException(RateLimitException e) {
+        log.warn("RateLimitException: {} (Retry-After: {}s)", e.getMessage(), e.getRetryAfterSeconds());
+        return ResponseEntity
+                .status(e.getErrorCode().getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error(e.getErrorCode()));
+    }
+
     /**
      * 비즈니스 로직 예외 처리
      */
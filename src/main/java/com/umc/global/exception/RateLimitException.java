@@ -0,0 +1,17 @@
+package com.umc.global.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 한도 초과 예외 (429 응답의 Retry-After 값을 함께 전달)
+ */
+@Getter
+public class RateLimitException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,185 @@
+package com.umc.global.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.api.client.http.HttpResponseException;
+import com.umc.global.client.UpstreamUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API(OpenAI, 구글 드라이브) 호출 지표
+ * - upstream.requests: 서비스/작업/결과별 소요 시간 (재시도 포함 호출 한 번 기준, 백분위 히스토그램 포함)
+ * - upstream.errors: 실패 결과(rate_limited, client_error, server_error, timeout 등)별 횟수
+ * - openai.tokens / openai.transcription.audio.seconds: 모델별 사용량 (비용 추정용)
+ * - 같은 이름의 지표는 태그 키가 같아야 하므로 태그 값만 바꿔서 기록
+ * - 호출 지표는 (서비스, 작업, 결과)별로 한 번만 등록하고 재사용 (히스토그램 설정 빌더를 호출마다 만들지 않음)
+ */
+@Component
+public class UpstreamMetrics {
+
+    public static final String OPENAI = "openai";
+    public static final String GOOGLE_DRIVE = "google-drive";
+
+    private static final String SUCCESS = "success";
+    private static final Duration MAX_EXPECTED_DURATION = Duration.ofMinutes(3);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<MeterKey, RequestMeters> requestMeters = new ConcurrentHashMap<>();
+
+    public UpstreamMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 외부 호출 한 번
+     */
+    @FunctionalInterface
+    public interface UpstreamCall<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    /**
+     * 호출 소요 시간과 결과 기록 (예외는 그대로 전달)
+     */
+    public <T, E extends Exception> T record(String service, String operation, UpstreamCall<T, E> call) throws E {
+        long startedAt = System.nanoTime();
+        String outcome = SUCCESS;
+        try {
+            return call.call();
+        } catch (Exception e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            RequestMeters meters = requestMeters.computeIfAbsent(
+                    new MeterKey(service, operation, outcome), this::registerRequestMeters);
+            meters.timer().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            if (meters.errors() != null) {
+                meters.errors().increment();
+            }
+        }
+    }
+
+    private RequestMeters registerRequestMeters(MeterKey key) {
+        Timer timer = Timer.builder("upstream.requests")
+                .description("외부 API 호출 소요 시간")
+                .tag("service", key.service())
+                .tag("operation", key.operation())
+                .tag("outcome", key.outcome())
+                .publishPercentileHistogram()
+                .maximumExpectedValue(MAX_EXPECTED_DURATION)
+                .register(meterRegistry);
+        Counter errors = SUCCESS.equals(key.outcome()) ? null : Counter.builder("upstream.errors")
+                .description("외부 API 호출 실패 횟수")
+                .tag("service", key.service())
+                .tag("operation", key.operation())
+                .tag("outcome", key.outcome())
+                .register(meterRegistry);
+        return new RequestMeters(timer, errors);
+    }
+
+    /**
+     * Chat Completions 응답(또는 스트리밍 마지막 조각)의 model/usage로 토큰 사용량 기록 (usage가 없으면 무시)
+     */
+    public void recordTokenUsage(String operation, JsonNode response) {
+        JsonNode usage = response.path("usage");
+        if (!usage.isObject()) {
+            return;
+        }
+        String model = response.path("model").asText("unknown");
+        incrementTokens(model, operation, "prompt", usage.path("prompt_tokens").asLong(0));
+        incrementTokens(model, operation, "completion", usage.path("completion_tokens").asLong(0));
+        // 프롬프트 캐시에서 재사용된 입력 토큰 (prompt에 포함된 값)
+        incrementTokens(model, operation, "cached_prompt",
+                usage.path("prompt_tokens_details").path("cached_tokens").asLong(0));
+    }
+
+    /**
+     * Whisper 변환 대상 오디오 길이 기록 (분 단위 과금)
+     */
+    public void recordTranscriptionSeconds(String model, double seconds) {
+        if (seconds <= 0) {
+            return;
+        }
+        Counter.builder("openai.transcription.audio.seconds")
+                .description("Whisper로 변환한 오디오 길이(초)")
+                .tag("model", model)
+                .register(meterRegistry)
+                .increment(seconds);
+    }
+
+    private void incrementTokens(String model, String operation, String type, long tokens) {
+        if (tokens <= 0) {
+            return;
+        }
+        Counter.builder("openai.tokens")
+                .description("OpenAI 토큰 사용량")
+                .tag("model", model)
+                .tag("operation", operation)
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment(tokens);
+    }
+
+    /**
+     * 실패 원인 분류
+     */
+    static String outcome(Throwable error) {
+        if (error instanceof UpstreamUnavailableException) {
+            return "circuit_open";
+        }
+        if (error instanceof HttpStatusCodeException e) {
+            return statusOutcome(e.getStatusCode().value());
+        }
+        if (error instanceof HttpResponseException e) {
+            return statusOutcome(e.getStatusCode());
+        }
+        if (error instanceof ResourceAccessException e) {
+            return isTimeout(e.getCause()) ? "timeout" : "io_error";
+        }
+        if (error instanceof IOException) {
+            return isTimeout(error) ? "timeout" : "io_error";
+        }
+        return "error";
+    }
+
+    private static String statusOutcome(int status) {
+        if (status == 429) {
+            return "rate_limited";
+        }
+        if (status >= 500) {
+            return "server_error";
+        }
+        if (status >= 400) {
+            return "client_error";
+        }
+        return "error";
+    }
+
+    /**
+     * JDK HttpClient(OpenAI)의 연결/응답 타임아웃과 소켓 타임아웃(구글 드라이브)
+     */
+    private static boolean isTimeout(Throwable error) {
+        return error instanceof HttpTimeoutException || error instanceof SocketTimeoutException;
+    }
+
+    private record MeterKey(String service, String operation, String outcome) {
+    }
+
+    /**
+     * 호출 한 종류의 지표 (성공이면 errors는 null)
+     */
+    private record RequestMeters(Timer timer, Counter errors) {
+    }
+}
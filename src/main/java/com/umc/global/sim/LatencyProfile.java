@@ -0,0 +1,110 @@
+package com.umc.global.sim;
+
+import org.springframework.core.env.Environment;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * 시뮬레이터 엔드포인트 하나의 응답 특성
+ * - 지연 시간: 중앙값과 p99로 정한 로그정규 분포에서 추출 (실제 API처럼 꼬리가 긴 분포)
+ * - 오류: error-rate 확률로 5xx, rate-limit-every-ms 주기마다 처음 rate-limit-for-ms 동안은 모든 요청에 429
+ */
+public final class LatencyProfile {
+
+    // 표준정규분포의 99번째 백분위수
+    private static final double Z_99 = 2.3263;
+
+    private final long medianMs;
+    private final long p99Ms;
+    private final double errorRate;
+    private final long rateLimitEveryMs;
+    private final long rateLimitForMs;
+    private final LongSupplier clockMs;
+
+    public LatencyProfile(long medianMs, long p99Ms, double errorRate, long rateLimitEveryMs, long rateLimitForMs) {
+        this(medianMs, p99Ms, errorRate, rateLimitEveryMs, rateLimitForMs, System::currentTimeMillis);
+    }
+
+    LatencyProfile(long medianMs, long p99Ms, double errorRate, long rateLimitEveryMs, long rateLimitForMs,
+                   LongSupplier clockMs) {
+        if (medianMs < 0 || p99Ms < medianMs) {
+            throw new IllegalArgumentException("지연 시간은 0 이상이고 p99는 중앙값 이상이어야 합니다: median="
+                    + medianMs + ", p99=" + p99Ms);
+        }
+        this.medianMs = medianMs;
+        this.p99Ms = p99Ms;
+        this.errorRate = errorRate;
+        this.rateLimitEveryMs = rateLimitEveryMs;
+        this.rateLimitForMs = rateLimitForMs;
+        this.clockMs = clockMs;
+    }
+
+    /**
+     * prefix 아래 설정(median-ms, p99-ms, error-rate, rate-limit-every-ms, rate-limit-for-ms)으로 생성 (없는 값은 defaults)
+     */
+    public static LatencyProfile from(Environment environment, String prefix, LatencyProfile defaults) {
+        return new LatencyProfile(
+                environment.getProperty(prefix + ".median-ms", Long.class, defaults.medianMs),
+                environment.getProperty(prefix + ".p99-ms", Long.class, defaults.p99Ms),
+                environment.getProperty(prefix + ".error-rate", Double.class, defaults.errorRate),
+                environment.getProperty(prefix + ".rate-limit-every-ms", Long.class, defaults.rateLimitEveryMs),
+                environment.getProperty(prefix + ".rate-limit-for-ms", Long.class, defaults.rateLimitForMs));
+    }
+
+    /**
+     * 이번 요청의 지연 시간(ms)
+     */
+    public long sampleDelayMs() {
+        if (medianMs == 0 || p99Ms == medianMs) {
+            return medianMs;
+        }
+        double sigma = Math.log((double) p99Ms / medianMs) / Z_99;
+        double delay = medianMs * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian());
+        return Math.round(delay);
+    }
+
+    /**
+     * 이번 요청의 결과 (429 구간이 오류율보다 우선)
+     */
+    public Fault nextFault() {
+        if (rateLimitEveryMs > 0 && rateLimitForMs > 0 && clockMs.getAsLong() % rateLimitEveryMs < rateLimitForMs) {
+            return Fault.RATE_LIMITED;
+        }
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            return Fault.SERVER_ERROR;
+        }
+        return Fault.NONE;
+    }
+
+    /**
+     * 현재 429 구간이 끝날 때까지 남은 시간(초, 최소 1)
+     */
+    public long retryAfterSeconds() {
+        if (rateLimitEveryMs <= 0) {
+            return 1;
+        }
+        long remainingMs = rateLimitForMs - clockMs.getAsLong() % rateLimitEveryMs;
+        return Math.max(1, (remainingMs + 999) / 1000);
+    }
+
+    /**
+     * 지연 시간만큼 대기 (인터럽트되면 바로 반환)
+     */
+    public void pause() {
+        sleep(sampleDelayMs());
+    }
+
+    static void sleep(long delayMs) {
+        if (delayMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public enum Fault { NONE, RATE_LIMITED, SERVER_ERROR }
+}
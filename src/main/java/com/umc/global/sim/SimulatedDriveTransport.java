@@ -0,0 +1,543 @@
+package com.umc.global.sim;
+
+import com.google.api.client.http.ByteArrayContent;
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.client.util.DateTime;
+import com.google.api.services.drive.model.File;
+import com.google.api.services.drive.model.FileList;
+import com.google.api.services.drive.model.Permission;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Google Drive v3 API(files, permissions, 재개 가능 업로드, 배치)를 네트워크 없이 흉내 내는 HttpTransport (sim 프로필)
+ * - Drive 클라이언트 라이브러리에 그대로 끼워 넣으므로 요청 직렬화/응답 파싱/예외 변환은 실제와 같이 동작
+ * - 파일/폴더는 메모리에만 보관하고 업로드 내용은 MD5(md5Checksum)만 남기고 버림
+ * - 작업별 LatencyProfile만큼 대기하고, 업로드는 upload-bytes-per-second 기준 전송 시간을 더함
+ * - 업로드 조각은 upload-drop-rate 확률로 중간에 연결이 끊기며, 실제 Drive처럼 받은 부분 중 256KB 단위까지만 인정
+ * - 429는 Drive와 같은 rateLimitExceeded 오류 본문으로 반환하여 GoogleJsonResponseException이 발생
+ */
+public class SimulatedDriveTransport extends HttpTransport {
+
+    private static final String FOLDER_MIME_TYPE = "application/vnd.google-apps.folder";
+    private static final String RESUMABLE_UPLOAD_PREFIX = "https://www.googleapis.com/upload/drive/v3/files";
+
+    private static final Pattern FILE_PATH = Pattern.compile("/drive/v3/files/([^/]+)");
+    private static final Pattern PERMISSION_PATH = Pattern.compile("/drive/v3/files/([^/]+)/permissions");
+    private static final Pattern NAME_QUERY = Pattern.compile("name\\s*=\\s*'([^']*)'");
+    private static final Pattern PARENT_QUERY = Pattern.compile("'([^']*)'\\s+in\\s+parents");
+    private static final Pattern MIME_QUERY = Pattern.compile("mimeType\\s*=\\s*'([^']*)'");
+    private static final Pattern CONTENT_RANGE = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+|\\*)");
+    private static final Pattern BOUNDARY = Pattern.compile("boundary=\"?([^\";]+)\"?");
+    private static final int UPLOAD_GRANULARITY = 256 * 1024;
+
+    private final JsonFactory jsonFactory;
+    private final Map<String, LatencyProfile> profiles;
+    private final long uploadBytesPerSecond;
+    private final double uploadDropRate;
+
+    private final Map<String, File> files = new ConcurrentHashMap<>();
+    private final Map<String, PendingUpload> uploads = new ConcurrentHashMap<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    /**
+     * profiles 키: lookup(목록 조회), create(폴더 생성/업로드 시작), upload(업로드 본문), permission, delete
+     */
+    public SimulatedDriveTransport(JsonFactory jsonFactory, Map<String, LatencyProfile> profiles,
+                                   long uploadBytesPerSecond, double uploadDropRate) {
+        this.jsonFactory = jsonFactory;
+        this.profiles = profiles;
+        this.uploadBytesPerSecond = uploadBytesPerSecond;
+        this.uploadDropRate = uploadDropRate;
+    }
+
+    /**
+     * 지금까지 만들어진 파일/폴더 수
+     */
+    public int size() {
+        return files.size();
+    }
+
+    /**
+     * 저장된 파일/폴더 (없으면 null)
+     */
+    public File get(String fileId) {
+        return files.get(fileId);
+    }
+
+    /**
+     * 지금까지 받은 HTTP 요청 수
+     */
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    protected LowLevelHttpRequest buildRequest(String method, String url) {
+        return new MockLowLevelHttpRequest(url) {
+            @Override
+            public LowLevelHttpResponse execute() throws IOException {
+                return handle(method, new GenericUrl(url), this);
+            }
+        };
+    }
+
+    private LowLevelHttpResponse handle(String method, GenericUrl url, MockLowLevelHttpRequest request)
+            throws IOException {
+        requestCount.incrementAndGet();
+        if ("POST".equals(method) && url.getRawPath().startsWith("/batch/")) {
+            return batch(request);
+        }
+        return dispatch(method, url, request, null);
+    }
+
+    /**
+     * batchDelay가 있으면 배치 안의 요청이므로 대기하지 않고 배치 전체 대기 시간(가장 긴 요청 기준)만 갱신
+     */
+    private LowLevelHttpResponse dispatch(String method, GenericUrl url, MockLowLevelHttpRequest request,
+                                          BatchDelay batchDelay) throws IOException {
+        String path = url.getRawPath();
+        boolean upload = path.startsWith("/upload/");
+
+        if (upload && "PUT".equals(method)) {
+            return simulate("upload", batchDelay, () -> uploadChunk(url, request));
+        }
+        if (upload && "POST".equals(method)) {
+            return simulate("create", batchDelay, () -> startUpload(url, request));
+        }
+        if ("GET".equals(method) && path.equals("/drive/v3/files")) {
+            return simulate("lookup", batchDelay, () -> list(url));
+        }
+        if ("POST".equals(method) && path.equals("/drive/v3/files")) {
+            return simulate("create", batchDelay, () -> json(200, store(parseFile(request), 0)));
+        }
+        Matcher permission = PERMISSION_PATH.matcher(path);
+        if ("POST".equals(method) && permission.matches()) {
+            return simulate("permission", batchDelay, () -> createPermission(permission.group(1), request));
+        }
+        Matcher file = FILE_PATH.matcher(path);
+        if ("DELETE".equals(method) && file.matches()) {
+            return simulate("delete", batchDelay, () -> files.remove(file.group(1)) != null
+                    ? new MockLowLevelHttpResponse().setStatusCode(204)
+                    : error(404, "notFound", "File not found: " + file.group(1)));
+        }
+        return error(404, "notFound", "시뮬레이터가 지원하지 않는 요청입니다: " + method + " " + path);
+    }
+
+    private LowLevelHttpResponse simulate(String operation, BatchDelay batchDelay, Handler handler)
+            throws IOException {
+        LatencyProfile profile = profiles.get(operation);
+        if (batchDelay == null) {
+            profile.pause();
+        } else {
+            batchDelay.maxMs = Math.max(batchDelay.maxMs, profile.sampleDelayMs());
+        }
+        return switch (profile.nextFault()) {
+            case RATE_LIMITED -> error(429, "rateLimitExceeded", "Rate Limit Exceeded (simulated)");
+            case SERVER_ERROR -> error(503, "backendError", "Backend Error (simulated)");
+            case NONE -> handler.handle();
+        };
+    }
+
+    /**
+     * 배치 요청 (multipart/mixed 본문의 요청을 하나씩 처리하고 같은 순서로 응답, 대기는 가장 긴 요청만큼 한 번)
+     */
+    private LowLevelHttpResponse batch(MockLowLevelHttpRequest request) throws IOException {
+        Matcher boundaryMatcher = BOUNDARY.matcher(String.valueOf(request.getContentType()));
+        if (!boundaryMatcher.find()) {
+            return error(400, "badRequest", "Missing multipart boundary");
+        }
+        String delimiter = "--" + boundaryMatcher.group(1);
+        String body = request.getStreamingContent() == null ? "" : request.getContentAsString();
+
+        BatchDelay batchDelay = new BatchDelay();
+        String responseBoundary = "batch_" + UUID.randomUUID();
+        StringBuilder response = new StringBuilder();
+        int index = 0;
+        for (String part : body.split(Pattern.quote(delimiter))) {
+            int partHeaderEnd = part.indexOf("\r\n\r\n");
+            if (part.startsWith("--") || partHeaderEnd < 0) {
+                continue; // 앞부분 또는 마지막 구분자
+            }
+            LowLevelHttpResponse itemResponse = batchItem(part.substring(partHeaderEnd + 4), batchDelay);
+            String content = itemResponse.getContent() == null ? ""
+                    : new String(itemResponse.getContent().readAllBytes(), StandardCharsets.UTF_8);
+            byte[] contentBytes = content.getBytes(StandardCharsets.UTF_8);
+            response.append("--").append(responseBoundary).append("\r\n")
+                    .append("Content-Type: application/http\r\n")
+                    .append("Content-ID: <response-").append(++index).append(">\r\n\r\n")
+                    .append("HTTP/1.1 ").append(itemResponse.getStatusCode()).append(" OK\r\n");
+            if (itemResponse.getContentType() != null) {
+                response.append("Content-Type: ").append(itemResponse.getContentType()).append("\r\n");
+            }
+            response.append("Content-Length: ").append(contentBytes.length).append("\r\n\r\n")
+                    .append(content).append("\r\n");
+        }
+        response.append("--").append(responseBoundary).append("--\r\n");
+
+        LatencyProfile.sleep(batchDelay.maxMs);
+        return new MockLowLevelHttpResponse()
+                .setStatusCode(200)
+                .setContentType("multipart/mixed; boundary=" + responseBoundary)
+                .setContent(response.toString());
+    }
+
+    /**
+     * 배치 본문의 요청 하나 ("METHOD URL HTTP/1.1", 헤더, 빈 줄, 본문)
+     */
+    private LowLevelHttpResponse batchItem(String message, BatchDelay batchDelay) throws IOException {
+        int headerEnd = message.indexOf("\r\n\r\n");
+        String[] lines = (headerEnd < 0 ? message : message.substring(0, headerEnd)).split("\r\n");
+        String[] requestLine = lines[0].trim().split(" ");
+        String url = requestLine[1].startsWith("/") ? "https://www.googleapis.com" + requestLine[1] : requestLine[1];
+
+        MockLowLevelHttpRequest item = new MockLowLevelHttpRequest(url);
+        String contentType = null;
+        for (int i = 1; i < lines.length; i++) {
+            int colon = lines[i].indexOf(':');
+            if (colon > 0) {
+                String name = lines[i].substring(0, colon).trim();
+                String value = lines[i].substring(colon + 1).trim();
+                item.addHeader(name, value);
+                if (name.equalsIgnoreCase("Content-Type")) {
+                    contentType = value;
+                }
+            }
+        }
+        String content = headerEnd < 0 ? "" : message.substring(headerEnd + 4).stripTrailing();
+        if (!content.isEmpty()) {
+            item.setStreamingContent(new ByteArrayContent(contentType, content.getBytes(StandardCharsets.UTF_8)));
+        }
+        return dispatch(requestLine[0], new GenericUrl(url), item, batchDelay);
+    }
+
+    /**
+     * 목록 조회 (name 조건이 여러 개면 그중 하나와 같은 파일, ID 순서로 pageSize씩 나누어 nextPageToken 반환)
+     */
+    private LowLevelHttpResponse list(GenericUrl url) throws IOException {
+        String query = (String) url.getFirst("q");
+        List<String> names = findAll(NAME_QUERY, query);
+        String parent = find(PARENT_QUERY, query);
+        String mimeType = find(MIME_QUERY, query);
+
+        List<File> matched = new ArrayList<>();
+        for (File file : files.values()) {
+            if ((names.isEmpty() || names.contains(file.getName()))
+                    && (parent == null || (file.getParents() != null && file.getParents().contains(parent)))
+                    && (mimeType == null || mimeType.equals(file.getMimeType()))) {
+                matched.add(file);
+            }
+        }
+        matched.sort(Comparator.comparing(File::getId));
+
+        int pageSize = url.getFirst("pageSize") == null ? 100 : Integer.parseInt((String) url.getFirst("pageSize"));
+        int offset = url.getFirst("pageToken") == null ? 0 : Integer.parseInt((String) url.getFirst("pageToken"));
+        int end = Math.min(matched.size(), offset + pageSize);
+        FileList page = new FileList().setFiles(new ArrayList<>(matched.subList(Math.min(offset, end), end)));
+        if (end < matched.size()) {
+            page.setNextPageToken(String.valueOf(end));
+        }
+        return json(200, page);
+    }
+
+    /**
+     * 재개 가능 업로드 시작 (메타데이터 저장 후 업로드 주소를 Location으로 반환)
+     */
+    private LowLevelHttpResponse startUpload(GenericUrl url, MockLowLevelHttpRequest request) throws IOException {
+        String uploadType = (String) url.getFirst("uploadType");
+        File metadata = parseFile(request);
+        if (!"resumable".equals(uploadType)) {
+            // multipart/media 업로드는 본문까지 한 번에 받으므로 바로 저장
+            long size = consume(request);
+            pauseForTransfer(size);
+            return json(200, store(metadata, size));
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new PendingUpload(metadata));
+        MockLowLevelHttpResponse response = new MockLowLevelHttpResponse().setStatusCode(200);
+        response.addHeader("Location", RESUMABLE_UPLOAD_PREFIX + "?uploadType=resumable&upload_id=" + uploadId);
+        return response;
+    }
+
+    /**
+     * 업로드 본문 조각 수신 (마지막 조각이면 파일 생성, 아니면 308과 받은 범위 반환)
+     * - 조각 시작 위치가 지금까지 받은 위치와 다르면 본문을 버리고 받은 범위만 알려 클라이언트가 맞추도록 함
+     */
+    private LowLevelHttpResponse uploadChunk(GenericUrl url, MockLowLevelHttpRequest request) throws IOException {
+        String uploadId = (String) url.getFirst("upload_id");
+        PendingUpload pending = uploadId != null ? uploads.get(uploadId) : null;
+        if (pending == null) {
+            return error(404, "notFound", "Upload session not found");
+        }
+
+        String contentRange = request.getFirstHeaderValue("Content-Range");
+        if (contentRange != null && contentRange.startsWith("bytes */")) {
+            // 업로드 상태 조회 (본문 없음)
+            consume(request);
+            synchronized (pending) {
+                return received(pending.received);
+            }
+        }
+        Matcher range = contentRange != null ? CONTENT_RANGE.matcher(contentRange) : null;
+        boolean ranged = range != null && range.matches();
+        long start = ranged ? Long.parseLong(range.group(1)) : 0;
+        long total = ranged && !"*".equals(range.group(3)) ? Long.parseLong(range.group(3)) : -1;
+
+        ChunkBuffer chunk = readChunk(request);
+        pauseForTransfer(chunk.size());
+
+        long received;
+        synchronized (pending) {
+            if (ranged && start != pending.received) {
+                return received(pending.received);
+            }
+            // 끊긴 조각은 256KB 단위까지만 저장된 것으로 처리
+            int accepted = chunk.dropped ? chunk.size() / UPLOAD_GRANULARITY * UPLOAD_GRANULARITY : chunk.size();
+            pending.digest.update(chunk.buffer(), 0, accepted);
+            pending.received += accepted;
+            if (!ranged) {
+                // Content-Range가 없으면 본문 전체를 한 번에 보낸 것
+                total = pending.received;
+            }
+            received = pending.received;
+        }
+        if (chunk.dropped) {
+            throw new IOException("Connection reset (simulated)");
+        }
+
+        if (total < 0 || received < total) {
+            return received(received);
+        }
+        uploads.remove(uploadId);
+        File file = pending.metadata.clone();
+        file.setMd5Checksum(HexFormat.of().formatHex(pending.digest.digest()));
+        return json(200, store(file, received));
+    }
+
+    /**
+     * 조각 본문 수신 (drop-rate 확률로 임의 위치에서 연결이 끊김)
+     */
+    private ChunkBuffer readChunk(MockLowLevelHttpRequest request) throws IOException {
+        ChunkBuffer chunk = new ChunkBuffer();
+        if (request.getStreamingContent() == null) {
+            return chunk;
+        }
+        long length = request.getContentLength();
+        if (uploadDropRate > 0 && length > 0 && ThreadLocalRandom.current().nextDouble() < uploadDropRate) {
+            chunk.limit = ThreadLocalRandom.current().nextLong(length);
+        }
+        try {
+            request.getStreamingContent().writeTo(chunk);
+        } catch (ConnectionDropped e) {
+            chunk.dropped = true;
+        }
+        return chunk;
+    }
+
+    /**
+     * 308 Resume Incomplete와 지금까지 받은 범위
+     */
+    private static MockLowLevelHttpResponse received(long received) {
+        MockLowLevelHttpResponse response = new MockLowLevelHttpResponse().setStatusCode(308);
+        if (received > 0) {
+            response.addHeader("Range", "bytes=0-" + (received - 1));
+        }
+        return response;
+    }
+
+    private LowLevelHttpResponse createPermission(String fileId, MockLowLevelHttpRequest request) throws IOException {
+        if (!files.containsKey(fileId)) {
+            return error(404, "notFound", "File not found: " + fileId);
+        }
+        Permission permission = jsonFactory.fromString(request.getContentAsString(), Permission.class);
+        permission.setId("anyoneWithLink");
+        files.computeIfPresent(fileId, (id, file) -> {
+            List<Permission> permissions = new ArrayList<>();
+            if (file.getPermissions() != null) {
+                permissions.addAll(file.getPermissions());
+            }
+            permissions.add(permission);
+            return file.setPermissions(permissions);
+        });
+        return json(200, permission);
+    }
+
+    private File store(File metadata, long size) {
+        File file = metadata.clone();
+        file.setId("sim-" + UUID.randomUUID());
+        if (file.getMimeType() == null) {
+            file.setMimeType("application/octet-stream");
+        }
+        if (file.getParents() == null) {
+            file.setParents(Collections.singletonList("root"));
+        }
+        if (!FOLDER_MIME_TYPE.equals(file.getMimeType())) {
+            file.setSize(size);
+        }
+        file.setCreatedTime(new DateTime(System.currentTimeMillis()));
+        files.put(file.getId(), file);
+        return file;
+    }
+
+    private File parseFile(MockLowLevelHttpRequest request) throws IOException {
+        String content = request.getStreamingContent() == null ? "" : request.getContentAsString();
+        if (content.isBlank() || !content.trim().startsWith("{")) {
+            return new File();
+        }
+        return jsonFactory.fromString(content, File.class);
+    }
+
+    /**
+     * 요청 본문을 읽어 버리고 바이트 수 반환
+     */
+    private static long consume(MockLowLevelHttpRequest request) throws IOException {
+        if (request.getStreamingContent() == null) {
+            return 0;
+        }
+        CountingOutputStream counter = new CountingOutputStream();
+        request.getStreamingContent().writeTo(counter);
+        return counter.count;
+    }
+
+    private void pauseForTransfer(long bytes) {
+        if (uploadBytesPerSecond > 0) {
+            LatencyProfile.sleep(bytes * 1000 / uploadBytesPerSecond);
+        }
+    }
+
+    private MockLowLevelHttpResponse json(int status, Object body) throws IOException {
+        return new MockLowLevelHttpResponse()
+                .setStatusCode(status)
+                .setContentType("application/json; charset=UTF-8")
+                .setContent(jsonFactory.toString(body));
+    }
+
+    private static MockLowLevelHttpResponse error(int status, String reason, String message) {
+        String domain = status == 429 ? "usageLimits" : "global";
+        String body = "{\"error\":{\"code\":" + status + ",\"message\":\"" + message.replace("\"", "'")
+                + "\",\"errors\":[{\"domain\":\"" + domain + "\",\"reason\":\"" + reason
+                + "\",\"message\":\"" + message.replace("\"", "'") + "\"}]}}";
+        return new MockLowLevelHttpResponse()
+                .setStatusCode(status)
+                .setContentType("application/json; charset=UTF-8")
+                .setContent(body);
+    }
+
+    private static List<String> findAll(Pattern pattern, String text) {
+        List<String> values = new ArrayList<>();
+        if (text != null) {
+            Matcher matcher = pattern.matcher(text);
+            while (matcher.find()) {
+                values.add(matcher.group(1));
+            }
+        }
+        return values;
+    }
+
+    private static String find(Pattern pattern, String text) {
+        if (text == null) {
+            return null;
+        }
+        Matcher matcher = pattern.matcher(text);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        LowLevelHttpResponse handle() throws IOException;
+    }
+
+    private static class BatchDelay {
+
+        private long maxMs;
+    }
+
+    private static class PendingUpload {
+
+        private final File metadata;
+        private final MessageDigest digest;
+        private long received;
+
+        PendingUpload(File metadata) {
+            this.metadata = metadata;
+            try {
+                this.digest = MessageDigest.getInstance("MD5");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * 조각 본문 버퍼 (limit 바이트를 넘기면 연결 끊김)
+     */
+    private static class ChunkBuffer extends ByteArrayOutputStream {
+
+        private long limit = Long.MAX_VALUE;
+        private boolean dropped;
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            int allowed = (int) Math.min(len, limit - count);
+            super.write(b, off, allowed);
+            if (allowed < len) {
+                throw new ConnectionDropped();
+            }
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+    }
+
+    private static class ConnectionDropped extends RuntimeException {
+
+        ConnectionDropped() {
+            super("Connection reset (simulated)", null, false, false);
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.umc.global.sim;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * OpenAI Chat Completions / Audio Transcriptions API를 네트워크 없이 흉내 내는 요청 팩토리 (sim 프로필)
+ * - openAiRestTemplate에 끼워 넣으므로 OpenAiClient의 재시도/서킷 브레이커/지표는 실제와 같이 동작
+ * - 응답 전 LatencyProfile만큼 대기하고, 429(Retry-After 포함)/503 오류를 설정한 비율로 반환
+ * - chat은 향수 설명 JSON을 만들어 반환하고, "stream": true 요청에는 SSE 조각을 stream-chunk-delay-ms 간격으로 전송
+ * - 요청 본문은 앞부분만 보관 (이미지 base64 본문을 메모리에 모두 올리지 않음)
+ */
+public class SimulatedOpenAiRequestFactory implements ClientHttpRequestFactory {
+
+    private static final int CAPTURED_PREFIX_BYTES = 16 * 1024;
+    private static final int STREAM_CHUNK_CHARS = 12;
+    // 오디오 길이 추정용 (128kbps MP3 기준 초당 바이트 수)
+    private static final double AUDIO_BYTES_PER_SECOND = 16_000;
+
+    private static final Pattern MODEL_PATTERN = Pattern.compile("\"model\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern STREAM_PATTERN = Pattern.compile("\"stream\"\\s*:\\s*true");
+
+    private static final List<String> TOP_NOTES = List.of("레몬", "베르가못", "자몽", "핑크페퍼", "라임", "만다린");
+    private static final List<String> MIDDLE_NOTES = List.of("로즈", "자스민", "라벤더", "제라늄", "아이리스", "네롤리");
+    private static final List<String> BASE_NOTES = List.of("머스크", "시더우드", "앰버", "바닐라", "샌달우드", "베티버");
+
+    private static final String LYRICS = "밤하늘 아래 우리 둘이 걷던 길을 기억해. "
+            + "바람이 불어와도 너의 목소리가 들려. 다시 만날 그날까지 노래를 불러.";
+
+    private final ObjectMapper objectMapper;
+    private final LatencyProfile chatProfile;
+    private final LatencyProfile transcriptionProfile;
+    private final long streamChunkDelayMs;
+
+    public SimulatedOpenAiRequestFactory(ObjectMapper objectMapper, LatencyProfile chatProfile,
+                                         LatencyProfile transcriptionProfile, long streamChunkDelayMs) {
+        this.objectMapper = objectMapper;
+        this.chatProfile = chatProfile;
+        this.transcriptionProfile = transcriptionProfile;
+        this.streamChunkDelayMs = streamChunkDelayMs;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+        return new SimulatedRequest(uri, httpMethod);
+    }
+
+    private ClientHttpResponse respond(URI uri, CapturingOutputStream body) throws IOException {
+        boolean transcription = uri.getPath().endsWith("/audio/transcriptions");
+        LatencyProfile profile = transcription ? transcriptionProfile : chatProfile;
+
+        profile.pause();
+        switch (profile.nextFault()) {
+            case RATE_LIMITED -> {
+                HttpHeaders headers = jsonHeaders();
+                headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(profile.retryAfterSeconds()));
+                return new SimulatedResponse(HttpStatus.TOO_MANY_REQUESTS, headers,
+                        error("rate_limit_exceeded", "Rate limit reached (simulated)"));
+            }
+            case SERVER_ERROR -> {
+                return new SimulatedResponse(HttpStatus.SERVICE_UNAVAILABLE, jsonHeaders(),
+                        error("server_error", "The server is overloaded (simulated)"));
+            }
+            case NONE -> {
+                // 정상 응답
+            }
+        }
+
+        if (transcription) {
+            return new SimulatedResponse(HttpStatus.OK, jsonHeaders(), transcriptionResponse(body.count()));
+        }
+
+        String prefix = body.prefix();
+        String model = find(MODEL_PATTERN, prefix, "gpt-4o-mini");
+        boolean image = prefix.contains("\"image_url\"");
+        String content = description(image);
+        int promptTokens = (int) Math.min(body.count() / 4, 4000) + (image ? 765 : 0);
+        int completionTokens = content.length() / 2;
+
+        if (STREAM_PATTERN.matcher(prefix).find()) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.TEXT_EVENT_STREAM);
+            return new SimulatedResponse(HttpStatus.OK, headers,
+                    new EventStream(streamEvents(model, content, promptTokens, completionTokens), streamChunkDelayMs));
+        }
+
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("id", "chatcmpl-sim-" + UUID.randomUUID());
+        response.put("object", "chat.completion");
+        response.put("model", model);
+        ObjectNode choice = response.putArray("choices").addObject();
+        choice.put("index", 0);
+        choice.putObject("message").put("role", "assistant").put("content", content);
+        choice.put("finish_reason", "stop");
+        response.set("usage", usage(promptTokens, completionTokens));
+        return new SimulatedResponse(HttpStatus.OK, jsonHeaders(), bytes(response));
+    }
+
+    /**
+     * 검증을 통과하는 향수 설명 JSON (노트는 매번 무작위로 골라 perfume_note 분포가 고르게 되도록 함)
+     */
+    private String description(boolean image) throws JsonProcessingException {
+        ObjectNode description = objectMapper.createObjectNode();
+        description.put("type", image ? "IMAGE" : "AUDIO");
+        description.put("fileDescription", image
+                ? "노을빛이 번지는 바닷가 풍경으로, 잔잔하고 따뜻한 분위기를 전합니다."
+                : "잔잔한 피아노 위에 담담한 보컬이 얹힌 발라드로, 그리움의 정서를 전합니다.");
+        pick(description.putArray("top"), TOP_NOTES);
+        pick(description.putArray("middle"), MIDDLE_NOTES);
+        pick(description.putArray("base"), BASE_NOTES);
+        description.put("interpretation", "상쾌한 시작이 부드러운 플로럴로 이어지고, 따뜻한 우디 잔향으로 마무리되는 향입니다.");
+        description.put("summary", "따뜻한 여운을 남기는 시트러스 플로럴 향수");
+        description.put("title", image ? "Sunset Shore : 노을 해변" : "Night Walk : 밤 산책");
+        return objectMapper.writeValueAsString(description);
+    }
+
+    private static void pick(ArrayNode array, List<String> notes) {
+        int start = ThreadLocalRandom.current().nextInt(notes.size());
+        for (int i = 0; i < 3; i++) {
+            array.add(notes.get((start + i) % notes.size()));
+        }
+    }
+
+    private List<String> streamEvents(String model, String content, int promptTokens, int completionTokens)
+            throws JsonProcessingException {
+        String id = "chatcmpl-sim-" + UUID.randomUUID();
+        List<String> events = new ArrayList<>();
+        for (int start = 0; start < content.length(); start += STREAM_CHUNK_CHARS) {
+            String piece = content.substring(start, Math.min(content.length(), start + STREAM_CHUNK_CHARS));
+            ObjectNode chunk = chunk(id, model);
+            chunk.putArray("choices").addObject().put("index", 0).putObject("delta").put("content", piece);
+            events.add(objectMapper.writeValueAsString(chunk));
+        }
+        // stream_options.include_usage를 요청한 것처럼 마지막에 usage만 담은 조각 전송
+        ObjectNode usageChunk = chunk(id, model);
+        usageChunk.putArray("choices");
+        usageChunk.set("usage", usage(promptTokens, completionTokens));
+        events.add(objectMapper.writeValueAsString(usageChunk));
+        events.add("[DONE]");
+        return events;
+    }
+
+    private ObjectNode chunk(String id, String model) {
+        ObjectNode chunk = objectMapper.createObjectNode();
+        chunk.put("id", id);
+        chunk.put("object", "chat.completion.chunk");
+        chunk.put("model", model);
+        return chunk;
+    }
+
+    private ObjectNode usage(int promptTokens, int completionTokens) {
+        ObjectNode usage = objectMapper.createObjectNode();
+        usage.put("prompt_tokens", promptTokens);
+        usage.put("completion_tokens", completionTokens);
+        usage.put("total_tokens", promptTokens + completionTokens);
+        return usage;
+    }
+
+    private byte[] transcriptionResponse(long requestBytes) throws JsonProcessingException {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("task", "transcribe");
+        response.put("language", "korean");
+        response.put("duration", Math.round(requestBytes / AUDIO_BYTES_PER_SECOND * 100) / 100.0);
+        response.put("text", LYRICS);
+        response.putArray("segments");
+        return bytes(response);
+    }
+
+    private byte[] error(String code, String message) throws JsonProcessingException {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.putObject("error").put("message", message).put("type", code).put("code", code);
+        return bytes(response);
+    }
+
+    private byte[] bytes(ObjectNode node) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(node);
+    }
+
+    private static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
+    }
+
+    private static String find(Pattern pattern, String text, String fallback) {
+        Matcher matcher = pattern.matcher(text);
+        return matcher.find() ? matcher.group(1) : fallback;
+    }
+
+    private class SimulatedRequest extends AbstractClientHttpRequest {
+
+        private final URI uri;
+        private final HttpMethod method;
+        private final CapturingOutputStream body = new CapturingOutputStream();
+
+        SimulatedRequest(URI uri, HttpMethod method) {
+            this.uri = uri;
+            this.method = method;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        protected OutputStream getBodyInternal(HttpHeaders headers) {
+            return body;
+        }
+
+        @Override
+        protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+            return respond(uri, body);
+        }
+    }
+
+    /**
+     * 전체 바이트 수를 세고 앞부분만 보관
+     */
+    private static class CapturingOutputStream extends OutputStream {
+
+        private final byte[] prefix = new byte[CAPTURED_PREFIX_BYTES];
+        private int captured;
+        private long count;
+
+        @Override
+        public void write(int b) {
+            if (captured < prefix.length) {
+                prefix[captured++] = (byte) b;
+            }
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            int copy = Math.min(len, prefix.length - captured);
+            if (copy > 0) {
+                System.arraycopy(b, off, prefix, captured, copy);
+                captured += copy;
+            }
+            count += len;
+        }
+
+        long count() {
+            return count;
+        }
+
+        String prefix() {
+            return new String(prefix, 0, captured, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * SSE 응답 본문 (이벤트마다 delayMs 간격으로 읽힘)
+     */
+    private static class EventStream extends InputStream {
+
+        private final List<String> events;
+        private final long delayMs;
+        private int next;
+        private InputStream current = InputStream.nullInputStream();
+
+        EventStream(List<String> events, long delayMs) {
+            this.events = events;
+            this.delayMs = delayMs;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = current.read(b, off, len);
+            while (read < 0) {
+                if (next >= events.size()) {
+                    return -1;
+                }
+                if (next > 0) {
+                    LatencyProfile.sleep(delayMs);
+                }
+                current = new ByteArrayInputStream(("data: " + events.get(next++) + "\n\n").getBytes(StandardCharsets.UTF_8));
+                read = current.read(b, off, len);
+            }
+            return read;
+        }
+    }
+
+    private static class SimulatedResponse implements ClientHttpResponse {
+
+        private final HttpStatus status;
+        private final HttpHeaders headers;
+        private final InputStream body;
+
+        SimulatedResponse(HttpStatus status, HttpHeaders headers, byte[] body) {
+            this(status, headers, new ByteArrayInputStream(body));
+            headers.setContentLength(body.length);
+        }
+
+        SimulatedResponse(HttpStatus status, HttpHeaders headers, InputStream body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return status;
+        }
+
+        @Override
+        public String getStatusText() {
+            return status.getReasonPhrase();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public void close() {
+            try {
+                body.close();
+            } catch (IOException ignored) {
+                // 메모리 스트림
+            }
+        }
+    }
+}
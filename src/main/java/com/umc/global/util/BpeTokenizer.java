@@ -0,0 +1,163 @@
+package com.umc.global.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * OpenAI(o200k_base 계열) 방식의 바이트 단위 BPE 토큰 계산기
+ * - 정규식으로 텍스트를 조각낸 뒤, 조각의 UTF-8 바이트를 순위(rank)가 가장 낮은 인접 쌍부터 병합
+ * - 어휘 파일(tiktoken 형식: "base64 토큰 순위" 한 줄씩)을 읽으면 실제 토큰 수와 같음
+ * - 어휘 파일이 없으면 조각별 추정(ASCII 4바이트당 1, 그 외 글자당 1)으로 계산
+ *   상한이 아닌 어림값이므로 실제 토큰 수보다 많을 수도 적을 수도 있음 (드문 영문 조합은 4바이트보다 짧게 쪼개짐)
+ *   → 추정으로 계산한 예산은 실제 한도에 여유를 두고 정해야 함
+ */
+public final class BpeTokenizer {
+
+    // o200k_base 사전 분할 정규식
+    private static final Pattern PRE_TOKENIZER = Pattern.compile(String.join("|",
+            "[^\\r\\n\\p{L}\\p{N}]?[\\p{Lu}\\p{Lt}\\p{Lm}\\p{Lo}\\p{M}]*[\\p{Ll}\\p{Lm}\\p{Lo}\\p{M}]+(?i:'s|'t|'re|'ve|'m|'ll|'d)?",
+            "[^\\r\\n\\p{L}\\p{N}]?[\\p{Lu}\\p{Lt}\\p{Lm}\\p{Lo}\\p{M}]+[\\p{Ll}\\p{Lm}\\p{Lo}\\p{M}]*(?i:'s|'t|'re|'ve|'m|'ll|'d)?",
+            "\\p{N}{1,3}",
+            " ?[^\\s\\p{L}\\p{N}]+[\\r\\n/]*",
+            "\\s*[\\r\\n]+",
+            "\\s+(?!\\S)",
+            "\\s+"));
+
+    // 바이트 열을 한 글자당 한 바이트인 ISO-8859-1 문자열로 바꾸어 키로 사용
+    private final Map<String, Integer> ranks;
+
+    private BpeTokenizer(Map<String, Integer> ranks) {
+        this.ranks = ranks;
+    }
+
+    /**
+     * tiktoken 형식 어휘 파일로 생성
+     */
+    public static BpeTokenizer load(InputStream vocabulary) throws IOException {
+        Map<String, Integer> ranks = new HashMap<>(256 * 1024);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(vocabulary, StandardCharsets.US_ASCII));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            int space = line.indexOf(' ');
+            if (space <= 0) {
+                continue;
+            }
+            byte[] token = Base64.getDecoder().decode(line.substring(0, space));
+            ranks.put(new String(token, StandardCharsets.ISO_8859_1), Integer.parseInt(line.substring(space + 1).trim()));
+        }
+        if (ranks.isEmpty()) {
+            throw new IOException("토큰 어휘 파일이 비어 있습니다");
+        }
+        return new BpeTokenizer(ranks);
+    }
+
+    /**
+     * 어휘 파일 없이 추정으로 계산하는 토큰 계산기 (실제 토큰 수와 다를 수 있음)
+     */
+    public static BpeTokenizer estimating() {
+        return new BpeTokenizer(null);
+    }
+
+    /**
+     * 어휘 파일로 정확히 계산하는지 여부
+     */
+    public boolean isExact() {
+        return ranks != null;
+    }
+
+    public int count(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int tokens = 0;
+        Matcher matcher = PRE_TOKENIZER.matcher(text);
+        while (matcher.find()) {
+            tokens += countPiece(matcher.group());
+        }
+        return tokens;
+    }
+
+    /**
+     * maxTokens 이내가 되도록 앞에서부터 자름 (사전 분할 조각 경계에서 자르므로 결과 토큰 수는 maxTokens 이하)
+     */
+    public String truncate(String text, int maxTokens) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        int tokens = 0;
+        Matcher matcher = PRE_TOKENIZER.matcher(text);
+        while (matcher.find()) {
+            tokens += countPiece(matcher.group());
+            if (tokens > maxTokens) {
+                return text.substring(0, matcher.start());
+            }
+        }
+        return text;
+    }
+
+    private int countPiece(String piece) {
+        if (ranks == null) {
+            return estimatePiece(piece);
+        }
+        String bytes = new String(piece.getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1);
+        if (ranks.containsKey(bytes)) {
+            return 1;
+        }
+        return merge(bytes);
+    }
+
+    /**
+     * 바이트 쌍 병합 후 남은 토큰 수
+     */
+    private int merge(String bytes) {
+        List<String> parts = new ArrayList<>(bytes.length());
+        for (int i = 0; i < bytes.length(); i++) {
+            parts.add(bytes.substring(i, i + 1));
+        }
+        while (parts.size() > 1) {
+            int bestIndex = -1;
+            int bestRank = Integer.MAX_VALUE;
+            for (int i = 0; i < parts.size() - 1; i++) {
+                Integer rank = ranks.get(parts.get(i) + parts.get(i + 1));
+                if (rank != null && rank < bestRank) {
+                    bestRank = rank;
+                    bestIndex = i;
+                }
+            }
+            if (bestIndex < 0) {
+                break;
+            }
+            parts.set(bestIndex, parts.get(bestIndex) + parts.get(bestIndex + 1));
+            parts.remove(bestIndex + 1);
+        }
+        return parts.size();
+    }
+
+    /**
+     * 조각 하나의 추정 토큰 수 (흔한 영문 단어는 4바이트 이상이 한 토큰이지만 드문 조합은 더 잘게 쪼개질 수 있음)
+     */
+    private static int estimatePiece(String piece) {
+        int asciiBytes = 0;
+        int others = 0;
+        for (int i = 0; i < piece.length(); ) {
+            int codePoint = piece.codePointAt(i);
+            if (codePoint < 0x80) {
+                asciiBytes++;
+            } else {
+                others++;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return Math.max(1, (asciiBytes + 3) / 4 + others);
+    }
+}
@@ -0,0 +1,126 @@
+package com.umc.global.util;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 64비트 해시의 해밍 거리 검색 인덱스 (Multi-Index Hashing)
+ * - 해시를 8비트 청크 8개로 나누고, 청크별로 값(0~255)마다 버킷을 둠
+ * - 거리가 7 이하인 두 해시는 비둘기집 원리에 따라 최소 한 청크가 완전히 같으므로
+ *   조회 해시의 청크 8개에 해당하는 버킷만 확인해도 누락이 없음
+ * - 전체 N건 중 약 8N/256건만 비교하므로 100만 건에서도 밀리초 미만으로 조회
+ */
+public class HammingIndex {
+
+    private static final int CHUNKS = 8;
+    private static final int CHUNK_BITS = 8;
+    private static final int BUCKETS = 1 << CHUNK_BITS;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int INITIAL_BUCKET_CAPACITY = 8;
+
+    public static final int MAX_DISTANCE = CHUNKS - 1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] hashes = new long[INITIAL_CAPACITY];
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+
+    // buckets[청크][청크 값] = 해당 청크 값을 가진 항목 위치 목록
+    private final int[][][] buckets = new int[CHUNKS][BUCKETS][];
+    private final int[][] bucketSizes = new int[CHUNKS][BUCKETS];
+
+    /**
+     * 해시 등록
+     */
+    public void add(long id, long hash) {
+        lock.writeLock().lock();
+        try {
+            if (size == hashes.length) {
+                hashes = Arrays.copyOf(hashes, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            int position = size++;
+            hashes[position] = hash;
+            ids[position] = id;
+
+            for (int chunk = 0; chunk < CHUNKS; chunk++) {
+                addToBucket(chunk, chunkValue(hash, chunk), position);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * maxDistance 이내에서 가장 가까운 해시 조회
+     */
+    public Optional<Match> findNearest(long hash, int maxDistance) {
+        if (maxDistance < 0 || maxDistance > MAX_DISTANCE) {
+            throw new IllegalArgumentException("maxDistance는 0~" + MAX_DISTANCE + " 사이여야 합니다: " + maxDistance);
+        }
+
+        lock.readLock().lock();
+        try {
+            int bestPosition = -1;
+            int bestDistance = maxDistance + 1;
+
+            for (int chunk = 0; chunk < CHUNKS; chunk++) {
+                int value = chunkValue(hash, chunk);
+                int[] bucket = buckets[chunk][value];
+                int bucketSize = bucketSizes[chunk][value];
+
+                for (int i = 0; i < bucketSize; i++) {
+                    int position = bucket[i];
+                    int distance = Long.bitCount(hashes[position] ^ hash);
+                    if (distance < bestDistance) {
+                        bestDistance = distance;
+                        bestPosition = position;
+                        if (distance == 0) {
+                            return Optional.of(new Match(ids[position], 0));
+                        }
+                    }
+                }
+            }
+
+            return bestPosition < 0
+                    ? Optional.empty()
+                    : Optional.of(new Match(ids[bestPosition], bestDistance));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addToBucket(int chunk, int value, int position) {
+        int[] bucket = buckets[chunk][value];
+        int bucketSize = bucketSizes[chunk][value];
+        if (bucket == null) {
+            bucket = new int[INITIAL_BUCKET_CAPACITY];
+        } else if (bucketSize == bucket.length) {
+            bucket = Arrays.copyOf(bucket, bucketSize * 2);
+        }
+        bucket[bucketSize] = position;
+        buckets[chunk][value] = bucket;
+        bucketSizes[chunk][value] = bucketSize + 1;
+    }
+
+    private static int chunkValue(long hash, int chunk) {
+        return (int) (hash >>> (chunk * CHUNK_BITS)) & (BUCKETS - 1);
+    }
+
+    /**
+     * 조회 결과 (등록 시 넘긴 ID, 해밍 거리)
+     */
+    public record Match(long id, int distance) {
+    }
+}
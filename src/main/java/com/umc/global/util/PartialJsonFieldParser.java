@@ -0,0 +1,293 @@
+package com.umc.global.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+/**
+ * 토큰 단위로 도착하는 JSON 객체를 점진적으로 해석하는 파서
+ * - 최상위 객체의 필드만 다루며, '{' 이전 문자(```json 등)와 객체가 닫힌 뒤의 문자는 무시
+ * - 문자열 필드는 도착한 만큼 onTextDelta로, 문자열 배열은 항목이 끝날 때마다 onArrayItem으로 전달
+ * - 필드 값이 끝나면 onFieldComplete로 완성된 값을 전달
+ * - 한 응답(스트림)당 인스턴스 하나를 사용하며 스레드 안전하지 않음
+ */
+public class PartialJsonFieldParser {
+
+    /**
+     * 필드 단위 이벤트 수신자
+     */
+    public interface Listener {
+
+        default void onTextDelta(String field, String delta) {
+        }
+
+        default void onArrayItem(String field, int index, String value) {
+        }
+
+        default void onFieldComplete(String field, JsonNode value) {
+        }
+    }
+
+    private enum State { BEFORE_OBJECT, BEFORE_KEY, KEY, AFTER_KEY, BEFORE_VALUE, VALUE, AFTER_VALUE, DONE }
+
+    private enum ValueKind { STRING, ARRAY, OTHER }
+
+    private final ObjectMapper objectMapper;
+    private final Listener listener;
+
+    private State state = State.BEFORE_OBJECT;
+    private final StringDecoder keyDecoder = new StringDecoder();
+    private String field;
+
+    // 현재 값 (배열/기타 값은 원문을 모아 끝난 뒤 JSON으로 해석)
+    private ValueKind kind;
+    private final StringBuilder raw = new StringBuilder();
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+
+    // 문자열 값/배열 항목 디코딩
+    private final StringDecoder textDecoder = new StringDecoder();
+    private int emittedLength;
+    private final StringDecoder itemDecoder = new StringDecoder();
+    private boolean inItem;
+    private int itemIndex;
+
+    public PartialJsonFieldParser(ObjectMapper objectMapper, Listener listener) {
+        this.objectMapper = objectMapper;
+        this.listener = listener;
+    }
+
+    /**
+     * 새로 도착한 조각 처리 (문자열 필드는 조각마다 한 번씩 delta 전달)
+     */
+    public void feed(CharSequence chunk) {
+        for (int i = 0; i < chunk.length(); i++) {
+            accept(chunk.charAt(i));
+        }
+        if (state == State.VALUE && kind == ValueKind.STRING) {
+            flushTextDelta(false);
+        }
+    }
+
+    /**
+     * 최상위 객체가 닫혔는지 여부
+     */
+    public boolean isComplete() {
+        return state == State.DONE;
+    }
+
+    private void accept(char c) {
+        switch (state) {
+            case BEFORE_OBJECT -> {
+                if (c == '{') {
+                    state = State.BEFORE_KEY;
+                }
+            }
+            case BEFORE_KEY -> {
+                if (c == '"') {
+                    keyDecoder.reset();
+                    state = State.KEY;
+                } else if (c == '}') {
+                    state = State.DONE;
+                }
+            }
+            case KEY -> {
+                if (keyDecoder.accept(c)) {
+                    field = keyDecoder.text();
+                    state = State.AFTER_KEY;
+                }
+            }
+            case AFTER_KEY -> {
+                if (c == ':') {
+                    state = State.BEFORE_VALUE;
+                }
+            }
+            case BEFORE_VALUE -> {
+                if (!Character.isWhitespace(c)) {
+                    startValue(c);
+                }
+            }
+            case VALUE -> acceptValue(c);
+            case AFTER_VALUE -> {
+                if (c == ',') {
+                    state = State.BEFORE_KEY;
+                } else if (c == '}') {
+                    state = State.DONE;
+                }
+            }
+            case DONE -> {
+                // 객체 이후 문자는 무시
+            }
+        }
+    }
+
+    private void startValue(char c) {
+        raw.setLength(0);
+        raw.append(c);
+        depth = 0;
+        inString = false;
+        escaped = false;
+        state = State.VALUE;
+
+        if (c == '"') {
+            kind = ValueKind.STRING;
+            textDecoder.reset();
+            emittedLength = 0;
+        } else if (c == '[') {
+            kind = ValueKind.ARRAY;
+            depth = 1;
+            inItem = false;
+            itemIndex = 0;
+        } else {
+            kind = ValueKind.OTHER;
+            if (c == '{') {
+                depth = 1;
+            }
+        }
+    }
+
+    private void acceptValue(char c) {
+        if (kind == ValueKind.STRING) {
+            if (textDecoder.accept(c)) {
+                flushTextDelta(true);
+                completeValue(TextNode.valueOf(textDecoder.text()));
+            }
+            return;
+        }
+
+        if (kind == ValueKind.OTHER && depth == 0 && !inString
+                && (c == ',' || c == '}' || Character.isWhitespace(c))) {
+            // 숫자/true/false/null 같은 단순 값의 끝 (종료 문자는 다음 상태에서 다시 처리)
+            completeValue(parseRaw());
+            accept(c);
+            return;
+        }
+
+        raw.append(c);
+        if (inString) {
+            if (inItem && itemDecoder.accept(c)) {
+                listener.onArrayItem(field, itemIndex++, itemDecoder.text());
+                inItem = false;
+            }
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                inString = false;
+            }
+            return;
+        }
+
+        if (c == '"') {
+            inString = true;
+            if (kind == ValueKind.ARRAY && depth == 1) {
+                itemDecoder.reset();
+                inItem = true;
+            }
+        } else if (c == '[' || c == '{') {
+            depth++;
+        } else if (c == ']' || c == '}') {
+            depth--;
+            if (depth == 0) {
+                completeValue(parseRaw());
+            }
+        }
+    }
+
+    private void completeValue(JsonNode value) {
+        if (value != null) {
+            listener.onFieldComplete(field, value);
+        }
+        state = State.AFTER_VALUE;
+    }
+
+    private JsonNode parseRaw() {
+        try {
+            return objectMapper.readTree(raw.toString());
+        } catch (JsonProcessingException e) {
+            // 형식이 깨진 값은 이벤트 없이 넘어가고 최종 검증에서 걸러짐
+            return null;
+        }
+    }
+
+    /**
+     * 아직 보내지 않은 문자열 부분 전달 (마지막이 아니면 서로게이트 쌍이 나뉘지 않도록 상위 서로게이트는 보류)
+     */
+    private void flushTextDelta(boolean last) {
+        StringBuilder text = textDecoder.buffer();
+        int end = text.length();
+        if (!last && end > emittedLength && Character.isHighSurrogate(text.charAt(end - 1))) {
+            end--;
+        }
+        if (end > emittedLength) {
+            listener.onTextDelta(field, text.substring(emittedLength, end));
+            emittedLength = end;
+        }
+    }
+
+    /**
+     * 여는 따옴표 이후의 JSON 문자열 본문을 한 글자씩 디코딩 (이스케이프가 조각 경계에 걸쳐도 처리)
+     */
+    private static class StringDecoder {
+
+        private final StringBuilder text = new StringBuilder();
+        private boolean escape;
+        private int unicodeDigits = -1;
+        private int unicodeValue;
+
+        void reset() {
+            text.setLength(0);
+            escape = false;
+            unicodeDigits = -1;
+            unicodeValue = 0;
+        }
+
+        /**
+         * 닫는 따옴표를 만나면 true
+         */
+        boolean accept(char c) {
+            if (unicodeDigits >= 0) {
+                unicodeValue = unicodeValue * 16 + Character.digit(c, 16);
+                if (++unicodeDigits == 4) {
+                    text.append((char) unicodeValue);
+                    unicodeDigits = -1;
+                    unicodeValue = 0;
+                }
+                return false;
+            }
+            if (escape) {
+                escape = false;
+                switch (c) {
+                    case 'n' -> text.append('\n');
+                    case 't' -> text.append('\t');
+                    case 'r' -> text.append('\r');
+                    case 'b' -> text.append('\b');
+                    case 'f' -> text.append('\f');
+                    case 'u' -> unicodeDigits = 0;
+                    default -> text.append(c);
+                }
+                return false;
+            }
+            if (c == '\\') {
+                escape = true;
+                return false;
+            }
+            if (c == '"') {
+                return true;
+            }
+            text.append(c);
+            return false;
+        }
+
+        String text() {
+            return text.toString();
+        }
+
+        StringBuilder buffer() {
+            return text;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.umc.global.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 호출을 하나로 합치는 유틸
+ * - 먼저 들어온 호출(leader)만 실제로 실행하고, 실행 중에 들어온 같은 키 호출(follower)은 그 결과를 기다려 공유
+ * - 실행이 끝나면 키를 바로 지우므로 결과를 보관하지 않음 (결과 재사용은 캐시의 역할)
+ * - leader가 실패하면 기다리던 follower에게도 같은 예외가 전달됨
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 키별로 한 번만 실행 (leader 여부를 함께 반환)
+     */
+    public Result<V> execute(K key, Supplier<V> supplier) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            return new Result<>(await(existing), false);
+        }
+
+        try {
+            V value = supplier.get();
+            call.complete(value);
+            return new Result<>(value, true);
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * 현재 실행 중인 키 수
+     */
+    public int size() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 실행 결과 (leader가 false면 다른 호출의 결과를 공유받은 것)
+     */
+    public record Result<V>(V value, boolean leader) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.umc.global.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없이 동작하는 토큰 버킷
+ * - 초당 permitsPerSecond개씩 채워지고 최대 burst개까지 쌓이는 버킷과 동일하게 동작
+ * - 토큰 수 대신 "버킷이 다시 가득 차는 시각"(GCRA의 theoretical arrival time) 하나만 AtomicLong으로 관리하여
+ *   획득/반환이 CAS 한 번으로 끝나고 객체를 만들지 않음
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;   // 토큰 1개가 채워지는 시간
+    private final long toleranceNanos;  // burst - 1개만큼 미리 쓸 수 있는 시간
+    private final AtomicLong fullAt;    // 이 시각 이후에는 버킷이 가득 참
+
+    public TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond는 0보다, burst는 1 이상이어야 합니다: "
+                    + permitsPerSecond + ", " + burst);
+        }
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / permitsPerSecond));
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 1개 획득 시도 (획득하면 0, 아니면 다음 토큰까지 남은 나노초)
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long start = Math.max(current, nowNanos);
+            long waitNanos = start - nowNanos - toleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (fullAt.compareAndSet(current, start + intervalNanos)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * 획득한 토큰 반환 (뒤이은 다른 제한에 걸려 실제로 쓰지 않은 경우)
+     */
+    public void refund() {
+        fullAt.addAndGet(-intervalNanos);
+    }
+
+    /**
+     * 버킷이 가득 찼는지 여부 (가득 찬 버킷은 버리고 새로 만들어도 동작이 같음)
+     */
+    public boolean isFull(long nowNanos) {
+        return fullAt.get() <= nowNanos;
+    }
+}
@@ -0,0 +1,162 @@
+package com.umc.domain.file.service;
+
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.drive.Drive;
+import com.google.api.services.drive.model.File;
+import com.umc.domain.file.entity.DriveFolder;
+import com.umc.domain.file.repository.DriveFolderRepository;
+import com.umc.global.metrics.UpstreamMetrics;
+import com.umc.global.sim.LatencyProfile;
+import com.umc.global.sim.SimulatedDriveTransport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DriveFolderServiceTest {
+
+    private static final String PARENT = "root";
+    private static final String FOLDER = "record-1_audio";
+
+    @Mock
+    private DriveFolderRepository folderRepository;
+
+    private SimulatedDriveTransport transport;
+    private Drive drive;
+    private SimpleMeterRegistry meterRegistry;
+    private DriveFolderService folderService;
+
+    @BeforeEach
+    void setUp() {
+        LatencyProfile instant = new LatencyProfile(0, 0, 0, 0, 0);
+        GsonFactory jsonFactory = GsonFactory.getDefaultInstance();
+        transport = new SimulatedDriveTransport(jsonFactory, Map.of(
+                "lookup", instant, "create", instant, "upload", instant, "permission", instant, "delete", instant), 0, 0);
+        drive = new Drive.Builder(transport, jsonFactory, null).setApplicationName("test").build();
+        meterRegistry = new SimpleMeterRegistry();
+        UpstreamMetrics upstreamMetrics = new UpstreamMetrics(meterRegistry);
+        DriveRequestBatcher batcher = new DriveRequestBatcher(drive, upstreamMetrics, meterRegistry, Runnable::run,
+                false, 50, 1);
+        folderService = new DriveFolderService(drive, upstreamMetrics, folderRepository, batcher,
+                meterRegistry, PARENT, 100, true);
+    }
+
+    @Test
+    void warmPathMakesNoDriveCalls() throws Exception {
+        given(folderRepository.findByFolderNameAndParentId(FOLDER, PARENT)).willReturn(Optional.empty());
+
+        String folderId = folderService.getOrCreate(FOLDER);
+        int coldRequests = transport.requestCount();
+
+        assertThat(folderService.getOrCreate(FOLDER)).isEqualTo(folderId);
+        assertThat(coldRequests).isEqualTo(2); // 조회 + 생성 (폴더는 공개하지 않음)
+        assertThat(transport.get(folderId).getPermissions()).isNull();
+        assertThat(transport.requestCount()).isEqualTo(coldRequests);
+        assertThat(meterRegistry.get("google.drive.folder.cache").tag("tier", "memory").counter().count())
+                .isEqualTo(1);
+        verify(folderRepository).save(any(DriveFolder.class));
+    }
+
+    @Test
+    void storedFolderIsUsedWithoutDriveCalls() throws Exception {
+        given(folderRepository.findByFolderNameAndParentId(FOLDER, PARENT)).willReturn(Optional.of(
+                DriveFolder.builder().folderName(FOLDER).parentId(PARENT).driveFolderId("stored-id").build()));
+
+        assertThat(folderService.getOrCreate(FOLDER)).isEqualTo("stored-id");
+        assertThat(folderService.getOrCreate(FOLDER)).isEqualTo("stored-id");
+        assertThat(transport.requestCount()).isZero();
+        verify(folderRepository, times(1)).findByFolderNameAndParentId(FOLDER, PARENT);
+    }
+
+    @Test
+    void concurrentCallsCreateOneFolder() throws Exception {
+        given(folderRepository.findByFolderNameAndParentId(FOLDER, PARENT)).willReturn(Optional.empty());
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return folderService.getOrCreate(FOLDER);
+                }));
+            }
+            start.countDown();
+
+            String folderId = results.get(0).get();
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo(folderId);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(transport.size()).isEqualTo(1);
+        verify(folderRepository, times(1)).save(any(DriveFolder.class));
+    }
+
+    @Test
+    void usesFolderStoredByAnotherServerAndDeletesDuplicate() throws Exception {
+        DriveFolder winner = DriveFolder.builder().folderName(FOLDER).parentId(PARENT).driveFolderId("winner-id").build();
+        given(folderRepository.findByFolderNameAndParentId(FOLDER, PARENT))
+                .willReturn(Optional.empty(), Optional.of(winner));
+        given(folderRepository.save(any(DriveFolder.class))).willThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertThat(folderService.getOrCreate(FOLDER)).isEqualTo("winner-id");
+        assertThat(transport.size()).isZero(); // 새로 만든 중복 폴더는 삭제
+        assertThat(folderService.getOrCreate(FOLDER)).isEqualTo("winner-id");
+    }
+
+    @Test
+    void findDoesNotCreateMissingFolder() throws Exception {
+        given(folderRepository.findByFolderNameAndParentId(FOLDER, PARENT)).willReturn(Optional.empty());
+
+        assertThat(folderService.find(FOLDER)).isEmpty();
+        assertThat(transport.size()).isZero();
+        verify(folderRepository, never()).save(any(DriveFolder.class));
+    }
+
+    @Test
+    void findAllLooksUpMissingFoldersInOneQuery() throws Exception {
+        given(folderRepository.findByFolderNameAndParentId(any(), any())).willReturn(Optional.empty());
+        String audioId = createFolder("record-1_audio");
+        String imageId = createFolder("record-1_image");
+        createFolder("record-2_audio");
+        int before = transport.requestCount();
+
+        Map<String, String> found = folderService.findAll(List.of("record-1_audio", "record-1_video", "record-1_image"));
+
+        assertThat(found).containsExactlyInAnyOrderEntriesOf(Map.of("record-1_audio", audioId, "record-1_image", imageId));
+        assertThat(transport.requestCount() - before).isEqualTo(1);
+    }
+
+    private String createFolder(String name) throws Exception {
+        return drive.files().create(new File()
+                        .setName(name)
+                        .setMimeType("application/vnd.google-apps.folder")
+                        .setParents(List.of(PARENT)))
+                .execute()
+                .getId();
+    }
+}
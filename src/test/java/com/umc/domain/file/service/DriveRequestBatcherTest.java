@@ -0,0 +1,114 @@
+package com.umc.domain.file.service;
+
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.drive.Drive;
+import com.google.api.services.drive.model.File;
+import com.google.api.services.drive.model.Permission;
+import com.umc.global.metrics.UpstreamMetrics;
+import com.umc.global.sim.LatencyProfile;
+import com.umc.global.sim.SimulatedDriveTransport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DriveRequestBatcherTest {
+
+    private SimulatedDriveTransport transport;
+    private Drive drive;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        LatencyProfile instant = new LatencyProfile(0, 0, 0, 0, 0);
+        GsonFactory jsonFactory = GsonFactory.getDefaultInstance();
+        transport = new SimulatedDriveTransport(jsonFactory, Map.of(
+                "lookup", instant, "create", instant, "upload", instant, "permission", instant, "delete", instant), 0, 0);
+        drive = new Drive.Builder(transport, jsonFactory, null).setApplicationName("test").build();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void fullBatchIsSentInOneRequest() throws Exception {
+        List<String> fileIds = createFiles(3);
+        DriveRequestBatcher batcher = newBatcher(true, 4, 60_000);
+        int before = transport.requestCount();
+
+        List<CompletableFuture<?>> results = new ArrayList<>();
+        for (String fileId : fileIds) {
+            results.add(batcher.createPermission(fileId, new Permission().setType("anyone").setRole("reader")));
+        }
+        results.add(batcher.delete(fileIds.get(0)));
+
+        for (CompletableFuture<?> result : results) {
+            DriveRequestBatcher.await(result);
+        }
+        assertThat(transport.requestCount() - before).isEqualTo(1);
+        assertThat(transport.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("google.drive.batch.size").summary().max()).isEqualTo(4);
+    }
+
+    @Test
+    void partialBatchIsSentAfterDelay() throws Exception {
+        List<String> fileIds = createFiles(2);
+        DriveRequestBatcher batcher = newBatcher(true, 50, 1);
+        int before = transport.requestCount();
+
+        CompletableFuture<Void> first = batcher.delete(fileIds.get(0));
+        CompletableFuture<Void> second = batcher.delete(fileIds.get(1));
+
+        DriveRequestBatcher.await(first);
+        DriveRequestBatcher.await(second);
+        assertThat(transport.requestCount() - before).isEqualTo(1);
+        assertThat(transport.size()).isZero();
+    }
+
+    @Test
+    void failedItemDoesNotFailOthers() throws Exception {
+        List<String> fileIds = createFiles(1);
+        DriveRequestBatcher batcher = newBatcher(true, 2, 60_000);
+
+        CompletableFuture<Void> existing = batcher.delete(fileIds.get(0));
+        CompletableFuture<Void> missing = batcher.delete("missing");
+
+        DriveRequestBatcher.await(existing);
+        assertThatThrownBy(() -> DriveRequestBatcher.await(missing))
+                .isInstanceOfSatisfying(GoogleJsonResponseException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(404));
+        assertThat(meterRegistry.get("google.drive.batch.requests").tag("result", "failure").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void disabledBatcherSendsEachRequest() throws Exception {
+        List<String> fileIds = createFiles(2);
+        DriveRequestBatcher batcher = newBatcher(false, 50, 60_000);
+        int before = transport.requestCount();
+
+        DriveRequestBatcher.await(batcher.delete(fileIds.get(0)));
+        DriveRequestBatcher.await(batcher.delete(fileIds.get(1)));
+
+        assertThat(transport.requestCount() - before).isEqualTo(2);
+    }
+
+    private DriveRequestBatcher newBatcher(boolean enabled, int maxSize, long maxDelayMs) {
+        return new DriveRequestBatcher(drive, new UpstreamMetrics(meterRegistry), meterRegistry, Runnable::run,
+                enabled, maxSize, maxDelayMs);
+    }
+
+    private List<String> createFiles(int count) throws Exception {
+        List<String> fileIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            fileIds.add(drive.files().create(new File().setName("file-" + i)).execute().getId());
+        }
+        return fileIds;
+    }
+}
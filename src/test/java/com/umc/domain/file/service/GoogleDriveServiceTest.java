@@ -0,0 +1,127 @@
+package com.umc.domain.file.service;
+
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.drive.Drive;
+import com.google.api.services.drive.model.File;
+import com.umc.domain.file.dto.FileUploadResponse;
+import com.umc.global.client.DriveUploadRetryInitializer;
+import com.umc.global.metrics.UpstreamMetrics;
+import com.umc.global.sim.LatencyProfile;
+import com.umc.global.sim.SimulatedDriveTransport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class GoogleDriveServiceTest {
+
+    private static final int CHUNK_SIZE = 256 * 1024;
+    private static final byte[] CONTENT = new byte[12 * CHUNK_SIZE + 1000];
+
+    static {
+        new Random(7).nextBytes(CONTENT);
+    }
+
+    @Mock
+    private DriveFolderService driveFolderService;
+
+    private SimulatedDriveTransport transport;
+    private Drive drive;
+
+    @Test
+    void uploadIsSentInChunks() throws Exception {
+        GoogleDriveService service = newService(0);
+        given(driveFolderService.getOrCreate("record-1_audio")).willReturn("folder-1");
+
+        FileUploadResponse response = service.uploadFile(audio(), "record-1");
+
+        assertStored(response.getFileId());
+        assertThat(transport.requestCount()).isEqualTo(1 + 13 + 1); // 업로드 시작 + 조각 13개 + 공개 설정
+    }
+
+    @Test
+    void droppedConnectionsResumeFromAcknowledgedOffset() throws Exception {
+        GoogleDriveService service = newService(0.5);
+        given(driveFolderService.getOrCreate("record-1_audio")).willReturn("folder-1");
+
+        FileUploadResponse response = service.uploadFile(audio(), "record-1");
+
+        // 받은 위치부터 이어서 보냈다면 내용이 원본과 같음
+        assertStored(response.getFileId());
+        assertThat(transport.requestCount()).isGreaterThan(1 + 13 + 1);
+    }
+
+    @Test
+    void recordFilesFollowNextPageToken() throws Exception {
+        GoogleDriveService service = newService(0);
+        String audioFolder = createFile("record-1_audio", "root");
+        String imageFolder = createFile("record-1_image", "root");
+        for (int i = 0; i < 1001; i++) {
+            createFile("song-" + i + ".mp3", audioFolder);
+        }
+        createFile("cover.png", imageFolder);
+        given(driveFolderService.findAll(any())).willReturn(Map.of(
+                "record-1_audio", audioFolder, "record-1_image", imageFolder));
+        int before = transport.requestCount();
+
+        Map<String, List<FileUploadResponse>> files = service.getRecordFiles("record-1");
+
+        assertThat(files.get("audio")).hasSize(1001);
+        assertThat(files.get("image")).extracting(FileUploadResponse::getFileName).containsExactly("cover.png");
+        assertThat(files.get("video")).isEmpty();
+        assertThat(transport.requestCount() - before).isEqualTo(3); // 오디오 2페이지 + 이미지 1페이지
+    }
+
+    private String createFile(String name, String parentId) throws Exception {
+        return drive.files().create(new File().setName(name).setParents(List.of(parentId))).execute().getId();
+    }
+
+    private GoogleDriveService newService(double dropRate) {
+        LatencyProfile instant = new LatencyProfile(0, 0, 0, 0, 0);
+        GsonFactory jsonFactory = GsonFactory.getDefaultInstance();
+        transport = new SimulatedDriveTransport(jsonFactory, Map.of(
+                "lookup", instant, "create", instant, "upload", instant, "permission", instant, "delete", instant),
+                0, dropRate);
+        drive = new Drive.Builder(transport, jsonFactory, new DriveUploadRetryInitializer(null, 20, 1, 50))
+                .setApplicationName("test")
+                .build();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UpstreamMetrics upstreamMetrics = new UpstreamMetrics(meterRegistry);
+        GoogleDriveService service = new GoogleDriveService(drive, upstreamMetrics, driveFolderService,
+                new DriveRequestBatcher(drive, upstreamMetrics, meterRegistry, Runnable::run, false, 50, 1),
+                Runnable::run);
+        ReflectionTestUtils.setField(service, "uploadChunkSize", CHUNK_SIZE);
+        return service;
+    }
+
+    private void assertStored(String fileId) throws Exception {
+        File stored = transport.get(fileId);
+        assertThat(stored.getSize()).isEqualTo(CONTENT.length);
+        assertThat(stored.getParents()).containsExactly("folder-1");
+        // 링크 공개는 폴더가 아니라 파일에만 설정
+        assertThat(stored.getPermissions()).singleElement().satisfies(permission -> {
+            assertThat(permission.getType()).isEqualTo("anyone");
+            assertThat(permission.getRole()).isEqualTo("reader");
+        });
+        assertThat(stored.getMd5Checksum())
+                .isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(CONTENT)));
+    }
+
+    private static MockMultipartFile audio() {
+        return new MockMultipartFile("file", "song.mp3", "audio/mpeg", CONTENT);
+    }
+}
@@ -0,0 +1,143 @@
+package com.umc.domain.file.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.converter.support.AllEncompassingFormHttpMessageConverter;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MultipartFileResourceTest {
+
+    private static final int SMALL_FILE_SIZE = 512 * 1024;
+    private static final int LARGE_FILE_SIZE = 24 * 1024 * 1024;
+
+    private final List<SpooledMultipartFile> files = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        files.forEach(SpooledMultipartFile::delete);
+    }
+
+    @Test
+    void multipartBodyIsStreamedWithConstantHeapAllocation() throws Exception {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertThat(threadMXBean.isThreadAllocatedMemorySupported()).isTrue();
+
+        SpooledMultipartFile small = spool(SMALL_FILE_SIZE);
+        SpooledMultipartFile large = spool(LARGE_FILE_SIZE);
+
+        // 클래스 로딩 등 최초 1회 비용 제외
+        writeWhisperBody(small);
+
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        long smallWritten = writeWhisperBody(small);
+        long smallAllocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+
+        before = threadMXBean.getCurrentThreadAllocatedBytes();
+        long largeWritten = writeWhisperBody(large);
+        long largeAllocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+
+        assertThat(smallWritten).isGreaterThan(SMALL_FILE_SIZE);
+        assertThat(largeWritten).isGreaterThan(LARGE_FILE_SIZE);
+
+        // 파일 크기가 48배여도 힙 할당량은 거의 같아야 함 (파일 내용이 힙에 복사되지 않음)
+        assertThat(largeAllocated).isLessThan(LARGE_FILE_SIZE / 16);
+        assertThat(largeAllocated - smallAllocated).isLessThan(256 * 1024);
+    }
+
+    @Test
+    void resourceCanBeReadRepeatedlyForRetries() throws Exception {
+        SpooledMultipartFile file = spool(4096);
+        MultipartFileResource resource = new MultipartFileResource(file, "song.mp3");
+
+        assertThat(resource.contentLength()).isEqualTo(4096);
+        assertThat(resource.getFilename()).isEqualTo("song.mp3");
+        assertThat(resource.getInputStream().readAllBytes()).hasSize(4096);
+        assertThat(resource.getInputStream().readAllBytes()).hasSize(4096);
+    }
+
+    /**
+     * RestTemplate과 같은 변환기로 Whisper multipart 본문을 쓰고 전송된 바이트 수 반환
+     */
+    private long writeWhisperBody(SpooledMultipartFile file) throws IOException {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", new MultipartFileResource(file, "song.mp3"));
+        body.add("model", "whisper-1");
+        body.add("language", "ko");
+
+        DiscardingOutputMessage outputMessage = new DiscardingOutputMessage();
+        new AllEncompassingFormHttpMessageConverter().write(body, MediaType.MULTIPART_FORM_DATA, outputMessage);
+        outputMessage.flushBody();
+        return outputMessage.stream.count;
+    }
+
+    private SpooledMultipartFile spool(int size) throws IOException {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) i;
+        }
+        SpooledMultipartFile file = SpooledMultipartFile.spool(
+                new MockMultipartFile("file", "song.mp3", "audio/mpeg", content));
+        files.add(file);
+        return file;
+    }
+
+    /**
+     * 본문을 버리고 바이트 수만 세는 스트리밍 요청 (실제 HTTP 클라이언트 대신 사용)
+     */
+    private static class DiscardingOutputMessage implements StreamingHttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final CountingOutputStream stream = new CountingOutputStream();
+        private Body body;
+
+        @Override
+        public void setBody(Body body) {
+            this.body = body;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return stream;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        void flushBody() throws IOException {
+            if (body != null) {
+                body.writeTo(stream);
+            }
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.umc.domain.file.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PerceptualHashUtilTest {
+
+    @Test
+    void resizedAndRecompressedImageStaysWithinSmallDistance() throws Exception {
+        BufferedImage original = drawScene(800, 600, Color.ORANGE);
+        long originalHash = PerceptualHashUtil.dHash(image("original.png", toPng(original)));
+
+        BufferedImage resized = new BufferedImage(320, 240, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(original, 0, 0, 320, 240, null);
+        graphics.dispose();
+        long resizedHash = PerceptualHashUtil.dHash(image("resized.jpg", toJpeg(resized, 0.4f)));
+
+        assertThat(PerceptualHashUtil.distance(originalHash, resizedHash)).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    void differentImagesAreFarApart() throws Exception {
+        long first = PerceptualHashUtil.dHash(drawScene(400, 300, Color.ORANGE));
+        long second = PerceptualHashUtil.dHash(drawStripes(400, 300));
+
+        assertThat(PerceptualHashUtil.distance(first, second)).isGreaterThan(10);
+    }
+
+    @Test
+    void unreadableFileReturnsNull() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", new byte[]{1, 2, 3});
+
+        assertThat(PerceptualHashUtil.dHash(file)).isNull();
+    }
+
+    private static BufferedImage drawScene(int width, int height, Color sun) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, new Color(30, 60, 160), width, height, new Color(200, 220, 255)));
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(sun);
+        graphics.fillOval(width / 2, height / 6, width / 4, width / 4);
+        graphics.setPaint(new GradientPaint(0, 0, new Color(90, 160, 60), width, 0, new Color(20, 70, 20)));
+        graphics.fillRect(0, height * 2 / 3, width, height / 3);
+        graphics.dispose();
+        return image;
+    }
+
+    private static BufferedImage drawStripes(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        for (int x = 0; x < width; x += 20) {
+            graphics.setColor((x / 20) % 2 == 0 ? Color.BLACK : Color.WHITE);
+            graphics.fillRect(x, 0, 20, height);
+        }
+        graphics.dispose();
+        return image;
+    }
+
+    private static MockMultipartFile image(String name, byte[] bytes) {
+        return new MockMultipartFile("file", name, "image/*", bytes);
+    }
+
+    private static byte[] toPng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] toJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,36 @@
+package com.umc.domain.perfume.audio;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranscriptStitcherTest {
+
+    @Test
+    void overlappingWordsAreKeptOnce() {
+        String stitched = TranscriptStitcher.stitch(List.of(
+                "하늘 위로 날아가 별을 따라",
+                "별을 따라 걸어가 너에게로"));
+
+        assertThat(stitched).isEqualTo("하늘 위로 날아가 별을 따라 걸어가 너에게로");
+    }
+
+    @Test
+    void wordsCutAtChunkEdgeAreSkippedWhenMatching() {
+        // 앞 구간 끝의 "걸"과 다음 구간 앞의 "라"는 경계에서 잘려 잘못 인식된 단어
+        String stitched = TranscriptStitcher.stitch(List.of(
+                "하늘 위로 날아가, 별을 따라 걸",
+                "라 별을 따라 걸어가 너에게로."));
+
+        assertThat(stitched).isEqualTo("하늘 위로 날아가, 별을 따라 걸어가 너에게로.");
+    }
+
+    @Test
+    void chunksWithoutCommonWordsAreConcatenated() {
+        String stitched = TranscriptStitcher.stitch(List.of("첫 번째 구간", "", "다음 이야기 시작"));
+
+        assertThat(stitched).isEqualTo("첫 번째 구간 다음 이야기 시작");
+    }
+}
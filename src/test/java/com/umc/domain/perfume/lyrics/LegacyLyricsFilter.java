@@ -0,0 +1,79 @@
+package com.umc.domain.perfume.lyrics;
+
+/**
+ * 정규식 체인으로 구현되어 있던 기존 가사 정제 로직 (동등성 테스트와 벤치마크 기준)
+ */
+final class LegacyLyricsFilter {
+
+    private LegacyLyricsFilter() {
+    }
+
+    static String normalize(String text) {
+        return removeMeaninglessRepetition(removeSimpleRepetition(text));
+    }
+
+    static String removeSimpleRepetition(String text) {
+        String[] patterns = {"랩", "자, 그럼", "그러면", "해볼까요", "네!", "꿈꾸는 건 좋지만",
+                "이 곡은 아시아의 힙합 가수의 곡인데", "이걸 이스키는 여전히"};
+
+        String result = text;
+        for (String pattern : patterns) {
+            String regex = "(" + pattern.replace("(", "\\(").replace(")", "\\)") + "[\\s,]*){5,}";
+            result = result.replaceAll(regex, pattern + " ");
+        }
+        return result;
+    }
+
+    static String removeMeaninglessRepetition(String text) {
+        text = text.replaceAll("\\s+", " ");
+
+        String[] sentences = text.split("[.!?]");
+        StringBuilder result = new StringBuilder();
+
+        String lastSentence = "";
+        int repeatCount = 0;
+
+        for (String sentence : sentences) {
+            sentence = sentence.trim();
+            if (sentence.isEmpty()) continue;
+
+            if (sentence.equals(lastSentence)) {
+                repeatCount++;
+                if (repeatCount <= 1) {
+                    result.append(sentence).append(". ");
+                }
+            } else {
+                repeatCount = 0;
+                result.append(sentence).append(". ");
+                lastSentence = sentence;
+            }
+        }
+        return result.toString().trim();
+    }
+
+    static boolean isInvalidLyrics(String lyrics) {
+        if (lyrics.length() < 20) {
+            return true;
+        }
+
+        String[] words = lyrics.split("\\s+");
+        if (words.length > 10) {
+            String firstWord = words[0];
+            long sameWordCount = java.util.Arrays.stream(words)
+                    .filter(word -> word.equals(firstWord))
+                    .count();
+            if (sameWordCount > words.length * 0.8) {
+                return true;
+            }
+        }
+
+        String cleanText = lyrics.toLowerCase()
+                .replaceAll("랩", "")
+                .replaceAll("자, 그럼", "")
+                .replaceAll("해볼까요", "")
+                .replaceAll("네!", "")
+                .replaceAll("그러면", "")
+                .replaceAll("[\\s\\p{Punct}]", "");
+        return cleanText.length() < 10;
+    }
+}
@@ -0,0 +1,88 @@
+package com.umc.domain.perfume.lyrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LyricsNormalizerTest {
+
+    private static final String[] WORDS = {
+            "랩", "자, 그럼", "그러면", "해볼까요", "네!", "꿈꾸는 건 좋지만", "이 곡은 아시아의 힙합 가수의 곡인데",
+            "이걸 이스키는 여전히", "자,", "그럼", "그러", "면", "네", "사랑해", "너를", "기다려", "밤하늘",
+            "Love", "YOU", "İstanbul", "baby", "yeah", "oh", "123", "~", "(후렴)", "...", "?!"
+    };
+    private static final String[] SEPARATORS = {
+            " ", " ", " ", "  ", ", ", ",", "\t", "\n", "\r\n", "\u000B", "\f", "\u0001", "\u001F", " ",
+            ". ", "! ", "? ", ".", ""
+    };
+
+    private final LyricsNormalizer normalizer = LyricsNormalizer.withDefaults();
+
+    @Test
+    void repeatedFillerRunCollapsesToSinglePhrase() {
+        String lyrics = "시작합니다 랩 랩, 랩 랩  랩,랩 끝";
+
+        assertThat(normalizer.normalize(lyrics)).isEqualTo("시작합니다 랩 끝.");
+    }
+
+    @Test
+    void sameSentenceIsKeptAtMostTwiceInARow() {
+        String lyrics = "너를 사랑해. 너를 사랑해! 너를   사랑해? 너를 사랑해. 안녕";
+
+        assertThat(normalizer.normalize(lyrics)).isEqualTo("너를 사랑해. 너를 사랑해. 안녕.");
+    }
+
+    @Test
+    void invalidReasonsMatchLegacyChecks() {
+        assertThat(normalizer.findInvalidReason("짧은 가사")).isEqualTo(LyricsNormalizer.InvalidReason.TOO_SHORT);
+        assertThat(normalizer.findInvalidReason("yeah yeah yeah yeah yeah yeah yeah yeah yeah yeah yeah oh"))
+                .isEqualTo(LyricsNormalizer.InvalidReason.SINGLE_WORD_REPEATED);
+        assertThat(normalizer.findInvalidReason("랩 랩. 자, 그럼 해볼까요? 네! 그러면... 랩!"))
+                .isEqualTo(LyricsNormalizer.InvalidReason.NOT_MEANINGFUL);
+        assertThat(normalizer.findInvalidReason("밤하늘 별빛 아래 너를 기다리며 노래해")).isNull();
+    }
+
+    @Test
+    void outputIsIdenticalToLegacyRegexChainForRandomLyrics() {
+        SplittableRandom random = new SplittableRandom(20240501);
+        for (int sample = 0; sample < 20_000; sample++) {
+            String lyrics = randomLyrics(random);
+            String trimmed = lyrics.trim();
+
+            String expected = LegacyLyricsFilter.normalize(trimmed);
+            String actual = normalizer.normalize(trimmed);
+            assertThat(actual).as("입력: [%s]", lyrics).isEqualTo(expected);
+
+            assertThat(normalizer.findInvalidReason(actual) != null)
+                    .as("유효성 입력: [%s]", actual)
+                    .isEqualTo(LegacyLyricsFilter.isInvalidLyrics(actual));
+            assertThat(normalizer.findInvalidReason(lyrics) != null)
+                    .as("유효성 입력: [%s]", lyrics)
+                    .isEqualTo(LegacyLyricsFilter.isInvalidLyrics(lyrics));
+        }
+    }
+
+    @Test
+    void fillerPhraseStartingWithSeparatorIsRejected() {
+        assertThatThrownBy(() -> new LyricsNormalizer(List.of(" 랩"), List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String randomLyrics(SplittableRandom random) {
+        StringBuilder lyrics = new StringBuilder();
+        int parts = random.nextInt(1, 40);
+        for (int part = 0; part < parts; part++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            // 반복 구간과 반복 문장이 자주 나오도록 같은 단어/문장을 여러 번 이어 붙임
+            int repeats = random.nextInt(4) == 0 ? random.nextInt(1, 9) : 1;
+            for (int i = 0; i < repeats; i++) {
+                lyrics.append(word).append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+            }
+        }
+        return lyrics.toString();
+    }
+}
@@ -0,0 +1,78 @@
+package com.umc.domain.perfume.prompt;
+
+import com.umc.global.util.BpeTokenizer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PerfumePromptsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BpeTokenizer tokenizer = BpeTokenizer.estimating();
+
+    @Test
+    void lyricsGoAfterIdenticalStaticPrefix() {
+        PerfumePrompts prompts = new PerfumePrompts(tokenizer, 600, meterRegistry);
+
+        String first = prompts.lyricsAnalysis("첫 번째 노래의 가사입니다");
+        String second = prompts.lyricsAnalysis("전혀 다른 두 번째 노래 가사");
+
+        int common = commonPrefixLength(first, second);
+        assertThat(first.substring(common)).startsWith("첫 번째");
+        assertThat(first.substring(0, common)).contains("감정-향료 매핑 가이드", "=== 분석할 텍스트 ===");
+        assertThat(first.stripTrailing()).endsWith("==================");
+    }
+
+    @Test
+    void truncatesLyricsToTokenBudget() {
+        PerfumePrompts prompts = new PerfumePrompts(tokenizer, 50, meterRegistry);
+        String lyrics = "너를 처음 만난 그날 밤 별이 가득했던 하늘 ".repeat(30);
+
+        String prompt = prompts.lyricsAnalysis(lyrics);
+
+        String included = prompt.substring(prompt.indexOf("===\n") + 4, prompt.lastIndexOf("\n=="));
+        assertThat(included).endsWith("...");
+        assertThat(tokenizer.count(included)).isLessThanOrEqualTo(50);
+        assertThat(meterRegistry.get("perfume.prompt.truncated").tag("template", "lyrics-analysis")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void defaultBudgetKeepsFiveHundredKoreanCharacters() {
+        PerfumePrompts prompts = new PerfumePrompts(tokenizer, 600, meterRegistry);
+        String lyrics = "너를 처음 만난 그날 밤 별이 가득했던 하늘\n".repeat(30).substring(0, 500);
+
+        String prompt = prompts.lyricsAnalysis(lyrics);
+
+        // 추정 계산에서는 한글 한 글자가 1토큰이므로 기존 500자 제한보다 짧게 잘리면 안 됨
+        assertThat(prompt).contains(lyrics);
+        assertThat(meterRegistry.get("perfume.prompt.truncated").tag("template", "lyrics-analysis")
+                .counter().count()).isZero();
+    }
+
+    @Test
+    void recordsStaticAndVariableTokensPerTemplate() {
+        PerfumePrompts prompts = new PerfumePrompts(tokenizer, 600, meterRegistry);
+
+        prompts.lyricsAnalysis("짧은 가사");
+        prompts.imageAnalysis();
+
+        assertThat(meterRegistry.get("perfume.prompt.tokens").tag("template", "lyrics-analysis").tag("part", "static")
+                .summary().mean()).isPositive();
+        assertThat(meterRegistry.get("perfume.prompt.tokens").tag("template", "lyrics-analysis").tag("part", "variable")
+                .summary().mean()).isPositive();
+        assertThat(meterRegistry.get("perfume.prompt.tokens").tag("template", "image-analysis").tag("part", "variable")
+                .summary().mean()).isZero();
+        assertThat(meterRegistry.get("perfume.prompt.truncated").tag("template", "lyrics-analysis")
+                .counter().count()).isZero();
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int length = 0;
+        while (length < Math.min(a.length(), b.length()) && a.charAt(length) == b.charAt(length)) {
+            length++;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,159 @@
+package com.umc.domain.perfume.service;
+
+import com.umc.domain.perfume.audio.AudioSegment;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AudioExcerptServiceTest {
+
+    private static final int MP3_FRAME_LENGTH = 417; // MPEG1 Layer III 128kbps 44.1kHz
+    private static final double MP3_FRAME_SECONDS = 1152.0 / 44100;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AudioExcerptService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new AudioExcerptService(meterRegistry, 45, 1);
+    }
+
+    @Test
+    void wavExcerptStartsAtFirstLoudRegionAndIsDownmixedTo16kMono() throws Exception {
+        // 20초 무음 + 100초 440Hz, 44.1kHz 스테레오
+        byte[] wav = wav(44100, 2, 20, 100);
+        MockMultipartFile file = new MockMultipartFile("file", "song.wav", "audio/wav", wav);
+
+        AudioSegment segment = service.excerpt(file, "song.wav");
+
+        assertThat(segment).isNotNull();
+        assertThat(segment.filename()).isEqualTo("song.wav");
+        assertThat(segment.startSeconds()).isCloseTo(19.0, within(1.0));
+        assertThat(segment.durationSeconds()).isCloseTo(45.0, within(0.01));
+
+        byte[] excerpt = segment.resource().getContentAsByteArray();
+        ByteBuffer header = ByteBuffer.wrap(excerpt).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(header.getShort(22)).isEqualTo((short) 1);    // 채널 수
+        assertThat(header.getInt(24)).isEqualTo(16000);          // 샘플레이트
+        assertThat(header.getShort(34)).isEqualTo((short) 16);   // 비트 수
+        assertThat(header.getInt(40)).isCloseTo(45 * 16000 * 2, within(4));
+        assertThat(segment.size()).isLessThan(wav.length / 10);
+    }
+
+    @Test
+    void mp3ExcerptIsContiguousFrameRangeOfOriginal() throws Exception {
+        // ID3 태그 + 20초 무음 프레임 + 100초 소리 프레임
+        byte[] mp3 = mp3(20, 100);
+        MockMultipartFile file = new MockMultipartFile("file", "song.mp3", "audio/mpeg", mp3);
+
+        AudioSegment segment = service.excerpt(file, "song.mp3");
+
+        assertThat(segment).isNotNull();
+        assertThat(segment.startSeconds()).isCloseTo(19.0, within(1.0));
+        assertThat(segment.durationSeconds()).isCloseTo(45.0, within(MP3_FRAME_SECONDS));
+        assertThat(segment.size() % MP3_FRAME_LENGTH).isZero();
+
+        int firstFrame = (int) Math.round(segment.startSeconds() / MP3_FRAME_SECONDS);
+        int offset = 32 + firstFrame * MP3_FRAME_LENGTH;
+        try (InputStream inputStream = segment.resource().getInputStream()) {
+            assertThat(inputStream.readAllBytes())
+                    .isEqualTo(Arrays.copyOfRange(mp3, offset, offset + (int) segment.size()));
+        }
+    }
+
+    @Test
+    void shortTrackAlreadyInTargetFormatIsSentWhole() {
+        // 창보다 짧은 16kHz 모노 WAV는 발췌해도 줄어들지 않음
+        MockMultipartFile file = new MockMultipartFile("file", "short.wav", "audio/wav", wav(16000, 1, 0, 10));
+
+        assertThat(service.excerpt(file, "short.wav")).isNull();
+        assertThat(meterRegistry.get("perfume.audio.excerpt").tag("result", "original").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void unsupportedFormatIsSentWhole() {
+        byte[] m4a = new byte[64];
+        System.arraycopy("....ftypM4A ".getBytes(StandardCharsets.US_ASCII), 0, m4a, 0, 12);
+        MockMultipartFile file = new MockMultipartFile("file", "song.m4a", "audio/mp4", m4a);
+
+        assertThat(service.excerpt(file, "song.m4a")).isNull();
+        assertThat(meterRegistry.get("perfume.audio.excerpt").tag("result", "unsupported").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private static byte[] wav(int sampleRate, int channels, int silentSeconds, int toneSeconds) {
+        int frames = sampleRate * (silentSeconds + toneSeconds);
+        int dataLength = frames * channels * 2;
+        ByteBuffer buffer = ByteBuffer.allocate(44 + dataLength).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes(StandardCharsets.US_ASCII)).putInt(36 + dataLength)
+                .put("WAVE".getBytes(StandardCharsets.US_ASCII))
+                .put("fmt ".getBytes(StandardCharsets.US_ASCII)).putInt(16)
+                .putShort((short) 1).putShort((short) channels).putInt(sampleRate)
+                .putInt(sampleRate * channels * 2).putShort((short) (channels * 2)).putShort((short) 16)
+                .put("data".getBytes(StandardCharsets.US_ASCII)).putInt(dataLength);
+
+        int silentFrames = sampleRate * silentSeconds;
+        for (int i = 0; i < frames; i++) {
+            short sample = i < silentFrames ? 0 : (short) (Math.sin(2 * Math.PI * 440 * i / sampleRate) * 12000);
+            for (int channel = 0; channel < channels; channel++) {
+                buffer.putShort(sample);
+            }
+        }
+        return buffer.array();
+    }
+
+    private static byte[] mp3(int silentSeconds, int loudSeconds) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        // ID3v2.4 헤더 + 22바이트 태그 본문
+        output.writeBytes(new byte[]{'I', 'D', '3', 4, 0, 0, 0, 0, 0, 22});
+        output.writeBytes(new byte[22]);
+
+        int silentFrames = (int) Math.round(silentSeconds / MP3_FRAME_SECONDS);
+        int loudFrames = (int) Math.round(loudSeconds / MP3_FRAME_SECONDS);
+        for (int i = 0; i < silentFrames + loudFrames; i++) {
+            output.writeBytes(mp3Frame(i >= silentFrames));
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * 모노 MPEG1 Layer III 프레임 (side info의 part2_3_length/global_gain만 채움)
+     */
+    private static byte[] mp3Frame(boolean loud) {
+        byte[] frame = new byte[MP3_FRAME_LENGTH];
+        frame[0] = (byte) 0xFF;
+        frame[1] = (byte) 0xFB; // MPEG1, Layer III, CRC 없음
+        frame[2] = (byte) 0x90; // 128kbps, 44.1kHz, 패딩 없음
+        frame[3] = (byte) 0xC0; // 모노
+        if (loud) {
+            int bit = 4 * 8 + 18; // main_data_begin, private_bits, scfsi 다음
+            for (int granule = 0; granule < 2; granule++) {
+                writeBits(frame, bit, 12, 1000);       // part2_3_length
+                writeBits(frame, bit + 21, 8, 180);    // global_gain
+                bit += 59;
+            }
+        }
+        return frame;
+    }
+
+    private static void writeBits(byte[] data, int position, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            int bit = (value >> (count - 1 - i)) & 1;
+            int index = (position + i) >> 3;
+            data[index] |= (byte) (bit << (7 - ((position + i) & 7)));
+        }
+    }
+}
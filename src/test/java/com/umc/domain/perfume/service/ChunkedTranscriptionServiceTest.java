@@ -0,0 +1,148 @@
+package com.umc.domain.perfume.service;
+
+import com.umc.domain.perfume.audio.AudioSegment;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChunkedTranscriptionServiceTest {
+
+    private static final int TRACK_SECONDS = 360;
+    private static final double WORD_SECONDS = 0.5;
+    private static final long CHUNK_LATENCY_MS = 300;
+
+    private ThreadPoolTaskExecutor executor;
+    private MockMultipartFile track;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(16);
+        executor.initialize();
+
+        track = new MockMultipartFile("file", "song.wav", "audio/wav", silentWav(8000, TRACK_SECONDS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void longTrackIsTranscribedConcurrentlyAndStitchedInOrder() throws Exception {
+        ChunkedTranscriptionService service = newService(8);
+        WhisperStandIn whisper = new WhisperStandIn();
+
+        long startedAt = System.nanoTime();
+        String text = service.transcribe(track, "song.wav", whisper);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // 60초 구간, 3초 겹침 → 7개 구간
+        assertThat(whisper.calls.get()).isEqualTo(7);
+        assertThat(text).isEqualTo(words(0, TRACK_SECONDS));
+        // 순차 실행이면 7 x 300ms, 병렬이면 구간 하나의 지연 수준
+        assertThat(elapsedMs).isLessThan(whisper.calls.get() * CHUNK_LATENCY_MS / 2);
+    }
+
+    @Test
+    void concurrentRequestsStayWithinLimit() throws Exception {
+        ChunkedTranscriptionService service = newService(2);
+        WhisperStandIn whisper = new WhisperStandIn();
+
+        String text = service.transcribe(track, "song.wav", whisper);
+
+        assertThat(text).isEqualTo(words(0, TRACK_SECONDS));
+        assertThat(whisper.maxInFlight.get()).isEqualTo(2);
+    }
+
+    @Test
+    void failedChunkFailsWholeTranscription() {
+        ChunkedTranscriptionService service = newService(4);
+        Function<AudioSegment, String> failing = segment -> {
+            if (segment.startSeconds() > 100) {
+                throw new IllegalStateException("Whisper 오류");
+            }
+            return "";
+        };
+
+        assertThatThrownBy(() -> service.transcribe(track, "song.wav", failing))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Whisper 오류");
+    }
+
+    @Test
+    void trackShorterThanOneChunkIsNotSplit() throws Exception {
+        MockMultipartFile shortTrack = new MockMultipartFile("file", "short.wav", "audio/wav", silentWav(8000, 30));
+
+        assertThat(newService(4).transcribe(shortTrack, "short.wav", new WhisperStandIn())).isNull();
+    }
+
+    private ChunkedTranscriptionService newService(int maxConcurrency) {
+        return new ChunkedTranscriptionService(executor, new SimpleMeterRegistry(), 60, 3, maxConcurrency);
+    }
+
+    /**
+     * 0.5초마다 단어 하나가 있다고 보고 구간에 들어간 단어를 반환하는 Whisper 대역
+     * (구간마다 지연을 주고, 경계에 걸친 단어는 잘린 형태로 반환)
+     */
+    private static class WhisperStandIn implements Function<AudioSegment, String> {
+
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+
+        @Override
+        public String apply(AudioSegment segment) {
+            calls.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(CHUNK_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+
+            double end = segment.startSeconds() + segment.durationSeconds();
+            String text = words(segment.startSeconds(), end);
+            if (end < TRACK_SECONDS) {
+                text += " 잘";
+            }
+            return text;
+        }
+    }
+
+    private static String words(double fromSeconds, double toSeconds) {
+        int from = (int) Math.ceil(fromSeconds / WORD_SECONDS);
+        int to = (int) Math.ceil(toSeconds / WORD_SECONDS);
+        return IntStream.range(from, to).mapToObj(i -> "가사" + i).collect(Collectors.joining(" "));
+    }
+
+    private static byte[] silentWav(int sampleRate, int seconds) {
+        int dataLength = sampleRate * seconds * 2;
+        ByteBuffer buffer = ByteBuffer.allocate(44 + dataLength).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes(StandardCharsets.US_ASCII)).putInt(36 + dataLength)
+                .put("WAVE".getBytes(StandardCharsets.US_ASCII))
+                .put("fmt ".getBytes(StandardCharsets.US_ASCII)).putInt(16)
+                .putShort((short) 1).putShort((short) 1).putInt(sampleRate)
+                .putInt(sampleRate * 2).putShort((short) 2).putShort((short) 16)
+                .put("data".getBytes(StandardCharsets.US_ASCII)).putInt(dataLength);
+        return buffer.array();
+    }
+}
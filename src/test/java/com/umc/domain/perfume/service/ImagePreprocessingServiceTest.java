@@ -0,0 +1,153 @@
+package com.umc.domain.perfume.service;
+
+import com.umc.domain.perfume.service.ImagePreprocessingService.PreparedImage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImagePreprocessingServiceTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private ImagePreprocessingService service;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(4);
+        executor.initialize();
+
+        meterRegistry = new SimpleMeterRegistry();
+        service = new ImagePreprocessingService(executor, meterRegistry, true, 1536, 0.85f, 10000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void largePhotoIsDownscaledAndReencodedAsJpeg() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "photo.png", "image/png", png(4000, 3000));
+
+        PreparedImage prepared = service.prepare(file);
+
+        assertThat(prepared.preprocessed()).isTrue();
+        assertThat(prepared.contentType()).isEqualTo("image/jpeg");
+        assertThat(prepared.size()).isLessThan(file.getSize());
+
+        try (InputStream inputStream = prepared.source().getInputStream()) {
+            BufferedImage decoded = ImageIO.read(inputStream);
+            assertThat(decoded.getWidth()).isEqualTo(1536);
+            assertThat(decoded.getHeight()).isEqualTo(1152);
+        }
+        assertThat(meterRegistry.get("perfume.image.preprocess.bytes.saved").summary().totalAmount())
+                .isEqualTo(file.getSize() - prepared.size());
+    }
+
+    @Test
+    void unreadableImageFallsBackToOriginal() {
+        MockMultipartFile file = new MockMultipartFile("file", "photo.heic", "image/heic", new byte[]{1, 2, 3, 4});
+
+        PreparedImage prepared = service.prepare(file);
+
+        assertThat(prepared.preprocessed()).isFalse();
+        assertThat(prepared.contentType()).isEqualTo("image/heic");
+        assertThat(prepared.source()).isSameAs(file);
+    }
+
+    @Test
+    void disabledPreprocessingSendsOriginal() throws Exception {
+        ImagePreprocessingService disabled = new ImagePreprocessingService(
+                executor, meterRegistry, false, 1536, 0.85f, 10000);
+        MockMultipartFile file = new MockMultipartFile("file", "photo.png", "image/png", png(2000, 1000));
+
+        assertThat(disabled.prepare(file).source()).isSameAs(file);
+    }
+
+    @Test
+    void exifOrientationIsAppliedBeforeScaling() throws Exception {
+        // 센서 방향으로 저장된 가로 사진 (왼쪽 빨강, 오른쪽 파랑) + 시계 방향 90도 회전 태그
+        MockMultipartFile file = new MockMultipartFile("file", "portrait.jpg", "image/jpeg",
+                withOrientation(halvesJpeg(3000, 2000), 6));
+
+        PreparedImage prepared = service.prepare(file);
+
+        assertThat(prepared.preprocessed()).isTrue();
+        try (InputStream inputStream = prepared.source().getInputStream()) {
+            BufferedImage decoded = ImageIO.read(inputStream);
+            // 보이는 방향(세로)으로 축소되고, 원래 왼쪽(빨강)이 위로 옴
+            assertThat(decoded.getWidth()).isEqualTo(1024);
+            assertThat(decoded.getHeight()).isEqualTo(1536);
+            assertThat(new Color(decoded.getRGB(512, 100)).getRed()).isGreaterThan(200);
+            assertThat(new Color(decoded.getRGB(512, 1436)).getBlue()).isGreaterThan(200);
+        }
+    }
+
+    private static byte[] halvesJpeg(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(width / 2, 0, width - width / 2, height);
+        graphics.dispose();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * SOI 바로 뒤에 Orientation 태그 하나만 담은 APP1(Exif) 세그먼트 삽입 (빅 엔디언 TIFF)
+     */
+    private static byte[] withOrientation(byte[] jpeg, int orientation) {
+        byte[] tiff = {
+                'M', 'M', 0, 42, 0, 0, 0, 8,                   // 헤더, IFD0 위치
+                0, 1,                                          // 항목 수
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0, // Orientation (SHORT)
+                0, 0, 0, 0                                     // 다음 IFD 없음
+        };
+        byte[] exif = "Exif\0\0".getBytes(StandardCharsets.ISO_8859_1);
+        int length = 2 + exif.length + tiff.length;
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(jpeg, 0, 2);
+        outputStream.write(0xFF);
+        outputStream.write(0xE1);
+        outputStream.write(length >> 8);
+        outputStream.write(length & 0xFF);
+        outputStream.writeBytes(exif);
+        outputStream.writeBytes(tiff);
+        outputStream.write(jpeg, 2, jpeg.length - 2);
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, Color.RED, width, height, Color.BLUE));
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.WHITE);
+        graphics.fillOval(width / 4, height / 4, width / 2, height / 2);
+        graphics.dispose();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
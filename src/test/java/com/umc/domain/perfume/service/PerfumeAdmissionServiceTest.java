@@ -0,0 +1,150 @@
+package com.umc.domain.perfume.service;
+
+import com.umc.global.exception.ErrorCode;
+import com.umc.global.exception.RateLimitException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PerfumeAdmissionServiceTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolTaskExecutor generationExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        generationExecutor = new ThreadPoolTaskExecutor();
+        generationExecutor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        generationExecutor.shutdown();
+    }
+
+    @Test
+    void userBurstIsAdmittedThenRejectedWithRetryAfterUntilRefilled() {
+        // 사용자당 분당 6회(10초에 1개), 최대 3개까지 연속 허용
+        PerfumeAdmissionService admission = admission(6, 3, 100, 100, 100);
+
+        for (int i = 0; i < 3; i++) {
+            admission.admit(1L).close();
+        }
+        assertThatThrownBy(() -> admission.admit(1L))
+                .isInstanceOfSatisfying(RateLimitException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PERFUME_RATE_LIMITED);
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(10);
+                });
+
+        // 다른 사용자는 영향 없음
+        admission.admit(2L).close();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        admission.admit(1L).close();
+        assertThat(decisions("admitted")).isEqualTo(5);
+        assertThat(decisions("user_limited")).isEqualTo(1);
+    }
+
+    @Test
+    void globalLimitRejectsWithoutSpendingUserToken() {
+        // 사용자당 10초에 1개, 전체 초당 1개
+        PerfumeAdmissionService admission = admission(6, 1, 1, 1, 100);
+
+        admission.admit(1L).close();
+        assertThatThrownBy(() -> admission.admit(2L))
+                .isInstanceOfSatisfying(RateLimitException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PERFUME_SERVER_BUSY);
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(1);
+                });
+
+        // 전체 한도에 걸린 사용자 2의 토큰은 돌려받았으므로 전체 버킷만 차면 바로 허용 (사용자 버킷은 10초 뒤에야 참)
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        admission.admit(2L).close();
+        assertThat(decisions("global_limited")).isEqualTo(1);
+    }
+
+    @Test
+    void inFlightCapRejectsUntilPermitIsClosed() {
+        PerfumeAdmissionService admission = admission(600, 100, 100, 100, 2);
+
+        PerfumeAdmissionService.Permit first = admission.admit(1L);
+        PerfumeAdmissionService.Permit second = admission.admit(2L);
+        assertThatThrownBy(() -> admission.admit(3L))
+                .isInstanceOfSatisfying(RateLimitException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PERFUME_SERVER_BUSY);
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(5);
+                });
+
+        first.close();
+        first.close(); // 여러 번 닫아도 한 번만 반환
+        assertThat(admission.inFlight()).isEqualTo(1);
+        admission.admit(3L).close();
+        second.close();
+
+        assertThat(admission.inFlight()).isZero();
+        assertThat(meterRegistry.get("perfume.admission.in-flight").gauge().value()).isZero();
+        assertThat(decisions("in_flight_limited")).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentRequestsNeverExceedBurst() throws Exception {
+        PerfumeAdmissionService admission = admission(6, 5, 100, 100, 1000);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 100; j++) {
+                        try {
+                            admission.admit(1L).close();
+                            admitted.incrementAndGet();
+                        } catch (RateLimitException e) {
+                            // 거절
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 시간이 흐르지 않으므로 정확히 burst만큼만 허용
+        assertThat(admitted.get()).isEqualTo(5);
+        assertThat(admission.inFlight()).isZero();
+    }
+
+    private PerfumeAdmissionService admission(double userPerMinute, int userBurst,
+                                              double globalPerSecond, int globalBurst, int maxInFlight) {
+        return new PerfumeAdmissionService(meterRegistry, generationExecutor, true, userPerMinute, userBurst,
+                globalPerSecond, globalBurst, maxInFlight, 5, clock::get);
+    }
+
+    private double decisions(String result) {
+        return meterRegistry.get("perfume.admission").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,276 @@
+package com.umc.domain.perfume.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.umc.domain.perfume.dto.PerfumeBatchItemDto;
+import com.umc.domain.perfume.dto.PerfumeResponseDto;
+import com.umc.domain.perfume.entity.Perfume;
+import com.umc.domain.perfume.entity.PerfumeJobStatus;
+import com.umc.domain.perfume.entity.SourceType;
+import com.umc.domain.user.entity.User;
+import com.umc.global.exception.BusinessException;
+import com.umc.global.exception.ErrorCode;
+import com.umc.global.exception.RateLimitException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PerfumeBatchServiceTest {
+
+    private static final long CURATOR_ID = 1L;
+
+    @Mock
+    private PerfumeService perfumeService;
+
+    private User user;
+    private final List<PerfumeBatchItemDto> sent = Collections.synchronizedList(new ArrayList<>());
+    private final List<Integer> savedGroupSizes = Collections.synchronizedList(new ArrayList<>());
+    private final List<Perfume> savedPerfumes = Collections.synchronizedList(new ArrayList<>());
+
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolTaskExecutor admissionExecutor;
+    private ExecutorService batchExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        admissionExecutor = new ThreadPoolTaskExecutor();
+        admissionExecutor.initialize();
+        batchExecutor = Executors.newFixedThreadPool(8);
+
+        user = User.builder().nickname("curator").password("password").build();
+        user.setId(CURATOR_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        admissionExecutor.shutdown();
+        batchExecutor.shutdownNow();
+    }
+
+    @Test
+    void generatesWithBoundedParallelismAndSavesInGroups() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        given(perfumeService.preparePerfume(eq(SourceType.AUDIO), any(), eq(user), isNull())).willAnswer(invocation -> {
+            int now = running.incrementAndGet();
+            maxRunning.accumulateAndGet(now, Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return new PerfumeService.PreparedPerfume(Perfume.builder().sourceType(SourceType.AUDIO).build(), null);
+        });
+        givenSaveAllSucceeds();
+
+        batchService(3, 4).generate(SourceType.RECOMMEND_AUDIO, files(10), user);
+
+        // 동시에 3개까지만 생성하고, 4개씩 모아서 저장 (마지막 남은 2개는 모두 끝난 뒤 저장)
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+        assertThat(savedGroupSizes).containsExactly(4, 4, 2);
+        assertThat(savedPerfumes).extracting(Perfume::getSourceType).containsOnly(SourceType.RECOMMEND_AUDIO);
+        assertThat(sent).hasSize(10)
+                .allSatisfy(item -> assertThat(item.getStatus()).isEqualTo(PerfumeJobStatus.COMPLETED));
+        assertThat(sent).extracting(PerfumeBatchItemDto::getIndex)
+                .containsExactlyInAnyOrderElementsOf(IntStream.range(0, 10).boxed().toList());
+        assertThat(meterRegistry.get("perfume.batch.items").tag("result", "completed").counter().count())
+                .isEqualTo(10);
+    }
+
+    @Test
+    void failedItemsAreReportedWithoutStoppingTheBatch() {
+        given(perfumeService.preparePerfume(any(), any(), any(), isNull())).willAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(1);
+            if ("song-1.mp3".equals(file.getOriginalFilename())) {
+                throw new BusinessException(ErrorCode.PERFUME_INVALID_FILE_TYPE);
+            }
+            return new PerfumeService.PreparedPerfume(Perfume.builder().build(), null);
+        });
+        givenSaveAllSucceeds();
+
+        List<MultipartFile> files = new ArrayList<>(files(3));
+        files.add(new MockMultipartFile("files", "empty.mp3", "audio/mpeg", new byte[0]));
+
+        batchService(2, 20).generate(SourceType.AUDIO, files, user);
+
+        assertThat(savedGroupSizes).containsExactly(2);
+        assertThat(sent).filteredOn(item -> item.getStatus() == PerfumeJobStatus.FAILED)
+                .extracting(PerfumeBatchItemDto::getIndex, PerfumeBatchItemDto::getErrorCode)
+                .containsExactlyInAnyOrder(
+                        tuple(1, ErrorCode.PERFUME_INVALID_FILE_TYPE.getCode()),
+                        tuple(3, ErrorCode.PERFUME_FILE_EMPTY.getCode()));
+        assertThat(sent).filteredOn(item -> item.getStatus() == PerfumeJobStatus.COMPLETED)
+                .extracting(PerfumeBatchItemDto::getIndex)
+                .containsExactlyInAnyOrder(0, 2);
+    }
+
+    @Test
+    void rejectsBatchOverMaxFilesBeforeGenerating() {
+        assertThatThrownBy(() -> batchService(2, 20).generate(SourceType.AUDIO, files(6), user))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PERFUME_BATCH_TOO_LARGE));
+        verify(perfumeService, never()).preparePerfume(any(), any(), any(), any());
+    }
+
+    @Test
+    void rejectsRecommendTypesFromNonCurator() {
+        User member = User.builder().nickname("member").password("password").build();
+        member.setId(2L);
+
+        assertThatThrownBy(() -> batchService(2, 20).generate(SourceType.RECOMMEND_IMAGE, files(2), member))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PERFUME_CURATOR_ONLY));
+        verify(perfumeService, never()).preparePerfume(any(), any(), any(), any());
+    }
+
+    @Test
+    void eachItemTakesAnAdmissionPermit() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        given(perfumeService.preparePerfume(eq(SourceType.AUDIO), any(), eq(user), isNull())).willAnswer(invocation -> {
+            int now = running.incrementAndGet();
+            maxRunning.accumulateAndGet(now, Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return new PerfumeService.PreparedPerfume(Perfume.builder().build(), null);
+        });
+        givenSaveAllSucceeds();
+        // 동시 생성 상한 2, 거절되면 1초 후 재시도
+        PerfumeAdmissionService admission = new PerfumeAdmissionService(meterRegistry, admissionExecutor,
+                true, 6000, 20, 100, 100, 2, 1, System::nanoTime);
+
+        batchService(admission, 4, 20).generate(SourceType.AUDIO, files(5), user);
+
+        // parallelism이 4여도 파일마다 허용을 받으므로 동시 생성 상한을 넘지 않고, 거절된 파일도 기다렸다가 생성
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+        assertThat(sent).hasSize(5)
+                .allSatisfy(item -> assertThat(item.getStatus()).isEqualTo(PerfumeJobStatus.COMPLETED));
+        assertThat(meterRegistry.get("perfume.admission").tag("result", "admitted").counter().count())
+                .isEqualTo(5);
+        assertThat(admission.inFlight()).isZero();
+    }
+
+    @Test
+    void curatorBatchIsNotPacedAtPerUserRate() {
+        given(perfumeService.preparePerfume(eq(SourceType.AUDIO), any(), eq(user), isNull()))
+                .willReturn(new PerfumeService.PreparedPerfume(Perfume.builder().build(), null));
+        givenSaveAllSucceeds();
+        // 기본 사용자별 한도 (분당 6건, 버스트 3)
+        PerfumeAdmissionService admission = new PerfumeAdmissionService(meterRegistry, admissionExecutor,
+                true, 6, 3, 100, 100, 16, 5, System::nanoTime);
+        long startedAt = System.nanoTime();
+
+        batchService(admission, 4, 20).generate(SourceType.RECOMMEND_AUDIO, files(5), user);
+
+        // 사용자별 한도를 적용했다면 버스트 3개 이후 파일마다 10초씩 기다려야 함
+        assertThat(sent).hasSize(5)
+                .allSatisfy(item -> assertThat(item.getStatus()).isEqualTo(PerfumeJobStatus.COMPLETED));
+        assertThat(meterRegistry.get("perfume.admission").tag("result", "user_limited").counter().count())
+                .isZero();
+        assertThat(System.nanoTime() - startedAt).isLessThan(TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    void memberBatchItemsStillUsePerUserLimit() {
+        User member = User.builder().nickname("member").password("password").build();
+        member.setId(2L);
+        given(perfumeService.preparePerfume(eq(SourceType.AUDIO), any(), eq(member), isNull()))
+                .willReturn(new PerfumeService.PreparedPerfume(Perfume.builder().build(), null));
+        givenSaveAllSucceeds();
+        // 초당 10건, 버스트 3 (한도에 걸리면 1초 후 재시도)
+        PerfumeAdmissionService admission = new PerfumeAdmissionService(meterRegistry, admissionExecutor,
+                true, 600, 3, 100, 100, 16, 5, System::nanoTime);
+
+        batchService(admission, 4, 20).generate(SourceType.AUDIO, files(5), member);
+
+        assertThat(sent).hasSize(5)
+                .allSatisfy(item -> assertThat(item.getStatus()).isEqualTo(PerfumeJobStatus.COMPLETED));
+        assertThat(meterRegistry.get("perfume.admission").tag("result", "user_limited").counter().count())
+                .isPositive();
+    }
+
+    @Test
+    void rejectsBatchWhenFirstItemIsNotAdmitted() {
+        PerfumeAdmissionService admission = new PerfumeAdmissionService(meterRegistry, admissionExecutor,
+                true, 6, 1, 100, 100, 16, 1, System::nanoTime);
+        admission.admit(CURATOR_ID).close();
+
+        assertThatThrownBy(() -> batchService(admission, 2, 20).generate(SourceType.AUDIO, files(2), user))
+                .isInstanceOfSatisfying(RateLimitException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PERFUME_RATE_LIMITED));
+        verify(perfumeService, never()).preparePerfume(any(), any(), any(), any());
+    }
+
+    private void givenSaveAllSucceeds() {
+        AtomicInteger nextId = new AtomicInteger();
+        given(perfumeService.saveAll(anyList())).willAnswer(invocation -> {
+            List<PerfumeService.PreparedPerfume> prepared = invocation.getArgument(0);
+            savedGroupSizes.add(prepared.size());
+            prepared.forEach(item -> savedPerfumes.add(item.perfume()));
+            return prepared.stream()
+                    .map(item -> PerfumeResponseDto.builder().id((long) nextId.incrementAndGet()).build())
+                    .toList();
+        });
+    }
+
+    /**
+     * 조정 작업은 호출 스레드에서 바로 실행하여 generate가 배치 완료 후 반환되도록 함
+     */
+    private PerfumeBatchService batchService(int parallelism, int insertBatchSize) {
+        return batchService(new PerfumeAdmissionService(meterRegistry, admissionExecutor,
+                false, 6, 3, 2, 20, 16, 5, System::nanoTime), parallelism, insertBatchSize);
+    }
+
+    private PerfumeBatchService batchService(PerfumeAdmissionService admission, int parallelism,
+                                             int insertBatchSize) {
+        return new PerfumeBatchService(perfumeService, admission, Runnable::run, batchExecutor,
+                new RecordingObjectMapper(), meterRegistry, 5, parallelism, insertBatchSize, 60_000, 60_000,
+                Set.of(CURATOR_ID));
+    }
+
+    private static List<MultipartFile> files(int count) {
+        return IntStream.range(0, count)
+                .<MultipartFile>mapToObj(i -> new MockMultipartFile("files", "song-" + i + ".mp3", "audio/mpeg",
+                        new byte[]{1, 2, 3}))
+                .toList();
+    }
+
+    /**
+     * NDJSON으로 보낸 항목을 기록
+     */
+    private class RecordingObjectMapper extends ObjectMapper {
+
+        @Override
+        public String writeValueAsString(Object value) throws JsonProcessingException {
+            sent.add((PerfumeBatchItemDto) value);
+            return super.writeValueAsString(value);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.umc.domain.perfume.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.umc.domain.perfume.dto.PerfumeDescriptionDto;
+import com.umc.domain.perfume.dto.PerfumeResponseDto;
+import com.umc.domain.perfume.entity.NoteTier;
+import com.umc.domain.perfume.entity.Perfume;
+import com.umc.domain.perfume.entity.PerfumeNote;
+import com.umc.domain.perfume.entity.SourceType;
+import com.umc.domain.perfume.repository.PerfumeRepository;
+import com.umc.domain.user.entity.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PerfumeDescriptionMigratorTest {
+
+    private static final String LEGACY_DESCRIPTION = """
+            {"type":"AUDIO","fileDescription":"설명","top":["레몬","베르가못"],"middle":["로즈"],"base":["머스크"],
+             "interpretation":"해석","summary":"요약","title":"제목 : 부제"}
+            """;
+
+    @Mock
+    private PerfumeRepository perfumeRepository;
+
+    @Test
+    void legacyDescriptionsAreMovedToColumnsAndNotes() {
+        Perfume legacy = perfume(1L, LEGACY_DESCRIPTION);
+        Perfume broken = perfume(2L, "{\"title\":");
+        PerfumeResponseDto before = PerfumeResponseDto.from(legacy);
+
+        given(perfumeRepository.findLegacyDescriptionsAfter(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(legacy, broken));
+        given(perfumeRepository.findLegacyDescriptionsAfter(eq(2L), any(Pageable.class)))
+                .willReturn(List.of());
+
+        migrator(2).migrate();
+
+        assertThat(legacy.getLegacyDescription()).isNull();
+        assertThat(legacy.getTitle()).isEqualTo("제목 : 부제");
+        assertThat(legacy.getNotes()).extracting(PerfumeNote::getTier, PerfumeNote::getPosition, PerfumeNote::getNote)
+                .containsExactly(
+                        tuple(NoteTier.TOP, 0, "레몬"),
+                        tuple(NoteTier.TOP, 1, "베르가못"),
+                        tuple(NoteTier.MIDDLE, 0, "로즈"),
+                        tuple(NoteTier.BASE, 0, "머스크"));
+
+        // 이전 전후 응답이 같아야 함
+        PerfumeDescriptionDto after = PerfumeResponseDto.from(legacy).getDescription();
+        assertThat(after).usingRecursiveComparison().isEqualTo(before.getDescription());
+
+        // 해석할 수 없는 설명은 그대로 둠
+        assertThat(broken.getLegacyDescription()).isEqualTo("{\"title\":");
+        assertThat(broken.getNotes()).isEmpty();
+    }
+
+    @Test
+    void oversizedFieldsAreTruncatedToColumnLength() {
+        String longNote = "바닐라".repeat(40); // 120자
+        String longSummary = "요".repeat(600);
+        Perfume legacy = perfume(1L, """
+                {"type":"AUDIO","fileDescription":"설명","top":["%s"],"middle":["로즈"],"base":["머스크"],
+                 "interpretation":"해석","summary":"%s","title":"제목 : 부제"}
+                """.formatted(longNote, longSummary));
+
+        given(perfumeRepository.findLegacyDescriptionsAfter(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(legacy));
+
+        migrator(2).migrate();
+
+        // 컬럼 길이를 넘는 값은 잘라서 옮기므로 저장이 실패하지 않음
+        assertThat(legacy.getLegacyDescription()).isNull();
+        assertThat(legacy.getNotes().get(0).getNote()).isEqualTo(longNote.substring(0, PerfumeNote.NOTE_MAX_LENGTH));
+        assertThat(legacy.getSummary()).hasSize(Perfume.SUMMARY_MAX_LENGTH);
+    }
+
+    private PerfumeDescriptionMigrator migrator(int batchSize) {
+        return new PerfumeDescriptionMigrator(perfumeRepository, new TransactionTemplate(new NoOpTransactionManager()),
+                new ObjectMapper(), true, batchSize);
+    }
+
+    private static Perfume perfume(Long id, String legacyDescription) {
+        User user = User.builder().nickname("tester").password("password").build();
+        user.setId(1L);
+
+        Perfume perfume = new Perfume();
+        perfume.setId(id);
+        perfume.setSourceType(SourceType.AUDIO);
+        perfume.setUrl("https://drive.google.com/uc?export=download&id=file");
+        perfume.setUser(user);
+        perfume.setLegacyDescription(legacyDescription);
+        perfume.setCreatedAt(LocalDateTime.now());
+        perfume.setUpdatedAt(LocalDateTime.now());
+        return perfume;
+    }
+
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.umc.domain.perfume.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.umc.domain.file.service.GoogleDriveService;
+import com.umc.domain.perfume.entity.Perfume;
+import com.umc.domain.perfume.entity.PerfumeGenerationCache;
+import com.umc.domain.perfume.entity.SourceType;
+import com.umc.domain.perfume.lyrics.LyricsNormalizer;
+import com.umc.domain.perfume.prompt.PerfumePrompts;
+import com.umc.domain.perfume.repository.PerfumeGenerationCacheRepository;
+import com.umc.domain.perfume.service.ImagePreprocessingService.PreparedImage;
+import com.umc.domain.perfume.service.PerfumeGenerationCacheService.CachedGeneration;
+import com.umc.global.client.OpenAiClient;
+import com.umc.global.client.VisionChatRequestBody;
+import com.umc.global.metrics.UpstreamMetrics;
+import com.umc.global.util.BpeTokenizer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PerfumeGenerationCacheServiceTest {
+
+    private static final String DESCRIPTION = """
+            {"type":"IMAGE","fileDescription":"설명","top":["레몬"],"middle":["로즈"],"base":["머스크"],
+             "interpretation":"해석","summary":"요약","title":"제목 : 부제"}""";
+
+    @Mock
+    private PerfumeGenerationCacheRepository cacheRepository;
+
+    @Mock
+    private PerfumeImageSimilarityService imageSimilarityService;
+
+    @Mock
+    private OpenAiClient openAiClient;
+
+    @Mock
+    private GoogleDriveService googleDriveService;
+
+    @Mock
+    private ImagePreprocessingService imagePreprocessingService;
+
+    @Mock
+    private AudioExcerptService audioExcerptService;
+
+    @Mock
+    private ChunkedTranscriptionService chunkedTranscriptionService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void storedResultIsServedFromMemory() {
+        givenSaveSucceeds();
+        PerfumeGenerationCacheService cacheService = cacheService(10);
+
+        cacheService.put("hash-1", SourceType.IMAGE, DESCRIPTION, null, 42L);
+
+        assertThat(cacheService.get("hash-1", SourceType.IMAGE)).contains(new CachedGeneration(DESCRIPTION, null));
+        assertThat(count("hit", "memory")).isEqualTo(1);
+        verify(cacheRepository, never()).findByContentHashAndSourceType(anyString(), any());
+        verify(imageSimilarityService).register(1L, 42L);
+    }
+
+    @Test
+    void databaseHitWarmsMemory() {
+        given(cacheRepository.findByContentHashAndSourceType("hash-1", SourceType.AUDIO))
+                .willReturn(Optional.of(stored("hash-1", SourceType.AUDIO, "가사")));
+        PerfumeGenerationCacheService cacheService = cacheService(10);
+
+        assertThat(cacheService.get("hash-1", SourceType.AUDIO)).contains(new CachedGeneration(DESCRIPTION, "가사"));
+        assertThat(cacheService.get("hash-1", SourceType.AUDIO)).contains(new CachedGeneration(DESCRIPTION, "가사"));
+
+        // 두 번째 조회는 메모리에서 응답
+        verify(cacheRepository, times(1)).findByContentHashAndSourceType("hash-1", SourceType.AUDIO);
+        assertThat(count("hit", "database")).isEqualTo(1);
+        assertThat(count("hit", "memory")).isEqualTo(1);
+    }
+
+    @Test
+    void missIsCountedWhenNeitherTierHasResult() {
+        given(cacheRepository.findByContentHashAndSourceType("hash-1", SourceType.IMAGE)).willReturn(Optional.empty());
+        PerfumeGenerationCacheService cacheService = cacheService(10);
+
+        assertThat(cacheService.get("hash-1", SourceType.IMAGE)).isEmpty();
+        assertThat(count("miss", "none")).isEqualTo(1);
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedAtMaxEntries() {
+        givenSaveSucceeds();
+        given(cacheRepository.findByContentHashAndSourceType("hash-2", SourceType.IMAGE)).willReturn(Optional.empty());
+        PerfumeGenerationCacheService cacheService = cacheService(2);
+
+        cacheService.put("hash-1", SourceType.IMAGE, DESCRIPTION, null, null);
+        cacheService.put("hash-2", SourceType.IMAGE, DESCRIPTION, null, null);
+        cacheService.get("hash-1", SourceType.IMAGE); // hash-1을 최근 사용으로 갱신
+        cacheService.put("hash-3", SourceType.IMAGE, DESCRIPTION, null, null);
+
+        assertThat(meterRegistry.get("perfume.generation.cache.size").gauge().value()).isEqualTo(2);
+        assertThat(cacheService.get("hash-1", SourceType.IMAGE)).isPresent();
+        assertThat(cacheService.get("hash-3", SourceType.IMAGE)).isPresent();
+        assertThat(cacheService.get("hash-2", SourceType.IMAGE)).isEmpty(); // 밀려나서 DB 조회
+        verify(cacheRepository, never()).findByContentHashAndSourceType("hash-1", SourceType.IMAGE);
+    }
+
+    @Test
+    void defaultDescriptionAfterGptFailureIsNotCached() {
+        given(cacheRepository.findByContentHashAndSourceType(anyString(), eq(SourceType.IMAGE)))
+                .willReturn(Optional.empty());
+        given(imagePreprocessingService.prepare(any(MultipartFile.class))).willAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(0);
+            return new PreparedImage(file.getContentType(), file.getSize(), file, false);
+        });
+        given(openAiClient.chatCompletion(any(VisionChatRequestBody.class)))
+                .willThrow(new IllegalStateException("upstream down"));
+        PerfumeGenerationCacheService cacheService = cacheService(10);
+        PerfumeGptService perfumeGptService = gptService(cacheService);
+        MockMultipartFile file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", "이미지".getBytes());
+
+        Perfume first = perfumeGptService.generatePerfume(SourceType.IMAGE, "/temp/key", file);
+        Perfume second = perfumeGptService.generatePerfume(SourceType.IMAGE, "/temp/key", file);
+
+        // 기본 설명은 저장하지 않으므로 같은 파일을 다시 올리면 GPT를 다시 호출
+        assertThat(first.getTitle()).isEqualTo(second.getTitle());
+        verify(openAiClient, times(2)).chatCompletion(any(VisionChatRequestBody.class));
+        verify(cacheRepository, never()).save(any(PerfumeGenerationCache.class));
+        assertThat(count("hit", "memory")).isZero();
+        assertThat(count("miss", "none")).isEqualTo(2);
+    }
+
+    private PerfumeGenerationCacheService cacheService(int maxEntries) {
+        return new PerfumeGenerationCacheService(cacheRepository, imageSimilarityService, meterRegistry, true, maxEntries);
+    }
+
+    private PerfumeGptService gptService(PerfumeGenerationCacheService cacheService) {
+        return new PerfumeGptService(openAiClient, new ObjectMapper(), googleDriveService,
+                cacheService, imageSimilarityService, imagePreprocessingService,
+                audioExcerptService, chunkedTranscriptionService, LyricsNormalizer.withDefaults(), meterRegistry,
+                new UpstreamMetrics(meterRegistry), new PerfumePrompts(BpeTokenizer.estimating(), 600, meterRegistry));
+    }
+
+    private void givenSaveSucceeds() {
+        given(cacheRepository.save(any(PerfumeGenerationCache.class))).willAnswer(invocation -> {
+            PerfumeGenerationCache cache = invocation.getArgument(0);
+            cache.setId(1L);
+            return cache;
+        });
+    }
+
+    private static PerfumeGenerationCache stored(String contentHash, SourceType sourceType, String transcript) {
+        return PerfumeGenerationCache.builder()
+                .contentHash(contentHash)
+                .sourceType(sourceType)
+                .description(DESCRIPTION)
+                .transcript(transcript)
+                .build();
+    }
+
+    private double count(String result, String tier) {
+        return meterRegistry.get("perfume.generation.cache").tag("result", result).tag("tier", tier).counter().count();
+    }
+}
@@ -0,0 +1,143 @@
+package com.umc.domain.perfume.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.umc.domain.file.service.GoogleDriveService;
+import com.umc.domain.perfume.entity.Perfume;
+import com.umc.domain.perfume.entity.SourceType;
+import com.umc.domain.perfume.lyrics.LyricsNormalizer;
+import com.umc.domain.perfume.prompt.PerfumePrompts;
+import com.umc.domain.perfume.service.ImagePreprocessingService.PreparedImage;
+import com.umc.global.client.OpenAiClient;
+import com.umc.global.client.VisionChatRequestBody;
+import com.umc.global.metrics.UpstreamMetrics;
+import com.umc.global.util.BpeTokenizer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PerfumeGptServiceTest {
+
+    private static final int UPLOADS = 8;
+    private static final String DESCRIPTION = """
+            {"type":"IMAGE","fileDescription":"설명","top":["레몬"],"middle":["로즈"],"base":["머스크"],
+             "interpretation":"해석","summary":"요약","title":"제목 : 부제"}""";
+
+    @Mock
+    private OpenAiClient openAiClient;
+
+    @Mock
+    private GoogleDriveService googleDriveService;
+
+    @Mock
+    private PerfumeGenerationCacheService generationCacheService;
+
+    @Mock
+    private PerfumeImageSimilarityService imageSimilarityService;
+
+    @Mock
+    private ImagePreprocessingService imagePreprocessingService;
+
+    @Mock
+    private AudioExcerptService audioExcerptService;
+
+    @Mock
+    private ChunkedTranscriptionService chunkedTranscriptionService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PerfumeGptService perfumeGptService;
+    private ExecutorService requestThreads;
+
+    @BeforeEach
+    void setUp() {
+        perfumeGptService = new PerfumeGptService(openAiClient, objectMapper, googleDriveService,
+                generationCacheService, imageSimilarityService, imagePreprocessingService,
+                audioExcerptService, chunkedTranscriptionService, LyricsNormalizer.withDefaults(), meterRegistry,
+                new UpstreamMetrics(meterRegistry), new PerfumePrompts(BpeTokenizer.estimating(), 600, meterRegistry));
+        ReflectionTestUtils.setField(perfumeGptService, "singleFlightEnabled", true);
+        requestThreads = Executors.newFixedThreadPool(UPLOADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        requestThreads.shutdownNow();
+    }
+
+    @Test
+    void identicalParallelUploadsMakeOneUpstreamCall() throws Exception {
+        CountDownLatch allRequestsArrived = new CountDownLatch(UPLOADS);
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        given(generationCacheService.get(anyString(), eq(SourceType.IMAGE))).willAnswer(invocation -> {
+            allRequestsArrived.countDown();
+            return Optional.empty();
+        });
+        given(imagePreprocessingService.prepare(any(MultipartFile.class))).willAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(0);
+            return new PreparedImage(file.getContentType(), file.getSize(), file, false);
+        });
+        given(openAiClient.chatCompletion(any(VisionChatRequestBody.class))).willAnswer(invocation -> {
+            upstreamCalls.incrementAndGet();
+            // 나머지 요청이 모두 도착해 진행 중인 생성에 합류할 때까지 응답 지연
+            assertThat(allRequestsArrived.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(200);
+            return objectMapper.writeValueAsString(Map.of(
+                    "model", "gpt-4o-mini",
+                    "choices", List.of(Map.of("message", Map.of("content", DESCRIPTION))),
+                    "usage", Map.of("prompt_tokens", 900, "completion_tokens", 250)));
+        });
+
+        byte[] content = "같은 이미지".getBytes();
+        List<Future<Perfume>> results = new ArrayList<>();
+        for (int i = 0; i < UPLOADS; i++) {
+            MockMultipartFile file = new MockMultipartFile("file", "photo" + i + ".jpg", "image/jpeg", content);
+            results.add(requestThreads.submit(() ->
+                    perfumeGptService.generatePerfume(SourceType.IMAGE, "/temp/key", file)));
+        }
+
+        List<Perfume> perfumes = new ArrayList<>();
+        for (Future<Perfume> result : results) {
+            perfumes.add(result.get(10, TimeUnit.SECONDS));
+        }
+
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        // 결과는 공유하되 요청마다 각자의 향수 엔티티가 만들어짐
+        assertThat(perfumes).extracting(Perfume::getTitle).containsOnly("제목 : 부제");
+        assertThat(perfumes).doesNotHaveDuplicates();
+        assertThat(perfumes.stream().map(Perfume::getNotes).distinct()).hasSize(UPLOADS);
+        assertThat(meterRegistry.get("perfume.generation.single-flight").tag("role", "leader").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("perfume.generation.single-flight").tag("role", "follower").counter().count())
+                .isEqualTo(UPLOADS - 1);
+        // 토큰 사용량은 실제 호출 한 번만큼만 기록
+        assertThat(meterRegistry.get("openai.tokens").tag("operation", "chat-vision").tag("type", "prompt")
+                .counter().count()).isEqualTo(900);
+        assertThat(meterRegistry.get("openai.tokens").tag("model", "gpt-4o-mini").tag("type", "completion")
+                .counter().count()).isEqualTo(250);
+    }
+}
@@ -0,0 +1,246 @@
+package com.umc.domain.perfume.service;
+
+import com.umc.domain.perfume.dto.PerfumeJobResponseDto;
+import com.umc.domain.perfume.dto.PerfumeResponseDto;
+import com.umc.domain.perfume.entity.PerfumeJob;
+import com.umc.domain.perfume.entity.PerfumeJobStatus;
+import com.umc.domain.perfume.entity.SourceType;
+import com.umc.domain.perfume.repository.PerfumeJobRepository;
+import com.umc.domain.user.entity.User;
+import com.umc.global.exception.BusinessException;
+import com.umc.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PerfumeJobServiceTest {
+
+    private static final String INSTANCE_ID = "instance-1";
+
+    @Mock
+    private PerfumeJobRepository perfumeJobRepository;
+
+    @Mock
+    private PerfumeService perfumeService;
+
+    private final Map<Long, PerfumeJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong nextJobId = new AtomicLong();
+
+    private CapturingExecutor generationExecutor;
+    private PerfumeAdmissionService admission;
+    private PerfumeJobService jobService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        generationExecutor = new CapturingExecutor();
+        // 동시 생성 수를 확인할 수 있도록 허용 제어를 켜 둠
+        admission = new PerfumeAdmissionService(new SimpleMeterRegistry(), generationExecutor,
+                true, 600, 10, 100, 100, 16, 5, System::nanoTime);
+        jobService = new PerfumeJobService(perfumeJobRepository, perfumeService, admission, generationExecutor,
+                INSTANCE_ID);
+
+        user = User.builder().nickname("tester").password("password").build();
+        user.setId(1L);
+    }
+
+    @Test
+    void submitReturnsPendingJobAndCompletesInBackground() {
+        givenJobStore();
+        given(perfumeService.createPerfume(eq(SourceType.AUDIO), any(MultipartFile.class), eq(user)))
+                .willReturn(PerfumeResponseDto.builder().id(10L).build());
+        RecordingFile file = new RecordingFile();
+
+        PerfumeJobResponseDto response = jobService.submit(SourceType.AUDIO, file, user);
+
+        // 요청 스레드는 작업만 등록하고 반환 (생성 중에는 동시 생성 수에 포함)
+        assertThat(response.getStatus()).isEqualTo(PerfumeJobStatus.PENDING);
+        assertThat(jobs.get(response.getJobId()).getOwnerInstance()).isEqualTo(INSTANCE_ID);
+        assertThat(admission.inFlight()).isEqualTo(1);
+        assertThat(file.spooledTo.exists()).isTrue();
+
+        generationExecutor.runAll();
+
+        PerfumeJob job = jobs.get(response.getJobId());
+        assertThat(job.getStatus()).isEqualTo(PerfumeJobStatus.COMPLETED);
+        assertThat(job.getPerfumeId()).isEqualTo(10L);
+        assertThat(admission.inFlight()).isZero();
+        assertThat(file.spooledTo.exists()).isFalse();
+    }
+
+    @Test
+    void rejectedJobReleasesPermitAndDeletesSpooledFile() {
+        givenJobStore();
+        generationExecutor.reject = true;
+        RecordingFile file = new RecordingFile();
+
+        assertThatThrownBy(() -> jobService.submit(SourceType.AUDIO, file, user))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PERFUME_JOB_QUEUE_FULL));
+
+        assertThat(admission.inFlight()).isZero();
+        assertThat(file.spooledTo.exists()).isFalse();
+        assertThat(jobs.values()).singleElement().satisfies(job -> {
+            assertThat(job.getStatus()).isEqualTo(PerfumeJobStatus.FAILED);
+            assertThat(job.getErrorCode()).isEqualTo(ErrorCode.PERFUME_JOB_QUEUE_FULL.getCode());
+        });
+        verify(perfumeService, never()).createPerfume(any(), any(), any());
+    }
+
+    @Test
+    void otherUsersJobCannotBeReadOrSubscribed() {
+        givenJobStore();
+        Long jobId = storeJob(2L, PerfumeJobStatus.RUNNING).getId();
+
+        assertThatThrownBy(() -> jobService.getJob(jobId, user))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PERFUME_ACCESS_DENIED));
+        assertThatThrownBy(() -> jobService.subscribe(jobId, user))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PERFUME_ACCESS_DENIED));
+        assertThatThrownBy(() -> jobService.getJob(jobId + 1, user))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PERFUME_JOB_NOT_FOUND));
+    }
+
+    @Test
+    void subscribingToFinishedJobSendsResultAndCompletes() throws Exception {
+        givenJobStore();
+        Long finishedId = storeJob(1L, PerfumeJobStatus.COMPLETED).getId();
+        Long runningId = storeJob(1L, PerfumeJobStatus.RUNNING).getId();
+
+        SseEmitter finished = jobService.subscribe(finishedId, user);
+        SseEmitter running = jobService.subscribe(runningId, user);
+
+        // 이미 끝난 작업은 결과를 보내고 바로 종료, 진행 중인 작업은 완료 알림까지 열어 둠
+        assertThatThrownBy(() -> finished.send("after-complete")).isInstanceOf(IllegalStateException.class);
+        running.send("still-open");
+    }
+
+    @Test
+    void jobsLeftUnfinishedByRestartAreFailedOnStartup() {
+        PerfumeJob pending = job(1L, PerfumeJobStatus.PENDING);
+        PerfumeJob running = job(1L, PerfumeJobStatus.RUNNING);
+        // 다른 인스턴스가 실행 중인 작업은 조회 대상이 아님
+        given(perfumeJobRepository.findByOwnerInstanceAndStatusInAndCreatedAtBefore(eq(INSTANCE_ID),
+                eq(List.of(PerfumeJobStatus.PENDING, PerfumeJobStatus.RUNNING)), any(LocalDateTime.class)))
+                .willReturn(List.of(pending, running));
+
+        jobService.failInterruptedJobs();
+
+        assertThat(List.of(pending, running)).allSatisfy(job -> {
+            assertThat(job.getStatus()).isEqualTo(PerfumeJobStatus.FAILED);
+            assertThat(job.getErrorCode()).isEqualTo(ErrorCode.PERFUME_JOB_INTERRUPTED.getCode());
+        });
+        verify(perfumeJobRepository).saveAll(List.of(pending, running));
+    }
+
+    @Test
+    void startupCleanupSkipsSaveWhenNothingWasInterrupted() {
+        given(perfumeJobRepository.findByOwnerInstanceAndStatusInAndCreatedAtBefore(
+                eq(INSTANCE_ID), anyList(), any(LocalDateTime.class)))
+                .willReturn(List.of());
+
+        jobService.failInterruptedJobs();
+
+        verify(perfumeJobRepository, never()).saveAll(anyList());
+    }
+
+    /**
+     * 저장소를 메모리 맵으로 대신함
+     */
+    private void givenJobStore() {
+        given(perfumeJobRepository.save(any(PerfumeJob.class))).willAnswer(invocation -> {
+            PerfumeJob job = invocation.getArgument(0);
+            if (job.getId() == null) {
+                job.setId(nextJobId.incrementAndGet());
+            }
+            jobs.put(job.getId(), job);
+            return job;
+        });
+        given(perfumeJobRepository.findById(anyLong()))
+                .willAnswer(invocation -> Optional.ofNullable(jobs.get(invocation.<Long>getArgument(0))));
+    }
+
+    private PerfumeJob storeJob(Long userId, PerfumeJobStatus status) {
+        return perfumeJobRepository.save(job(userId, status));
+    }
+
+    private static PerfumeJob job(Long userId, PerfumeJobStatus status) {
+        return PerfumeJob.builder()
+                .userId(userId)
+                .sourceType(SourceType.AUDIO)
+                .status(status)
+                .ownerInstance(INSTANCE_ID)
+                .build();
+    }
+
+    /**
+     * 임시 저장 위치를 기록하는 업로드 파일
+     */
+    private static class RecordingFile extends MockMultipartFile {
+
+        private File spooledTo;
+
+        RecordingFile() {
+            super("file", "song.mp3", "audio/mpeg", new byte[]{1, 2, 3});
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            spooledTo = dest;
+            super.transferTo(dest);
+        }
+    }
+
+    /**
+     * 제출된 작업을 모아 두었다가 테스트에서 실행 (reject가 true면 큐가 가득 찬 것처럼 거절)
+     */
+    private static class CapturingExecutor extends ThreadPoolTaskExecutor {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+        private boolean reject;
+
+        @Override
+        public void execute(Runnable task) {
+            if (reject) {
+                throw new TaskRejectedException("queue full");
+            }
+            tasks.add(task);
+        }
+
+        void runAll() {
+            tasks.forEach(Runnable::run);
+            tasks.clear();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.umc.domain.perfume.service;
+
+import com.umc.domain.file.dto.FileUploadResponse;
+import com.umc.domain.perfume.dto.PerfumeDescriptionDto;
+import com.umc.domain.perfume.dto.PerfumeResponseDto;
+import com.umc.domain.perfume.entity.Perfume;
+import com.umc.domain.perfume.entity.SourceType;
+import com.umc.domain.perfume.repository.PerfumeRepository;
+import com.umc.domain.user.entity.User;
+import com.umc.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PerfumeServiceTest {
+
+    private static final PerfumeDescriptionDto DESCRIPTION = PerfumeDescriptionDto.builder()
+            .type(SourceType.AUDIO)
+            .fileDescription("설명")
+            .top(List.of("레몬"))
+            .middle(List.of("로즈"))
+            .base(List.of("머스크"))
+            .interpretation("해석")
+            .summary("요약")
+            .title("제목 : 부제")
+            .build();
+
+    @Mock
+    private PerfumeRepository perfumeRepository;
+
+    @Mock
+    private PerfumeGptService perfumeGptService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TrackingTransactionManager transactionManager;
+    private ExecutorService upstreamExecutor;
+    private PerfumeService perfumeService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new TrackingTransactionManager();
+        upstreamExecutor = Executors.newFixedThreadPool(2);
+        perfumeService = new PerfumeService(perfumeRepository, perfumeGptService, userRepository,
+                new TransactionTemplate(transactionManager), upstreamExecutor);
+
+        user = User.builder().nickname("tester").password("password").build();
+        user.setId(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstreamExecutor.shutdownNow();
+    }
+
+    @Test
+    void createPerfumeHoldsNoTransactionDuringUpstreamCalls() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "song.mp3", "audio/mpeg", new byte[1024]);
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(perfumeGptService.generatePerfume(eq(SourceType.AUDIO), anyString(), any(MultipartFile.class)))
+                .willAnswer(invocation -> {
+                    // GPT 호출 중에는 열린 트랜잭션(=점유 중인 커넥션)이 없어야 함
+                    assertThat(transactionManager.active.get()).isZero();
+                    upstreamCalls.incrementAndGet();
+
+                    Perfume perfume = new Perfume();
+                    perfume.setSourceType(SourceType.AUDIO);
+                    perfume.setUrl(invocation.getArgument(1));
+                    perfume.applyDescription(DESCRIPTION);
+                    return perfume;
+                });
+        given(perfumeGptService.uploadFile(anyString(), any(MultipartFile.class))).willAnswer(invocation -> {
+            // 구글 드라이브 업로드 중에도 트랜잭션이 없어야 함
+            assertThat(transactionManager.active.get()).isZero();
+            upstreamCalls.incrementAndGet();
+            return uploadResponse(invocation.getArgument(0));
+        });
+        given(perfumeRepository.save(any(Perfume.class))).willAnswer(invocation -> {
+            // 저장은 짧은 트랜잭션 안에서만 수행
+            assertThat(transactionManager.active.get()).isEqualTo(1);
+
+            Perfume perfume = invocation.getArgument(0);
+            perfume.setId(10L);
+            perfume.setCreatedAt(LocalDateTime.now());
+            perfume.setUpdatedAt(LocalDateTime.now());
+            return perfume;
+        });
+
+        PerfumeResponseDto response = perfumeService.createPerfume(SourceType.AUDIO, file, user);
+
+        assertThat(response.getId()).isEqualTo(10L);
+        assertThat(response.getUrl()).startsWith("https://drive.google.com");
+        assertThat(response.getDescription().getTitle()).isEqualTo("제목 : 부제");
+        assertThat(response.getDescription().getTop()).containsExactly("레몬");
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+        // 업로드 폴더는 요청마다 새로 만들지 않고 사용자별로 재사용
+        verify(perfumeGptService).uploadFile(eq("user-1"), any(MultipartFile.class));
+        assertThat(transactionManager.begun.get()).isEqualTo(1);
+        assertThat(transactionManager.active.get()).isZero();
+    }
+
+    @Test
+    void createPerfumeRunsDriveUploadConcurrentlyWithGpt() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", new byte[1024]);
+        CountDownLatch uploadStarted = new CountDownLatch(1);
+        CountDownLatch gptStarted = new CountDownLatch(1);
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(perfumeGptService.generatePerfume(eq(SourceType.IMAGE), anyString(), any(MultipartFile.class)))
+                .willAnswer(invocation -> {
+                    gptStarted.countDown();
+                    // 업로드가 GPT 분석과 동시에 진행 중이어야 함
+                    assertThat(uploadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+                    Perfume perfume = new Perfume();
+                    perfume.setSourceType(SourceType.IMAGE);
+                    perfume.setUrl(invocation.getArgument(1));
+                    perfume.applyDescription(DESCRIPTION);
+                    return perfume;
+                });
+        given(perfumeGptService.uploadFile(anyString(), any(MultipartFile.class))).willAnswer(invocation -> {
+            uploadStarted.countDown();
+            assertThat(gptStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return uploadResponse(invocation.getArgument(0));
+        });
+        given(perfumeRepository.save(any(Perfume.class))).willAnswer(invocation -> {
+            Perfume perfume = invocation.getArgument(0);
+            perfume.setId(11L);
+            perfume.setCreatedAt(LocalDateTime.now());
+            perfume.setUpdatedAt(LocalDateTime.now());
+            return perfume;
+        });
+
+        PerfumeResponseDto response = perfumeService.createPerfume(SourceType.IMAGE, file, user);
+
+        assertThat(response.getId()).isEqualTo(11L);
+        assertThat(response.getUrl()).startsWith("https://drive.google.com");
+        verify(perfumeRepository, times(1)).save(any(Perfume.class));
+    }
+
+    @Test
+    void createPerfumeIsNotWrappedInServiceLevelTransaction() throws Exception {
+        assertThat(PerfumeService.class.getAnnotation(Transactional.class)).isNull();
+        assertThat(PerfumeService.class
+                .getMethod("createPerfume", SourceType.class, MultipartFile.class, User.class)
+                .getAnnotation(Transactional.class)).isNull();
+    }
+
+    private static FileUploadResponse uploadResponse(String recordId) {
+        return new FileUploadResponse("file", "file", "https://drive.google.com/uc?export=download&id=file",
+                "https://drive.google.com/uc?export=download&id=file", recordId, "image", 1024L, "image/jpeg");
+    }
+
+    /**
+     * 열린 트랜잭션 수를 추적하는 테스트용 트랜잭션 매니저
+     */
+    private static class TrackingTransactionManager implements PlatformTransactionManager {
+
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger begun = new AtomicInteger();
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            active.incrementAndGet();
+            begun.incrementAndGet();
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            active.decrementAndGet();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            active.decrementAndGet();
+        }
+    }
+}
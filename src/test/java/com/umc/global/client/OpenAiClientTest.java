@@ -0,0 +1,124 @@
+package com.umc.global.client;
+
+import com.umc.global.metrics.UpstreamMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class OpenAiClientTest {
+
+    private static final String CHAT_URL = "http://openai.test/v1/chat/completions";
+
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void retriesServerErrorsAndRateLimitsUntilSuccess() {
+        OpenAiClient client = newClient(5, 60000, 3);
+        server.expect(once(), requestTo(CHAT_URL)).andExpect(method(HttpMethod.POST))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        server.expect(once(), requestTo(CHAT_URL))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+        server.expect(once(), requestTo(CHAT_URL))
+                .andRespond(withSuccess("{\"choices\":[]}", MediaType.APPLICATION_JSON));
+
+        assertThat(client.chatCompletion(Map.of("model", "gpt-4o-mini"))).isEqualTo("{\"choices\":[]}");
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        server.verify();
+
+        // 재시도를 포함해 호출 한 번으로 기록
+        assertThat(meterRegistry.get("upstream.requests").tag("operation", "chat-text").tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("upstream.errors").counters()).isEmpty();
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        OpenAiClient client = newClient(2, 60000, 3);
+        server.expect(once(), requestTo(CHAT_URL))
+                .andRespond(withStatus(HttpStatus.BAD_REQUEST));
+
+        assertThatThrownBy(() -> client.chatCompletion(Map.of()))
+                .isInstanceOf(HttpClientErrorException.class);
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        server.verify();
+        assertThat(meterRegistry.get("upstream.errors").tag("service", "openai").tag("outcome", "client_error")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void opensCircuitAndFailsFastWhileDegraded() {
+        OpenAiClient client = newClient(2, 60000, 3);
+        server.expect(times(2), requestTo(CHAT_URL))
+                .andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+
+        assertThatThrownBy(() -> client.chatCompletion(Map.of()))
+                .isInstanceOf(UpstreamUnavailableException.class);
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // 열린 동안에는 OpenAI를 호출하지 않음 (추가 요청이 오면 MockRestServiceServer가 실패시킴)
+        assertThatThrownBy(() -> client.chatCompletion(Map.of()))
+                .isInstanceOf(UpstreamUnavailableException.class);
+        server.verify();
+        assertThat(meterRegistry.get("upstream.errors").tag("outcome", "circuit_open").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void halfOpenProbeClosesCircuitOnSuccess() throws Exception {
+        OpenAiClient client = newClient(1, 20, 1);
+
+        server.expect(once(), requestTo(CHAT_URL))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+        server.expect(once(), requestTo(CHAT_URL))
+                .andRespond(withSuccess("ok", MediaType.TEXT_PLAIN));
+
+        assertThatThrownBy(() -> client.chatCompletion(Map.of()))
+                .isInstanceOf(HttpServerErrorException.class);
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(50);
+
+        assertThat(client.chatCompletion(Map.of())).isEqualTo("ok");
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        server.verify();
+    }
+
+    private OpenAiClient newClient(int failureThreshold, long openDurationMs, int maxAttempts) {
+        OpenAiClient client = new OpenAiClient(restTemplate, new UpstreamMetrics(meterRegistry),
+                failureThreshold, openDurationMs, Runnable::run, meterRegistry, false, 0.95, 1000, 5);
+        ReflectionTestUtils.setField(client, "apiKey", "test-key");
+        ReflectionTestUtils.setField(client, "chatUrl", CHAT_URL);
+        ReflectionTestUtils.setField(client, "maxAttempts", maxAttempts);
+        ReflectionTestUtils.setField(client, "backoffBaseMs", 1L);
+        ReflectionTestUtils.setField(client, "backoffMaxMs", 5L);
+        return client;
+    }
+}
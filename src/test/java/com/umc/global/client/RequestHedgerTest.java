@@ -0,0 +1,182 @@
+package com.umc.global.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestHedgerTest {
+
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void doesNotHedgeUntilEnoughSamples() {
+        RequestHedger hedger = new RequestHedger("openai", "chat-text", executor, meterRegistry, 0.95, 10, 100);
+        AtomicInteger invocations = new AtomicInteger();
+
+        String result = hedger.execute(() -> {
+            invocations.incrementAndGet();
+            sleep(100);
+            return "primary";
+        });
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(hedger.currentDelayMs()).isEqualTo(-1);
+        assertThat(count("not_hedged")).isEqualTo(1);
+    }
+
+    @Test
+    void slowPrimaryIsHedgedAndCancelledWhenHedgeWins() throws Exception {
+        RequestHedger hedger = new RequestHedger("openai", "chat-text", executor, meterRegistry, 0.95, 50, 100);
+        warmUp(hedger);
+        assertThat(hedger.currentDelayMs()).isEqualTo(50);
+
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch primaryCancelled = new CountDownLatch(1);
+        String result = hedger.execute(() -> {
+            if (invocations.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    primaryCancelled.countDown();
+                    throw new IllegalStateException("cancelled");
+                }
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(invocations.get()).isEqualTo(2);
+        assertThat(primaryCancelled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(count("hedge_won")).isEqualTo(1);
+    }
+
+    @Test
+    void latencyWindowKeepsSlowPrimaryInsteadOfWinningHedge() {
+        RequestHedger hedger = new RequestHedger("openai", "chat-text", executor, meterRegistry, 0.95, 50, 100);
+        warmUp(hedger);
+
+        for (int i = 0; i < 2; i++) {
+            AtomicInteger invocations = new AtomicInteger();
+            String result = hedger.execute(() -> {
+                if (invocations.incrementAndGet() == 1) {
+                    sleep(10_000);
+                    return "primary";
+                }
+                sleep(100);
+                return "hedge";
+            });
+            assertThat(result).isEqualTo("hedge");
+        }
+
+        // 헤지 요청 지연(약 100ms)이 아니라 취소될 때까지 기다린 첫 요청 지연(50ms + 100ms 이상)이 표본에 들어감
+        assertThat(hedger.currentDelayMs()).isGreaterThanOrEqualTo(150);
+        assertThat(count("hedge_won")).isEqualTo(2);
+    }
+
+    @Test
+    void primaryResultIsUsedWhenHedgeFails() {
+        RequestHedger hedger = new RequestHedger("openai", "chat-text", executor, meterRegistry, 0.95, 50, 100);
+        warmUp(hedger);
+
+        AtomicInteger invocations = new AtomicInteger();
+        String result = hedger.execute(() -> {
+            if (invocations.incrementAndGet() == 1) {
+                sleep(200);
+                return "primary";
+            }
+            throw new IllegalStateException("hedge failed");
+        });
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(count("primary_won")).isEqualTo(1);
+    }
+
+    @Test
+    void skipsHedgeWhenBudgetIsExhausted() {
+        RequestHedger hedger = new RequestHedger("openai", "chat-text", executor, meterRegistry, 0.95, 50, 0);
+        warmUp(hedger);
+
+        AtomicInteger invocations = new AtomicInteger();
+        String result = hedger.execute(() -> {
+            invocations.incrementAndGet();
+            sleep(200);
+            return "primary";
+        });
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(count("budget_exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    void rethrowsPrimaryFailureWhenBothFail() {
+        RequestHedger hedger = new RequestHedger("openai", "chat-text", executor, meterRegistry, 0.95, 50, 100);
+        warmUp(hedger);
+
+        AtomicInteger invocations = new AtomicInteger();
+        assertThatThrownBy(() -> hedger.execute(() -> {
+            if (invocations.incrementAndGet() == 1) {
+                sleep(200);
+                throw new IllegalStateException("primary failed");
+            }
+            throw new IllegalArgumentException("hedge failed");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("primary failed");
+        assertThat(count("failed")).isEqualTo(1);
+    }
+
+    @Test
+    void runsOnCallerThreadWhenExecutorRejects() {
+        RequestHedger hedger = new RequestHedger("openai", "chat-text", runnable -> {
+            throw new RejectedExecutionException("full");
+        }, meterRegistry, 0.95, 50, 100);
+
+        assertThat(hedger.execute(() -> "inline")).isEqualTo("inline");
+        assertThat(count("rejected")).isEqualTo(1);
+    }
+
+    /**
+     * 빠른 호출로 표본을 채우고 헤지 예산을 쌓음
+     */
+    private void warmUp(RequestHedger hedger) {
+        for (int i = 0; i < 20; i++) {
+            hedger.execute(() -> "warm-up");
+        }
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("upstream.hedge.requests").tag("result", result).counter().count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.umc.global.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.InputStreamSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VisionChatRequestBodyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writesSameJsonAsMapBasedRequest() throws Exception {
+        String prompt = "이미지를 분석해 \"향수\"를 만들어 주세요.\n\t\\끝";
+        byte[] image = new byte[10001];
+        new Random(1).nextBytes(image);
+
+        VisionChatRequestBody body = new VisionChatRequestBody(objectMapper, "gpt-4o-mini", 600, 0.7,
+                prompt, "image/png", () -> new ByteArrayInputStream(image), image.length);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+
+        Map<String, Object> expected = Map.of(
+                "model", "gpt-4o-mini",
+                "max_tokens", 600,
+                "temperature", 0.7,
+                "messages", List.of(Map.of(
+                        "role", "user",
+                        "content", List.of(
+                                Map.of("type", "text", "text", prompt),
+                                Map.of("type", "image_url", "image_url", Map.of(
+                                        "url", "data:image/png;base64," + Base64.getEncoder().encodeToString(image)))))));
+
+        JsonNode actual = objectMapper.readTree(outputStream.toByteArray());
+        assertThat(actual).isEqualTo(objectMapper.valueToTree(expected));
+        assertThat(body.contentLength()).isEqualTo(outputStream.size());
+    }
+
+    @Test
+    void contentLengthMatchesForEveryPaddingLength() throws Exception {
+        for (int size = 0; size < 6; size++) {
+            byte[] image = new byte[size];
+            VisionChatRequestBody body = new VisionChatRequestBody(objectMapper, "gpt-4o-mini", 600, 0.7,
+                    "prompt", "image/jpeg", () -> new ByteArrayInputStream(image), size);
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            body.writeTo(outputStream);
+
+            assertThat(body.contentLength()).isEqualTo(outputStream.size());
+        }
+    }
+
+    @Test
+    void writingLargeImageAllocatesOnlyConstantBuffers() throws Exception {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long imageSize = 20L * 1024 * 1024;
+        InputStreamSource image = () -> new ZeroInputStream(imageSize);
+        VisionChatRequestBody body = new VisionChatRequestBody(objectMapper, "gpt-4o-mini", 600, 0.7,
+                "prompt", "image/jpeg", image, imageSize);
+        CountingOutputStream outputStream = new CountingOutputStream();
+
+        body.writeTo(new CountingOutputStream());
+
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        body.writeTo(outputStream);
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+
+        assertThat(outputStream.count).isEqualTo(body.contentLength());
+        // 기존 방식은 base64 String과 JSON 버퍼로 이미지 크기의 수 배를 할당
+        assertThat(allocated).isLessThan(256 * 1024);
+    }
+
+    /**
+     * 지정한 길이만큼 0을 반환하는 스트림 (테스트 데이터 자체가 힙을 차지하지 않도록)
+     */
+    private static class ZeroInputStream extends InputStream {
+
+        private long remaining;
+
+        ZeroInputStream(long length) {
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            remaining--;
+            return 0;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = (int) Math.min(len, remaining);
+            Arrays.fill(b, off, off + count, (byte) 0);
+            remaining -= count;
+            return count;
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.umc.global.metrics;
+
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.umc.global.client.UpstreamUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UpstreamMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UpstreamMetrics upstreamMetrics = new UpstreamMetrics(meterRegistry);
+
+    @Test
+    void repeatedCallsShareOneTimerPerTagSet() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(upstreamMetrics.record(UpstreamMetrics.OPENAI, "chat", () -> "ok")).isEqualTo("ok");
+        }
+        upstreamMetrics.record(UpstreamMetrics.GOOGLE_DRIVE, "upload", () -> "ok");
+
+        assertThat(meterRegistry.get("upstream.requests")
+                .tag("service", "openai").tag("operation", "chat").tag("outcome", "success")
+                .timers()).singleElement().satisfies(timer -> assertThat(timer.count()).isEqualTo(3));
+        assertThat(meterRegistry.get("upstream.requests").tag("service", "google-drive").timer().count())
+                .isEqualTo(1);
+        // 성공은 오류 횟수에 기록하지 않음
+        assertThat(meterRegistry.find("upstream.errors").counters()).isEmpty();
+    }
+
+    @Test
+    void failureIsRecordedWithOutcomeAndRethrown() {
+        HttpClientErrorException rateLimited =
+                HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> upstreamMetrics.record(UpstreamMetrics.OPENAI, "chat", () -> {
+                throw rateLimited;
+            })).isSameAs(rateLimited);
+        }
+
+        assertThat(meterRegistry.get("upstream.requests").tag("outcome", "rate_limited").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("upstream.errors")
+                .tag("service", "openai").tag("operation", "chat").tag("outcome", "rate_limited")
+                .counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void errorsAreClassifiedByStatusAndCause() {
+        assertThat(UpstreamMetrics.outcome(
+                HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Unavailable", null, null, null)))
+                .isEqualTo("server_error");
+        assertThat(UpstreamMetrics.outcome(
+                HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null)))
+                .isEqualTo("client_error");
+        assertThat(UpstreamMetrics.outcome(
+                new HttpResponseException.Builder(429, "Too Many Requests", new HttpHeaders()).build()))
+                .isEqualTo("rate_limited");
+        assertThat(UpstreamMetrics.outcome(
+                new HttpResponseException.Builder(500, "Internal Error", new HttpHeaders()).build()))
+                .isEqualTo("server_error");
+        assertThat(UpstreamMetrics.outcome(new ResourceAccessException("timeout", new SocketTimeoutException())))
+                .isEqualTo("timeout");
+        assertThat(UpstreamMetrics.outcome(new ResourceAccessException("reset", new IOException("reset"))))
+                .isEqualTo("io_error");
+        assertThat(UpstreamMetrics.outcome(new HttpTimeoutException("request timed out"))).isEqualTo("timeout");
+        assertThat(UpstreamMetrics.outcome(new IOException("broken pipe"))).isEqualTo("io_error");
+        assertThat(UpstreamMetrics.outcome(new UpstreamUnavailableException("open"))).isEqualTo("circuit_open");
+        assertThat(UpstreamMetrics.outcome(new IllegalStateException("bug"))).isEqualTo("error");
+    }
+}
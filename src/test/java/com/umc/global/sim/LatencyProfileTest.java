@@ -0,0 +1,64 @@
+package com.umc.global.sim;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LatencyProfileTest {
+
+    @Test
+    void sampledDelaysFollowConfiguredMedianAndP99() {
+        LatencyProfile profile = new LatencyProfile(1000, 5000, 0, 0, 0);
+        long[] samples = new long[20_000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = profile.sampleDelayMs();
+        }
+        Arrays.sort(samples);
+
+        assertThat(samples[samples.length / 2]).isBetween(900L, 1100L);
+        assertThat(samples[samples.length * 99 / 100]).isBetween(4000L, 6200L);
+        assertThat(samples[0]).isPositive();
+    }
+
+    @Test
+    void fixedDelayWhenMedianEqualsP99() {
+        LatencyProfile profile = new LatencyProfile(300, 300, 0, 0, 0);
+
+        assertThat(profile.sampleDelayMs()).isEqualTo(300);
+    }
+
+    @Test
+    void rateLimitedOnlyInsideBurstWindow() {
+        AtomicLong now = new AtomicLong(60_000);
+        LatencyProfile profile = new LatencyProfile(0, 0, 0, 60_000, 2_000, now::get);
+
+        assertThat(profile.nextFault()).isEqualTo(LatencyProfile.Fault.RATE_LIMITED);
+        assertThat(profile.retryAfterSeconds()).isEqualTo(2);
+
+        now.set(61_500);
+        assertThat(profile.nextFault()).isEqualTo(LatencyProfile.Fault.RATE_LIMITED);
+        assertThat(profile.retryAfterSeconds()).isEqualTo(1);
+
+        now.set(62_000);
+        assertThat(profile.nextFault()).isEqualTo(LatencyProfile.Fault.NONE);
+    }
+
+    @Test
+    void errorRateProducesServerErrors() {
+        LatencyProfile always = new LatencyProfile(0, 0, 1.0, 0, 0);
+        LatencyProfile never = new LatencyProfile(0, 0, 0, 0, 0);
+
+        assertThat(always.nextFault()).isEqualTo(LatencyProfile.Fault.SERVER_ERROR);
+        assertThat(never.nextFault()).isEqualTo(LatencyProfile.Fault.NONE);
+    }
+
+    @Test
+    void rejectsP99BelowMedian() {
+        assertThatThrownBy(() -> new LatencyProfile(500, 100, 0, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,71 @@
+package com.umc.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BpeTokenizerTest {
+
+    @Test
+    void mergesLowestRankedPairsFirst() throws IOException {
+        // 단일 바이트 + "lo"(0) + "low"(1) + " l"(2) + "er"(3)
+        BpeTokenizer tokenizer = tokenizer("lo", "low", " l", "er");
+
+        assertThat(tokenizer.isExact()).isTrue();
+        assertThat(tokenizer.count("low")).isEqualTo(1);
+        assertThat(tokenizer.count("lower")).isEqualTo(2); // low + er
+        assertThat(tokenizer.count("lowest")).isEqualTo(4); // low + e + s + t
+        assertThat(tokenizer.count(" lower")).isEqualTo(3); // "lo"가 " l"보다 먼저 병합되어 " " + low + er
+    }
+
+    @Test
+    void countsUtf8BytesOfUnknownCharacters() throws IOException {
+        BpeTokenizer tokenizer = tokenizer();
+
+        assertThat(tokenizer.count("가")).isEqualTo(3); // UTF-8 3바이트
+    }
+
+    @Test
+    void truncatesAtPieceBoundaryWithinBudget() throws IOException {
+        BpeTokenizer tokenizer = tokenizer("lo", "low", "er");
+
+        String truncated = tokenizer.truncate("low low low", 3);
+
+        assertThat(tokenizer.count(truncated)).isLessThanOrEqualTo(3);
+        assertThat("low low low").startsWith(truncated);
+        assertThat(tokenizer.truncate("low", 5)).isEqualTo("low");
+    }
+
+    @Test
+    void estimatingTokenizerCountsKoreanPerSyllable() {
+        BpeTokenizer tokenizer = BpeTokenizer.estimating();
+
+        assertThat(tokenizer.isExact()).isFalse();
+        assertThat(tokenizer.count("사랑해")).isEqualTo(3);
+        assertThat(tokenizer.count("perfume")).isEqualTo(2);
+        assertThat(tokenizer.count(tokenizer.truncate("하나 둘 셋 넷 다섯", 6))).isLessThanOrEqualTo(6);
+    }
+
+    /**
+     * 모든 단일 바이트(순위 256~511)와 merges(순위 0부터)로 이루어진 어휘
+     */
+    private static BpeTokenizer tokenizer(String... merges) throws IOException {
+        StringBuilder vocabulary = new StringBuilder();
+        for (int i = 0; i < merges.length; i++) {
+            vocabulary.append(encode(merges[i].getBytes(StandardCharsets.UTF_8))).append(' ').append(i).append('\n');
+        }
+        for (int b = 0; b < 256; b++) {
+            vocabulary.append(encode(new byte[]{(byte) b})).append(' ').append(256 + b).append('\n');
+        }
+        return BpeTokenizer.load(new ByteArrayInputStream(vocabulary.toString().getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,61 @@
+package com.umc.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HammingIndexTest {
+
+    @Test
+    void findNearestMatchesBruteForceWithinMaxDistance() {
+        SplittableRandom random = new SplittableRandom(7);
+        HammingIndex index = new HammingIndex();
+        long[] stored = new long[20000];
+        for (int i = 0; i < stored.length; i++) {
+            stored[i] = random.nextLong();
+            index.add(i, stored[i]);
+        }
+
+        for (int query = 0; query < 2000; query++) {
+            long hash = stored[random.nextInt(stored.length)];
+            int flips = random.nextInt(10);
+            for (int flip = 0; flip < flips; flip++) {
+                hash ^= 1L << random.nextInt(64);
+            }
+
+            int expected = bruteForceDistance(stored, hash);
+            Optional<HammingIndex.Match> match = index.findNearest(hash, HammingIndex.MAX_DISTANCE);
+
+            if (expected > HammingIndex.MAX_DISTANCE) {
+                assertThat(match).isEmpty();
+            } else {
+                assertThat(match).isPresent();
+                assertThat(match.get().distance()).isEqualTo(expected);
+                assertThat(Long.bitCount(stored[(int) match.get().id()] ^ hash)).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void findNearestIgnoresHashesBeyondMaxDistance() {
+        HammingIndex index = new HammingIndex();
+        index.add(1L, 0L);
+
+        assertThat(index.findNearest(0b111L, 3)).contains(new HammingIndex.Match(1L, 3));
+        assertThat(index.findNearest(0b1111L, 3)).isEmpty();
+        assertThatThrownBy(() -> index.findNearest(0L, HammingIndex.MAX_DISTANCE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static int bruteForceDistance(long[] stored, long hash) {
+        int best = Integer.MAX_VALUE;
+        for (long candidate : stored) {
+            best = Math.min(best, Long.bitCount(candidate ^ hash));
+        }
+        return best;
+    }
+}
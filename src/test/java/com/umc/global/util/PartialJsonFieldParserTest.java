@@ -0,0 +1,85 @@
+package com.umc.global.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartialJsonFieldParserTest {
+
+    private static final String RESPONSE = "```json\n{\"title\": \"Urban \\\"Dusk\\\" \\uD83C\\uDF19 도시\","
+            + " \"keywords\": [\"잔잔한\", \"a\\\\b\"], \"score\": 3, \"meta\": {\"x\": [1]}}\n```";
+
+    @Test
+    void chunksSplitInsideEscapesProduceSameFieldsAsWholeDocument() {
+        RecordingListener whole = parse(List.of(RESPONSE));
+
+        List<String> chunks = new ArrayList<>();
+        for (int i = 0; i < RESPONSE.length(); i++) {
+            chunks.add(RESPONSE.substring(i, i + 1));
+        }
+        RecordingListener oneByOne = parse(chunks);
+
+        assertThat(whole.fields).containsEntry("title", "\"Urban \\\"Dusk\\\" 🌙 도시\"")
+                .containsEntry("keywords", "[\"잔잔한\",\"a\\\\b\"]")
+                .containsEntry("score", "3")
+                .containsEntry("meta", "{\"x\":[1]}");
+        assertThat(oneByOne.fields).isEqualTo(whole.fields);
+        assertThat(oneByOne.items).isEqualTo(whole.items).containsExactly("keywords[0]=잔잔한", "keywords[1]=a\\b");
+        assertThat(String.join("", oneByOne.deltas.get("title"))).isEqualTo("Urban \"Dusk\" 🌙 도시");
+    }
+
+    @Test
+    void textDeltasNeverSplitSurrogatePairs() {
+        RecordingListener listener = parse(List.of("{\"title\": \"a", "\uD83C", "\uDF19", "b\"}"));
+
+        assertThat(listener.deltas.get("title")).containsExactly("a", "🌙", "b");
+    }
+
+    @Test
+    void parserIsCompleteOnlyAfterObjectCloses() {
+        PartialJsonFieldParser parser = new PartialJsonFieldParser(new ObjectMapper(), new RecordingListener());
+
+        parser.feed("{\"title\": \"Urban\", \"score\": 1");
+        assertThat(parser.isComplete()).isFalse();
+
+        parser.feed("}");
+        assertThat(parser.isComplete()).isTrue();
+    }
+
+    private static RecordingListener parse(List<String> chunks) {
+        RecordingListener listener = new RecordingListener();
+        PartialJsonFieldParser parser = new PartialJsonFieldParser(new ObjectMapper(), listener);
+        chunks.forEach(parser::feed);
+        assertThat(parser.isComplete()).isTrue();
+        return listener;
+    }
+
+    private static class RecordingListener implements PartialJsonFieldParser.Listener {
+
+        private final Map<String, List<String>> deltas = new LinkedHashMap<>();
+        private final List<String> items = new ArrayList<>();
+        private final Map<String, String> fields = new LinkedHashMap<>();
+
+        @Override
+        public void onTextDelta(String field, String delta) {
+            deltas.computeIfAbsent(field, key -> new ArrayList<>()).add(delta);
+        }
+
+        @Override
+        public void onArrayItem(String field, int index, String value) {
+            items.add(field + "[" + index + "]=" + value);
+        }
+
+        @Override
+        public void onFieldComplete(String field, JsonNode value) {
+            fields.put(field, value.toString());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.umc.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    @Test
+    void concurrentCallsWithSameKeyShareOneExecution() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<SingleFlight.Result<String>> leader = executor.submit(() -> flight.execute("key", () -> {
+                executions.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "value";
+            }));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<SingleFlight.Result<String>>> followers = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                followers.add(executor.submit(() -> flight.execute("key", () -> {
+                    executions.incrementAndGet();
+                    return "other";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(new SingleFlight.Result<>("value", true));
+            for (Future<SingleFlight.Result<String>> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(new SingleFlight.Result<>("value", false));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(flight.size()).isZero();
+    }
+
+    @Test
+    void failureIsPropagatedAndKeyCanRunAgain() {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+
+        assertThatThrownBy(() -> flight.execute("key", () -> {
+            throw new IllegalStateException("실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(flight.size()).isZero();
+        assertThat(flight.execute("key", () -> "value")).isEqualTo(new SingleFlight.Result<>("value", true));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}